@@ -0,0 +1,78 @@
+package com.backend.advert.common.cache;
+
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.ActiveAdvertisementPage;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 광고 목록 캐시 값(CachedValue&lt;ActiveAdvertisementPage&gt;)의 인코딩 크기와 인코딩/디코딩 비용을 비교합니다.
+ * - json: 이전 방식 (공용 ObjectMapper JSON 문자열)
+ * - smile: CacheCodec, 압축 없음
+ * - smile-deflate: CacheCodec, 기준 크기(1KB) 이상 압축
+ * 인코딩 크기는 설정 시 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheCodecBenchmark {
+
+    @Param({"json", "smile", "smile-deflate"})
+    private String format;
+
+    @Param({"10", "50"})
+    private int advertisements;
+
+    private ObjectMapper objectMapper;
+    private CacheCodec cacheCodec;
+    private JavaType type;
+    private CachedValue<ActiveAdvertisementPage> entry;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new JacksonConfig().objectMapper();
+        cacheCodec = new CacheCodec(objectMapper, "smile-deflate".equals(format) ? 1024 : Integer.MAX_VALUE);
+        type = objectMapper.getTypeFactory().constructParametricType(CachedValue.class, ActiveAdvertisementPage.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AdvertisementResponse> content = new ArrayList<>();
+        for (int i = 0; i < advertisements; i++) {
+            Advertisement advertisement = new Advertisement("광고 " + i, 1_000 + i, 1_000, "광고 설명 " + i, "https://example.com/ad/" + i + ".png",
+                    now.minusDays(1), now.plusDays(7), null);
+            advertisement.setId(UUID.randomUUID());
+            content.add(AdvertisementResponse.fromEntity(advertisement));
+        }
+        entry = new CachedValue<>(new ActiveAdvertisementPage(content, advertisements * 3L), 12, System.currentTimeMillis() + 30_000);
+
+        encoded = encode();
+        System.out.printf("%n[%s, 광고 %d개] 인코딩 크기: %d bytes%n", format, advertisements, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return "json".equals(format) ? objectMapper.writeValueAsBytes(entry) : cacheCodec.encode(entry);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return "json".equals(format) ? objectMapper.readValue(encoded, type) : cacheCodec.decode(encoded, type);
+    }
+}
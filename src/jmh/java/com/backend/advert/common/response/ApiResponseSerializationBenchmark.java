@@ -0,0 +1,67 @@
+package com.backend.advert.common.response;
+
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 응답(ApiResponse) JSON 직렬화 비용을 측정합니다.
+ * 애플리케이션과 같은 ObjectMapper 설정(JacksonConfig)을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<AdvertisementResponse> detailResponse;
+    private ApiResponse<Page<AdvertisementResponse>> pageResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AdvertisementResponse> advertisements = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Advertisement advertisement = new Advertisement("광고 " + i, 1_000 - i, 1_000,
+                    "광고 설명 " + i, "https://example.com/" + i + ".png",
+                    now.minusDays(1), now.plusDays(7), "{\"minParticipationCount\":2}");
+            advertisement.setId(UUID.randomUUID());
+            advertisements.add(AdvertisementResponse.fromEntity(advertisement));
+        }
+
+        detailResponse = ApiResponse.success(HttpStatus.OK, "광고 정보를 성공적으로 조회했습니다.", advertisements.get(0));
+        pageResponse = ApiResponse.success(HttpStatus.OK, "활성 광고 목록을 성공적으로 조회했습니다.",
+                new PageImpl<>(advertisements, PageRequest.of(0, 10), 100));
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeActivePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+}
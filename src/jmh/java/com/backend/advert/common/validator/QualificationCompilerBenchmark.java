@@ -0,0 +1,49 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.config.JacksonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자격 조건 JSON 파싱/컴파일(QualificationCompiler.compile) 비용을 측정합니다.
+ * 광고 저장과 자격 조건 캐시 미스 시 수행되는 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QualificationCompilerBenchmark {
+
+    private QualificationCompiler qualificationCompiler;
+    private String legacyJson;
+    private String ruleExpressionJson;
+
+    @Setup
+    public void setUp() {
+        qualificationCompiler = new QualificationCompiler(new JacksonConfig().objectMapper());
+        legacyJson = "{\"firstTimeParticipation\":false,\"minParticipationCount\":2,\"excludedAdvertisementId\":\"" + UUID.randomUUID() + "\"}";
+        ruleExpressionJson = "{\"rule\":{\"and\":["
+                + "{\"participationCount\":{\"min\":3,\"max\":10}},"
+                + "{\"not\":{\"participatedIn\":[\"" + UUID.randomUUID() + "\",\"" + UUID.randomUUID() + "\"]}},"
+                + "{\"participationsWithin\":{\"days\":7,\"min\":1}},"
+                + "{\"or\":[{\"emailDomain\":[\"example.com\",\"example.org\"]},{\"participationCount\":{\"min\":100}}]}"
+                + "]}}";
+    }
+
+    @Benchmark
+    public CompiledQualification compileLegacy() {
+        return qualificationCompiler.compile(legacyJson);
+    }
+
+    @Benchmark
+    public CompiledQualification compileRuleExpression() {
+        return qualificationCompiler.compile(ruleExpressionJson);
+    }
+}
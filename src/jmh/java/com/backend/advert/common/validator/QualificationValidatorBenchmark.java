@@ -0,0 +1,114 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository.UserParticipationTime;
+import com.backend.advert.domain.advertisementParticipation.service.ParticipationMembershipIndex;
+import com.backend.advert.domain.user.dto.UserProfile;
+import com.backend.advert.domain.user.service.UserParticipationCounter;
+import com.backend.advert.domain.user.service.UserProfileCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자격 조건 평가(QualificationValidator.isValid) 비용을 측정합니다.
+ * Redis/DB 를 거치지 않도록 사용자 프로필 캐시, 참여 횟수 카운터, 참여자 인덱스, 참여 이력 리포지토리는 고정 값을 반환하는 스텁을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QualificationValidatorBenchmark {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID EXCLUDED_ADVERTISEMENT_ID = UUID.randomUUID();
+
+    @Param({"legacy", "ruleExpression"})
+    private String criteria;
+
+    private QualificationValidator qualificationValidator;
+    private CompiledQualification qualification;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        UserProfile profile = new UserProfile(USER_ID, "user@example.com", "user", 5);
+        List<UserParticipationTime> recent = List.of(participationTime(now.minusDays(1)), participationTime(now.minusDays(3)));
+
+        UserProfileCache userProfileCache = new UserProfileCache(null, null, null, null) {
+            @Override
+            public Map<UUID, UserProfile> getAll(Collection<UUID> userIds) {
+                return Map.of(USER_ID, profile);
+            }
+        };
+        UserParticipationCounter participationCounter = new UserParticipationCounter(null, null, null, null, null) {
+            @Override
+            public Map<UUID, Integer> getCounts(Collection<UUID> userIds) {
+                return Map.of();
+            }
+        };
+        ParticipationMembershipIndex membershipIndex = new ParticipationMembershipIndex(null, null, null) {
+            @Override
+            public Map<UUID, Set<UUID>> findJoined(Collection<UUID> userIds, Collection<UUID> advertisementIds) {
+                return Map.of();
+            }
+        };
+        AdvertisementParticipationRepository participationRepository = (AdvertisementParticipationRepository) Proxy.newProxyInstance(
+                AdvertisementParticipationRepository.class.getClassLoader(),
+                new Class<?>[]{AdvertisementParticipationRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findParticipationTimesSince")) {
+                        return recent;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        qualificationValidator = new QualificationValidator(userProfileCache, participationRepository, membershipIndex, participationCounter);
+        qualification = new QualificationCompiler(new JacksonConfig().objectMapper()).compile(criteriaJson());
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return qualificationValidator.isValid(qualification, USER_ID);
+    }
+
+    private String criteriaJson() {
+        if (criteria.equals("legacy")) {
+            return "{\"minParticipationCount\":2,\"excludedAdvertisementId\":\"" + EXCLUDED_ADVERTISEMENT_ID + "\"}";
+        }
+        return "{\"rule\":{\"and\":["
+                + "{\"participationCount\":{\"min\":3,\"max\":10}},"
+                + "{\"not\":{\"participatedIn\":[\"" + EXCLUDED_ADVERTISEMENT_ID + "\"]}},"
+                + "{\"participationsWithin\":{\"days\":7,\"min\":1}},"
+                + "{\"or\":[{\"emailDomain\":[\"example.com\"]},{\"participationCount\":{\"min\":100}}]}"
+                + "]}}";
+    }
+
+    private static UserParticipationTime participationTime(LocalDateTime participatedAt) {
+        return new UserParticipationTime() {
+            @Override
+            public UUID getUserId() {
+                return USER_ID;
+            }
+
+            @Override
+            public LocalDateTime getParticipatedAt() {
+                return participatedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.advert.config.redis;
+
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisTemplate/CacheManager 에 설정한 JSON 직렬화(RedisConfig.jsonRedisSerializer) 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+    private Jackson2JsonRedisSerializer<Object> serializer;
+    private AdvertisementResponse advertisement;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = RedisConfig.jsonRedisSerializer(new JacksonConfig().objectMapper());
+
+        LocalDateTime now = LocalDateTime.now();
+        Advertisement entity = new Advertisement("광고", 1_000, 1_000, "광고 설명", "https://example.com/ad.png",
+                now.minusDays(1), now.plusDays(7), "{\"minParticipationCount\":2}");
+        entity.setId(UUID.randomUUID());
+        advertisement = AdvertisementResponse.fromEntity(entity);
+        serialized = serializer.serialize(advertisement);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(advertisement);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
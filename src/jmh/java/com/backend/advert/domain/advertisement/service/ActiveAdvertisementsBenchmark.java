@@ -0,0 +1,60 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 광고 목록 캐시 적재 시의 엔티티 -> DTO 변환과 적립액 정렬 비용을 측정합니다.
+ * (AdvertisementResponse.fromEntity + AdvertisementService.sortByRewardPoints)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ActiveAdvertisementsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Advertisement> advertisements;
+    private Advertisement advertisement;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        advertisements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Advertisement entity = new Advertisement("광고 " + i, random.nextInt(10_000), 1_000,
+                    "광고 설명 " + i, "https://example.com/" + i + ".png",
+                    now.minusDays(1), now.plusDays(7), "{\"minParticipationCount\":2}");
+            entity.setId(UUID.randomUUID());
+            advertisements.add(entity);
+        }
+        advertisement = advertisements.get(0);
+    }
+
+    @Benchmark
+    public AdvertisementResponse fromEntity() {
+        return AdvertisementResponse.fromEntity(advertisement);
+    }
+
+    @Benchmark
+    public List<AdvertisementResponse> sortByRewardPoints() {
+        return AdvertisementService.sortByRewardPoints(advertisements);
+    }
+}
@@ -0,0 +1,131 @@
+package com.backend.advert.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis 캐시 값 인코딩입니다.
+ * - 애플리케이션 공용 ObjectMapper 설정(모듈, 날짜 처리)을 그대로 쓰되, JSON 대신 바이너리 Smile 로 인코딩합니다.
+ * - 캐시마다 값 타입이 정해져 있으므로 타입별 ObjectReader/ObjectWriter 를 만들어 재사용합니다. (값에 타입 정보를 싣지 않음)
+ * - 인코딩 결과가 기준 크기 이상이면 Deflate 로 압축하며, 첫 바이트로 압축 여부를 표시합니다.
+ *   (첫 바이트가 형식 표시가 아닌 값, 예를 들어 이전 JSON 값은 읽지 않음)
+ */
+@Component
+public class CacheCodec {
+
+    static final byte RAW = 0;
+    static final byte DEFLATED = 1;
+
+    private final ObjectMapper smileMapper;
+    private final int compressionThreshold;
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public CacheCodec(ObjectMapper objectMapper,
+                      @Value("${cache.codec.compression-threshold-bytes:1024}") int compressionThreshold) {
+        // 이전 버전이 저장한 값에 없어진 필드가 있어도 읽을 수 있도록 함
+        this.smileMapper = objectMapper.copyWith(new SmileFactory())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public JavaType constructType(Class<?> type) {
+        return smileMapper.constructType(type);
+    }
+
+    /**
+     * 값을 인코딩합니다.
+     *
+     * @param value 캐시 값
+     * @return 형식 표시 1바이트 + Smile (기준 크기 이상이면 압축)
+     * @throws IOException 인코딩할 수 없는 값일 경우 발생
+     */
+    public byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+        output.write(RAW);
+        writers.computeIfAbsent(value.getClass(), smileMapper::writerFor).writeValue(output, value);
+        byte[] raw = output.toByteArray();
+        if (raw.length - 1 >= compressionThreshold) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                return deflated;
+            }
+        }
+        return raw;
+    }
+
+    /**
+     * 값을 지정한 타입으로 디코딩합니다.
+     *
+     * @param bytes 인코딩된 값
+     * @param type 값 타입
+     * @return 캐시 값
+     * @throws IOException 형식을 알 수 없거나 디코딩할 수 없는 값일 경우 발생
+     */
+    public <T> T decode(byte[] bytes, JavaType type) throws IOException {
+        if (bytes.length == 0) {
+            throw new IOException("빈 캐시 값입니다.");
+        }
+        ObjectReader reader = readers.computeIfAbsent(type, smileMapper::readerFor);
+        return switch (bytes[0]) {
+            case RAW -> reader.readValue(bytes, 1, bytes.length - 1);
+            case DEFLATED -> reader.readValue(inflate(bytes));
+            default -> throw new IOException("알 수 없는 캐시 값 형식입니다: " + bytes[0]);
+        };
+    }
+
+    /**
+     * 형식 표시 뒤의 값을 압축합니다.
+     */
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw, 1, raw.length - 1);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(raw.length / 2);
+            output.write(DEFLATED);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, 1, bytes.length - 1);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("압축된 캐시 값이 손상되었습니다.");
+                }
+                output.write(buffer, 0, inflated);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("압축된 캐시 값이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
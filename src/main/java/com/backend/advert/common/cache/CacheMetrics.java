@@ -0,0 +1,50 @@
+package com.backend.advert.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 이름별 적중/미스 횟수를 기록합니다. (cache.gets, 태그: cache, result=hit|miss)
+ * 적중률은 Prometheus 에서 hit / (hit + miss) 로 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    static final String METRIC_NAME = "cache.gets";
+
+    private final MeterRegistry meterRegistry;
+
+    public void hit(String cacheName) {
+        record(cacheName, "hit", 1);
+    }
+
+    public void miss(String cacheName) {
+        record(cacheName, "miss", 1);
+    }
+
+    /**
+     * 여러 키를 한 번에 조회한 결과를 기록합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @param hits 적중 수
+     * @param misses 미스 수
+     */
+    public void record(String cacheName, int hits, int misses) {
+        record(cacheName, "hit", hits);
+        record(cacheName, "miss", misses);
+    }
+
+    private void record(String cacheName, String result, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(METRIC_NAME)
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
@@ -0,0 +1,25 @@
+package com.backend.advert.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Getter;
+
+/**
+ * 조기 갱신 캐시에 저장되는 값.
+ * 값과 함께 계산에 걸린 시간(delta)과 논리적 만료 시각을 보관합니다.
+ *
+ * @param <T> 캐시 값 타입
+ */
+@Getter
+public class CachedValue<T> {
+
+    private final T value;
+    private final long computeMillis;   // 값을 계산하는 데 걸린 시간 (ms)
+    private final long expiresAtMillis; // 논리적 만료 시각 (epoch ms)
+
+    @JsonCreator
+    public CachedValue(T value, long computeMillis, long expiresAtMillis) {
+        this.value = value;
+        this.computeMillis = computeMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+}
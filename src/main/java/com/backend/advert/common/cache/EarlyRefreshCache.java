@@ -0,0 +1,160 @@
+package com.backend.advert.common.cache;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 만료 직전에 확률적으로 미리 갱신하는 캐시입니다. (XFetch)
+ * - 만료 시각이 가까워질수록, 계산 비용이 클수록 조기 갱신 확률이 높아집니다.
+ * - 갱신은 백그라운드에서 수행되며, 그동안 기존 값을 계속 반환합니다.
+ * - 논리적 만료 이후에도 유예 시간 동안은 기존 값을 반환하므로 모든 노드가 동시에 DB를 조회하지 않습니다.
+ * - 적중/미스는 키의 마지막 구분자(:) 앞부분을 캐시 이름으로 하여 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EarlyRefreshCache {
+
+    private static final double BETA = 1.0;
+    private static final String REFRESH_LOCK_PREFIX = "cache-refresh:";
+    private static final Duration REFRESH_LOCK_TTL = Duration.ofSeconds(10);
+
+    private final RedisCacheStore redisCacheStore;
+    private final SingleFlight singleFlight;
+    private final RedisLockService redisLockService;
+    private final CacheMetrics cacheMetrics;
+
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            1, 4, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(256),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy()); // 대기열이 가득 차면 다음 요청에서 다시 갱신을 시도
+
+    /**
+     * 캐시 값을 조회합니다.
+     * - 값이 없으면 single-flight로 한 번만 로딩하여 저장합니다.
+     * - 값이 있으면 조기 갱신 여부를 확률적으로 판단하고, 갱신이 필요하면 백그라운드에서 갱신합니다.
+     *
+     * @param key 캐시 키
+     * @param type 값 타입
+     * @param ttl 논리적 만료 시간 (이후 같은 시간만큼 기존 값을 유예하여 반환)
+     * @param loader 원본 데이터 로딩 로직
+     * @return 캐시 값
+     */
+    public <T> T get(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        Optional<CachedValue<T>> cached = read(key, type);
+        if (cached.isEmpty()) {
+            cacheMetrics.miss(cacheName(key));
+            return singleFlight.executeAcrossNodes(
+                    key,
+                    () -> read(key, type).map(CachedValue::getValue),
+                    () -> loadAndStore(key, ttl, loader));
+        }
+
+        cacheMetrics.hit(cacheName(key));
+        CachedValue<T> entry = cached.get();
+        if (shouldRefreshEarly(entry, System.currentTimeMillis())) {
+            refreshInBackground(key, ttl, loader);
+        }
+        return entry.getValue();
+    }
+
+    public void evict(String key) {
+        redisCacheStore.evict(key);
+    }
+
+    public void evictAll(Collection<String> keys) {
+        redisCacheStore.evictAll(keys);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * XFetch 조기 갱신 판단: now - delta * beta * ln(rand) >= expiry
+     */
+    boolean shouldRefreshEarly(CachedValue<?> entry, long nowMillis) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -entry.getComputeMillis() * BETA * Math.log(random);
+        return nowMillis + gap >= entry.getExpiresAtMillis();
+    }
+
+    /**
+     * 캐시 키에서 캐시 이름을 구합니다. (예: advertisement:detail:{id} -> advertisement:detail)
+     */
+    static String cacheName(String key) {
+        int end = key.lastIndexOf(':');
+        while (end > 0 && key.charAt(end - 1) == ':') {
+            end--;
+        }
+        return end > 0 ? key.substring(0, end) : key;
+    }
+
+    private <T> Optional<CachedValue<T>> read(String key, Class<T> type) {
+        JavaType entryType = TypeFactory.defaultInstance().constructParametricType(CachedValue.class, type);
+        return redisCacheStore.get(key, entryType);
+    }
+
+    private <T> T loadAndStore(String key, Duration ttl, Supplier<T> loader) {
+        long startedAt = System.nanoTime();
+        T value = loader.get();
+        long computeMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        long expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
+        redisCacheStore.put(key, new CachedValue<>(value, computeMillis, expiresAtMillis), ttl.multipliedBy(2));
+        return value;
+    }
+
+    private <T> void refreshInBackground(String key, Duration ttl, Supplier<T> loader) {
+        if (!refreshingKeys.add(key)) {
+            return; // 이 노드에서 이미 갱신 중
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key, ttl, loader));
+        } catch (RuntimeException e) {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private <T> void refresh(String key, Duration ttl, Supplier<T> loader) {
+        String lockKey = REFRESH_LOCK_PREFIX + key;
+        try {
+            // 다른 노드가 이미 갱신 중이면 건너뜀
+            String lockToken = redisLockService.tryLock(lockKey, REFRESH_LOCK_TTL);
+            if (lockToken == null) {
+                return;
+            }
+            try {
+                loadAndStore(key, ttl, loader);
+            } finally {
+                redisLockService.unlock(lockKey, lockToken);
+            }
+        } catch (Exception e) {
+            System.err.printf("캐시 조기 갱신 실패: key %s, Error: %s%n", key, e.getMessage());
+        } finally {
+            refreshingKeys.remove(key);
+        }
+    }
+}
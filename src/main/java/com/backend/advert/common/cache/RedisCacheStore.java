@@ -0,0 +1,115 @@
+package com.backend.advert.common.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 타입 정보를 유지한 채 Redis에 캐시 값을 저장/조회합니다.
+ * 값은 CacheCodec 으로 인코딩한 바이트(Smile, 기준 크기 이상이면 압축)로 저장되며, 조회 시 지정한 타입으로 디코딩합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCacheStore {
+
+    private final RedisTemplate<String, byte[]> cacheRedisTemplate;
+    private final CacheCodec cacheCodec;
+
+    /**
+     * 캐시 값을 조회합니다. 디코딩할 수 없는 값은 삭제하고 미스로 처리합니다.
+     *
+     * @param key 캐시 키
+     * @param type 값 타입
+     * @return 캐시 값 (없으면 Optional.empty())
+     */
+    public <T> Optional<T> get(String key, Class<T> type) {
+        return get(key, cacheCodec.constructType(type));
+    }
+
+    /**
+     * 제네릭 타입의 캐시 값을 조회합니다.
+     *
+     * @param key 캐시 키
+     * @param type 값 타입
+     * @return 캐시 값 (없으면 Optional.empty())
+     */
+    public <T> Optional<T> get(String key, JavaType type) {
+        byte[] bytes = cacheRedisTemplate.opsForValue().get(key);
+        if (bytes == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(cacheCodec.decode(bytes, type));
+        } catch (IOException e) {
+            cacheRedisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 여러 캐시 값을 한 번에 조회합니다. (MGET) 없거나 디코딩할 수 없는 키는 결과에 포함하지 않습니다.
+     *
+     * @param keys 캐시 키 목록
+     * @param type 값 타입
+     * @return 키별 캐시 값
+     */
+    public <T> Map<String, T> getAll(List<String> keys, Class<T> type) {
+        Map<String, T> values = new HashMap<>();
+        if (keys.isEmpty()) {
+            return values;
+        }
+
+        List<byte[]> encoded = cacheRedisTemplate.opsForValue().multiGet(keys);
+        if (encoded == null) {
+            return values;
+        }
+        JavaType javaType = cacheCodec.constructType(type);
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] bytes = encoded.get(i);
+            if (bytes == null) {
+                continue;
+            }
+            try {
+                values.put(keys.get(i), cacheCodec.decode(bytes, javaType));
+            } catch (IOException e) {
+                cacheRedisTemplate.delete(keys.get(i));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 캐시 값을 저장합니다.
+     *
+     * @param key 캐시 키
+     * @param value 저장할 값
+     * @param ttl 만료 시간
+     */
+    public void put(String key, Object value, Duration ttl) {
+        try {
+            cacheRedisTemplate.opsForValue().set(key, cacheCodec.encode(value), ttl);
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 값을 직렬화할 수 없습니다. key: " + key, e);
+        }
+    }
+
+    public void evict(String key) {
+        cacheRedisTemplate.delete(key);
+    }
+
+    public void evictAll(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            cacheRedisTemplate.delete(keys);
+        }
+    }
+}
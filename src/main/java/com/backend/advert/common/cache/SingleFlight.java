@@ -0,0 +1,170 @@
+package com.backend.advert.common.cache;
+
+import com.backend.advert.config.redis.RedisLockService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로딩 요청을 하나로 합칩니다. (single-flight)
+ * - 캐시 미스가 동시에 발생해도 노드당 한 번만 저장소를 조회하고, 나머지 요청은 그 결과를 공유합니다.
+ * - executeAcrossNodes 는 짧은 Redis 락을 이용해 여러 노드 간에도 로딩을 한 번으로 줄입니다.
+ * - 실제 로딩 수(cache.singleflight.loads)와 합쳐진 요청 수(cache.singleflight.coalesced, 태그: scope=local|remote)를 지표로 내보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight implements MeterBinder {
+
+    static final String LOADS_METRIC = "cache.singleflight.loads";
+    static final String COALESCED_METRIC = "cache.singleflight.coalesced";
+
+    private static final String LOCK_PREFIX = "singleflight:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(5);
+    private static final long WAIT_INTERVAL_MILLIS = 50;
+    private static final int MAX_WAIT_ATTEMPTS = 20;
+
+    private final RedisLockService redisLockService;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong remoteCoalescedCount = new AtomicLong();
+
+    /**
+     * 같은 노드 안에서 동일한 키의 로딩을 하나로 합칩니다.
+     * 이미 진행 중인 로딩이 있으면 그 결과(또는 예외)를 그대로 돌려받습니다.
+     *
+     * @param key 로딩 대상 키
+     * @param loader 실제 로딩 로직
+     * @return 로딩 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return (T) join(existing);
+        }
+
+        loadCount.incrementAndGet();
+        try {
+            T value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 여러 노드 간에도 동일한 키의 로딩을 하나로 합칩니다.
+     * - 노드 내부에서는 execute 와 같이 합쳐집니다.
+     * - 락을 획득한 노드만 loader 를 실행하고, 나머지 노드는 캐시가 채워질 때까지 잠시 기다립니다.
+     * - 기다려도 캐시가 채워지지 않으면 직접 로딩합니다.
+     *
+     * @param key 로딩 대상 키
+     * @param cacheLookup 캐시 조회 로직
+     * @param loader 로딩 후 캐시까지 채우는 로직
+     * @return 로딩 결과
+     */
+    public <T> T executeAcrossNodes(String key, Supplier<Optional<T>> cacheLookup, Supplier<T> loader) {
+        return execute(key, () -> loadAcrossNodes(key, cacheLookup, loader));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(LOADS_METRIC, loadCount, AtomicLong::get)
+                .description("single-flight 로 실제 실행된 로딩 수")
+                .register(registry);
+        FunctionCounter.builder(COALESCED_METRIC, coalescedCount, AtomicLong::get)
+                .description("진행 중인 로딩에 합쳐진 요청 수")
+                .tag("scope", "local")
+                .register(registry);
+        FunctionCounter.builder(COALESCED_METRIC, remoteCoalescedCount, AtomicLong::get)
+                .description("진행 중인 로딩에 합쳐진 요청 수")
+                .tag("scope", "remote")
+                .register(registry);
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getRemoteCoalescedCount() {
+        return remoteCoalescedCount.get();
+    }
+
+    private <T> T loadAcrossNodes(String key, Supplier<Optional<T>> cacheLookup, Supplier<T> loader) {
+        String lockKey = LOCK_PREFIX + key;
+
+        for (int attempt = 0; attempt < MAX_WAIT_ATTEMPTS; attempt++) {
+            String lockToken = redisLockService.tryLock(lockKey, LOCK_TTL);
+            if (lockToken != null) {
+                try {
+                    // 락을 기다리는 사이 다른 노드가 이미 캐시를 채웠을 수 있음
+                    Optional<T> cached = cacheLookup.get();
+                    return cached.isPresent() ? cached.get() : loader.get();
+                } finally {
+                    redisLockService.unlock(lockKey, lockToken);
+                }
+            }
+
+            if (!sleep()) {
+                break;
+            }
+
+            Optional<T> cached = cacheLookup.get();
+            if (cached.isPresent()) {
+                remoteCoalescedCount.incrementAndGet();
+                return cached.get();
+            }
+        }
+
+        // 락 보유 노드가 응답하지 않으면 직접 로딩
+        return loader.get();
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(WAIT_INTERVAL_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
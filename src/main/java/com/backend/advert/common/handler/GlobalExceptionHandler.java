@@ -2,6 +2,8 @@ package com.backend.advert.common.handler;
 
 import com.backend.advert.common.exception.CustomErrorResponse;
 import com.backend.advert.common.exception.ServiceException;
+import com.backend.advert.domain.advertisement.exception.ParticipationRateLimitedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,6 +23,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    // 광고 참여 속도 제한 처리 (재시도 가능 시각을 Retry-After 헤더로 전달)
+    @ExceptionHandler(ParticipationRateLimitedException.class)
+    public ResponseEntity<CustomErrorResponse> handleParticipationRateLimitedException(ParticipationRateLimitedException e) {
+        CustomErrorResponse errorResponse = CustomErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                e.getMessage(),
+                e.getErrorCode()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     // 기타 Exception 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<CustomErrorResponse> handleException(Exception e) {
@@ -0,0 +1,64 @@
+package com.backend.advert.common.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 JDBC 문 수와 JDBC 실행 시간을 기록합니다.
+ * - 요청 경로 패턴별로 jdbc.request.statements(문 수), jdbc.request.time(JDBC 실행 시간) 지표를 남깁니다.
+ * - 한 요청의 문 수가 기준을 넘으면 N+1 조회 등을 찾을 수 있도록 경고 로그를 남깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryGuardInterceptor implements HandlerInterceptor {
+
+    static final String STATEMENTS_METRIC = "jdbc.request.statements";
+    static final String TIME_METRIC = "jdbc.request.time";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query-guard.max-statements-per-request:20}")
+    private int maxStatementsPerRequest;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStatistics.start(false);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryStatistics statistics = QueryStatistics.stop();
+        if (statistics == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+        Timer.builder(TIME_METRIC)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (maxStatementsPerRequest > 0 && statistics.getStatementCount() > maxStatementsPerRequest) {
+            System.err.printf("요청당 쿼리 수 초과: %s %s, %d건 (기준 %d건), JDBC %dms%n",
+                    request.getMethod(), uri, statistics.getStatementCount(), maxStatementsPerRequest,
+                    TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcNanos()));
+        }
+    }
+}
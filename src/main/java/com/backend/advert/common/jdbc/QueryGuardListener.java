@@ -0,0 +1,40 @@
+package com.backend.advert.common.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행된 JDBC 문을 현재 스레드의 QueryStatistics 에 기록하고, 기준 시간 이상 걸린 문은 바인딩 파라미터와 함께 로그로 남깁니다.
+ */
+public class QueryGuardListener implements QueryExecutionListener {
+
+    private final long slowQueryThresholdMillis;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    /**
+     * @param slowQueryThresholdMillis 느린 쿼리 기준 시간(ms), 0 이하이면 느린 쿼리 로그를 남기지 않음
+     */
+    public QueryGuardListener(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        QueryStatistics.record(sql, TimeUnit.MILLISECONDS.toNanos(executionInfo.getElapsedTime()));
+
+        if (slowQueryThresholdMillis > 0 && executionInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            System.err.printf("느린 쿼리: %dms, %s%n", executionInfo.getElapsedTime(),
+                    logEntryCreator.getLogEntry(executionInfo, queryInfoList, false, false, false));
+        }
+    }
+}
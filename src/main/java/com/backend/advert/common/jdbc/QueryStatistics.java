@@ -0,0 +1,70 @@
+package com.backend.advert.common.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행한 JDBC 문 수와 JDBC 실행 시간입니다.
+ * - start() 부터 stop() 까지 같은 스레드에서 실행된 문을 셉니다. (배치는 한 번의 실행으로 셈)
+ * - 요청 단위 지표(QueryGuardInterceptor)와 테스트의 쿼리 수 검증에 사용합니다.
+ */
+public final class QueryStatistics {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final List<String> statements; // 테스트에서만 수집 (null 이면 수집하지 않음)
+    private int statementCount;
+    private long jdbcNanos;
+
+    private QueryStatistics(boolean captureStatements) {
+        this.statements = captureStatements ? new ArrayList<>() : null;
+    }
+
+    /**
+     * 현재 스레드의 측정을 시작합니다. 진행 중인 측정이 있으면 새 측정으로 바꿉니다.
+     *
+     * @param captureStatements 실행한 SQL 을 함께 보관할지 여부
+     * @return 현재 스레드의 측정 값
+     */
+    public static QueryStatistics start(boolean captureStatements) {
+        QueryStatistics statistics = new QueryStatistics(captureStatements);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드의 측정을 끝냅니다.
+     *
+     * @return 측정 값 (측정 중이 아니었으면 null)
+     */
+    public static QueryStatistics stop() {
+        QueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return;
+        }
+        statistics.statementCount++;
+        statistics.jdbcNanos += elapsedNanos;
+        if (statistics.statements != null) {
+            statistics.statements.add(sql);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public List<String> getStatements() {
+        return statements == null ? List.of() : Collections.unmodifiableList(statements);
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AdvertisementValidator {
+
+    private final QualificationCompiler qualificationCompiler;
+
+    /**
+     * 광고 데이터 검증 로직.
+     * 자격 조건은 검증과 함께 컴파일하여 반환하므로, 저장 후 다시 해석할 필요가 없습니다.
+     *
+     * @param advertisement 검증할 광고 엔티티
+     * @return 컴파일된 광고 참가 자격 조건
+     * @throws InvalidAdvertisementException 광고 데이터가 유효하지 않을 경우 예외 발생
+     */
+    public CompiledQualification validate(Advertisement advertisement) {
+        // 노출 시작일이 종료일보다 늦는 경우 예외 발생
+        if (advertisement.getExposureStartDate().isAfter(advertisement.getExposureEndDate())) {
+            throw new InvalidAdvertisementException("광고 노출 시작일은 종료일보다 앞서야 합니다.");
+        }
+
+        // 자격 조건 검증 및 컴파일
+        return qualificationCompiler.compile(advertisement.getQualificationCriteria());
+    }
+}
@@ -0,0 +1,51 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.common.validator.rule.QualificationRule;
+import com.backend.advert.common.validator.rule.RuleRequirements;
+import com.backend.advert.common.validator.rule.UserSnapshot;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 광고 저장 시 한 번만 해석해 두는 참가 자격 조건.
+ * 규칙 트리와 함께 평가에 필요한 데이터 목록을 미리 계산해 둡니다.
+ * 불변 객체이므로 여러 요청에서 공유해도 안전합니다.
+ */
+@Getter
+public final class CompiledQualification {
+
+    public static final CompiledQualification NONE = new CompiledQualification(null);
+
+    private final QualificationRule rule;          // 조건이 없으면 null
+    private final Set<UUID> advertisementIds;      // 참가 이력을 확인할 광고 ID
+    private final int windowDays;                  // 최근 참가 이력을 조회할 기간 (일)
+
+    public CompiledQualification(QualificationRule rule) {
+        this.rule = rule;
+
+        RuleRequirements requirements = new RuleRequirements();
+        if (rule != null) {
+            rule.collectRequirements(requirements);
+        }
+        this.advertisementIds = Set.copyOf(requirements.getAdvertisementIds());
+        this.windowDays = requirements.getWindowDays();
+    }
+
+    /**
+     * 검사할 조건이 하나도 없는지 여부. (사용자 조회 없이 통과)
+     */
+    public boolean isUnconditional() {
+        return rule == null;
+    }
+
+    public boolean test(UserSnapshot user) {
+        return rule == null || rule.test(user);
+    }
+
+    public void collectRequirements(RuleRequirements requirements) {
+        requirements.addAdvertisementIds(advertisementIds);
+        requirements.requireWindowDays(windowDays);
+    }
+}
@@ -0,0 +1,191 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.common.validator.rule.AndRule;
+import com.backend.advert.common.validator.rule.EmailDomainRule;
+import com.backend.advert.common.validator.rule.NotRule;
+import com.backend.advert.common.validator.rule.OrRule;
+import com.backend.advert.common.validator.rule.ParticipatedInRule;
+import com.backend.advert.common.validator.rule.ParticipationCountRule;
+import com.backend.advert.common.validator.rule.QualificationRule;
+import com.backend.advert.common.validator.rule.RecentParticipationRule;
+import com.backend.advert.domain.advertisement.dto.QualificationCriteria;
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 광고 참가 자격 조건 JSON을 규칙 트리로 컴파일합니다.
+ *
+ * 기존 필드(firstTimeParticipation, minParticipationCount, excludedAdvertisementId)와 함께
+ * rule 필드로 규칙 표현식을 지정할 수 있으며, 모든 조건은 AND로 결합됩니다.
+ * <pre>
+ * {"rule": {"and": [
+ *     {"participationCount": {"min": 3, "max": 10}},
+ *     {"not": {"participatedIn": ["광고 ID", ...]}},
+ *     {"participationsWithin": {"days": 7, "min": 1}},
+ *     {"or": [{"emailDomain": ["example.com"]}, ...]}
+ * ]}}
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class QualificationCompiler {
+
+    private static final int MAX_DEPTH = 16;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 자격 조건 JSON 문자열을 검증하고 CompiledQualification 으로 변환합니다.
+     *
+     * @param criteriaJson 자격 조건 JSON 문자열 (없으면 조건 없음)
+     * @return 컴파일된 자격 조건
+     * @throws InvalidAdvertisementException 자격 조건이 유효하지 않을 경우 예외 발생
+     */
+    public CompiledQualification compile(String criteriaJson) {
+        if (criteriaJson == null || criteriaJson.isBlank()) {
+            return CompiledQualification.NONE; // 조건이 없을 경우
+        }
+
+        QualificationCriteria criteria;
+        try {
+            criteria = objectMapper.readValue(criteriaJson, QualificationCriteria.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidAdvertisementException("유효하지 않은 광고 참가 자격 조건(JSON)입니다.");
+        }
+        if (criteria == null) {
+            return CompiledQualification.NONE; // JSON null
+        }
+
+        List<QualificationRule> rules = new ArrayList<>();
+
+        // 기존 필드를 규칙으로 변환
+        if (criteria.isFirstTimeParticipation()) {
+            rules.add(new ParticipationCountRule(null, 0));
+        }
+        if (criteria.getMinParticipationCount() != null) {
+            if (criteria.getMinParticipationCount() < 0) {
+                throw new InvalidAdvertisementException("최소 참가 횟수는 0 이상이어야 합니다.");
+            }
+            rules.add(new ParticipationCountRule(criteria.getMinParticipationCount(), null));
+        }
+        if (criteria.getExcludedAdvertisementId() != null) {
+            UUID excludedId = parseAdvertisementId(criteria.getExcludedAdvertisementId());
+            rules.add(new NotRule(new ParticipatedInRule(Set.of(excludedId))));
+        }
+
+        // 규칙 표현식
+        if (criteria.getRule() != null && !criteria.getRule().isNull()) {
+            rules.add(parseRule(criteria.getRule(), 1));
+        }
+
+        if (rules.isEmpty()) {
+            return CompiledQualification.NONE;
+        }
+        return new CompiledQualification(rules.size() == 1 ? rules.get(0) : new AndRule(rules));
+    }
+
+    private QualificationRule parseRule(JsonNode node, int depth) {
+        if (depth > MAX_DEPTH) {
+            throw invalidRule("규칙의 중첩이 너무 깊습니다.");
+        }
+        if (!node.isObject() || node.size() != 1) {
+            throw invalidRule("규칙은 하나의 연산자를 가진 객체여야 합니다.");
+        }
+
+        Map.Entry<String, JsonNode> operator = node.fields().next();
+        JsonNode operand = operator.getValue();
+
+        return switch (operator.getKey()) {
+            case "and" -> new AndRule(parseRules(operand, depth));
+            case "or" -> new OrRule(parseRules(operand, depth));
+            case "not" -> new NotRule(parseRule(operand, depth + 1));
+            case "participationCount" -> {
+                Integer min = optionalNonNegativeInt(operand, "min");
+                Integer max = optionalNonNegativeInt(operand, "max");
+                if (min == null && max == null) {
+                    throw invalidRule("participationCount 에는 min 또는 max 가 필요합니다.");
+                }
+                yield new ParticipationCountRule(min, max);
+            }
+            case "participatedIn" -> {
+                Set<UUID> advertisementIds = new LinkedHashSet<>();
+                for (String value : textArray(operand, "participatedIn")) {
+                    advertisementIds.add(parseAdvertisementId(value));
+                }
+                yield new ParticipatedInRule(advertisementIds);
+            }
+            case "participationsWithin" -> {
+                Integer days = optionalNonNegativeInt(operand, "days");
+                Integer min = optionalNonNegativeInt(operand, "min");
+                if (days == null || days == 0 || min == null) {
+                    throw invalidRule("participationsWithin 에는 1 이상의 days 와 min 이 필요합니다.");
+                }
+                yield new RecentParticipationRule(days, min);
+            }
+            case "emailDomain" -> new EmailDomainRule(new LinkedHashSet<>(textArray(operand, "emailDomain")));
+            default -> throw invalidRule("알 수 없는 규칙입니다: " + operator.getKey());
+        };
+    }
+
+    private List<QualificationRule> parseRules(JsonNode operand, int depth) {
+        if (!operand.isArray() || operand.isEmpty()) {
+            throw invalidRule("and/or 에는 하나 이상의 규칙 배열이 필요합니다.");
+        }
+        List<QualificationRule> rules = new ArrayList<>(operand.size());
+        for (JsonNode child : operand) {
+            rules.add(parseRule(child, depth + 1));
+        }
+        return rules;
+    }
+
+    private Integer optionalNonNegativeInt(JsonNode operand, String field) {
+        if (!operand.isObject()) {
+            throw invalidRule("규칙 인자는 객체여야 합니다.");
+        }
+        JsonNode value = operand.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.canConvertToInt() || !value.isIntegralNumber() || value.intValue() < 0) {
+            throw invalidRule(field + " 는 0 이상의 정수여야 합니다.");
+        }
+        return value.intValue();
+    }
+
+    private List<String> textArray(JsonNode operand, String operator) {
+        if (!operand.isArray() || operand.isEmpty()) {
+            throw invalidRule(operator + " 에는 하나 이상의 값 배열이 필요합니다.");
+        }
+        List<String> values = new ArrayList<>(operand.size());
+        for (JsonNode value : operand) {
+            if (!value.isTextual()) {
+                throw invalidRule(operator + " 의 값은 문자열이어야 합니다.");
+            }
+            values.add(value.asText());
+        }
+        return values;
+    }
+
+    private UUID parseAdvertisementId(String advertisementId) {
+        try {
+            return UUID.fromString(advertisementId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAdvertisementException("광고 ID 형식이 올바르지 않습니다: " + advertisementId);
+        }
+    }
+
+    private InvalidAdvertisementException invalidRule(String message) {
+        return new InvalidAdvertisementException("유효하지 않은 광고 참가 자격 규칙입니다. " + message);
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.common.cache.CacheMetrics;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 광고별 컴파일된 자격 조건 캐시.
+ * - 자격 조건 원문과 함께 보관하여, 광고의 자격 조건이 바뀌면(다른 노드에서 수정된 경우 포함) 다시 컴파일합니다.
+ * - 조회 경로에서는 문자열 비교만 수행하고 JSON 파싱은 하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QualificationCriteriaCache {
+
+    private static final String CACHE_NAME = "qualification:criteria";
+
+    private final QualificationCompiler qualificationCompiler;
+    private final CacheMetrics cacheMetrics;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 광고의 컴파일된 자격 조건을 조회합니다. 캐시에 없거나 원문이 바뀌었으면 컴파일하여 저장합니다.
+     *
+     * @param advertisement 광고 엔티티
+     * @return 컴파일된 자격 조건
+     */
+    public CompiledQualification get(Advertisement advertisement) {
+        String source = advertisement.getQualificationCriteria();
+        Entry entry = entries.get(advertisement.getId());
+        if (entry != null && Objects.equals(entry.source(), source)) {
+            cacheMetrics.hit(CACHE_NAME);
+            return entry.compiled();
+        }
+        cacheMetrics.miss(CACHE_NAME);
+
+        CompiledQualification compiled = qualificationCompiler.compile(source);
+        entries.put(advertisement.getId(), new Entry(source, compiled));
+        return compiled;
+    }
+
+    /**
+     * 광고 저장 시 이미 컴파일한 자격 조건을 캐시에 등록합니다.
+     *
+     * @param advertisement 저장된 광고 엔티티
+     * @param compiled 컴파일된 자격 조건
+     */
+    public void put(Advertisement advertisement, CompiledQualification compiled) {
+        entries.put(advertisement.getId(), new Entry(advertisement.getQualificationCriteria(), compiled));
+    }
+
+    public void invalidate(UUID advertisementId) {
+        entries.remove(advertisementId);
+    }
+
+    private record Entry(String source, CompiledQualification compiled) {
+    }
+}
@@ -1,60 +1,174 @@
 package com.backend.advert.common.validator;
 
-import com.backend.advert.domain.advertisement.dto.QualificationCriteria;
-import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
-import com.backend.advert.domain.user.entity.User;
+import com.backend.advert.common.validator.rule.RuleRequirements;
+import com.backend.advert.common.validator.rule.UserSnapshot;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.advertisementParticipation.service.ParticipationMembershipIndex;
+import com.backend.advert.domain.user.dto.UserProfile;
 import com.backend.advert.domain.user.exception.UserNotFoundException;
-import com.backend.advert.domain.user.repository.UserRepository;
+import com.backend.advert.domain.user.service.UserParticipationCounter;
+import com.backend.advert.domain.user.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * 광고 참가 자격 규칙을 평가합니다.
+ * 평가에 필요한 사용자 정보와 참가 이력은 규칙 수와 관계없이 한 번에 미리 조회합니다.
+ * (사용자 프로필 캐시 1회, 참여 횟수 카운터 1회, 참조 광고 참여 여부는 참여자 인덱스로 1회, 최근 참여 이력 1회 - 필요한 경우에만)
+ */
 @Service
 @RequiredArgsConstructor
 public class QualificationValidator {
 
-    private final AdvertisementRepository advertisementRepository;
-    private final UserRepository userRepository;
+    private static final int IN_CLAUSE_BATCH_SIZE = 1000;
+
+    private final UserProfileCache userProfileCache;
+    private final AdvertisementParticipationRepository participationRepository;
+    private final ParticipationMembershipIndex membershipIndex;
+    private final UserParticipationCounter participationCounter;
 
     /**
      * 자격 조건을 검증합니다.
      *
-     * @param criteria 자격 조건
+     * @param qualification 컴파일된 자격 조건
      * @param userId 검증 대상 사용자의 ID
      * @return 조건 만족 여부
-     * @throws IllegalArgumentException 사용자 정보를 찾을 수 없을 경우 예외 발생
+     * @throws UserNotFoundException 사용자 정보를 찾을 수 없을 경우 예외 발생
      */
-    public boolean isValid(QualificationCriteria criteria, UUID userId) {
-        if (criteria == null) {
+    public boolean isValid(CompiledQualification qualification, UUID userId) {
+        if (qualification == null || qualification.isUnconditional()) {
             return true; // 조건이 없으면 항상 통과
         }
 
-        // userId를 기반으로 User 조회 (존재하지 않으면 예외 발생)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
+        RuleRequirements requirements = new RuleRequirements();
+        qualification.collectRequirements(requirements);
+
+        UserSnapshot snapshot = loadSnapshots(List.of(userId), requirements, LocalDateTime.now()).get(userId);
+        if (snapshot == null) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+        return qualification.test(snapshot);
+    }
+
+    /**
+     * 하나의 자격 조건을 여러 사용자에 대해 한 번에 평가합니다.
+     * 존재하지 않는 사용자는 조건을 만족하지 않는 것으로 처리합니다.
+     *
+     * @param qualification 컴파일된 자격 조건
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 조건 만족 여부
+     */
+    public Map<UUID, Boolean> evaluateUsers(CompiledQualification qualification, Collection<UUID> userIds) {
+        Map<UUID, Boolean> results = new LinkedHashMap<>();
+        if (qualification == null || qualification.isUnconditional()) {
+            userIds.forEach(userId -> results.put(userId, true));
+            return results;
+        }
+
+        RuleRequirements requirements = new RuleRequirements();
+        qualification.collectRequirements(requirements);
+        Map<UUID, UserSnapshot> snapshots = loadSnapshots(userIds, requirements, LocalDateTime.now());
+
+        for (UUID userId : userIds) {
+            UserSnapshot snapshot = snapshots.get(userId);
+            results.put(userId, snapshot != null && qualification.test(snapshot));
+        }
+        return results;
+    }
+
+    /**
+     * 한 사용자에 대해 여러 광고의 자격 조건을 한 번에 평가합니다.
+     *
+     * @param qualifications 광고 ID별 컴파일된 자격 조건
+     * @param userId 사용자 ID
+     * @return 광고 ID별 조건 만족 여부
+     * @throws UserNotFoundException 조건이 있는 광고가 있는데 사용자 정보를 찾을 수 없을 경우 예외 발생
+     */
+    public Map<UUID, Boolean> evaluateAdvertisements(Map<UUID, CompiledQualification> qualifications, UUID userId) {
+        Map<UUID, Boolean> results = new LinkedHashMap<>();
 
-        // 첫 참가 조건 확인
-        if (criteria.isFirstTimeParticipation()) {
-            if (user.getParticipationCount() > 0) {
-                return false; // 첫 참가 조건 만족하지 않음
+        // 모든 광고의 요구 사항을 합쳐 한 번에 조회
+        RuleRequirements requirements = new RuleRequirements();
+        boolean userRequired = false;
+        for (CompiledQualification qualification : qualifications.values()) {
+            if (qualification != null && !qualification.isUnconditional()) {
+                qualification.collectRequirements(requirements);
+                userRequired = true;
             }
         }
 
-        // 최소 참가 횟수 조건 확인
-        if (criteria.getMinParticipationCount() != null) {
-            if (user.getParticipationCount() < criteria.getMinParticipationCount()) {
-                return false; // 최소 참가 횟수 조건 만족하지 않음
+        UserSnapshot snapshot = null;
+        if (userRequired) {
+            snapshot = loadSnapshots(List.of(userId), requirements, LocalDateTime.now()).get(userId);
+            if (snapshot == null) {
+                throw new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
             }
         }
 
-        // 특정 광고 참가 이력 제외 조건 확인
-        if (criteria.getExcludedAdvertisementId() != null) {
-            UUID advertisementId = UUID.fromString(criteria.getExcludedAdvertisementId());
-            return !advertisementRepository.existsByIdAndParticipantsContains(advertisementId, user); // 특정 광고 참가 이력 조건 만족하지 않음
+        for (Map.Entry<UUID, CompiledQualification> entry : qualifications.entrySet()) {
+            CompiledQualification qualification = entry.getValue();
+            results.put(entry.getKey(), qualification == null || qualification.isUnconditional() || qualification.test(snapshot));
         }
+        return results;
+    }
+
+    /**
+     * 규칙 평가에 필요한 사용자 스냅샷을 조회합니다.
+     */
+    private Map<UUID, UserSnapshot> loadSnapshots(Collection<UUID> userIds, RuleRequirements requirements, LocalDateTime now) {
+        Map<UUID, UserSnapshot> snapshots = new HashMap<>();
+
+        for (List<UUID> batch : partition(userIds)) {
+            Map<UUID, UserProfile> users = userProfileCache.getAll(batch);
+            if (users.isEmpty()) {
+                continue;
+            }
+
+            // 아직 DB에 반영되지 않은 참여 횟수
+            Map<UUID, Integer> counts = participationCounter.getCounts(batch);
+
+            // 규칙이 참조하는 광고의 참여 여부
+            Map<UUID, Set<UUID>> participated = requirements.getAdvertisementIds().isEmpty()
+                    ? Map.of()
+                    : membershipIndex.findJoined(batch, requirements.getAdvertisementIds());
 
-        return true; // 모든 조건을 만족
+            // 규칙이 요구하는 기간 내 참여 시각
+            Map<UUID, List<LocalDateTime>> recent = new HashMap<>();
+            if (requirements.getWindowDays() > 0) {
+                participationRepository.findParticipationTimesSince(batch, now.minusDays(requirements.getWindowDays()))
+                        .forEach(row -> recent.computeIfAbsent(row.getUserId(), key -> new ArrayList<>()).add(row.getParticipatedAt()));
+            }
+
+            for (UserProfile user : users.values()) {
+                snapshots.put(user.getId(), new UserSnapshot(
+                        user.getId(),
+                        user.getEmail(),
+                        counts.getOrDefault(user.getId(), user.getParticipationCount()),
+                        participated.getOrDefault(user.getId(), Set.of()),
+                        recent.getOrDefault(user.getId(), List.of()),
+                        now));
+            }
+        }
+        return snapshots;
     }
-}
 
+    private static List<List<UUID>> partition(Collection<UUID> userIds) {
+        List<UUID> distinctIds = new ArrayList<>(new HashSet<>(userIds));
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_BATCH_SIZE) {
+            batches.add(distinctIds.subList(from, Math.min(from + IN_CLAUSE_BATCH_SIZE, distinctIds.size())));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,28 @@
+package com.backend.advert.common.validator.rule;
+
+import java.util.List;
+
+/**
+ * 모든 하위 규칙을 만족해야 하는 규칙.
+ */
+public record AndRule(List<QualificationRule> rules) implements QualificationRule {
+
+    public AndRule {
+        rules = List.copyOf(rules);
+    }
+
+    @Override
+    public boolean test(UserSnapshot user) {
+        for (QualificationRule rule : rules) {
+            if (!rule.test(user)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void collectRequirements(RuleRequirements requirements) {
+        rules.forEach(rule -> rule.collectRequirements(requirements));
+    }
+}
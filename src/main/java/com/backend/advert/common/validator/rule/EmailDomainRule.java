@@ -0,0 +1,27 @@
+package com.backend.advert.common.validator.rule;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 이메일이 지정한 도메인 중 하나에 속해야 하는 규칙.
+ */
+public record EmailDomainRule(Set<String> domains) implements QualificationRule {
+
+    public EmailDomainRule {
+        domains = domains.stream().map(domain -> domain.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public boolean test(UserSnapshot user) {
+        String email = user.email();
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        return at >= 0 && domains.contains(email.substring(at + 1).toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public void collectRequirements(RuleRequirements requirements) {
+        // 사용자 정보만 필요
+    }
+}
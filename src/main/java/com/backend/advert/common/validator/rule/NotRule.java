@@ -0,0 +1,17 @@
+package com.backend.advert.common.validator.rule;
+
+/**
+ * 하위 규칙을 만족하지 않아야 하는 규칙.
+ */
+public record NotRule(QualificationRule rule) implements QualificationRule {
+
+    @Override
+    public boolean test(UserSnapshot user) {
+        return !rule.test(user);
+    }
+
+    @Override
+    public void collectRequirements(RuleRequirements requirements) {
+        rule.collectRequirements(requirements);
+    }
+}
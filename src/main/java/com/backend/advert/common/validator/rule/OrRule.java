@@ -0,0 +1,28 @@
+package com.backend.advert.common.validator.rule;
+
+import java.util.List;
+
+/**
+ * 하위 규칙 중 하나 이상을 만족해야 하는 규칙.
+ */
+public record OrRule(List<QualificationRule> rules) implements QualificationRule {
+
+    public OrRule {
+        rules = List.copyOf(rules);
+    }
+
+    @Override
+    public boolean test(UserSnapshot user) {
+        for (QualificationRule rule : rules) {
+            if (rule.test(user)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void collectRequirements(RuleRequirements requirements) {
+        rules.forEach(rule -> rule.collectRequirements(requirements));
+    }
+}
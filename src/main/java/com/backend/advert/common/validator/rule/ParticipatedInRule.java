@@ -0,0 +1,29 @@
+package com.backend.advert.common.validator.rule;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 지정한 광고 중 하나 이상에 참여한 이력이 있어야 하는 규칙.
+ */
+public record ParticipatedInRule(Set<UUID> advertisementIds) implements QualificationRule {
+
+    public ParticipatedInRule {
+        advertisementIds = Set.copyOf(advertisementIds);
+    }
+
+    @Override
+    public boolean test(UserSnapshot user) {
+        for (UUID advertisementId : advertisementIds) {
+            if (user.participatedAdvertisementIds().contains(advertisementId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void collectRequirements(RuleRequirements requirements) {
+        requirements.addAdvertisementIds(advertisementIds);
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.advert.common.validator.rule;
+
+/**
+ * 사용자의 총 광고 참여 횟수가 범위 안에 있어야 하는 규칙. (min, max 포함, null 이면 제한 없음)
+ */
+public record ParticipationCountRule(Integer min, Integer max) implements QualificationRule {
+
+    @Override
+    public boolean test(UserSnapshot user) {
+        int count = user.participationCount();
+        return (min == null || count >= min) && (max == null || count <= max);
+    }
+
+    @Override
+    public void collectRequirements(RuleRequirements requirements) {
+        // 사용자 정보만 필요
+    }
+}
@@ -0,0 +1,24 @@
+package com.backend.advert.common.validator.rule;
+
+/**
+ * 광고 참가 자격 규칙 트리의 노드.
+ * 규칙은 미리 조회한 사용자 스냅샷만으로 평가되므로, 규칙이 늘어나도 요청당 조회 수는 늘어나지 않습니다.
+ */
+public sealed interface QualificationRule
+        permits AndRule, OrRule, NotRule, ParticipationCountRule, ParticipatedInRule, RecentParticipationRule, EmailDomainRule {
+
+    /**
+     * 사용자 스냅샷에 대해 규칙을 평가합니다.
+     *
+     * @param user 사용자 스냅샷
+     * @return 규칙 만족 여부
+     */
+    boolean test(UserSnapshot user);
+
+    /**
+     * 평가에 필요한 데이터(참가 이력을 확인할 광고, 최근 참가 이력 기간)를 수집합니다.
+     *
+     * @param requirements 수집 대상
+     */
+    void collectRequirements(RuleRequirements requirements);
+}
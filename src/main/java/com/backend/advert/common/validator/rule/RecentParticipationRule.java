@@ -0,0 +1,23 @@
+package com.backend.advert.common.validator.rule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 days 일 동안 광고에 min 회 이상 참여해야 하는 규칙.
+ */
+public record RecentParticipationRule(int days, int min) implements QualificationRule {
+
+    @Override
+    public boolean test(UserSnapshot user) {
+        LocalDateTime since = user.evaluatedAt().minusDays(days);
+        long count = user.recentParticipationTimes().stream()
+                .filter(participatedAt -> participatedAt.isAfter(since))
+                .count();
+        return count >= min;
+    }
+
+    @Override
+    public void collectRequirements(RuleRequirements requirements) {
+        requirements.requireWindowDays(days);
+    }
+}
@@ -0,0 +1,27 @@
+package com.backend.advert.common.validator.rule;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 규칙 평가 전에 미리 조회해야 하는 데이터.
+ * 여러 규칙의 요구 사항을 합쳐 한 번에 조회할 때 사용합니다.
+ */
+@Getter
+public class RuleRequirements {
+
+    private final Set<UUID> advertisementIds = new HashSet<>(); // 참가 이력을 확인할 광고 ID
+    private int windowDays;                                     // 최근 참가 이력을 조회할 기간 (일, 0이면 불필요)
+
+    public void addAdvertisementIds(Collection<UUID> advertisementIds) {
+        this.advertisementIds.addAll(advertisementIds);
+    }
+
+    public void requireWindowDays(int days) {
+        this.windowDays = Math.max(this.windowDays, days);
+    }
+}
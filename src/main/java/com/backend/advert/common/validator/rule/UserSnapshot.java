@@ -0,0 +1,25 @@
+package com.backend.advert.common.validator.rule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 자격 규칙 평가용 사용자 정보.
+ *
+ * @param userId 사용자 ID
+ * @param email 사용자 이메일
+ * @param participationCount 총 광고 참여 횟수
+ * @param participatedAdvertisementIds 규칙이 참조하는 광고 중 참여한 광고 ID
+ * @param recentParticipationTimes 규칙이 요구하는 기간 내 참여 시각
+ * @param evaluatedAt 평가 기준 시각
+ */
+public record UserSnapshot(
+        UUID userId,
+        String email,
+        int participationCount,
+        Set<UUID> participatedAdvertisementIds,
+        List<LocalDateTime> recentParticipationTimes,
+        LocalDateTime evaluatedAt) {
+}
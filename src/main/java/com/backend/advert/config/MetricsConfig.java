@@ -0,0 +1,44 @@
+package com.backend.advert.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.Set;
+
+/**
+ * 지표 설정입니다.
+ * - Prometheus 수집 경로(/actuator/prometheus)를 노출합니다. (metrics.properties, 환경 설정으로 덮어쓸 수 있음)
+ * - 지연 시간 지표는 히스토그램 버킷을 함께 내보내 Prometheus 에서 노드를 합산한 백분위를 계산할 수 있게 합니다.
+ *   (리포지토리 메소드별 DB 조회 시간은 Spring Data 가 기록하는 spring.data.repository.invocations 를 사용)
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    static final Set<String> HISTOGRAM_TIMERS = Set.of(
+            "advertisement.participation.stage",
+            "redis.lock.acquire",
+            "redis.lock.hold",
+            "point.api.requests",
+            "spring.data.repository.invocations");
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !HISTOGRAM_TIMERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.backend.advert.config;
+
+import com.backend.advert.common.jdbc.QueryGuardListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 쿼리 수/느린 쿼리 감시 설정입니다. (query-guard.properties, 환경 설정으로 덮어쓸 수 있음)
+ * - DataSource 를 datasource-proxy 로 감싸 실행된 JDBC 문을 QueryGuardListener 로 전달합니다.
+ * - query-guard.slow-query-threshold-ms 이상 걸린 문은 바인딩 파라미터와 함께 로그로 남깁니다.
+ * - 요청별 문 수와 JDBC 시간은 QueryGuardInterceptor 가 기록합니다. (WebConfig 에서 등록)
+ */
+@Configuration
+@PropertySource("classpath:query-guard.properties")
+public class QueryGuardConfig {
+
+    @Bean
+    public static BeanPostProcessor queryGuardDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                long slowQueryThresholdMillis = environment.getProperty("query-guard.slow-query-threshold-ms", Long.class, 500L);
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new QueryGuardListener(slowQueryThresholdMillis))
+                        .build();
+            }
+        };
+    }
+}
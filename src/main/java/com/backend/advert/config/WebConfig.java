@@ -0,0 +1,23 @@
+package com.backend.advert.config;
+
+import com.backend.advert.common.jdbc.QueryGuardInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 설정입니다.
+ * - 요청별 쿼리 수/JDBC 시간 기록 인터셉터를 등록합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final QueryGuardInterceptor queryGuardInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryGuardInterceptor);
+    }
+}
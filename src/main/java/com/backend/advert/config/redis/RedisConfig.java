@@ -1,7 +1,6 @@
 package com.backend.advert.config.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +12,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
 @EnableCaching
@@ -22,23 +22,30 @@ public class RedisConfig {
      * RedisTemplate을 설정합니다. 객체를 JSON 형태로 직렬화/역직렬화하여 Redis에 저장합니다.
      *
      * @param redisConnectionFactory Redis 연결 팩토리
+     * @param objectMapper 애플리케이션 공용 ObjectMapper
      * @return RedisTemplate 설정 객체
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
 
-        // Jackson2JsonRedisSerializer 설정
-        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
-
-        // ObjectMapper 설정 (LocalDateTime 처리 위해)
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());  // LocalDateTime 처리
-        objectMapper.findAndRegisterModules(); // 모든 jackson 모듈 자동 등록
-        serializer.setObjectMapper(objectMapper);
+        template.setDefaultSerializer(jsonRedisSerializer(objectMapper));  // Redis에 저장되는 모든 객체에 적용
+        return template;
+    }
 
-        template.setDefaultSerializer(serializer);  // Redis에 저장되는 모든 객체에 적용
+    /**
+     * 캐시 값용 RedisTemplate을 설정합니다. 값은 CacheCodec 이 인코딩한 바이트를 그대로 저장합니다. (RedisCacheStore)
+     *
+     * @param redisConnectionFactory Redis 연결 팩토리
+     * @return 문자열 키, 바이트 값 RedisTemplate
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> cacheRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
         return template;
     }
 
@@ -59,27 +66,29 @@ public class RedisConfig {
      * CacheManager 설정. Redis를 캐시 저장소로 사용하도록 설정합니다.
      *
      * @param redisConnectionFactory Redis 연결 팩토리
+     * @param objectMapper 애플리케이션 공용 ObjectMapper
      * @return CacheManager 설정 객체
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        // Jackson2JsonRedisSerializer로 객체 직렬화
-        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
-
-        // ObjectMapper를 설정
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());  // LocalDateTime 지원
-        objectMapper.findAndRegisterModules();  // 모든 jackson 모듈 자동 등록
-        serializer.setObjectMapper(objectMapper);
-
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
         // 기본 캐시 구성 설정
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonRedisSerializer(objectMapper)))
                 .disableCachingNullValues();  // 캐시된 값이 null이면 저장되지 않도록 설정
 
         return RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(cacheConfig)
                 .build();
     }
-}
 
+    /**
+     * RedisTemplate 과 CacheManager 가 공유하는 JSON 직렬화 설정입니다. (ObjectMapper 를 따로 만들지 않고 공용 설정 사용)
+     * 타입이 정해진 캐시는 RedisCacheStore(CacheCodec, Smile)를 사용합니다.
+     *
+     * @param objectMapper 애플리케이션 공용 ObjectMapper
+     * @return 객체를 JSON 으로 직렬화/역직렬화하는 Jackson2JsonRedisSerializer
+     */
+    static Jackson2JsonRedisSerializer<Object> jsonRedisSerializer(ObjectMapper objectMapper) {
+        return new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+    }
+}
@@ -1,26 +1,159 @@
 package com.backend.advert.config.redis;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Redis 잠금 서비스입니다.
+ * - 잠금마다 고유한 소유자 토큰을 값으로 저장하고, 해제할 때는 토큰이 같을 때만 삭제합니다.
+ *   (유지 시간이 지나 다른 요청이 획득한 잠금을 늦게 끝난 요청이 해제하지 않도록)
+ * - 잠금 획득 시간(redis.lock.acquire, 태그: result), 보유 시간(redis.lock.hold), 획득 실패 횟수(redis.lock.failures),
+ *   해제 전에 만료된 횟수(redis.lock.expired)를 기록합니다.
+ * - 지표의 lock 태그는 키의 첫 구분자(:) 앞부분입니다. (예: advertisement:{id} -> advertisement)
+ */
 @Service
 @RequiredArgsConstructor
 public class RedisLockService {
+
+    /**
+     * 토큰이 같을 때만 잠금을 삭제합니다.
+     * KEYS: 잠금 키 / ARGV: 소유자 토큰
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 이 노드에서 획득한 잠금(소유자 토큰)의 획득 시각 (보유 시간 기록용)
+    private final Map<String, Long> acquiredAt = new ConcurrentHashMap<>();
 
-    public void lock(String key) {
-        boolean acquired = redisTemplate.opsForValue()
-                .setIfAbsent(key, "LOCK", Duration.ofSeconds(10));
-        if (!acquired) {
+    /**
+     * 잠금을 획득합니다.
+     *
+     * @param key 잠금 키
+     * @return 소유자 토큰 (해제할 때 전달)
+     * @throws RuntimeException 다른 요청이 잠금을 보유 중인 경우 예외 발생
+     */
+    public String lock(String key) {
+        String token = acquire(key, Duration.ofSeconds(10));
+        if (token == null) {
             throw new RuntimeException("잠금을 획득할 수 없습니다.");
         }
+        return token;
+    }
+
+    /**
+     * 잠금 획득을 한 번만 시도합니다. 획득에 실패해도 예외를 던지지 않습니다.
+     *
+     * @param key 잠금 키
+     * @param ttl 잠금 유지 시간
+     * @return 소유자 토큰 (획득하지 못했으면 null)
+     */
+    public String tryLock(String key, Duration ttl) {
+        return acquire(key, ttl);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 끝난 뒤(커밋/롤백) 잠금을 해제합니다. 트랜잭션 밖이면 바로 해제합니다.
+     * 잠금 안에서 변경한 데이터가 커밋되기 전에 다른 요청이 잠금을 얻어 커밋 전 값을 읽지 않게 합니다.
+     *
+     * @param key 잠금 키
+     * @param token 획득 시 받은 소유자 토큰
+     */
+    public void unlockAfterCompletion(String key, String token) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlock(key, token);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(key, token);
+            }
+        });
+    }
+
+    /**
+     * 소유자 토큰이 같을 때만 잠금을 해제합니다.
+     * 유지 시간이 지나 만료되었거나 다른 요청이 이미 획득했으면 해제하지 않고 만료 횟수를 기록합니다.
+     *
+     * @param key 잠금 키
+     * @param token 획득 시 받은 소유자 토큰
+     * @return 잠금을 해제했으면 true
+     */
+    public boolean unlock(String key, String token) {
+        Long startedAt = acquiredAt.remove(token);
+        if (startedAt != null) {
+            timer("redis.lock.hold", key, null).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        boolean released = Long.valueOf(1).equals(redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token));
+        if (!released) {
+            System.err.printf("잠금 해제 실패: %s (유지 시간이 지나 만료되었거나 다른 요청이 획득함)%n", key);
+            Counter.builder("redis.lock.expired")
+                    .tag("lock", lockName(key))
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return released;
+    }
+
+    private String acquire(String key, Duration ttl) {
+        long startedAt = System.nanoTime();
+        String result = "failed";
+        try {
+            String token = UUID.randomUUID().toString();
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+                return null;
+            }
+            result = "acquired";
+            acquiredAt.put(token, System.nanoTime());
+            return token;
+        } catch (RuntimeException e) {
+            result = "error";
+            throw e;
+        } finally {
+            timer("redis.lock.acquire", key, result).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (!"acquired".equals(result)) {
+                Counter.builder("redis.lock.failures")
+                        .tag("lock", lockName(key))
+                        .tag("result", result)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+
+    private Timer timer(String name, String key, String result) {
+        Timer.Builder builder = Timer.builder(name).tag("lock", lockName(key));
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
     }
 
-    public void unlock(String key) {
-        redisTemplate.delete(key);
+    static String lockName(String key) {
+        int end = key.indexOf(':');
+        return end > 0 ? key.substring(0, end) : key;
     }
 
 }
@@ -0,0 +1,86 @@
+package com.backend.advert.config.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서로 의존하지 않는 여러 Lua 스크립트 호출을 한 번의 파이프라인(네트워크 왕복 1회)으로 실행합니다.
+ * - 묶음에 쓰인 스크립트마다 SCRIPT LOAD 를 한 번 앞에 보낸 뒤 EVALSHA 로 보냅니다.
+ *   (파이프라인이 실패하면 어느 호출이 실행됐는지 알 수 없으므로, NOSCRIPT 후 다시 보내는 방식은 쓰지 않음)
+ * - 광고 참여 이벤트 소비 스레드처럼 여러 요청의 명령을 모아 보내는 곳에서 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisScriptPipeline {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 스크립트 호출 하나입니다.
+     *
+     * @param script 스크립트
+     * @param keys KEYS
+     * @param args ARGV
+     */
+    public record Call(RedisScript<?> script, List<String> keys, List<String> args) {
+
+        public static Call of(RedisScript<?> script, List<String> keys, String... args) {
+            return new Call(script, keys, List.of(args));
+        }
+    }
+
+    /**
+     * 스크립트 호출들을 한 번의 파이프라인으로 실행합니다.
+     *
+     * @param calls 스크립트 호출 목록
+     * @return 호출 순서대로의 결과
+     * @throws RedisPipelineException 실패한 호출이 있으면 발생 (다른 호출은 실행되었을 수 있음)
+     */
+    public List<Object> execute(List<Call> calls) {
+        if (calls.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, RedisScript<?>> scripts = new LinkedHashMap<>();
+        calls.forEach(call -> scripts.putIfAbsent(call.script().getSha1(), call.script()));
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisScriptingCommands scripting = connection.scriptingCommands();
+            for (RedisScript<?> script : scripts.values()) {
+                scripting.scriptLoad(bytes(script.getScriptAsString()));
+            }
+            for (Call call : calls) {
+                scripting.evalSha(call.script().getSha1(), ReturnType.fromJavaType(call.script().getResultType()),
+                        call.keys().size(), keysAndArgs(call));
+            }
+            return null;
+        });
+        return results.subList(scripts.size(), results.size());
+    }
+
+    private static byte[][] keysAndArgs(Call call) {
+        byte[][] keysAndArgs = new byte[call.keys().size() + call.args().size()][];
+        int i = 0;
+        for (String key : call.keys()) {
+            keysAndArgs[i++] = bytes(key);
+        }
+        for (String arg : call.args()) {
+            keysAndArgs[i++] = bytes(arg);
+        }
+        return keysAndArgs;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
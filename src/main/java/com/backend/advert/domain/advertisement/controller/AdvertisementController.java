@@ -1,23 +1,35 @@
 package com.backend.advert.domain.advertisement.controller;
 
 import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.dto.AdvertisementStatsResponse;
+import com.backend.advert.domain.advertisement.dto.BulkImportFormat;
+import com.backend.advert.domain.advertisement.dto.BulkImportResponse;
 import com.backend.advert.domain.advertisement.dto.CreateAdvertisementRequest;
+import com.backend.advert.domain.advertisement.service.AdvertisementBulkImportService;
 import com.backend.advert.domain.advertisement.service.AdvertisementService;
+import com.backend.advert.domain.advertisement.service.AdvertisementStatsService;
 import com.backend.advert.common.constants.PaginationConstants;
 import com.backend.advert.common.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/v1/advertisements")
 @RequiredArgsConstructor
 public class AdvertisementController {
 
     private final AdvertisementService advertisementService;
+    private final AdvertisementBulkImportService advertisementBulkImportService;
+    private final AdvertisementStatsService advertisementStatsService;
 
     /**
      * 새로운 광고를 생성합니다.
@@ -32,6 +44,24 @@ public class AdvertisementController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 여러 광고를 한 번에 생성합니다.
+     * - JSON 배열, NDJSON, CSV(첫 줄 헤더) 형식을 지원합니다.
+     * - 요청 본문을 스트리밍으로 처리하며, 실패한 행은 건너뛰고 결과에 기록합니다.
+     *
+     * @param contentType 요청 본문 형식
+     * @param body 요청 본문
+     * @return 등록 결과 (전체/성공/실패 건수 및 실패한 행 정보)
+     */
+    @PostMapping(value = "/bulk", consumes = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, BulkImportFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importAdvertisements(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        BulkImportResponse result = advertisementBulkImportService.importAdvertisements(body, BulkImportFormat.fromContentType(contentType));
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, "광고 대량 등록이 완료되었습니다.", result));
+    }
+
     /**
      * 현재 활성 상태의 광고 목록을 조회합니다.
      * - 광고 참여 가능 횟수가 소진되지 않은 광고
@@ -49,4 +79,50 @@ public class AdvertisementController {
         ApiResponse<Page<AdvertisementResponse>> response = advertisementService.getActiveAdvertisements(page, size);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 사용자가 참여할 수 있는 활성 광고 목록을 조회합니다.
+     * - 참가 자격 조건을 만족하고 아직 참여하지 않은 광고
+     * - 광고 참여 시 적립액수가 높은 순으로 조회
+     *
+     * @param userId 사용자 ID
+     * @param page 페이지 번호 (기본값 0)
+     * @param size 한 번에 조회할 광고의 수 (기본값 10)
+     * @return 참여 가능한 광고 목록 응답 DTO를 포함한 성공 메시지
+     */
+    @GetMapping("/eligible")
+    public ResponseEntity<ApiResponse<Page<AdvertisementResponse>>> getEligibleAdvertisements(
+            @RequestParam UUID userId,
+            @RequestParam(defaultValue = "" + PaginationConstants.DEFAULT_PAGE) int page,
+            @RequestParam(defaultValue = "" + PaginationConstants.DEFAULT_SIZE) int size) {
+        ApiResponse<Page<AdvertisementResponse>> response = advertisementService.getEligibleAdvertisements(userId, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 광고 상세 정보를 조회합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @return 광고 응답 DTO를 포함한 성공 메시지
+     */
+    @GetMapping("/{advertisementId}")
+    public ResponseEntity<ApiResponse<AdvertisementResponse>> getAdvertisement(@PathVariable UUID advertisementId) {
+        ApiResponse<AdvertisementResponse> response = advertisementService.getAdvertisement(advertisementId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 광고의 실시간 참여 통계를 조회합니다.
+     * - 누적 참여 수, 남은 참여 가능 횟수
+     * - 최근 1분/5분/15분 초당 참여 수
+     * - 최근 5분 속도 기준 소진 예상 시각
+     *
+     * @param advertisementId 광고 ID
+     * @return 광고 참여 통계 응답 DTO를 포함한 성공 메시지
+     */
+    @GetMapping("/{advertisementId}/stats")
+    public ResponseEntity<ApiResponse<AdvertisementStatsResponse>> getAdvertisementStats(@PathVariable UUID advertisementId) {
+        ApiResponse<AdvertisementStatsResponse> response = advertisementStatsService.getStats(advertisementId);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,25 @@
+package com.backend.advert.domain.advertisement.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 활성 광고 목록 캐시 값.
+ * Page 구현체는 역직렬화할 수 없으므로 목록과 전체 개수만 보관합니다.
+ */
+@Getter
+public class ActiveAdvertisementPage implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<AdvertisementResponse> content;
+    private final long totalElements;
+
+    @JsonCreator
+    public ActiveAdvertisementPage(List<AdvertisementResponse> content, long totalElements) {
+        this.content = content;
+        this.totalElements = totalElements;
+    }
+}
@@ -1,6 +1,7 @@
 package com.backend.advert.domain.advertisement.dto;
 
 import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 
@@ -23,6 +24,7 @@ public class AdvertisementResponse implements Serializable {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private final LocalDateTime exposureEndDate;
 
+    @JsonCreator
     public AdvertisementResponse(UUID id, String title, Integer rewardPoints, Integer remainingParticipationCount,
                                  LocalDateTime exposureStartDate, LocalDateTime exposureEndDate) {
         this.id = id;
@@ -0,0 +1,44 @@
+package com.backend.advert.domain.advertisement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 광고 실시간 참여 통계 응답 DTO.
+ * 참여 속도는 최근 구간의 초당 참여 수이며, 소진 예상 시각은 최근 5분 속도가 유지된다고 가정한 값입니다.
+ */
+@Getter
+public class AdvertisementStatsResponse {
+    private final UUID advertisementId;
+    private final int participationCount;
+    private final int maxParticipationCount;
+    private final int remainingParticipationCount;
+    private final double participationsPerSecondLastMinute;
+    private final double participationsPerSecondLast5Minutes;
+    private final double participationsPerSecondLast15Minutes;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime estimatedSelloutAt; // 이미 소진되었거나 최근 5분간 참여가 없으면 null
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime sampledAt;
+
+    public AdvertisementStatsResponse(UUID advertisementId, int participationCount, int maxParticipationCount,
+                                      double participationsPerSecondLastMinute,
+                                      double participationsPerSecondLast5Minutes,
+                                      double participationsPerSecondLast15Minutes,
+                                      LocalDateTime estimatedSelloutAt, LocalDateTime sampledAt) {
+        this.advertisementId = advertisementId;
+        this.participationCount = participationCount;
+        this.maxParticipationCount = maxParticipationCount;
+        this.remainingParticipationCount = Math.max(0, maxParticipationCount - participationCount);
+        this.participationsPerSecondLastMinute = participationsPerSecondLastMinute;
+        this.participationsPerSecondLast5Minutes = participationsPerSecondLast5Minutes;
+        this.participationsPerSecondLast15Minutes = participationsPerSecondLast15Minutes;
+        this.estimatedSelloutAt = estimatedSelloutAt;
+        this.sampledAt = sampledAt;
+    }
+}
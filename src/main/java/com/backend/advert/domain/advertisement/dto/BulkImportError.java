@@ -0,0 +1,20 @@
+package com.backend.advert.domain.advertisement.dto;
+
+import lombok.Getter;
+
+/**
+ * 광고 대량 등록 중 실패한 행의 정보.
+ */
+@Getter
+public class BulkImportError {
+
+    private final int row;        // 1부터 시작하는 행 번호 (CSV는 헤더 제외)
+    private final String title;   // 행을 해석하지 못한 경우 null
+    private final String message;
+
+    public BulkImportError(int row, String title, String message) {
+        this.row = row;
+        this.title = title;
+        this.message = message;
+    }
+}
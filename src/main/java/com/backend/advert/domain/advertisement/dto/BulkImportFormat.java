@@ -0,0 +1,43 @@
+package com.backend.advert.domain.advertisement.dto;
+
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * 광고 대량 등록 요청 본문 형식.
+ */
+public enum BulkImportFormat {
+    JSON,   // 광고 객체의 JSON 배열
+    NDJSON, // 한 줄에 광고 객체 하나
+    CSV;    // 첫 줄이 헤더인 CSV
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    /**
+     * Content-Type 헤더로 요청 본문 형식을 결정합니다.
+     *
+     * @param contentType Content-Type 헤더 값
+     * @return 요청 본문 형식
+     * @throws InvalidAdvertisementException 지원하지 않는 형식일 경우 예외 발생
+     */
+    public static BulkImportFormat fromContentType(String contentType) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new InvalidAdvertisementException("지원하지 않는 대량 등록 형식입니다.");
+        }
+
+        if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+            return JSON;
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+            return NDJSON;
+        }
+        if (MediaType.parseMediaType(TEXT_CSV_VALUE).isCompatibleWith(mediaType)) {
+            return CSV;
+        }
+        throw new InvalidAdvertisementException("지원하지 않는 대량 등록 형식입니다.");
+    }
+}
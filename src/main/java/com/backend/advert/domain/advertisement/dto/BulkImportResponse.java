@@ -0,0 +1,27 @@
+package com.backend.advert.domain.advertisement.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 광고 대량 등록 결과.
+ * 실패한 행의 상세 정보는 일정 개수까지만 담고, 넘치면 errorsTruncated 로 표시합니다.
+ */
+@Getter
+public class BulkImportResponse {
+
+    private final int totalRows;
+    private final int importedCount;
+    private final int failedCount;
+    private final List<BulkImportError> errors;
+    private final boolean errorsTruncated;
+
+    public BulkImportResponse(int totalRows, int importedCount, int failedCount, List<BulkImportError> errors, boolean errorsTruncated) {
+        this.totalRows = totalRows;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+}
@@ -37,6 +37,8 @@ public class CreateAdvertisementRequest {
 
     private String qualificationCriteria; // 선택 필드
 
+    private Boolean pacing; // 선택 필드 (true 이면 참여 가능 횟수를 노출 기간에 걸쳐 나누어 엶)
+
     public CreateAdvertisementRequest(String title, Integer rewardAmount, Integer maxParticipationCount, String description, String imageUrl, LocalDateTime exposureStartDate, LocalDateTime exposureEndDate, String qualificationCriteria) {
         this.title = title;
         this.rewardAmount = rewardAmount;
@@ -54,7 +56,7 @@ public class CreateAdvertisementRequest {
      * @return Advertisement 엔티티
      */
     public Advertisement toEntity() {
-        return new Advertisement(
+        Advertisement advertisement = new Advertisement(
                 title,
                 rewardAmount,
                 maxParticipationCount,
@@ -64,6 +66,10 @@ public class CreateAdvertisementRequest {
                 exposureEndDate,
                 qualificationCriteria
         );
+        if (Boolean.TRUE.equals(pacing)) {
+            advertisement.enablePacing();
+        }
+        return advertisement;
     }
 }
 
@@ -1,6 +1,7 @@
 package com.backend.advert.domain.advertisement.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -11,6 +12,7 @@ public class QualificationCriteria {
     private Boolean firstTimeParticipation; // 처음 참가 여부
     private Integer minParticipationCount;  // 최소 참가 횟수
     private String excludedAdvertisementId; // 제외해야 할 광고 ID
+    private JsonNode rule;                  // 규칙 표현식 (and/or/not 조합)
 
     public boolean isFirstTimeParticipation() {
         return Boolean.TRUE.equals(this.firstTimeParticipation);
@@ -9,9 +9,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
@@ -29,6 +31,10 @@ public class Advertisement extends BaseTimeEntity {
     @Comment("광고명 (중복 불가)")
     private String title;
 
+    @Column(name = "normalized_title", unique = true, nullable = false)
+    @Comment("비교용 정규화 광고명 (중복 불가, 광고명 인덱스와 같은 기준)")
+    private String normalizedTitle;
+
     @Column(name = "reward_points", nullable = false)
     @Comment("광고 참여 시 적립 포인트")
     private Integer rewardPoints;
@@ -63,6 +69,10 @@ public class Advertisement extends BaseTimeEntity {
     @Comment("광고 참가 자격 (JSON 형식)")
     private String qualificationCriteria;
 
+    @Column(name = "pacing_enabled", nullable = false)
+    @Comment("참여 가능 횟수를 노출 기간에 걸쳐 나누어 여는지 여부")
+    private boolean pacingEnabled;
+
     @ManyToMany
     @JoinTable(
             name = "advertisement_participants",
@@ -82,6 +92,7 @@ public class Advertisement extends BaseTimeEntity {
             LocalDateTime exposureEndDate,
             String qualificationCriteria) {
         this.title = title;
+        this.normalizedTitle = title == null ? null : normalizeTitle(title);
         this.rewardPoints = rewardPoints;
         this.maxParticipationCount = maxParticipationCount;
         this.remainingParticipationCount = maxParticipationCount;
@@ -92,6 +103,17 @@ public class Advertisement extends BaseTimeEntity {
         this.qualificationCriteria = qualificationCriteria;
     }
 
+    /**
+     * 광고명 비교용 정규화: 유니코드 정규화(NFKC), 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환
+     * "Summer  Sale" 과 "summer sale" 처럼 정규화 결과가 같은 광고명은 같은 광고명으로 취급합니다.
+     */
+    public static String normalizeTitle(String title) {
+        return Normalizer.normalize(title, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
     /**
      * 남은 참여 가능 횟수 감소
      * @throws InvalidAdvertisementException 남은 횟수가 0일 경우
@@ -102,6 +124,13 @@ public class Advertisement extends BaseTimeEntity {
         }
     }
 
+    /**
+     * 참여 가능 횟수를 노출 기간에 걸쳐 나누어 열도록 설정합니다.
+     */
+    public void enablePacing() {
+        this.pacingEnabled = true;
+    }
+
     /**
      * 테스트용 ID 설정 메서드
      */
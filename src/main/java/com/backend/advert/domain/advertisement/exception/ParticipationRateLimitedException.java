@@ -0,0 +1,16 @@
+package com.backend.advert.domain.advertisement.exception;
+
+import com.backend.advert.common.exception.ServiceException;
+import lombok.Getter;
+
+@Getter
+public class ParticipationRateLimitedException extends ServiceException {
+    private static final String ERROR_CODE = "PARTICIPATION_RATE_LIMITED";
+
+    private final long retryAfterSeconds;
+
+    public ParticipationRateLimitedException(String message, long retryAfterSeconds) {
+        super(message, ERROR_CODE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -5,14 +5,48 @@ import com.backend.advert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface AdvertisementRepository extends JpaRepository<Advertisement, UUID> {
-    // 광고명으로 조회
-    Optional<Advertisement> findByTitle(String title);
+    // 정규화된 광고명 존재 여부 확인 (광고명 중복 검사 기준)
+    boolean existsByNormalizedTitle(String normalizedTitle);
+
+    /**
+     * 모든 광고명을 조회합니다. (광고명 인덱스 초기화용)
+     *
+     * @return 광고명 목록
+     */
+    @Query("select a.title from Advertisement a")
+    List<String> findAllTitles();
+
+    /**
+     * 주어진 정규화된 광고명 중 이미 등록된 것을 조회합니다.
+     *
+     * @param normalizedTitles 확인할 정규화된 광고명 목록
+     * @return 이미 등록된 정규화된 광고명 목록
+     */
+    @Query("select a.normalizedTitle from Advertisement a where a.normalizedTitle in :normalizedTitles")
+    List<String> findExistingNormalizedTitles(@Param("normalizedTitles") Collection<String> normalizedTitles);
+
+    /**
+     * 남은 참여 가능 횟수가 있을 때만 1 차감합니다. (조건부 UPDATE 로 락과 관계없이 초과 참여를 막음)
+     * 먼저 지연 쓰기를 반영하고, 실행 후 영속성 컨텍스트를 비우므로 이미 조회한 광고 엔티티는 준영속 상태가 됩니다.
+     *
+     * @param id 광고 ID
+     * @param now 수정 시각
+     * @return 차감된 행 수 (남은 횟수가 없으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Advertisement a set a.remainingParticipationCount = a.remainingParticipationCount - 1, a.updatedAt = :now " +
+            "where a.id = :id and a.remainingParticipationCount > 0")
+    int decrementRemainingParticipationCount(@Param("id") UUID id, @Param("now") LocalDateTime now);
 
     /**
      * 노출 기간 내에 있고, 남은 참여 횟수가 있는 광고를 조회합니다.
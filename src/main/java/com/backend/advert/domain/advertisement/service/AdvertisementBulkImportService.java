@@ -0,0 +1,275 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.exception.ServiceException;
+import com.backend.advert.common.validator.AdvertisementValidator;
+import com.backend.advert.domain.advertisement.dto.BulkImportError;
+import com.backend.advert.domain.advertisement.dto.BulkImportFormat;
+import com.backend.advert.domain.advertisement.dto.BulkImportResponse;
+import com.backend.advert.domain.advertisement.dto.CreateAdvertisementRequest;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 광고 대량 등록 서비스.
+ * - 요청 본문을 Jackson 스트리밍 파서로 한 행씩 읽고, 일정 개수(청크) 단위로 검증/저장합니다.
+ * - 광고명 중복은 청크 단위로 한 번에 확인합니다. (Redis 파이프라인 + DB IN 조회)
+ * - 청크는 하나의 트랜잭션에서 JDBC 배치로 저장하고, 실패하면 행 단위로 다시 저장하여 실패한 행만 보고합니다.
+ * - 청크 처리 후 영속성 컨텍스트를 비우므로 업로드 크기와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdvertisementBulkImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AdvertisementValidator advertisementValidator;
+    private final AdvertisementTitleIndex advertisementTitleIndex;
+    private final AdvertisementRepository advertisementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 요청 본문의 광고들을 등록합니다.
+     * 검증이나 저장에 실패한 행은 건너뛰고 결과에 기록합니다.
+     *
+     * @param body 요청 본문
+     * @param format 요청 본문 형식
+     * @return 등록 결과
+     */
+    public BulkImportResponse importAdvertisements(InputStream body, BulkImportFormat format) {
+        ImportReport report = new ImportReport();
+        List<RawRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        int rowNumber = 0;
+
+        try (MappingIterator<JsonNode> rows = openRows(body, format)) {
+            while (rows.hasNextValue()) {
+                JsonNode node = rows.nextValue();
+                chunk.add(new RawRow(++rowNumber, node));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, format, report);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException | RuntimeJsonMappingException e) {
+            // 본문 형식이 깨지면 이후 행을 신뢰할 수 없으므로 읽기를 중단 (그 전까지 읽은 행은 등록)
+            System.err.printf("광고 대량 등록 중단: row %d, Error: %s%n", rowNumber + 1, e.getMessage());
+            report.totalRows++;
+            report.fail(rowNumber + 1, null, "요청 본문을 해석할 수 없어 이후 행의 등록을 중단했습니다.");
+        }
+        importChunk(chunk, format, report);
+
+        return report.toResponse();
+    }
+
+    private MappingIterator<JsonNode> openRows(InputStream body, BulkImportFormat format) throws IOException {
+        if (format == BulkImportFormat.CSV) {
+            return CSV_MAPPER.readerFor(JsonNode.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(body);
+        }
+        // 최상위 JSON 배열은 원소 단위로, NDJSON은 줄 단위로 읽음
+        return objectMapper.readerFor(JsonNode.class).readValues(body);
+    }
+
+    /**
+     * 청크 단위로 행을 검증하고 저장합니다.
+     */
+    private void importChunk(List<RawRow> chunk, BulkImportFormat format, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        report.totalRows += chunk.size();
+
+        // 1. 행 단위 검증 및 청크 내 광고명 중복 제거
+        Map<String, PendingRow> pendingRows = new LinkedHashMap<>();
+        for (RawRow raw : chunk) {
+            PendingRow pending = toPendingRow(raw, format, report);
+            if (pending == null) {
+                continue;
+            }
+            String normalizedTitle = AdvertisementTitleIndex.normalize(pending.request().getTitle());
+            if (pendingRows.putIfAbsent(normalizedTitle, pending) != null) {
+                report.fail(pending.row(), pending.request().getTitle(), "같은 요청 안에 동일한 이름의 광고가 있습니다.");
+            }
+        }
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+
+        // 2. 광고명 일괄 선점
+        List<String> titles = pendingRows.values().stream().map(pending -> pending.request().getTitle()).toList();
+        Map<String, String> reservations = advertisementTitleIndex.reserveAll(titles);
+
+        List<PendingRow> accepted = new ArrayList<>(reservations.size());
+        for (PendingRow pending : pendingRows.values()) {
+            if (reservations.containsKey(pending.request().getTitle())) {
+                accepted.add(pending);
+            } else {
+                report.fail(pending.row(), pending.request().getTitle(), "동일한 이름의 광고가 이미 존재합니다.");
+            }
+        }
+
+        // 3. 저장
+        try {
+            persistChunk(accepted, reservations, report);
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private PendingRow toPendingRow(RawRow raw, BulkImportFormat format, ImportReport report) {
+        JsonNode node = raw.node();
+        if (format == BulkImportFormat.CSV && node instanceof ObjectNode objectNode) {
+            // CSV의 빈 칸은 값이 없는 것으로 처리
+            Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+            while (fields.hasNext()) {
+                JsonNode value = fields.next().getValue();
+                if (value.isTextual() && value.asText().isEmpty()) {
+                    fields.remove();
+                }
+            }
+        }
+
+        CreateAdvertisementRequest request;
+        try {
+            request = objectMapper.treeToValue(node, CreateAdvertisementRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            report.fail(raw.row(), node.path("title").asText(null), "광고 데이터 형식이 올바르지 않습니다.");
+            return null;
+        }
+        if (request == null) {
+            report.fail(raw.row(), null, "광고 데이터 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateAdvertisementRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            report.fail(raw.row(), request.getTitle(), message);
+            return null;
+        }
+
+        try {
+            advertisementValidator.validate(request.toEntity());
+        } catch (ServiceException e) {
+            report.fail(raw.row(), request.getTitle(), e.getMessage());
+            return null;
+        }
+        return new PendingRow(raw.row(), request);
+    }
+
+    /**
+     * 청크를 하나의 트랜잭션에서 배치로 저장합니다.
+     * 실패하면 행 단위 트랜잭션으로 다시 저장하여 문제가 되는 행만 실패 처리합니다.
+     */
+    private void persistChunk(List<PendingRow> accepted, Map<String, String> reservations, ImportReport report) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<Advertisement> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Advertisement> advertisements = advertisementRepository.saveAll(
+                        accepted.stream().map(pending -> pending.request().toEntity()).toList());
+                advertisementRepository.flush();
+                return advertisements;
+            });
+        } catch (RuntimeException e) {
+            System.err.printf("광고 배치 저장 실패, 행 단위로 재시도: %s%n", e.getMessage());
+            entityManager.clear();
+            accepted.forEach(pending -> persistRow(pending, reservations.get(pending.request().getTitle()), report));
+            return;
+        }
+
+        Map<String, UUID> advertisementIds = new LinkedHashMap<>();
+        for (Advertisement advertisement : saved) {
+            advertisementIds.put(advertisement.getTitle(), advertisement.getId());
+        }
+        advertisementTitleIndex.confirmAll(advertisementIds);
+        report.importedCount += saved.size();
+    }
+
+    private void persistRow(PendingRow pending, String reservationToken, ImportReport report) {
+        String title = pending.request().getTitle();
+        Advertisement saved;
+        try {
+            saved = transactionTemplate.execute(
+                    status -> advertisementRepository.saveAndFlush(pending.request().toEntity()));
+        } catch (DataIntegrityViolationException e) {
+            advertisementTitleIndex.release(title, reservationToken);
+            report.fail(pending.row(), title, "동일한 이름의 광고가 이미 존재합니다.");
+            return;
+        } catch (RuntimeException e) {
+            advertisementTitleIndex.release(title, reservationToken);
+            report.fail(pending.row(), title, "광고 저장에 실패했습니다.");
+            return;
+        } finally {
+            entityManager.clear();
+        }
+
+        advertisementTitleIndex.confirmAll(Map.of(saved.getTitle(), saved.getId()));
+        report.importedCount++;
+    }
+
+    private record RawRow(int row, JsonNode node) {
+    }
+
+    private record PendingRow(int row, CreateAdvertisementRequest request) {
+    }
+
+    /**
+     * 대량 등록 진행 상황 집계. 실패한 행 정보는 최대 MAX_REPORTED_ERRORS 개까지만 보관합니다.
+     */
+    private static class ImportReport {
+        private int totalRows;
+        private int importedCount;
+        private int failedCount;
+        private final List<BulkImportError> errors = new ArrayList<>();
+
+        private void fail(int row, String title, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BulkImportError(row, title, message));
+            }
+        }
+
+        private BulkImportResponse toResponse() {
+            return new BulkImportResponse(totalRows, importedCount, failedCount, errors, failedCount > errors.size());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.cache.EarlyRefreshCache;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 광고 참여가 커밋되면 참여한 광고의 상세 캐시를 비웁니다. (광고 참여 이벤트 소비 스레드에서 호출)
+ * 상세 응답에는 남은 참여 가능 횟수가 담겨 있으므로, 다음 조회가 DB 에서 새 값을 읽도록 합니다.
+ * 한 묶음 안에서 같은 광고는 한 번만 비우고, 묶음 전체를 한 번의 DEL 로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdvertisementDetailCacheEvictor implements ParticipationEventHandler {
+
+    private final EarlyRefreshCache earlyRefreshCache;
+
+    @Override
+    public void onParticipations(List<ParticipationCompleted> events) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (ParticipationCompleted event : events) {
+            keys.add(AdvertisementService.ADVERTISEMENT_DETAIL_CACHE_PREFIX + event.advertisementId());
+        }
+        earlyRefreshCache.evictAll(keys);
+    }
+}
@@ -0,0 +1,206 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.exception.ServiceException;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.exception.AdvertisementNotFoundException;
+import com.backend.advert.domain.advertisement.exception.ParticipationRateLimitedException;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 광고 참여 속도 조절(pacing)입니다.
+ * - 속도 조절을 켠 광고는 남은 참여 가능 횟수를 노출 종료까지 고르게 여는 Redis 토큰 버킷을 거쳐야 참여할 수 있습니다.
+ *   (충전 속도 = 아직 열지 않은 횟수 / 노출 종료까지 남은 시간, 노출 시작 전에는 충전하지 않음)
+ * - 토큰이 없으면 광고 락과 DB 조회 전에 재시도 가능 시간과 함께 거절합니다.
+ * - 버킷 설정은 한 시간마다 만료되어 DB의 남은 참여 가능 횟수로 다시 적재됩니다. (속도 조절을 끈 광고도 그 사실을 적재)
+ * - 토큰을 받은 참여가 커밋되지 않으면 토큰을 돌려놓습니다.
+ * - 속도 조절 여부는 광고 생성 시 정해지고 바뀌지 않으므로, 속도 조절을 하지 않는 광고는 노드 로컬에 기억해 Redis 를 거치지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdvertisementPacer {
+
+    static final String KEY_PREFIX = "advertisement:pacing:";
+
+    private static final Duration CONFIG_TTL = Duration.ofHours(1);
+    private static final long BURST_MILLIS = 5_000; // 최대 5초 분량까지 토큰을 쌓아 둠
+    private static final long LOCAL_MAXIMUM_SIZE = 10_000;
+
+    private static final long MISSING = -2;
+    private static final long NOT_PACED = -1;
+
+    /**
+     * 토큰을 충전한 뒤 하나를 가져갑니다.
+     * 버킷이 없으면 -2, 속도 조절을 하지 않는 광고면 -1, 토큰을 가져갔으면 0, 토큰이 없으면 다음 토큰까지 남은 밀리초를 반환합니다.
+     * (남은 횟수를 모두 열어 토큰이 없으면 참여 가능 횟수 검증에 맡기도록 0 반환)
+     * KEYS: 버킷 / ARGV: 현재 시각(ms), 최대 적립 시간(ms)
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local paced = redis.call('HGET', KEYS[1], 'paced') " +
+                    "if not paced then return -2 end " +
+                    "if paced == '0' then return -1 end " +
+                    "local now = tonumber(ARGV[1]) " +
+                    "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'remaining', 'ts', 'end') " +
+                    "local tokens = tonumber(bucket[1]) " +
+                    "local remaining = tonumber(bucket[2]) " +
+                    "local ts = tonumber(bucket[3]) " +
+                    "local endAt = tonumber(bucket[4]) " +
+                    "if now > ts then " +
+                    "  local rate = remaining / math.max(endAt - ts, 1) " +
+                    "  local refill = math.min(remaining, (now - ts) * rate, math.max(0, math.max(1, rate * tonumber(ARGV[2])) - tokens)) " +
+                    "  tokens = tokens + refill " +
+                    "  remaining = remaining - refill " +
+                    "  ts = now " +
+                    "end " +
+                    "local result = 0 " +
+                    "if tokens >= 1 then " +
+                    "  tokens = tokens - 1 " +
+                    "elseif remaining > 0 then " +
+                    "  result = (ts - now) + math.ceil((1 - tokens) / (remaining / math.max(endAt - ts, 1))) " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'remaining', tostring(remaining), 'ts', tostring(ts)) " +
+                    "return math.max(result, 0)",
+            Long.class);
+
+    /**
+     * 버킷이 없을 때만 적재합니다.
+     * KEYS: 버킷 / ARGV: 속도 조절 여부, 토큰, 아직 열지 않은 횟수, 충전 시작 시각(ms), 노출 종료 시각(ms), TTL(ms)
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "redis.call('HSET', KEYS[1], 'paced', ARGV[1], 'tokens', ARGV[2], 'remaining', ARGV[3], 'ts', ARGV[4], 'end', ARGV[5]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[6]) " +
+                    "return 1",
+            Long.class);
+
+    /**
+     * 속도 조절 중인 버킷이면 토큰 하나를 돌려놓습니다.
+     * KEYS: 버킷
+     */
+    private static final RedisScript<Long> REFUND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'paced') ~= '1' then return 0 end " +
+                    "redis.call('HINCRBYFLOAT', KEYS[1], 'tokens', 1) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AdvertisementRepository advertisementRepository;
+
+    private final Cache<UUID, Boolean> unpacedAdvertisements = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .build();
+
+    /**
+     * 광고 참여 토큰을 가져옵니다. 트랜잭션 안이면 커밋되지 않았을 때 토큰을 돌려놓습니다.
+     * Redis 장애 시에는 속도 조절 없이 참여를 허용합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @throws ParticipationRateLimitedException 현재 열린 참여 가능 횟수를 모두 사용한 경우 예외 발생
+     * @throws AdvertisementNotFoundException 버킷을 적재할 광고가 존재하지 않을 경우 예외 발생
+     */
+    public void acquire(UUID advertisementId) {
+        acquire(advertisementId, Instant.now());
+    }
+
+    void acquire(UUID advertisementId, Instant now) {
+        if (unpacedAdvertisements.getIfPresent(advertisementId) != null) {
+            return;
+        }
+
+        long result;
+        try {
+            result = execute(advertisementId, now);
+            if (result == MISSING) {
+                result = seed(advertisementId, now) ? execute(advertisementId, now) : NOT_PACED;
+            }
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.printf("광고 참여 속도 조절 실패: 광고 %s, Error: %s%n", advertisementId, e.getMessage());
+            return;
+        }
+
+        if (result == NOT_PACED) {
+            unpacedAdvertisements.put(advertisementId, Boolean.TRUE);
+            return;
+        }
+        if (result > 0) {
+            throw new ParticipationRateLimitedException("참여 요청이 많아 잠시 후 다시 시도해 주세요.",
+                    Math.max(1, (result + 999) / 1000));
+        }
+        refundUnlessCommitted(advertisementId);
+    }
+
+    private long execute(UUID advertisementId, Instant now) {
+        Long result = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(key(advertisementId)),
+                String.valueOf(now.toEpochMilli()), String.valueOf(BURST_MILLIS));
+        if (result == null) {
+            throw new IllegalStateException("광고 참여 속도 조절 응답이 없습니다.");
+        }
+        return result;
+    }
+
+    /**
+     * 광고의 남은 참여 가능 횟수와 노출 기간으로 버킷을 적재합니다.
+     *
+     * @return 속도 조절을 하는 광고면 true
+     */
+    private boolean seed(UUID advertisementId, Instant now) {
+        Advertisement advertisement = advertisementRepository.findById(advertisementId)
+                .orElseThrow(() -> new AdvertisementNotFoundException("광고를 찾을 수 없습니다."));
+
+        int remaining = advertisement.getRemainingParticipationCount();
+        int tokens = advertisement.isPacingEnabled() ? Math.min(1, remaining) : 0;
+        long start = Math.max(now.toEpochMilli(), epochMilli(advertisement.getExposureStartDate()));
+        long end = epochMilli(advertisement.getExposureEndDate());
+
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(key(advertisementId)),
+                advertisement.isPacingEnabled() ? "1" : "0", String.valueOf(tokens), String.valueOf(remaining - tokens),
+                String.valueOf(start), String.valueOf(end), String.valueOf(CONFIG_TTL.toMillis()));
+        return advertisement.isPacingEnabled();
+    }
+
+    private void refundUnlessCommitted(UUID advertisementId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    stringRedisTemplate.execute(REFUND_SCRIPT, List.of(key(advertisementId)));
+                } catch (Exception e) {
+                    // 버킷이 다시 적재될 때 DB 값으로 보정됨
+                    System.err.printf("광고 참여 토큰 반환 실패: 광고 %s, Error: %s%n", advertisementId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static long epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String key(UUID advertisementId) {
+        return KEY_PREFIX + advertisementId;
+    }
+}
@@ -0,0 +1,193 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.response.ApiResponse;
+import com.backend.advert.config.redis.RedisScriptPipeline;
+import com.backend.advert.domain.advertisement.dto.AdvertisementStatsResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.exception.AdvertisementNotFoundException;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 광고별 실시간 참여 통계입니다.
+ * - 참여가 커밋될 때마다 (광고 참여 이벤트로) 광고의 누적 참여 수와 초 단위 참여 수를 Redis 에 기록합니다.
+ *   (누적 참여 수는 광고 락 안에서 계산한 값을 "더 클 때만" 덮어쓰므로 커밋 순서가 바뀌어도 맞음)
+ * - 초 단위 참여 수는 분 단위 해시(필드: epoch 초)에 나누어 두고 15분이 지나면 만료시킵니다.
+ * - 통계 조회는 Redis 값만 읽으며, 기록이 없는 광고만 광고 행(PK) 하나로 누적 참여 수를 채웁니다.
+ * - 한 번에 소비한 참여 이벤트들은 한 번의 파이프라인으로 기록합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdvertisementStatsService implements ParticipationEventHandler {
+
+    static final String KEY_PREFIX = "advertisement:stats:";
+
+    private static final long[] RATE_WINDOWS_SECONDS = {60, 300, 900};
+    private static final int SELLOUT_WINDOW_INDEX = 1; // 최근 5분 속도로 소진 시각 예상
+    private static final Duration BUCKET_TTL = Duration.ofMinutes(16);
+    private static final Duration TOTALS_TTL = Duration.ofDays(7);
+
+    /**
+     * 누적 참여 수가 더 클 때만 갱신하고, 초 단위 참여 수를 1 증가시킵니다. (ARGV[3]이 비어 있으면 누적 값만 갱신)
+     * KEYS: 누적 해시, 분 단위 해시 / ARGV: 최대 참여 수, 누적 참여 수, epoch 초, 분 단위 해시 TTL, 누적 해시 TTL
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('HGET', KEYS[1], 'participations') or '-1') " +
+                    "if tonumber(ARGV[2]) > current then " +
+                    "  redis.call('HSET', KEYS[1], 'participations', ARGV[2], 'max', ARGV[1]) " +
+                    "end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+                    "if ARGV[3] ~= '' then " +
+                    "  redis.call('HINCRBY', KEYS[2], ARGV[3], 1) " +
+                    "  redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+                    "end " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AdvertisementRepository advertisementRepository;
+    private final RedisScriptPipeline redisScriptPipeline;
+
+    /**
+     * 커밋된 광고 참여를 통계에 기록합니다. (광고 참여 이벤트 소비 스레드에서 호출, 파이프라인 1회)
+     *
+     * @param events 광고 참여 목록 (누적 참여 수는 광고 락 안에서 계산한 값)
+     */
+    @Override
+    public void onParticipations(List<ParticipationCompleted> events) {
+        List<RedisScriptPipeline.Call> calls = new ArrayList<>(events.size());
+        for (ParticipationCompleted event : events) {
+            calls.add(recordCall(event.advertisementId(), event.maxParticipationCount(), event.participationCount(),
+                    event.participatedAt().atZone(ZoneId.systemDefault()).toEpochSecond()));
+        }
+        try {
+            redisScriptPipeline.execute(calls);
+        } catch (Exception e) {
+            // 참여는 이미 커밋되었으므로 요청은 실패시키지 않음 (통계만 누락)
+            System.err.printf("광고 참여 통계 기록 실패: %d건, Error: %s%n", events.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 누적 참여 수를 기록합니다. (기록이 없는 광고를 DB 값으로 채울 때)
+     */
+    private void record(UUID advertisementId, int maxParticipationCount, int participationCount) {
+        try {
+            RedisScriptPipeline.Call call = recordCall(advertisementId, maxParticipationCount, participationCount, null);
+            stringRedisTemplate.execute(RECORD_SCRIPT, call.keys(), call.args().toArray());
+        } catch (Exception e) {
+            System.err.printf("광고 참여 통계 기록 실패: 광고 %s, Error: %s%n", advertisementId, e.getMessage());
+        }
+    }
+
+    /**
+     * 누적 참여 수를 기록하고, 참여 시각(epoch 초)이 있으면 초 단위 참여 수를 1 증가시키는 스크립트 호출입니다.
+     */
+    private static RedisScriptPipeline.Call recordCall(UUID advertisementId, int maxParticipationCount, int participationCount, Long epochSecond) {
+        long bucketSecond = epochSecond == null ? 0 : epochSecond;
+        return RedisScriptPipeline.Call.of(RECORD_SCRIPT, List.of(totalsKey(advertisementId), bucketKey(advertisementId, bucketSecond)),
+                String.valueOf(maxParticipationCount), String.valueOf(participationCount), epochSecond == null ? "" : String.valueOf(epochSecond),
+                String.valueOf(BUCKET_TTL.toSeconds()), String.valueOf(TOTALS_TTL.toSeconds()));
+    }
+
+    /**
+     * 광고의 실시간 참여 통계를 조회합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @return 누적 참여 수, 최근 1/5/15분 초당 참여 수, 소진 예상 시각
+     * @throws AdvertisementNotFoundException 통계가 없고 광고도 존재하지 않을 경우 예외 발생
+     */
+    public ApiResponse<AdvertisementStatsResponse> getStats(UUID advertisementId) {
+        return ApiResponse.success(HttpStatus.OK, "광고 참여 통계를 성공적으로 조회했습니다.", getStats(advertisementId, Instant.now()));
+    }
+
+    AdvertisementStatsResponse getStats(UUID advertisementId, Instant now) {
+        long nowSecond = now.getEpochSecond();
+        long oldestSecond = nowSecond - RATE_WINDOWS_SECONDS[RATE_WINDOWS_SECONDS.length - 1];
+
+        // 누적 해시 + 최근 15분의 분 단위 해시를 한 번에 조회
+        List<String> keys = new ArrayList<>();
+        keys.add(totalsKey(advertisementId));
+        for (long minute = Math.floorDiv(oldestSecond, 60); minute <= Math.floorDiv(nowSecond, 60); minute++) {
+            keys.add(bucketKey(advertisementId, minute * 60));
+        }
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> totals = (Map<String, String>) results.get(0);
+        int participationCount;
+        int maxParticipationCount;
+        if (totals == null || totals.get("participations") == null) {
+            Advertisement advertisement = advertisementRepository.findById(advertisementId)
+                    .orElseThrow(() -> new AdvertisementNotFoundException("광고를 찾을 수 없습니다."));
+            maxParticipationCount = advertisement.getMaxParticipationCount();
+            participationCount = maxParticipationCount - advertisement.getRemainingParticipationCount();
+            record(advertisementId, maxParticipationCount, participationCount);
+        } else {
+            participationCount = Integer.parseInt(totals.get("participations"));
+            maxParticipationCount = Integer.parseInt(totals.get("max"));
+        }
+
+        // 구간별 참여 수 합산 (현재 초 포함, 구간 시작 초 미포함)
+        long[] counts = new long[RATE_WINDOWS_SECONDS.length];
+        for (Object result : results.subList(1, results.size())) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> bucket = (Map<String, String>) result;
+            if (bucket == null) {
+                continue;
+            }
+            for (Map.Entry<String, String> entry : bucket.entrySet()) {
+                long age = nowSecond - Long.parseLong(entry.getKey());
+                for (int i = 0; i < RATE_WINDOWS_SECONDS.length; i++) {
+                    if (age >= 0 && age < RATE_WINDOWS_SECONDS[i]) {
+                        counts[i] += Long.parseLong(entry.getValue());
+                    }
+                }
+            }
+        }
+        double[] rates = new double[RATE_WINDOWS_SECONDS.length];
+        for (int i = 0; i < RATE_WINDOWS_SECONDS.length; i++) {
+            rates[i] = (double) counts[i] / RATE_WINDOWS_SECONDS[i];
+        }
+
+        int remaining = Math.max(0, maxParticipationCount - participationCount);
+        double selloutRate = rates[SELLOUT_WINDOW_INDEX];
+        LocalDateTime estimatedSelloutAt = remaining > 0 && selloutRate > 0
+                ? LocalDateTime.ofInstant(now.plusSeconds((long) Math.ceil(remaining / selloutRate)), ZoneId.systemDefault())
+                : null;
+
+        return new AdvertisementStatsResponse(advertisementId, participationCount, maxParticipationCount,
+                rates[0], rates[1], rates[2], estimatedSelloutAt, LocalDateTime.ofInstant(now, ZoneId.systemDefault()));
+    }
+
+    private static String totalsKey(UUID advertisementId) {
+        return KEY_PREFIX + advertisementId;
+    }
+
+    private static String bucketKey(UUID advertisementId, long epochSecond) {
+        return KEY_PREFIX + advertisementId + ":seconds:" + Math.floorDiv(epochSecond, 60);
+    }
+}
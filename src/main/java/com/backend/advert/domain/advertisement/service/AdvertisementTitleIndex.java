@@ -0,0 +1,314 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 광고명 중복 방지를 위한 Redis 인덱스입니다.
+ * - 정규화된 광고명 키를 요청마다 고유한 선점 토큰으로 SETNX 하여 동시 등록 경쟁을 막습니다.
+ * - Redis 비트맵 기반 Bloom filter로 "확실히 새로운 광고명"은 DB 조회 없이 판단합니다.
+ * - DB 확인과 유니크 제약은 같은 기준으로 정규화한 광고명 컬럼(normalized_title)을 사용하므로, 선점 키가 만료된 뒤에도 Redis 와 DB 의 판단이 같습니다.
+ * - 등록이 실패(롤백)하면 선점을 해제합니다. 선점 토큰이 같을 때만 삭제하므로 만료 후 다른 요청이 선점한 키는 지우지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdvertisementTitleIndex {
+
+    static final String TITLE_KEY_PREFIX = "advertisement:title:";
+    static final String BLOOM_KEY = "advertisement:title:bloom";
+
+    private static final Duration PENDING_TTL = Duration.ofSeconds(30);
+    private static final Duration RESERVED_TTL = Duration.ofHours(1);
+
+    private static final long BLOOM_BITS = 1L << 24; // 16M bits (2MB), 약 100만 건에서 오탐률 1% 미만
+    private static final int BLOOM_HASHES = 7;
+
+    /**
+     * 선점 토큰이 같을 때만 선점 키를 삭제합니다.
+     * KEYS: 선점 키 / ARGV: 선점 토큰
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+                    "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AdvertisementRepository advertisementRepository;
+
+    /**
+     * 광고명을 선점합니다.
+     * SETNX와 Bloom filter 확인은 한 번의 파이프라인으로 보냅니다. (선점에 실패하면 Bloom filter 결과는 버림)
+     *
+     * @param title 광고명
+     * @return 선점 토큰 (해제할 때 전달, 이미 사용 중이거나 다른 요청이 선점 중이면 null)
+     */
+    public String reserve(String title) {
+        String token = UUID.randomUUID().toString();
+        byte[] tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+        byte[] bloomKey = BLOOM_KEY.getBytes(StandardCharsets.UTF_8);
+        String normalizedTitle = normalize(title);
+        long[] offsets = bloomOffsets(normalizedTitle);
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(titleKey(title), tokenBytes, Expiration.from(PENDING_TTL), RedisStringCommands.SetOption.ifAbsent());
+            for (long offset : offsets) {
+                connection.stringCommands().getBit(bloomKey, offset);
+            }
+            return null;
+        });
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            return null;
+        }
+
+        // Bloom filter에 없으면 확실히 새로운 광고명이므로 DB 조회 생략
+        boolean mightContain = results.subList(1, results.size()).stream().allMatch(Boolean.TRUE::equals);
+        if (mightContain && advertisementRepository.existsByNormalizedTitle(normalizedTitle)) {
+            stringRedisTemplate.opsForValue().set(TITLE_KEY_PREFIX + normalizedTitle, "exists", RESERVED_TTL);
+            return null;
+        }
+        return token;
+    }
+
+    /**
+     * 여러 광고명을 한 번에 선점합니다. (대량 등록용)
+     * SETNX와 Bloom filter 확인은 파이프라인으로 묶고, DB 확인은 한 번의 IN 조회로 처리합니다.
+     *
+     * @param titles 광고명 목록 (정규화 기준으로 중복이 없어야 함)
+     * @return 선점에 성공한 광고명별 선점 토큰 (요청 순서 유지)
+     */
+    public Map<String, String> reserveAll(List<String> titles) {
+        if (titles.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> tokens = titles.stream().map(title -> UUID.randomUUID().toString()).toList();
+        List<Object> setResults = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < titles.size(); i++) {
+                connection.stringCommands().set(titleKey(titles.get(i)), tokens.get(i).getBytes(StandardCharsets.UTF_8),
+                        Expiration.from(PENDING_TTL), RedisStringCommands.SetOption.ifAbsent());
+            }
+            return null;
+        });
+
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < titles.size(); i++) {
+            if (Boolean.TRUE.equals(setResults.get(i))) {
+                result.put(titles.get(i), tokens.get(i));
+            }
+        }
+        if (result.isEmpty()) {
+            return Map.of();
+        }
+        List<String> reserved = new ArrayList<>(result.keySet());
+
+        // Bloom filter에 있을 수 있는 광고명만 DB에서 확인
+        byte[] bloomKey = BLOOM_KEY.getBytes(StandardCharsets.UTF_8);
+        List<Object> bits = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String title : reserved) {
+                for (long offset : bloomOffsets(normalize(title))) {
+                    connection.stringCommands().getBit(bloomKey, offset);
+                }
+            }
+            return null;
+        });
+
+        List<String> maybeExisting = new ArrayList<>();
+        for (int i = 0; i < reserved.size(); i++) {
+            List<Object> titleBits = bits.subList(i * BLOOM_HASHES, (i + 1) * BLOOM_HASHES);
+            if (titleBits.stream().allMatch(Boolean.TRUE::equals)) {
+                maybeExisting.add(reserved.get(i));
+            }
+        }
+
+        if (!maybeExisting.isEmpty()) {
+            Set<String> existingTitles = new HashSet<>(advertisementRepository.findExistingNormalizedTitles(
+                    maybeExisting.stream().map(AdvertisementTitleIndex::normalize).toList()));
+            for (String title : maybeExisting) {
+                if (existingTitles.contains(normalize(title))) {
+                    stringRedisTemplate.opsForValue().set(TITLE_KEY_PREFIX + normalize(title), "exists", RESERVED_TTL);
+                    result.remove(title);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 저장이 끝난 광고명들의 선점을 확정합니다. (대량 등록용)
+     *
+     * @param advertisementIds 광고명별 저장된 광고 ID
+     */
+    public void confirmAll(Map<String, UUID> advertisementIds) {
+        if (advertisementIds.isEmpty()) {
+            return;
+        }
+
+        byte[] bloomKey = BLOOM_KEY.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            advertisementIds.forEach((title, advertisementId) -> {
+                connection.stringCommands().set(titleKey(title), advertisementId.toString().getBytes(StandardCharsets.UTF_8),
+                        Expiration.from(RESERVED_TTL), RedisStringCommands.SetOption.upsert());
+                setBits(connection, bloomKey, bloomOffsets(normalize(title)));
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 광고 저장 결과에 따라 선점을 확정하거나 해제합니다.
+     * 트랜잭션 안에서 호출되면 커밋 시 확정, 롤백 시 해제합니다.
+     *
+     * @param title 광고명
+     * @param token 선점 토큰
+     * @param advertisementId 저장된 광고 ID
+     */
+    public void confirmAfterCommit(String title, String token, UUID advertisementId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            confirm(title, advertisementId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    confirm(title, advertisementId);
+                } else {
+                    release(title, token);
+                }
+            }
+        });
+    }
+
+    /**
+     * 광고명 선점을 해제합니다. 선점 토큰이 같을 때만 삭제합니다.
+     * (선점 키가 만료된 뒤 다른 요청이 선점했거나 이미 확정된 광고명은 그대로 둠)
+     *
+     * @param title 광고명
+     * @param token 선점 시 받은 선점 토큰
+     */
+    public void release(String title, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(TITLE_KEY_PREFIX + normalize(title)), token);
+    }
+
+    /**
+     * Bloom filter에 광고명이 있을 수 있는지 확인합니다.
+     *
+     * @param title 광고명
+     * @return false 이면 확실히 등록되지 않은 광고명
+     */
+    public boolean mightContain(String title) {
+        long[] offsets = bloomOffsets(normalize(title));
+        byte[] bloomKey = BLOOM_KEY.getBytes(StandardCharsets.UTF_8);
+
+        List<Object> bits = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long offset : offsets) {
+                connection.stringCommands().getBit(bloomKey, offset);
+            }
+            return null;
+        });
+        return bits.stream().allMatch(Boolean.TRUE::equals);
+    }
+
+    /**
+     * 광고명들을 Bloom filter에 추가합니다.
+     *
+     * @param titles 광고명 목록
+     */
+    public void addAll(Collection<String> titles) {
+        byte[] bloomKey = BLOOM_KEY.getBytes(StandardCharsets.UTF_8);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String title : titles) {
+                setBits(connection, bloomKey, bloomOffsets(normalize(title)));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 Bloom filter가 없으면 DB의 광고명으로 다시 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(BLOOM_KEY))) {
+                addAll(advertisementRepository.findAllTitles());
+            }
+        } catch (Exception e) {
+            // Bloom filter가 비어 있어도 DB 유니크 제약으로 중복은 막히므로 시작을 중단하지 않음
+            System.err.printf("광고명 인덱스 초기화 실패: %s%n", e.getMessage());
+        }
+    }
+
+    /**
+     * 광고명 비교용 정규화 (Advertisement.normalizeTitle 과 같은 기준)
+     */
+    static String normalize(String title) {
+        return Advertisement.normalizeTitle(title);
+    }
+
+    private void confirm(String title, UUID advertisementId) {
+        confirmAll(Map.of(title, advertisementId)); // 광고 ID 기록과 Bloom filter 추가를 한 번의 파이프라인으로
+    }
+
+    private static byte[] titleKey(String title) {
+        return (TITLE_KEY_PREFIX + normalize(title)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void setBits(RedisConnection connection, byte[] bloomKey, long[] offsets) {
+        for (long offset : offsets) {
+            connection.stringCommands().setBit(bloomKey, offset, true);
+        }
+    }
+
+    /**
+     * 이중 해싱으로 Bloom filter 비트 위치를 계산합니다.
+     */
+    private static long[] bloomOffsets(String normalizedTitle) {
+        ByteBuffer digest = ByteBuffer.wrap(md5(normalizedTitle.getBytes(StandardCharsets.UTF_8)));
+        long hash1 = digest.getLong();
+        long hash2 = digest.getLong();
+
+        long[] offsets = new long[BLOOM_HASHES];
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            offsets[i] = Math.floorMod(hash1 + i * hash2, BLOOM_BITS);
+        }
+        return offsets;
+    }
+
+    private static byte[] md5(byte[] input) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
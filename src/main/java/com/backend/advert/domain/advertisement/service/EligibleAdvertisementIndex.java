@@ -0,0 +1,222 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.exception.ServiceException;
+import com.backend.advert.common.validator.CompiledQualification;
+import com.backend.advert.common.validator.QualificationCriteriaCache;
+import com.backend.advert.common.validator.QualificationValidator;
+import com.backend.advert.common.validator.rule.AndRule;
+import com.backend.advert.common.validator.rule.NotRule;
+import com.backend.advert.common.validator.rule.ParticipatedInRule;
+import com.backend.advert.common.validator.rule.ParticipationCountRule;
+import com.backend.advert.common.validator.rule.QualificationRule;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.user.dto.UserProfile;
+import com.backend.advert.domain.user.exception.UserNotFoundException;
+import com.backend.advert.domain.user.service.UserParticipationCounter;
+import com.backend.advert.domain.user.service.UserProfileCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 사용자가 참여할 수 있는 활성 광고를 찾기 위한 역색인입니다.
+ * - 참여 횟수 범위 조건은 최소/최대 횟수별 광고 집합(NavigableMap)으로 색인합니다.
+ * - "특정 광고 미참여" 조건은 제외 광고 ID -> 광고 집합으로 색인합니다.
+ * - 그 밖의 규칙이 포함된 광고는 따로 모아 한 번의 일괄 평가로 판단합니다.
+ * 색인은 주기적으로 다시 구성하며, 조회 시에는 집합 연산만 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EligibleAdvertisementIndex {
+
+    private final AdvertisementRepository advertisementRepository;
+    private final AdvertisementParticipationRepository participationRepository;
+    private final UserProfileCache userProfileCache;
+    private final QualificationCriteriaCache qualificationCriteriaCache;
+    private final QualificationValidator qualificationValidator;
+    private final UserParticipationCounter participationCounter;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 활성 광고로 색인을 다시 구성합니다. (30초마다)
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void rebuild() {
+        try {
+            snapshot = buildSnapshot(LocalDateTime.now());
+        } catch (Exception e) {
+            // 색인 갱신에 실패하면 기존 색인을 계속 사용
+            System.err.printf("참여 가능 광고 색인 갱신 실패: %s%n", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자가 참여할 수 있는 활성 광고 목록을 조회합니다.
+     * 이미 참여한 광고는 제외하며, 적립액수가 높은 순으로 정렬합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 참여 가능한 광고 목록
+     * @throws UserNotFoundException 사용자가 존재하지 않을 경우 예외 발생
+     */
+    public List<AdvertisementResponse> findEligible(UUID userId) {
+        Snapshot current = currentSnapshot();
+
+        UserProfile user = userProfileCache.getById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
+        Set<UUID> joined = new HashSet<>(participationRepository.findAdvertisementIdsByUserId(userId));
+        int participationCount = participationCounter.getCount(userId, user.getParticipationCount());
+
+        // 1. 참여 횟수 범위: (최소 조건 없음 ∪ 최소 ≤ 횟수) ∩ (최대 조건 없음 ∪ 최대 ≥ 횟수)
+        Set<UUID> eligible = new HashSet<>(current.withoutMin);
+        current.byMin.headMap(participationCount, true).values().forEach(eligible::addAll);
+
+        Set<UUID> withinMax = new HashSet<>(current.withoutMax);
+        current.byMax.tailMap(participationCount, true).values().forEach(withinMax::addAll);
+        eligible.retainAll(withinMax);
+
+        // 2. 참여한 광고를 제외 조건으로 가진 광고 제거
+        for (UUID joinedId : joined) {
+            eligible.removeAll(current.excludedBy.getOrDefault(joinedId, Set.of()));
+        }
+
+        // 3. 색인할 수 없는 규칙을 가진 광고는 한 번에 평가
+        Map<UUID, CompiledQualification> residual = new LinkedHashMap<>();
+        current.residual.forEach((advertisementId, qualification) -> {
+            if (!joined.contains(advertisementId)) {
+                residual.put(advertisementId, qualification);
+            }
+        });
+        if (!residual.isEmpty()) {
+            qualificationValidator.evaluateAdvertisements(residual, userId).forEach((advertisementId, passed) -> {
+                if (passed) {
+                    eligible.add(advertisementId);
+                }
+            });
+        }
+
+        // 4. 이미 참여한 광고 제외, 노출 기간이 지난 광고 제외
+        eligible.removeAll(joined);
+        LocalDateTime now = LocalDateTime.now();
+
+        return eligible.stream()
+                .map(current.advertisements::get)
+                .filter(advertisement -> advertisement.getExposureStartDate().isBefore(now) && advertisement.getExposureEndDate().isAfter(now))
+                .sorted(Comparator.comparingInt(AdvertisementResponse::getRewardPoints).reversed()
+                        .thenComparing(AdvertisementResponse::getTitle))
+                .toList();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = buildSnapshot(LocalDateTime.now());
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    Snapshot buildSnapshot(LocalDateTime now) {
+        List<Advertisement> activeAdvertisements = advertisementRepository
+                .findByExposureStartDateBeforeAndExposureEndDateAfterAndRemainingParticipationCountGreaterThan(now, now, 0, Pageable.unpaged())
+                .getContent();
+
+        Snapshot built = new Snapshot();
+        for (Advertisement advertisement : activeAdvertisements) {
+            CompiledQualification qualification;
+            try {
+                qualification = qualificationCriteriaCache.get(advertisement);
+            } catch (ServiceException e) {
+                System.err.printf("광고 자격 조건 해석 실패로 색인에서 제외: ID %s, Error: %s%n", advertisement.getId(), e.getMessage());
+                continue;
+            }
+            built.add(AdvertisementResponse.fromEntity(advertisement), qualification);
+        }
+        return built;
+    }
+
+    /**
+     * 색인 스냅샷. 구성이 끝난 뒤에는 변경하지 않습니다.
+     */
+    static final class Snapshot {
+        private final Map<UUID, AdvertisementResponse> advertisements = new HashMap<>();
+        private final Set<UUID> withoutMin = new HashSet<>();
+        private final Set<UUID> withoutMax = new HashSet<>();
+        private final NavigableMap<Integer, Set<UUID>> byMin = new TreeMap<>();
+        private final NavigableMap<Integer, Set<UUID>> byMax = new TreeMap<>();
+        private final Map<UUID, Set<UUID>> excludedBy = new HashMap<>();
+        private final Map<UUID, CompiledQualification> residual = new HashMap<>();
+
+        private void add(AdvertisementResponse advertisement, CompiledQualification qualification) {
+            UUID advertisementId = advertisement.getId();
+            advertisements.put(advertisementId, advertisement);
+
+            Integer min = null;
+            Integer max = null;
+            Set<UUID> excluded = new HashSet<>();
+
+            for (QualificationRule term : conjuncts(qualification.getRule())) {
+                if (term instanceof ParticipationCountRule countRule) {
+                    if (countRule.min() != null) {
+                        min = min == null ? countRule.min() : Math.max(min, countRule.min());
+                    }
+                    if (countRule.max() != null) {
+                        max = max == null ? countRule.max() : Math.min(max, countRule.max());
+                    }
+                } else if (term instanceof NotRule notRule && notRule.rule() instanceof ParticipatedInRule participatedIn) {
+                    excluded.addAll(participatedIn.advertisementIds());
+                } else {
+                    residual.put(advertisementId, qualification); // 색인할 수 없는 규칙 포함
+                    return;
+                }
+            }
+
+            if (min == null) {
+                withoutMin.add(advertisementId);
+            } else {
+                byMin.computeIfAbsent(min, key -> new HashSet<>()).add(advertisementId);
+            }
+            if (max == null) {
+                withoutMax.add(advertisementId);
+            } else {
+                byMax.computeIfAbsent(max, key -> new HashSet<>()).add(advertisementId);
+            }
+            excluded.forEach(excludedId -> excludedBy.computeIfAbsent(excludedId, key -> new HashSet<>()).add(advertisementId));
+        }
+
+        private static List<QualificationRule> conjuncts(QualificationRule rule) {
+            if (rule == null) {
+                return Collections.emptyList();
+            }
+            if (!(rule instanceof AndRule andRule)) {
+                return List.of(rule);
+            }
+            List<QualificationRule> terms = new ArrayList<>();
+            andRule.rules().forEach(child -> terms.addAll(conjuncts(child)));
+            return terms;
+        }
+    }
+}
@@ -2,17 +2,23 @@ package com.backend.advert.domain.advertisementParticipation.controller;
 
 import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationRequest;
 import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportFormat;
 import com.backend.advert.domain.advertisementParticipation.service.AdvertisementParticipationService;
+import com.backend.advert.domain.advertisementParticipation.service.ParticipationExportService;
 import com.backend.advert.common.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -20,7 +26,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AdvertisementParticipationController {
 
+    private static final LocalDate EXPORT_DEFAULT_START_DATE = LocalDate.of(2000, 1, 1);
+
     private final AdvertisementParticipationService participationService;
+    private final ParticipationExportService participationExportService;
 
     /**
      * 광고 참여 API
@@ -57,4 +66,68 @@ public class AdvertisementParticipationController {
         ApiResponse<Page<AdvertisementParticipationResponse>> response = participationService.getParticipationHistory(userId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59), page, size);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    /**
+     * 사용자 광고 참여 이력 내보내기 API
+     * - 기간 내 전체 참여 이력을 참여 시각 순으로 NDJSON 또는 CSV 로 스트리밍합니다.
+     * - 기간을 생략하면 전체 이력을 내보냅니다.
+     *
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작 날짜 (선택)
+     * @param endDate 조회 종료 날짜 (선택, 기본값 오늘)
+     * @param format 내보내기 형식 (ndjson, csv)
+     * @return 참여 이력 파일
+     */
+    @GetMapping("/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportUserParticipations(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ParticipationExportFormat exportFormat = ParticipationExportFormat.from(format);
+        StreamingResponseBody body = participationExportService.exportUserParticipations(
+                userId, exportStart(startDate), exportEnd(endDate), exportFormat);
+        return export("participations-user-" + userId, exportFormat, body);
+    }
+
+    /**
+     * 광고 참여 이력 내보내기 API
+     * - 광고의 기간 내 전체 참여 이력을 참여 시각 순으로 NDJSON 또는 CSV 로 스트리밍합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @param startDate 조회 시작 날짜 (선택)
+     * @param endDate 조회 종료 날짜 (선택, 기본값 오늘)
+     * @param format 내보내기 형식 (ndjson, csv)
+     * @return 참여 이력 파일
+     */
+    @GetMapping("/advertisements/{advertisementId}/export")
+    public ResponseEntity<StreamingResponseBody> exportAdvertisementParticipations(
+            @PathVariable UUID advertisementId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ParticipationExportFormat exportFormat = ParticipationExportFormat.from(format);
+        StreamingResponseBody body = participationExportService.exportAdvertisementParticipations(
+                advertisementId, exportStart(startDate), exportEnd(endDate), exportFormat);
+        return export("participations-advertisement-" + advertisementId, exportFormat, body);
+    }
+
+    private static LocalDateTime exportStart(LocalDate startDate) {
+        return (startDate == null ? EXPORT_DEFAULT_START_DATE : startDate).atStartOfDay();
+    }
+
+    private static LocalDateTime exportEnd(LocalDate endDate) {
+        // 종료 날짜 당일까지 포함 (미포함 경계는 다음 날 0시)
+        return (endDate == null ? LocalDate.now() : endDate).plusDays(1).atStartOfDay();
+    }
+
+    private static ResponseEntity<StreamingResponseBody> export(String fileName, ParticipationExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
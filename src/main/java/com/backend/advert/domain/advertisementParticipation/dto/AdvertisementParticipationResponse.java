@@ -1,6 +1,9 @@
 package com.backend.advert.domain.advertisementParticipation.dto;
 
+import com.backend.advert.domain.advertisement.entity.Advertisement;
 import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipationArchive;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 
@@ -17,6 +20,7 @@ public class AdvertisementParticipationResponse {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime participationTime;
 
+    @JsonCreator
     public AdvertisementParticipationResponse(UUID advertisementId, String advertisementTitle, UUID userId, Integer rewardPoints, LocalDateTime participationTime) {
         this.advertisementId = advertisementId;
         this.advertisementTitle = advertisementTitle;
@@ -34,4 +38,14 @@ public class AdvertisementParticipationResponse {
                 participation.getParticipatedAt()
         );
     }
+
+    public static AdvertisementParticipationResponse fromArchive(AdvertisementParticipationArchive participation, Advertisement advertisement) {
+        return new AdvertisementParticipationResponse(
+                participation.getAdvertisementId(),
+                advertisement == null ? null : advertisement.getTitle(),
+                participation.getUserId(),
+                advertisement == null ? null : advertisement.getRewardPoints(),
+                participation.getParticipatedAt()
+        );
+    }
 }
@@ -0,0 +1,17 @@
+package com.backend.advert.domain.advertisementParticipation.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 집계용 광고 참여 이력 한 건. (조회 시 엔티티를 만들지 않고 바로 생성)
+ *
+ * @param rewardPoints 광고의 참여 보상 포인트
+ */
+public record ParticipationEvent(
+        UUID participationId,
+        UUID advertisementId,
+        UUID userId,
+        Integer rewardPoints,
+        LocalDateTime participatedAt) {
+}
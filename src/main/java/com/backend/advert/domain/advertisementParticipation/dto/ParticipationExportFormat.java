@@ -0,0 +1,38 @@
+package com.backend.advert.domain.advertisementParticipation.dto;
+
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * 광고 참여 이력 내보내기 형식.
+ */
+@Getter
+public enum ParticipationExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"), // 한 줄에 참여 이력 하나
+    CSV(MediaType.parseMediaType("text/csv"), "csv"); // 첫 줄이 헤더인 CSV
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ParticipationExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * 요청 파라미터로 내보내기 형식을 결정합니다. (대소문자 무시)
+     *
+     * @param value 형식 이름 (ndjson, csv)
+     * @return 내보내기 형식
+     * @throws InvalidAdvertisementException 지원하지 않는 형식일 경우 예외 발생
+     */
+    public static ParticipationExportFormat from(String value) {
+        for (ParticipationExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidAdvertisementException("지원하지 않는 내보내기 형식입니다.");
+    }
+}
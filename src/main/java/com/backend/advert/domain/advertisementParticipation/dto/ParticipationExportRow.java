@@ -0,0 +1,20 @@
+package com.backend.advert.domain.advertisementParticipation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 내보내기용 광고 참여 이력 한 행. (조회 시 엔티티를 만들지 않고 바로 생성)
+ * 보관된 이력의 광고가 삭제된 경우 광고 제목과 보상 포인트는 null 입니다.
+ */
+@JsonPropertyOrder({"advertisementId", "advertisementTitle", "userId", "rewardPoints", "participationTime"})
+public record ParticipationExportRow(
+        UUID advertisementId,
+        String advertisementTitle,
+        UUID userId,
+        Integer rewardPoints,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime participationTime) {
+}
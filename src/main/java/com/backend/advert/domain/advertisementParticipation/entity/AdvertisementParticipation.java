@@ -12,7 +12,12 @@ import java.util.UUID;
 
 @Entity
 @Getter
-@Table(name = "advertisement_participations")
+@Table(name = "advertisement_participations",
+        indexes = {
+                @Index(name = "idx_participations_user_participated_at", columnList = "user_id, participated_at"),
+                @Index(name = "idx_participations_advertisement_participated_at", columnList = "advertisement_id, participated_at"),
+                @Index(name = "idx_participations_participated_at", columnList = "participated_at, id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AdvertisementParticipation extends BaseTimeEntity {
 
@@ -22,7 +27,8 @@ public class AdvertisementParticipation extends BaseTimeEntity {
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "advertisement_id", nullable = false)
+    @JoinColumn(name = "advertisement_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // 파티션 테이블은 외래 키를 지원하지 않음
     private Advertisement advertisement;
 
     @Column(name = "user_id", nullable = false)
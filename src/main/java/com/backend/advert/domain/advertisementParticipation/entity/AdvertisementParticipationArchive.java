@@ -0,0 +1,41 @@
+package com.backend.advert.domain.advertisementParticipation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관 기간이 지난 광고 참여 이력.
+ * 원본 테이블에서 월 단위로 옮겨오며, 이력 조회에 필요한 컬럼만 보관합니다. (외래 키 없음)
+ */
+@Entity
+@Getter
+@Table(name = "advertisement_participation_archives",
+        indexes = {
+                @Index(name = "idx_participation_archives_user_participated_at", columnList = "user_id, participated_at"),
+                @Index(name = "idx_participation_archives_advertisement_participated_at", columnList = "advertisement_id, participated_at")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AdvertisementParticipationArchive {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "advertisement_id", nullable = false)
+    @Comment("광고 ID")
+    private UUID advertisementId;
+
+    @Column(name = "user_id", nullable = false)
+    @Comment("사용자 ID")
+    private UUID userId;
+
+    @Column(name = "participated_at", nullable = false)
+    @Comment("참여 시각")
+    private LocalDateTime participatedAt;
+}
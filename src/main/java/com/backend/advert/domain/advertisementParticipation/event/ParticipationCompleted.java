@@ -0,0 +1,44 @@
+package com.backend.advert.domain.advertisementParticipation.event;
+
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 커밋된 광고 참여 한 건. 후속 처리(포인트 적립, 통계, 캐시, 카운터)에 필요한 값을 광고 락 안에서 담아 둡니다.
+ *
+ * @param participationCount 이 참여까지 포함한 광고의 누적 참여 수
+ */
+public record ParticipationCompleted(
+        UUID participationId,
+        UUID advertisementId,
+        String advertisementTitle,
+        UUID userId,
+        int rewardPoints,
+        int participationCount,
+        int maxParticipationCount,
+        LocalDateTime participatedAt) {
+
+    /**
+     * 참여 가능 횟수를 차감한 광고와 저장한 참여 이력으로 이벤트를 만듭니다.
+     */
+    public static ParticipationCompleted of(AdvertisementParticipation participation, Advertisement advertisement) {
+        return new ParticipationCompleted(
+                participation.getId(),
+                advertisement.getId(),
+                advertisement.getTitle(),
+                participation.getUserId(),
+                advertisement.getRewardPoints(),
+                advertisement.getMaxParticipationCount() - advertisement.getRemainingParticipationCount(),
+                advertisement.getMaxParticipationCount(),
+                participation.getParticipatedAt()
+        );
+    }
+
+    public AdvertisementParticipationResponse toResponse() {
+        return new AdvertisementParticipationResponse(advertisementId, advertisementTitle, userId, rewardPoints, participatedAt);
+    }
+}
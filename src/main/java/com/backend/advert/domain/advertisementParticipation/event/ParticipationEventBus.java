@@ -0,0 +1,145 @@
+package com.backend.advert.domain.advertisementParticipation.event;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 광고 참여 이벤트 버스입니다.
+ * - 참여가 커밋되면 이벤트를 고정 크기 링 버퍼(LMAX Disruptor)에 넣고 요청 스레드는 바로 반환합니다.
+ *   (여러 요청 스레드가 락 없이 CAS 로 슬롯을 확보하며, 슬롯은 미리 할당되어 재사용됨)
+ * - 후속 작업(ParticipationEventHandler)마다 전용 소비 스레드가 쌓인 이벤트를 묶음으로 처리합니다.
+ * - 링 버퍼가 가득 차면 이벤트를 버리지 않고 요청 스레드에서 후속 작업을 직접 수행합니다.
+ * - 종료 시 링 버퍼에 남은 이벤트를 처리한 뒤 소비 스레드를 멈춥니다.
+ */
+@Component
+public class ParticipationEventBus {
+
+    static final int RING_SIZE = 8192; // 2의 거듭제곱
+    static final int MAX_BATCH_SIZE = 256;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final List<ParticipationEventHandler> handlers;
+    private final Disruptor<Slot> disruptor;
+    private final RingBuffer<Slot> ringBuffer;
+
+    public ParticipationEventBus(List<ParticipationEventHandler> handlers) {
+        this.handlers = List.copyOf(handlers);
+        this.disruptor = new Disruptor<>(Slot::new, RING_SIZE, consumerThreadFactory(),
+                ProducerType.MULTI, new SleepingWaitStrategy());
+
+        @SuppressWarnings("unchecked")
+        EventHandler<Slot>[] consumers = this.handlers.stream()
+                .map(BatchingConsumer::new)
+                .toArray(EventHandler[]::new);
+        if (consumers.length > 0) {
+            disruptor.handleEventsWith(consumers);
+        }
+        this.ringBuffer = disruptor.start();
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 광고 참여 이벤트를 발행합니다. (트랜잭션 밖이면 즉시 발행, 롤백되면 발행하지 않음)
+     *
+     * @param event 광고 참여 이벤트
+     */
+    public void publishAfterCommit(ParticipationCompleted event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(event);
+            }
+        });
+    }
+
+    void publish(ParticipationCompleted event) {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        if (!ringBuffer.tryPublishEvent((slot, sequence, value) -> slot.event = value, event)) {
+            System.err.printf("광고 참여 이벤트 버퍼 가득 참: 요청 스레드에서 처리 (광고 %s, 사용자 %s)%n",
+                    event.advertisementId(), event.userId());
+            for (ParticipationEventHandler handler : handlers) {
+                dispatch(handler, List.of(event));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            disruptor.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            System.err.printf("광고 참여 이벤트 처리 대기 시간 초과: 남은 이벤트 %d건%n",
+                    RING_SIZE - ringBuffer.remainingCapacity());
+            disruptor.halt();
+        }
+    }
+
+    private static void dispatch(ParticipationEventHandler handler, List<ParticipationCompleted> events) {
+        try {
+            handler.onParticipations(events);
+        } catch (Exception e) {
+            // 참여는 이미 커밋되었으므로 기록만 함 (각 후속 작업의 재계산/재적재, 포인트는 적립 대기 내역 재시도로 복구)
+            System.err.printf("광고 참여 후속 처리 실패: %s, %d건, Error: %s%n",
+                    handler.getClass().getSimpleName(), events.size(), e.getMessage());
+        }
+    }
+
+    private static ThreadFactory consumerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "participation-event-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 링 버퍼 슬롯. 미리 할당되어 발행 시 이벤트만 바꿔 끼웁니다.
+     */
+    static final class Slot {
+        private ParticipationCompleted event;
+    }
+
+    /**
+     * 소비 스레드가 가져온 이벤트를 모아, 더 가져올 이벤트가 없거나 MAX_BATCH_SIZE 건이 차면 후속 작업에 넘깁니다.
+     */
+    private static final class BatchingConsumer implements EventHandler<Slot> {
+
+        private final ParticipationEventHandler handler;
+        private final List<ParticipationCompleted> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        private BatchingConsumer(ParticipationEventHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void onEvent(Slot slot, long sequence, boolean endOfBatch) {
+            batch.add(slot.event);
+            if (endOfBatch || batch.size() >= MAX_BATCH_SIZE) {
+                dispatch(handler, List.copyOf(batch));
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.advert.domain.advertisementParticipation.event;
+
+import java.util.List;
+
+/**
+ * 커밋된 광고 참여를 묶음으로 처리하는 후속 작업입니다.
+ * 구현체(Bean)마다 전용 소비 스레드가 하나씩 있으며, 발행 순서대로 최대 ParticipationEventBus.MAX_BATCH_SIZE 건씩 전달됩니다.
+ * 참여는 이미 커밋되었으므로 예외는 기록만 하고 다음 묶음을 계속 처리합니다.
+ */
+public interface ParticipationEventHandler {
+
+    /**
+     * 광고 참여 묶음을 처리합니다.
+     *
+     * @param events 발행 순서대로 정렬된 광고 참여 목록
+     */
+    void onParticipations(List<ParticipationCompleted> events);
+}
@@ -0,0 +1,122 @@
+package com.backend.advert.domain.advertisementParticipation.repository;
+
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportRow;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipationArchive;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository.UserAdvertisement;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface AdvertisementParticipationArchiveRepository extends JpaRepository<AdvertisementParticipationArchive, UUID> {
+
+    /**
+     * 특정 사용자의 기간 내 보관된 참여 이력을 조회합니다. (종료 시각 미포함)
+     *
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @param pageable 페이지네이션 정보
+     * @return 보관된 참여 이력 목록
+     */
+    @Query("select a from AdvertisementParticipationArchive a " +
+            "where a.userId = :userId and a.participatedAt >= :startDate and a.participatedAt < :endDate")
+    List<AdvertisementParticipationArchive> findByUserIdAndParticipatedAtRange(@Param("userId") UUID userId,
+                                                                              @Param("startDate") LocalDateTime startDate,
+                                                                              @Param("endDate") LocalDateTime endDate,
+                                                                              Pageable pageable);
+
+    /**
+     * 특정 사용자의 기간 내 보관된 참여 이력 수를 조회합니다. (종료 시각 미포함)
+     *
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @return 보관된 참여 이력 수
+     */
+    @Query("select count(a) from AdvertisementParticipationArchive a " +
+            "where a.userId = :userId and a.participatedAt >= :startDate and a.participatedAt < :endDate")
+    long countByUserIdAndParticipatedAtRange(@Param("userId") UUID userId,
+                                             @Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 사용자가 특정 광고에 참여했던 이력이 보관되어 있는지 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @param advertisementId 광고 ID
+     * @return 보관된 참여 이력 존재 여부
+     */
+    boolean existsByUserIdAndAdvertisementId(UUID userId, UUID advertisementId);
+
+    /**
+     * 여러 사용자가 지정한 광고에 참여한 보관된 (사용자 ID, 광고 ID) 쌍을 한 번에 조회합니다. (참여자 인덱스의 음성 확인용)
+     *
+     * @param userIds 사용자 ID 목록
+     * @param advertisementIds 광고 ID 목록
+     * @return 참여한 (사용자 ID, 광고 ID) 목록
+     */
+    @Query("select a.id as id, a.participatedAt as participatedAt, a.userId as userId, a.advertisementId as advertisementId " +
+            "from AdvertisementParticipationArchive a where a.userId in :userIds and a.advertisementId in :advertisementIds")
+    List<UserAdvertisement> findUserAdvertisements(@Param("userIds") Collection<UUID> userIds,
+                                                   @Param("advertisementIds") Collection<UUID> advertisementIds);
+
+    /**
+     * 참여 ID 이후의 보관된 (사용자 ID, 광고 ID) 참여 쌍을 참여 ID 순으로 조회합니다. (참여자 인덱스 재구성용)
+     * 보관 테이블에는 참여 시각 단독 인덱스가 없으므로 기본 키 순으로 읽습니다.
+     *
+     * @param afterId 이전 페이지의 마지막 참여 ID
+     * @param pageable 조회할 개수
+     * @return 참여 ID 순 참여 쌍 목록
+     */
+    @Query("select a.id as id, a.participatedAt as participatedAt, a.userId as userId, a.advertisementId as advertisementId " +
+            "from AdvertisementParticipationArchive a where a.id > :afterId order by a.id")
+    List<UserAdvertisement> findUserAdvertisementsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * 특정 사용자의 기간 내 보관된 참여 이력을 참여 시각 순으로 스트리밍 조회합니다. (내보내기용, 종료 시각 미포함)
+     *
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @return 보관된 참여 이력 스트림
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select new com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportRow(" +
+            "p.advertisementId, a.title, p.userId, a.rewardPoints, p.participatedAt) " +
+            "from AdvertisementParticipationArchive p left join Advertisement a on a.id = p.advertisementId " +
+            "where p.userId = :userId and p.participatedAt >= :startDate and p.participatedAt < :endDate " +
+            "order by p.participatedAt")
+    Stream<ParticipationExportRow> streamByUserId(@Param("userId") UUID userId,
+                                                  @Param("startDate") LocalDateTime startDate,
+                                                  @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 특정 광고의 기간 내 보관된 참여 이력을 참여 시각 순으로 스트리밍 조회합니다. (내보내기용, 종료 시각 미포함)
+     *
+     * @param advertisementId 광고 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @return 보관된 참여 이력 스트림
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select new com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportRow(" +
+            "p.advertisementId, a.title, p.userId, a.rewardPoints, p.participatedAt) " +
+            "from AdvertisementParticipationArchive p left join Advertisement a on a.id = p.advertisementId " +
+            "where p.advertisementId = :advertisementId and p.participatedAt >= :startDate and p.participatedAt < :endDate " +
+            "order by p.participatedAt")
+    Stream<ParticipationExportRow> streamByAdvertisementId(@Param("advertisementId") UUID advertisementId,
+                                                           @Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate);
+}
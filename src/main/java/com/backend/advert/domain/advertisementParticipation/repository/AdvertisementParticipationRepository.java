@@ -1,16 +1,32 @@
 package com.backend.advert.domain.advertisementParticipation.repository;
 
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationEvent;
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportRow;
 import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface AdvertisementParticipationRepository extends JpaRepository<AdvertisementParticipation, UUID> {
 
+    /**
+     * 내보내기 조회 시 한 번에 가져올 행 수
+     */
+    int EXPORT_FETCH_SIZE = 1000;
+
     /**
      * 특정 사용자의 광고 참여 이력을 조회합니다.
      *
@@ -38,6 +54,7 @@ public interface AdvertisementParticipationRepository extends JpaRepository<Adve
 
     /**
      * 특정 사용자의 기간 내 광고 참여 이력을 조회합니다.
+     * 응답에 광고 제목과 보상 포인트가 필요하므로 광고를 함께 조회합니다. (이력마다 광고를 따로 조회하지 않도록)
      *
      * @param userId 사용자 ID
      * @param startDate 조회 시작 날짜
@@ -45,5 +62,142 @@ public interface AdvertisementParticipationRepository extends JpaRepository<Adve
      * @param pageable 페이지네이션 정보
      * @return 광고 참여 이력 페이지
      */
+    @EntityGraph(attributePaths = "advertisement")
     Page<AdvertisementParticipation> findByUserIdAndParticipatedAtBetween(UUID userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    /**
+     * 특정 사용자의 최근 광고 참여 이력을 최신순으로 조회합니다. (최근 참여 이력 캐시 적재용)
+     *
+     * @param userId 사용자 ID
+     * @param pageable 조회할 개수
+     * @return 최신순 광고 참여 이력 리스트
+     */
+    @EntityGraph(attributePaths = "advertisement")
+    List<AdvertisementParticipation> findByUserIdOrderByParticipatedAtDesc(UUID userId, Pageable pageable);
+
+    /**
+     * 특정 사용자가 참여한 광고 ID 목록을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 참여한 광고 ID 목록
+     */
+    @Query("select distinct p.advertisement.id from AdvertisementParticipation p where p.userId = :userId")
+    List<UUID> findAdvertisementIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 여러 사용자가 지정한 광고에 참여한 (사용자 ID, 광고 ID) 쌍을 한 번에 조회합니다. (참여자 인덱스의 음성 확인용)
+     *
+     * @param userIds 사용자 ID 목록
+     * @param advertisementIds 광고 ID 목록
+     * @return 참여한 (사용자 ID, 광고 ID) 목록
+     */
+    @Query("select p.id as id, p.participatedAt as participatedAt, p.userId as userId, p.advertisement.id as advertisementId " +
+            "from AdvertisementParticipation p where p.userId in :userIds and p.advertisement.id in :advertisementIds")
+    List<UserAdvertisement> findUserAdvertisements(@Param("userIds") Collection<UUID> userIds,
+                                                   @Param("advertisementIds") Collection<UUID> advertisementIds);
+
+    /**
+     * (참여 시각, 참여 ID) 이후의 (사용자 ID, 광고 ID) 참여 쌍을 그 순서로 조회합니다. (참여자 인덱스 재구성용)
+     * 마지막으로 읽은 행의 (참여 시각, 참여 ID)를 다음 호출에 넘겨 끝까지 읽습니다.
+     *
+     * @param afterParticipatedAt 이전 페이지의 마지막 참여 시각
+     * @param afterId 이전 페이지의 마지막 참여 ID
+     * @param pageable 조회할 개수
+     * @return (참여 시각, 참여 ID) 순 참여 쌍 목록
+     */
+    @Query("select p.id as id, p.participatedAt as participatedAt, p.userId as userId, p.advertisement.id as advertisementId " +
+            "from AdvertisementParticipation p " +
+            "where p.participatedAt > :afterParticipatedAt " +
+            "or (p.participatedAt = :afterParticipatedAt and p.id > :afterId) " +
+            "order by p.participatedAt, p.id")
+    List<UserAdvertisement> findUserAdvertisementsAfter(@Param("afterParticipatedAt") LocalDateTime afterParticipatedAt,
+                                                        @Param("afterId") UUID afterId,
+                                                        Pageable pageable);
+
+    /**
+     * 여러 사용자의 특정 시각 이후 참여 시각을 한 번에 조회합니다. (자격 규칙 일괄 평가용)
+     *
+     * @param userIds 사용자 ID 목록
+     * @param since 조회 시작 시각
+     * @return (사용자 ID, 참여 시각) 목록
+     */
+    @Query("select p.userId as userId, p.participatedAt as participatedAt from AdvertisementParticipation p " +
+            "where p.userId in :userIds and p.participatedAt > :since")
+    List<UserParticipationTime> findParticipationTimesSince(@Param("userIds") Collection<UUID> userIds,
+                                                            @Param("since") LocalDateTime since);
+
+    interface UserAdvertisement {
+        UUID getId();
+
+        LocalDateTime getParticipatedAt();
+
+        UUID getUserId();
+
+        UUID getAdvertisementId();
+    }
+
+    interface UserParticipationTime {
+        UUID getUserId();
+
+        LocalDateTime getParticipatedAt();
+    }
+
+    /**
+     * 특정 사용자의 기간 내 광고 참여 이력을 참여 시각 순으로 스트리밍 조회합니다. (내보내기용, 종료 시각 미포함)
+     * 전방향 커서로 EXPORT_FETCH_SIZE 행씩 읽으므로 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+     *
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @return 광고 참여 이력 스트림
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select new com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportRow(" +
+            "a.id, a.title, p.userId, a.rewardPoints, p.participatedAt) " +
+            "from AdvertisementParticipation p join p.advertisement a " +
+            "where p.userId = :userId and p.participatedAt >= :startDate and p.participatedAt < :endDate " +
+            "order by p.participatedAt")
+    Stream<ParticipationExportRow> streamByUserId(@Param("userId") UUID userId,
+                                                  @Param("startDate") LocalDateTime startDate,
+                                                  @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 특정 광고의 기간 내 참여 이력을 참여 시각 순으로 스트리밍 조회합니다. (내보내기용, 종료 시각 미포함)
+     *
+     * @param advertisementId 광고 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @return 광고 참여 이력 스트림
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select new com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportRow(" +
+            "a.id, a.title, p.userId, a.rewardPoints, p.participatedAt) " +
+            "from AdvertisementParticipation p join p.advertisement a " +
+            "where a.id = :advertisementId and p.participatedAt >= :startDate and p.participatedAt < :endDate " +
+            "order by p.participatedAt")
+    Stream<ParticipationExportRow> streamByAdvertisementId(@Param("advertisementId") UUID advertisementId,
+                                                           @Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 체크포인트 (참여 시각, 참여 ID) 이후의 참여 이력을 순서대로 조회합니다. (리포트 집계용)
+     * 종료 시각 이전 이력만 조회하여 아직 커밋되지 않았을 수 있는 최근 이력은 다음 집계로 미룹니다.
+     *
+     * @param afterParticipatedAt 마지막으로 집계한 참여 시각
+     * @param afterId 마지막으로 집계한 참여 ID
+     * @param until 조회 종료 시각 (미포함)
+     * @param pageable 조회할 개수
+     * @return (참여 시각, 참여 ID) 순 참여 이력 목록
+     */
+    @Query("select new com.backend.advert.domain.advertisementParticipation.dto.ParticipationEvent(" +
+            "p.id, a.id, p.userId, a.rewardPoints, p.participatedAt) " +
+            "from AdvertisementParticipation p join p.advertisement a " +
+            "where (p.participatedAt > :afterParticipatedAt " +
+            "or (p.participatedAt = :afterParticipatedAt and p.id > :afterId)) " +
+            "and p.participatedAt < :until " +
+            "order by p.participatedAt, p.id")
+    List<ParticipationEvent> findRollupEvents(@Param("afterParticipatedAt") LocalDateTime afterParticipatedAt,
+                                              @Param("afterId") UUID afterId,
+                                              @Param("until") LocalDateTime until,
+                                              Pageable pageable);
 }
@@ -1,18 +1,28 @@
 package com.backend.advert.domain.advertisementParticipation.service;
 
+import com.backend.advert.common.pagination.OffsetPageRequest;
 import com.backend.advert.config.redis.RedisLockService;
 import com.backend.advert.domain.advertisement.entity.Advertisement;
 import com.backend.advert.domain.advertisement.exception.AdvertisementNotFoundException;
 import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import com.backend.advert.domain.advertisement.exception.ParticipationRateLimitedException;
 import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisement.service.AdvertisementPacer;
 import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationRequest;
 import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
 import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipationArchive;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventBus;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
 import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.point.service.PointCreditService;
 import com.backend.advert.common.response.ApiResponse;
-import com.backend.advert.domain.point.service.PointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -20,65 +30,97 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AdvertisementParticipationService {
 
+    static final String STAGE_METRIC = "advertisement.participation.stage";
+
     private final AdvertisementRepository advertisementRepository;
     private final AdvertisementParticipationRepository participationRepository;
+    private final AdvertisementParticipationArchiveRepository archiveRepository;
+    private final ParticipationPartitionManager partitionManager;
     private final RedisLockService redisLockService;
-    private final PointService pointService;
+    private final RecentParticipationCache recentParticipationCache;
+    private final ParticipationEventBus participationEventBus;
+    private final AdvertisementPacer advertisementPacer;
+    private final PointCreditService pointCreditService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 광고 참여를 처리하는 메소드입니다.
      * - 광고 참여 이력을 저장하고, 참여 가능 횟수를 차감합니다.
-     * - 포인트 적립 서버 호출 실패 시 참여는 완료되지만, 포인트 적립 실패 메시지를 반환합니다.
+     * - 포인트 적립 대기 내역을 참여 이력과 같은 트랜잭션에서 저장하고, 적립은 커밋 후 광고 참여 이벤트로 비동기 처리합니다.
+     *   (적립에 실패하거나 이벤트가 유실되어도 대기 내역으로 남아 재시도되므로 참여 결과에 영향 없음)
+     * - 속도 조절 중인 광고는 현재 열린 참여 가능 횟수를 모두 사용했으면 락을 잡기 전에 거절합니다.
+     * - 광고 락은 트랜잭션이 끝난 뒤 해제하여, 다음 요청이 커밋된 남은 참여 가능 횟수와 참여 이력을 보고 검증하게 합니다.
+     * - 락이 만료되더라도 남은 참여 가능 횟수는 조건부 UPDATE 로 차감하므로 최대 참여 가능 횟수를 넘지 않습니다.
+     * - 단계별(pacing, lock, load, validate, save, publish) 소요 시간을 기록합니다. (실패한 단계는 기록하지 않음)
      *
      * @param request 광고 참여 요청 DTO
      * @return 광고 참여 성공 메시지와 함께 `ApiResponse` 객체 반환
      * @throws AdvertisementNotFoundException 광고가 존재하지 않을 경우 발생
      * @throws InvalidAdvertisementException 광고의 참여 가능 횟수가 0 이하일 경우 발생
+     * @throws ParticipationRateLimitedException 속도 조절 중인 광고에 참여 요청이 몰릴 경우 발생
      */
     @Transactional
     public ApiResponse<String> participateInAdvertisement(AdvertisementParticipationRequest request) {
+        Timer.Sample stage = Timer.start(meterRegistry);
+        advertisementPacer.acquire(request.getAdvertisementId());
+        stage = nextStage(stage, "pacing");
+
         String lockKey = "advertisement:" + request.getAdvertisementId();
 
+        // Redis Lock 획득 (획득하지 못하면 다른 요청의 락을 해제하지 않도록 try 밖에서 획득)
+        String lockToken = redisLockService.lock(lockKey);
+        stage = nextStage(stage, "lock");
+
         try {
-            // Redis Lock 획득
-            redisLockService.lock(lockKey);
 
             // 광고 정보 조회
             Advertisement advertisement = advertisementRepository.findById(request.getAdvertisementId())
                     .orElseThrow(() -> new AdvertisementNotFoundException("광고를 찾을 수 없습니다."));
+            stage = nextStage(stage, "load");
 
             // 남은 참여 가능 횟수 확인
             validateAdvertisement(advertisement);
 
             // 참여 이력 검증
             validateParticipationHistory(request.getUserId(), advertisement.getId());
+            validateArchivedParticipationHistory(request.getUserId(), advertisement);
+            stage = nextStage(stage, "validate");
 
             // 참여 이력 저장
             AdvertisementParticipation participation = request.toEntity(advertisement);
             participationRepository.save(participation);
 
-            // 광고 참여 가능 횟수 차감
-            advertisement.decrementParticipationCount();
-
-            // 포인트 적립
-            try {
-                pointService.addPoints(request.getUserId(), advertisement.getRewardPoints());
-            } catch (Exception e) {
-                // 포인트 적립 실패 처리
-                return ApiResponse.success(HttpStatus.OK, "광고 참여는 완료되었으나 포인트 적립에 실패했습니다.", null);
+            // 광고 참여 가능 횟수 차감 (락이 만료되어 다른 요청이 먼저 차감했더라도 0 아래로 내려가지 않음)
+            if (advertisementRepository.decrementRemainingParticipationCount(advertisement.getId(), LocalDateTime.now()) == 0) {
+                throw new InvalidAdvertisementException("남은 참여 가능 횟수가 없습니다.");
             }
+            advertisement.decrementParticipationCount(); // 준영속 엔티티에만 반영 (이벤트 값 계산용)
+
+            // 포인트 적립 대기 내역 저장 (참여와 함께 커밋/롤백)
+            pointCreditService.register(participation.getId(), request.getUserId(), advertisement.getRewardPoints());
+            stage = nextStage(stage, "save");
+
+            // 커밋되면 참여 이벤트 발행 (포인트 적립, 참여자 인덱스, 참여 횟수, 최근 참여 이력 캐시, 광고 참여 통계는 소비 스레드에서 처리)
+            participationEventBus.publishAfterCommit(ParticipationCompleted.of(participation, advertisement));
+            nextStage(stage, "publish");
 
             return ApiResponse.success(HttpStatus.OK, "광고 참여가 완료되었습니다.", null);
 
         } finally {
-            // Redis Lock 해제
-            redisLockService.unlock(lockKey);
+            // Redis Lock 해제 (커밋/롤백 후, 다음 요청이 커밋 전의 남은 참여 가능 횟수를 읽지 않도록)
+            redisLockService.unlockAfterCompletion(lockKey, lockToken);
         }
     }
 
@@ -88,6 +130,8 @@ public class AdvertisementParticipationService {
      * 특정 사용자의 광고 참여 이력을 조회합니다.
      * - 조회 기간 내의 참여 이력을 광고 참여 시각 기준으로 오래된 순으로 정렬하여 반환합니다.
      * - 페이지네이션을 적용하여 최대 50개의 이력을 조회합니다.
+     * - 최근 참여 이력 캐시가 조회 기간을 모두 담고 있으면 캐시에서 응답합니다.
+     * - 참여 시각 범위 조건으로 기간과 겹치는 파티션만 읽으며, 보관 경계 이전 기간이 포함된 경우에만 보관 테이블을 함께 조회합니다.
      *
      * @param userId 사용자 ID
      * @param startDate 조회 시작 날짜 (포함)
@@ -103,14 +147,81 @@ public class AdvertisementParticipationService {
         // 페이지 요청 생성
         PageRequest pageable = PageRequest.of(page, Math.min(size, 50), Sort.by("participatedAt").ascending());
 
-        // 광고 참여 이력 조회
-        Page<AdvertisementParticipation> participations = participationRepository.findByUserIdAndParticipatedAtBetween(userId, startDate, endDate, pageable);
+        // 최근 참여 이력 캐시가 조회 기간을 모두 담고 있으면 DB를 조회하지 않음
+        Optional<List<AdvertisementParticipationResponse>> recent = recentParticipationCache.find(userId, startDate, endDate);
+        if (recent.isPresent()) {
+            return ApiResponse.success(HttpStatus.OK, "광고 참여 이력을 성공적으로 조회했습니다.", toPage(recent.get(), pageable));
+        }
+
+        LocalDateTime archiveBoundary = partitionManager.getArchiveBoundary();
+        if (!startDate.isBefore(archiveBoundary)) {
+            // 보관 경계 이후 기간만 조회 (원본 테이블)
+            Page<AdvertisementParticipation> participations = participationRepository.findByUserIdAndParticipatedAtBetween(userId, startDate, endDate, pageable);
+
+            // 엔티티 -> DTO 매핑
+            Page<AdvertisementParticipationResponse> responsePage =
+                    participations.map(AdvertisementParticipationResponse::fromEntity);
+
+            return ApiResponse.success(HttpStatus.OK, "광고 참여 이력을 성공적으로 조회했습니다.", responsePage);
+        }
+
+        return ApiResponse.success(HttpStatus.OK, "광고 참여 이력을 성공적으로 조회했습니다.",
+                getHistoryIncludingArchive(userId, startDate, endDate, archiveBoundary, pageable));
+    }
+
+    /**
+     * 보관 테이블과 원본 테이블을 이어서 한 페이지로 조회합니다.
+     * 보관된 이력은 모두 원본 테이블의 이력보다 오래되었으므로 보관 이력 뒤에 원본 이력을 붙입니다.
+     */
+    private Page<AdvertisementParticipationResponse> getHistoryIncludingArchive(
+            UUID userId, LocalDateTime startDate, LocalDateTime endDate, LocalDateTime archiveBoundary, PageRequest pageable) {
+
+        LocalDateTime archiveEnd = endDate.isBefore(archiveBoundary) ? endDate.plusNanos(1) : archiveBoundary;
+        long archivedTotal = archiveRepository.countByUserIdAndParticipatedAtRange(userId, startDate, archiveEnd);
+
+        List<AdvertisementParticipationResponse> content = new ArrayList<>();
+        if (pageable.getOffset() < archivedTotal) {
+            List<AdvertisementParticipationArchive> archived = archiveRepository.findByUserIdAndParticipatedAtRange(
+                    userId, startDate, archiveEnd, new OffsetPageRequest(pageable.getOffset(), pageable.getPageSize(), pageable.getSort()));
+            content.addAll(toResponses(archived));
+        }
+
+        int remaining = pageable.getPageSize() - content.size();
+        long liveOffset = Math.max(0, pageable.getOffset() - archivedTotal);
+        Page<AdvertisementParticipation> live = participationRepository.findByUserIdAndParticipatedAtBetween(
+                userId, startDate, endDate, new OffsetPageRequest(liveOffset, Math.max(remaining, 1), pageable.getSort()));
+        if (remaining > 0) {
+            live.forEach(participation -> content.add(AdvertisementParticipationResponse.fromEntity(participation)));
+        }
+
+        return new PageImpl<>(content, pageable, archivedTotal + live.getTotalElements());
+    }
+
+    /**
+     * 진행 중인 단계의 소요 시간을 기록하고 다음 단계의 측정을 시작합니다.
+     */
+    private Timer.Sample nextStage(Timer.Sample sample, String stage) {
+        sample.stop(Timer.builder(STAGE_METRIC)
+                .tag("stage", stage)
+                .register(meterRegistry));
+        return Timer.start(meterRegistry);
+    }
+
+    private static Page<AdvertisementParticipationResponse> toPage(List<AdvertisementParticipationResponse> participations, PageRequest pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), participations.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), participations.size());
+        return new PageImpl<>(participations.subList(fromIndex, toIndex), pageable, participations.size());
+    }
 
-        // 엔티티 -> DTO 매핑
-        Page<AdvertisementParticipationResponse> responsePage =
-                participations.map(AdvertisementParticipationResponse::fromEntity);
+    private List<AdvertisementParticipationResponse> toResponses(List<AdvertisementParticipationArchive> archived) {
+        Map<UUID, Advertisement> advertisements = advertisementRepository
+                .findAllById(archived.stream().map(AdvertisementParticipationArchive::getAdvertisementId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Advertisement::getId, Function.identity()));
 
-        return ApiResponse.success(HttpStatus.OK, "광고 참여 이력을 성공적으로 조회했습니다.", responsePage);
+        return archived.stream()
+                .map(participation -> AdvertisementParticipationResponse.fromArchive(participation, advertisements.get(participation.getAdvertisementId())))
+                .toList();
     }
 
     /**
@@ -134,4 +245,19 @@ public class AdvertisementParticipationService {
             throw new InvalidAdvertisementException("이미 참여한 광고입니다.");
         }
     }
+
+    /**
+     * 보관된 참여 이력 검증 (보관 경계 이전에 등록된 광고만)
+     * @param userId 사용자 ID
+     * @param advertisement 광고 객체
+     */
+    private void validateArchivedParticipationHistory(UUID userId, Advertisement advertisement) {
+        LocalDateTime createdAt = advertisement.getCreatedAt();
+        if (createdAt == null || !createdAt.isBefore(partitionManager.getArchiveBoundary())) {
+            return; // 보관 경계 이후 등록된 광고는 보관된 이력이 있을 수 없음
+        }
+        if (archiveRepository.existsByUserIdAndAdvertisementId(userId, advertisement.getId())) {
+            throw new InvalidAdvertisementException("이미 참여한 광고입니다.");
+        }
+    }
 }
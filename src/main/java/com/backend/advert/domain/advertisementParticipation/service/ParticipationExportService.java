@@ -0,0 +1,134 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportFormat;
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportRow;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 광고 참여 이력 내보내기 서비스입니다.
+ * - 사용자 또는 광고의 전체 참여 이력을 NDJSON/CSV 로 응답 본문에 바로 씁니다.
+ * - 이력은 전방향 커서로 일정 행 수(fetch size)씩 읽으며 엔티티를 만들지 않으므로, 행 수와 무관하게 메모리 사용량이 일정하고
+ *   페이지마다 offset 쿼리를 반복하지 않습니다.
+ *   (MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 읽습니다.)
+ * - 보관 경계 이전 기간이 포함되면 보관 이력을 먼저 쓰고 원본 이력을 이어서 씁니다. (보관 이력이 항상 더 오래됨)
+ * - 두 조회는 하나의 읽기 전용 트랜잭션에서 수행하여 그 사이의 보관 작업으로 행이 누락되거나 중복되지 않게 합니다.
+ */
+@Service
+public class ParticipationExportService {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private final AdvertisementParticipationRepository participationRepository;
+    private final AdvertisementParticipationArchiveRepository archiveRepository;
+    private final ParticipationPartitionManager partitionManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ParticipationExportService(AdvertisementParticipationRepository participationRepository,
+                                      AdvertisementParticipationArchiveRepository archiveRepository,
+                                      ParticipationPartitionManager partitionManager,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.participationRepository = participationRepository;
+        this.archiveRepository = archiveRepository;
+        this.partitionManager = partitionManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 사용자의 기간 내 광고 참여 이력을 내보냅니다.
+     *
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @param format 내보내기 형식
+     * @return 응답 본문에 이력을 쓰는 StreamingResponseBody
+     */
+    public StreamingResponseBody exportUserParticipations(
+            UUID userId, LocalDateTime startDate, LocalDateTime endDate, ParticipationExportFormat format) {
+
+        List<Supplier<Stream<ParticipationExportRow>>> sources = new ArrayList<>();
+        if (startDate.isBefore(partitionManager.getArchiveBoundary())) {
+            sources.add(() -> archiveRepository.streamByUserId(userId, startDate, endDate));
+        }
+        sources.add(() -> participationRepository.streamByUserId(userId, startDate, endDate));
+        return output -> write(output, format, sources);
+    }
+
+    /**
+     * 광고의 기간 내 참여 이력을 내보냅니다.
+     *
+     * @param advertisementId 광고 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @param format 내보내기 형식
+     * @return 응답 본문에 이력을 쓰는 StreamingResponseBody
+     */
+    public StreamingResponseBody exportAdvertisementParticipations(
+            UUID advertisementId, LocalDateTime startDate, LocalDateTime endDate, ParticipationExportFormat format) {
+
+        List<Supplier<Stream<ParticipationExportRow>>> sources = new ArrayList<>();
+        if (startDate.isBefore(partitionManager.getArchiveBoundary())) {
+            sources.add(() -> archiveRepository.streamByAdvertisementId(advertisementId, startDate, endDate));
+        }
+        sources.add(() -> participationRepository.streamByAdvertisementId(advertisementId, startDate, endDate));
+        return output -> write(output, format, sources);
+    }
+
+    /**
+     * 조회 결과를 순서대로 씁니다. 한 번에 하나의 커서만 열어 둡니다.
+     */
+    void write(OutputStream output, ParticipationExportFormat format, List<Supplier<Stream<ParticipationExportRow>>> sources) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (SequenceWriter writer = writerFor(format).writeValues(output)) {
+                for (Supplier<Stream<ParticipationExportRow>> source : sources) {
+                    try (Stream<ParticipationExportRow> rows = source.get()) {
+                        for (ParticipationExportRow row : (Iterable<ParticipationExportRow>) rows::iterator) {
+                            writer.write(row);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등 (커서는 트랜잭션과 함께 정리됨)
+                System.err.printf("광고 참여 이력 내보내기 중단: Error: %s%n", e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private ObjectWriter writerFor(ParticipationExportFormat format) {
+        // 행마다 flush 하지 않고 Jackson/서블릿 버퍼가 찰 때만 내보냄
+        if (format == ParticipationExportFormat.CSV) {
+            return CSV_MAPPER.writer(CSV_MAPPER.schemaFor(ParticipationExportRow.class).withHeader())
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+        return objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+    }
+}
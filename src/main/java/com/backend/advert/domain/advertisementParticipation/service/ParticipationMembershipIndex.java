@@ -0,0 +1,342 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventHandler;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository.UserAdvertisement;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 광고별 참여자 비트맵 인덱스입니다.
+ * - 사용자마다 촘촘한 정수 ID를 부여하고(Redis 해시), 광고별 참여자를 그 정수 위치의 비트로 기록합니다.
+ * - Redis 비트맵이 원본이며, 각 노드는 광고별 RoaringBitmap 을 메모리에 두고 참여 사실(양성)을 바로 판단합니다.
+ * - 메모리에 없는 경우(다른 노드에서 기록된 참여일 수 있음)만 Redis GETBIT 로 확인합니다.
+ * - 비트맵은 참여 이벤트 소비 스레드에서 비동기로 기록되므로 양성만 신뢰합니다.
+ *   비트맵에 없는 조합은 참여 이력/보관 테이블로 확인하고, 확인된 참여는 비트맵에 다시 기록합니다.
+ * - 한 번에 소비한 참여 이벤트들은 사용자 ID 조회 1회 + SETBIT 파이프라인 1회로 기록합니다. (새 사용자만 ID 발급 추가)
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipationMembershipIndex implements ParticipationEventHandler {
+
+    static final String USER_ID_KEY = "participation:user-ids";
+    static final String USER_ID_SEQUENCE_KEY = "participation:user-id-seq";
+    static final String MEMBERS_KEY_PREFIX = "participation:members:";
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final LocalDateTime FIRST_PARTICIPATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID FIRST_PARTICIPATION_ID = new UUID(0, 0);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AdvertisementParticipationRepository participationRepository;
+    private final AdvertisementParticipationArchiveRepository archiveRepository;
+
+    private final Map<UUID, RoaringBitmap> localBitmaps = new ConcurrentHashMap<>();
+
+    /**
+     * 광고 참여를 기록합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @param userId 사용자 ID
+     */
+    public void record(UUID advertisementId, UUID userId) {
+        int denseId = assignDenseId(userId);
+        stringRedisTemplate.opsForValue().setBit(membersKey(advertisementId), denseId, true);
+        addLocal(advertisementId, denseId);
+    }
+
+    /**
+     * 커밋된 광고 참여를 기록합니다. (광고 참여 이벤트 소비 스레드에서 호출)
+     *
+     * @param events 광고 참여 목록
+     */
+    @Override
+    public void onParticipations(List<ParticipationCompleted> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            Map<UUID, Integer> denseIds = new HashMap<>(findDenseIds(events.stream().map(ParticipationCompleted::userId).toList()));
+            for (ParticipationCompleted event : events) {
+                denseIds.computeIfAbsent(event.userId(), this::assignDenseId);
+            }
+
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ParticipationCompleted event : events) {
+                    connection.stringCommands().setBit(rawMembersKey(event.advertisementId()), denseIds.get(event.userId()), true);
+                }
+                return null;
+            });
+            events.forEach(event -> addLocal(event.advertisementId(), denseIds.get(event.userId())));
+        } catch (Exception e) {
+            // 참여는 이미 커밋되었으므로 요청은 실패시키지 않음 (재구성 시 복구)
+            System.err.printf("참여자 인덱스 기록 실패: %d건, Error: %s%n", events.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자가 광고에 참여했는지 확인합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @param userId 사용자 ID
+     * @return 참여했으면 true
+     */
+    public boolean hasJoined(UUID advertisementId, UUID userId) {
+        return findJoined(List.of(userId), List.of(advertisementId)).containsKey(userId);
+    }
+
+    /**
+     * 여러 사용자가 지정한 광고 중 어느 광고에 참여했는지 한 번에 확인합니다.
+     * (사용자 ID 조회 1회 + 메모리에 없는 조합에 대한 GETBIT 파이프라인 1회 + 비트맵에 없는 조합에 대한 DB 확인)
+     *
+     * @param userIds 사용자 ID 목록
+     * @param advertisementIds 광고 ID 목록
+     * @return 사용자 ID별 참여한 광고 ID (참여한 광고가 없는 사용자는 포함하지 않음)
+     */
+    public Map<UUID, Set<UUID>> findJoined(Collection<UUID> userIds, Collection<UUID> advertisementIds) {
+        Map<UUID, Set<UUID>> joined = new HashMap<>();
+        if (userIds.isEmpty() || advertisementIds.isEmpty()) {
+            return joined;
+        }
+
+        Map<UUID, Integer> denseIds = findDenseIds(userIds);
+
+        // 메모리 비트맵으로 양성 판단, 나머지는 Redis 에서 확인 (ID가 없는 사용자들뿐이면 비트맵을 읽지 않음)
+        List<UUID> pendingAdvertisements = new ArrayList<>();
+        List<UUID> pendingUsers = new ArrayList<>();
+        for (UUID advertisementId : denseIds.isEmpty() ? List.<UUID>of() : advertisementIds) {
+            RoaringBitmap bitmap = localBitmap(advertisementId);
+            synchronized (bitmap) {
+                denseIds.forEach((userId, denseId) -> {
+                    if (bitmap.contains(denseId)) {
+                        joined.computeIfAbsent(userId, key -> new HashSet<>()).add(advertisementId);
+                    } else {
+                        pendingAdvertisements.add(advertisementId);
+                        pendingUsers.add(userId);
+                    }
+                });
+            }
+        }
+
+        if (!pendingUsers.isEmpty()) {
+            List<Object> bits = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < pendingUsers.size(); i++) {
+                    connection.stringCommands().getBit(rawMembersKey(pendingAdvertisements.get(i)), denseIds.get(pendingUsers.get(i)));
+                }
+                return null;
+            });
+            for (int i = 0; i < bits.size(); i++) {
+                if (Boolean.TRUE.equals(bits.get(i))) {
+                    UUID advertisementId = pendingAdvertisements.get(i);
+                    UUID userId = pendingUsers.get(i);
+                    joined.computeIfAbsent(userId, key -> new HashSet<>()).add(advertisementId);
+
+                    RoaringBitmap bitmap = localBitmap(advertisementId);
+                    synchronized (bitmap) {
+                        bitmap.add(denseIds.get(userId));
+                    }
+                }
+            }
+        }
+
+        // 비트맵에 없는 조합은 아직 기록되지 않았거나 기록에 실패한 참여일 수 있으므로 DB 로 확인
+        List<UUID> unconfirmedUsers = userIds.stream()
+                .distinct()
+                .filter(userId -> joined.getOrDefault(userId, Set.of()).size() < advertisementIds.size())
+                .toList();
+        if (!unconfirmedUsers.isEmpty()) {
+            confirmFromDatabase(unconfirmedUsers, advertisementIds, joined);
+        }
+        return joined;
+    }
+
+    /**
+     * 비트맵에 없던 참여를 참여 이력/보관 테이블에서 찾아 결과에 더하고, 찾은 참여는 비트맵에 다시 기록합니다.
+     */
+    private void confirmFromDatabase(Collection<UUID> userIds, Collection<UUID> advertisementIds, Map<UUID, Set<UUID>> joined) {
+        List<UserAdvertisement> missing = new ArrayList<>();
+        List<UserAdvertisement> found = new ArrayList<>(participationRepository.findUserAdvertisements(userIds, advertisementIds));
+        found.addAll(archiveRepository.findUserAdvertisements(userIds, advertisementIds));
+        for (UserAdvertisement participation : found) {
+            if (joined.computeIfAbsent(participation.getUserId(), key -> new HashSet<>()).add(participation.getAdvertisementId())) {
+                missing.add(participation);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            recordAll(missing);
+        } catch (Exception e) {
+            // 조회 결과는 이미 확인되었으므로 다음 조회 때 다시 기록
+            System.err.printf("참여자 인덱스 보정 실패: %d건, Error: %s%n", missing.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 참여 이력 테이블과 보관 테이블로 인덱스를 다시 구성합니다.
+     * 두 테이블을 키셋 페이지(원본은 (참여 시각, 참여 ID) 순, 보관 테이블은 참여 ID 순)로 읽어
+     * 페이지마다 사용자 ID 일괄 조회 1회 + SETBIT 파이프라인 1회로 기록하므로, 전체 이력을 메모리에 올리지 않습니다.
+     * 재구성 중에 보관으로 옮겨진 이력도 빠지지 않도록 원본을 먼저 읽고 보관 테이블을 나중에 읽습니다.
+     */
+    public void rebuild() {
+        LocalDateTime lastParticipatedAt = FIRST_PARTICIPATED_AT;
+        UUID lastParticipationId = FIRST_PARTICIPATION_ID;
+        List<UserAdvertisement> page;
+        do {
+            page = participationRepository.findUserAdvertisementsAfter(
+                    lastParticipatedAt, lastParticipationId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            recordAll(page);
+            UserAdvertisement last = page.get(page.size() - 1);
+            lastParticipatedAt = last.getParticipatedAt();
+            lastParticipationId = last.getId();
+        } while (page.size() == REBUILD_BATCH_SIZE);
+
+        UUID lastArchivedId = FIRST_PARTICIPATION_ID;
+        do {
+            page = archiveRepository.findUserAdvertisementsAfter(lastArchivedId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            recordAll(page);
+            lastArchivedId = page.get(page.size() - 1).getId();
+        } while (page.size() == REBUILD_BATCH_SIZE);
+        localBitmaps.clear();
+    }
+
+    private void recordAll(List<UserAdvertisement> participations) {
+        Map<UUID, Integer> denseIds = new HashMap<>(findDenseIds(participations.stream().map(UserAdvertisement::getUserId).toList()));
+        participations.forEach(participation -> denseIds.computeIfAbsent(participation.getUserId(), this::assignDenseId));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UserAdvertisement participation : participations) {
+                connection.stringCommands().setBit(rawMembersKey(participation.getAdvertisementId()), denseIds.get(participation.getUserId()), true);
+            }
+            return null;
+        });
+        participations.forEach(participation -> addLocal(participation.getAdvertisementId(), denseIds.get(participation.getUserId())));
+    }
+
+    /**
+     * 애플리케이션 시작 시 인덱스가 없고 참여 이력이 있으면 다시 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(USER_ID_SEQUENCE_KEY)) && participationRepository.count() > 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            System.err.printf("참여자 인덱스 초기화 실패: %s%n", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자에게 촘촘한 정수 ID를 부여합니다. 이미 있으면 기존 ID를 반환합니다.
+     */
+    private int assignDenseId(UUID userId) {
+        String field = userId.toString();
+        Object existing = stringRedisTemplate.opsForHash().get(USER_ID_KEY, field);
+        if (existing != null) {
+            return Integer.parseInt(existing.toString());
+        }
+
+        Long next = stringRedisTemplate.opsForValue().increment(USER_ID_SEQUENCE_KEY);
+        if (next == null || next > Integer.MAX_VALUE) {
+            throw new IllegalStateException("참여자 ID를 발급할 수 없습니다.");
+        }
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForHash().putIfAbsent(USER_ID_KEY, field, next.toString()))) {
+            return next.intValue();
+        }
+        // 다른 요청이 먼저 발급함 (발급한 번호는 버림)
+        return Integer.parseInt(String.valueOf(stringRedisTemplate.opsForHash().get(USER_ID_KEY, field)));
+    }
+
+    private void addLocal(UUID advertisementId, int denseId) {
+        RoaringBitmap bitmap = localBitmaps.get(advertisementId);
+        if (bitmap != null) {
+            synchronized (bitmap) {
+                bitmap.add(denseId);
+            }
+        }
+    }
+
+    private Map<UUID, Integer> findDenseIds(Collection<UUID> userIds) {
+        List<UUID> orderedIds = new ArrayList<>(new HashSet<>(userIds));
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(USER_ID_KEY, orderedIds.stream().map(id -> (Object) id.toString()).toList());
+
+        Map<UUID, Integer> denseIds = new HashMap<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                denseIds.put(orderedIds.get(i), Integer.parseInt(value.toString()));
+            }
+        }
+        return denseIds;
+    }
+
+    /**
+     * 광고의 메모리 비트맵을 조회합니다. 없으면 Redis 비트맵 전체를 읽어 만듭니다.
+     */
+    private RoaringBitmap localBitmap(UUID advertisementId) {
+        return localBitmaps.computeIfAbsent(advertisementId, id -> {
+            byte[] raw = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawMembersKey(id)));
+            return toRoaringBitmap(raw);
+        });
+    }
+
+    /**
+     * Redis 비트맵(바이트 내 상위 비트부터 offset 0)을 RoaringBitmap 으로 변환합니다.
+     */
+    static RoaringBitmap toRoaringBitmap(byte[] raw) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (raw == null) {
+            return bitmap;
+        }
+        for (int byteIndex = 0; byteIndex < raw.length; byteIndex++) {
+            int value = raw[byteIndex] & 0xFF;
+            if (value == 0) {
+                continue;
+            }
+            for (int bit = 0; bit < 8; bit++) {
+                if ((value & (0x80 >>> bit)) != 0) {
+                    bitmap.add(byteIndex * 8 + bit);
+                }
+            }
+        }
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    private static String membersKey(UUID advertisementId) {
+        return MEMBERS_KEY_PREFIX + advertisementId;
+    }
+
+    private static byte[] rawMembersKey(UUID advertisementId) {
+        return membersKey(advertisementId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,241 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.config.redis.RedisLockService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 광고 참여 이력 테이블의 월 단위 파티션과 보관(archive)을 관리합니다.
+ * - MySQL 에서 테이블이 participated_at 기준 RANGE 파티션으로 구성되어 있으면 마지막 월 파티션 이후 달부터
+ *   몇 달 뒤까지 월 파티션을 만들고, 상한이 보관 경계 이하인 파티션은 이름과 관계없이 보관 테이블로 옮긴 뒤 파티션째 삭제합니다.
+ *   경계에 걸친 파티션에 남은 경계 이전 행은 청크 단위로 옮겨, 원본에는 항상 경계 이후 이력만 남습니다.
+ *   (파티션 전환 스크립트: resources/db/mysql/advertisement_participations_partitioning.sql)
+ * - 파티션이 없는 환경(H2 등)에서는 보관 기간이 지난 행을 보관 테이블로 옮기고 삭제합니다.
+ * 이력 조회는 participated_at 범위 조건으로 겹치는 파티션만 읽으며, 보관 경계 이전 구간만 보관 테이블을 함께 읽습니다.
+ */
+@Component
+public class ParticipationPartitionManager {
+
+    static final String TABLE = "advertisement_participations";
+    static final String ARCHIVE_TABLE = "advertisement_participation_archives";
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final int PREPARED_MONTHS = 3;
+    private static final String LOCK_KEY = "participation:partition-maintenance";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private static final String ARCHIVE_COLUMNS = "id, advertisement_id, user_id, participated_at";
+    static final int CHUNK_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLockService redisLockService;
+    private final int retentionMonths;
+
+    private volatile Boolean mysql;
+
+    public ParticipationPartitionManager(JdbcTemplate jdbcTemplate,
+                                         TransactionTemplate transactionTemplate,
+                                         RedisLockService redisLockService,
+                                         @Value("${advertisement.participation.retention-months:12}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.redisLockService = redisLockService;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * 파티션을 준비하고 보관 기간이 지난 이력을 옮깁니다. (매일 03:30, 한 노드에서만 실행)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void maintain() {
+        String lockToken = redisLockService.tryLock(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            return; // 다른 노드에서 실행 중
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            preparePartitions(today);
+            int archived = archive(today);
+            System.out.printf("광고 참여 이력 보관 완료: %d건 (기준 %s)%n", archived, getArchiveBoundary(today));
+        } catch (Exception e) {
+            System.err.printf("광고 참여 이력 파티션 관리 실패: %s%n", e.getMessage());
+        } finally {
+            redisLockService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    /**
+     * 현재 보관 경계를 반환합니다. 이 시각 이전의 이력은 보관 테이블에 있을 수 있습니다.
+     *
+     * @return 보관 경계 (보관 기간 이전 달의 1일 0시)
+     */
+    public LocalDateTime getArchiveBoundary() {
+        return getArchiveBoundary(LocalDate.now());
+    }
+
+    LocalDateTime getArchiveBoundary(LocalDate today) {
+        return today.withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay();
+    }
+
+    /**
+     * 마지막 월 파티션 이후 달부터 앞으로 몇 달까지의 파티션을 한 번에 만듭니다. (파티션 테이블인 경우만)
+     * 한동안 실행되지 않아 p_future 에 여러 달의 이력이 쌓였어도 달마다 파티션이 나뉘도록 빈 달을 모두 채웁니다.
+     */
+    void preparePartitions(LocalDate today) {
+        List<Partition> partitions = findPartitions();
+        if (partitions.stream().noneMatch(partition -> FUTURE_PARTITION.equals(partition.name()))) {
+            return;
+        }
+
+        YearMonth last = YearMonth.from(today).plusMonths(PREPARED_MONTHS);
+        YearMonth first = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .map(YearMonth::from)
+                .orElseGet(() -> findOldestMonth(today));
+        if (first.isAfter(last)) {
+            return;
+        }
+
+        StringBuilder definitions = new StringBuilder();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            definitions.append("PARTITION ").append(month.format(PARTITION_NAME_FORMAT))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("'), ");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                + definitions + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    /**
+     * 월 파티션이 하나도 없을 때 파티션을 시작할 달을 찾습니다. (가장 오래된 이력의 달, 이력이 없으면 이번 달)
+     */
+    private YearMonth findOldestMonth(LocalDate today) {
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(participated_at) FROM " + TABLE, LocalDateTime.class);
+        return YearMonth.from(oldest == null ? today : oldest);
+    }
+
+    /**
+     * 보관 기간이 지난 이력을 보관 테이블로 옮깁니다.
+     *
+     * @return 옮긴 이력 수
+     */
+    int archive(LocalDate today) {
+        LocalDateTime boundary = getArchiveBoundary(today);
+        int archived = 0;
+        for (Partition partition : findPartitions()) {
+            if (partition.upperBound() != null && !partition.upperBound().atStartOfDay().isAfter(boundary)) {
+                archived += archivePartition(partition.name());
+            }
+        }
+        // 파티션이 없거나 경계에 걸친 파티션이 있으면 남은 경계 이전 행을 옮김 (파티션 프루닝으로 해당 파티션만 읽음)
+        return archived + archiveRows(boundary);
+    }
+
+    /**
+     * 파티션 하나를 보관 테이블로 복사한 뒤 파티션을 삭제합니다.
+     * 복사 후 삭제 전에 실패해도 다시 실행하면 이어서 처리되도록 중복 행은 무시합니다.
+     */
+    private int archivePartition(String name) {
+        int copied = jdbcTemplate.update("INSERT IGNORE INTO " + ARCHIVE_TABLE + " (" + ARCHIVE_COLUMNS + ") "
+                + "SELECT " + ARCHIVE_COLUMNS + " FROM " + TABLE + " PARTITION (" + name + ")");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+        return copied;
+    }
+
+    /**
+     * 경계 이전 행을 (participated_at, id) 순으로 CHUNK_SIZE 건씩 읽어 청크마다 한 트랜잭션으로 옮깁니다.
+     * 옮긴 행은 삭제되므로 마지막으로 읽은 참여 시각부터 다시 읽으며, 중간에 실패해도 다시 실행하면 이어서 처리되도록 중복 행은 무시합니다.
+     */
+    private int archiveRows(LocalDateTime boundary) {
+        int total = 0;
+        LocalDateTime from = LocalDateTime.of(1970, 1, 1, 0, 0);
+        while (true) {
+            List<ArchiveKey> keys = jdbcTemplate.query(
+                    "SELECT id, participated_at FROM " + TABLE + " WHERE participated_at >= ? AND participated_at < ? "
+                            + "ORDER BY participated_at, id LIMIT " + CHUNK_SIZE,
+                    (rs, rowNum) -> new ArchiveKey(rs.getObject(1), rs.getObject(2, LocalDateTime.class)),
+                    from, boundary);
+            if (keys.isEmpty()) {
+                return total;
+            }
+
+            Object[] ids = keys.stream().map(ArchiveKey::id).toArray();
+            Integer archived = transactionTemplate.execute(status -> archiveChunk(ids));
+            total += archived == null ? 0 : archived;
+            if (keys.size() < CHUNK_SIZE) {
+                return total;
+            }
+            from = keys.get(keys.size() - 1).participatedAt();
+        }
+    }
+
+    private int archiveChunk(Object[] ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+        String copy = isMySql()
+                ? "INSERT IGNORE INTO " + ARCHIVE_TABLE + " (" + ARCHIVE_COLUMNS + ") "
+                        + "SELECT " + ARCHIVE_COLUMNS + " FROM " + TABLE + " WHERE id IN (" + placeholders + ")"
+                : "INSERT INTO " + ARCHIVE_TABLE + " (" + ARCHIVE_COLUMNS + ") "
+                        + "SELECT " + ARCHIVE_COLUMNS + " FROM " + TABLE + " p WHERE id IN (" + placeholders + ") "
+                        + "AND NOT EXISTS (SELECT 1 FROM " + ARCHIVE_TABLE + " a WHERE a.id = p.id)";
+        jdbcTemplate.update(copy, ids);
+        return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE id IN (" + placeholders + ")", ids);
+    }
+
+    private List<Partition> findPartitions() {
+        if (!isMySql()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "SELECT partition_name, partition_description FROM information_schema.partitions "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL "
+                        + "ORDER BY partition_ordinal_position",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseUpperBound(rs.getString(2))),
+                TABLE);
+    }
+
+    /**
+     * RANGE COLUMNS 파티션 상한('2024-02-01' 또는 '2024-02-01 00:00:00')을 날짜로 바꿉니다. MAXVALUE 는 null 입니다.
+     */
+    static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").trim().substring(0, 10));
+    }
+
+    private boolean isMySql() {
+        Boolean current = mysql;
+        if (current == null) {
+            current = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql"));
+            mysql = current;
+        }
+        return Boolean.TRUE.equals(current);
+    }
+
+    record Partition(String name, LocalDate upperBound) {
+    }
+
+    record ArchiveKey(Object id, LocalDateTime participatedAt) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.common.cache.CacheMetrics;
+import com.backend.advert.config.redis.RedisScriptPipeline;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventHandler;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 사용자별 최근 광고 참여 이력 캐시입니다.
+ * - 사용자마다 가장 최근 참여 CAPACITY 건을 참여 시각을 점수로 하는 Redis 정렬 집합에 두고, 참여가 커밋될 때마다 추가한 뒤 오래된 것부터 잘라냅니다.
+ * - 캐시가 빠짐없이 담고 있는 구간(covered)을 함께 기록하여, 조회 기간이 그 구간 안이면 DB를 조회하지 않고 응답합니다.
+ *   (CAPACITY 건이 모두 찼으면 가장 오래된 항목 이후, 덜 찼으면 적재 시점의 보관 경계 이후)
+ * - 캐시가 없으면 DB에서 최근 CAPACITY 건을 읽어 적재합니다. 적재 중에 커밋된 참여가 빠지지 않도록 버전이 바뀌었으면 적재하지 않습니다.
+ * - 한 번에 소비한 참여 이벤트들은 한 번의 파이프라인으로 추가합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentParticipationCache implements ParticipationEventHandler {
+
+    static final String KEY_PREFIX = "participation:recent:";
+    static final int CAPACITY = 100;
+
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private static final String CACHE_NAME = "participation:recent";
+
+    private static final String HIT = "hit";
+    private static final String MISSING = "missing";
+
+    /**
+     * 조회 기간이 캐시 구간 안이면 "hit" 과 기간 내 항목을, 캐시가 없으면 "missing" 과 현재 버전을, 구간 밖이면 "partial" 을 반환합니다.
+     * KEYS: 정렬 집합, 구간 시작, 버전 / ARGV: CAPACITY, 조회 시작 점수, 조회 종료 점수
+     */
+    private static final RedisScript<List<String>> READ_SCRIPT = listScript(
+            "local since = redis.call('GET', KEYS[2]) " +
+                    "if not since then return {'missing', redis.call('GET', KEYS[3]) or '0'} end " +
+                    "local count = redis.call('ZCARD', KEYS[1]) " +
+                    "local covered " +
+                    "if count >= tonumber(ARGV[1]) then " +
+                    "  local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+                    "  covered = tonumber(ARGV[2]) > tonumber(oldest[2]) " +
+                    "else " +
+                    "  covered = tonumber(ARGV[2]) >= tonumber(since) " +
+                    "end " +
+                    "if not covered then return {'partial'} end " +
+                    "local rows = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[2], ARGV[3]) " +
+                    "table.insert(rows, 1, 'hit') " +
+                    "return rows");
+
+    /**
+     * 버전을 올리고, 캐시가 있으면 항목을 추가한 뒤 CAPACITY 건만 남깁니다.
+     * KEYS: 정렬 집합, 구간 시작, 버전 / ARGV: 점수, 항목, CAPACITY, TTL(초)
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[3]) " +
+                    "redis.call('EXPIRE', KEYS[3], ARGV[4]) " +
+                    "if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end " +
+                    "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+                    "return 1",
+            Long.class);
+
+    /**
+     * 버전이 읽은 시점과 같을 때만 캐시를 적재합니다.
+     * KEYS: 정렬 집합, 구간 시작, 버전 / ARGV: 읽은 버전, 구간 시작 점수, TTL(초), (점수, 항목)...
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[3]) or '0') ~= ARGV[1] then return 0 end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "for i = 4, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "if #ARGV >= 4 then redis.call('EXPIRE', KEYS[1], ARGV[3]) end " +
+                    "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AdvertisementParticipationRepository participationRepository;
+    private final ParticipationPartitionManager partitionManager;
+    private final CacheMetrics cacheMetrics;
+    private final RedisScriptPipeline redisScriptPipeline;
+
+    /**
+     * 기간 내 참여 이력을 캐시에서 조회합니다. 캐시가 없으면 DB에서 최근 이력을 적재한 뒤 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (포함)
+     * @return 참여 시각 오름차순 이력 (캐시 구간을 벗어나면 Optional.empty())
+     */
+    public Optional<List<AdvertisementParticipationResponse>> find(UUID userId, LocalDateTime startDate, LocalDateTime endDate) {
+        try {
+            List<String> result = read(userId, startDate, endDate);
+            boolean hit = HIT.equals(result.get(0));
+            if (MISSING.equals(result.get(0))) {
+                seed(userId, result.get(1));
+                result = read(userId, startDate, endDate);
+            }
+            if (hit) {
+                cacheMetrics.hit(CACHE_NAME);
+            } else {
+                cacheMetrics.miss(CACHE_NAME);
+            }
+            if (!HIT.equals(result.get(0))) {
+                return Optional.empty();
+            }
+
+            List<AdvertisementParticipationResponse> participations = new ArrayList<>(result.size() - 1);
+            for (String value : result.subList(1, result.size())) {
+                participations.add(objectMapper.readValue(value, AdvertisementParticipationResponse.class));
+            }
+            return Optional.of(participations);
+        } catch (Exception e) {
+            // 캐시 장애 시 DB 조회
+            System.err.printf("최근 참여 이력 캐시 조회 실패: 사용자 %s, Error: %s%n", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 커밋된 참여 이력을 캐시에 추가합니다. (광고 참여 이벤트 소비 스레드에서 호출, 파이프라인 1회)
+     *
+     * @param events 광고 참여 목록
+     */
+    @Override
+    public void onParticipations(List<ParticipationCompleted> events) {
+        append(events.stream().map(ParticipationCompleted::toResponse).toList());
+    }
+
+    void append(List<AdvertisementParticipationResponse> participations) {
+        List<RedisScriptPipeline.Call> calls = new ArrayList<>(participations.size());
+        LinkedHashSet<UUID> userIds = new LinkedHashSet<>();
+        for (AdvertisementParticipationResponse participation : participations) {
+            UUID userId = participation.getUserId();
+            try {
+                calls.add(RedisScriptPipeline.Call.of(APPEND_SCRIPT, keys(userId),
+                        score(participation.getParticipationTime()), objectMapper.writeValueAsString(participation),
+                        String.valueOf(CAPACITY), String.valueOf(TTL.toSeconds())));
+                userIds.add(userId);
+            } catch (JsonProcessingException e) {
+                System.err.printf("최근 참여 이력 캐시 추가 실패: 사용자 %s, Error: %s%n", userId, e.getMessage());
+                evict(userId);
+            }
+        }
+
+        try {
+            redisScriptPipeline.execute(calls);
+        } catch (Exception e) {
+            // 빠진 이력이 캐시에서 응답되지 않도록 캐시를 버림 (다음 조회 시 다시 적재)
+            System.err.printf("최근 참여 이력 캐시 추가 실패: 사용자 %d명, Error: %s%n", userIds.size(), e.getMessage());
+            userIds.forEach(this::evict);
+        }
+    }
+
+    private List<String> read(UUID userId, LocalDateTime startDate, LocalDateTime endDate) {
+        List<String> result = stringRedisTemplate.execute(READ_SCRIPT, keys(userId),
+                String.valueOf(CAPACITY), score(startDate), score(endDate));
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("최근 참여 이력 캐시 응답이 없습니다.");
+        }
+        return result;
+    }
+
+    private void seed(UUID userId, String version) throws JsonProcessingException {
+        List<AdvertisementParticipation> recent = participationRepository.findByUserIdOrderByParticipatedAtDesc(
+                userId, PageRequest.of(0, CAPACITY));
+
+        // 덜 찼으면 보관 경계 이후의 이력은 모두 담고 있음 (경계 이전 이력은 보관 테이블에 있을 수 있음)
+        String since = recent.size() < CAPACITY
+                ? score(partitionManager.getArchiveBoundary())
+                : score(recent.get(recent.size() - 1).getParticipatedAt());
+
+        List<String> args = new ArrayList<>(3 + recent.size() * 2);
+        args.add(version);
+        args.add(since);
+        args.add(String.valueOf(TTL.toSeconds()));
+        for (AdvertisementParticipation participation : recent) {
+            args.add(score(participation.getParticipatedAt()));
+            args.add(objectMapper.writeValueAsString(AdvertisementParticipationResponse.fromEntity(participation)));
+        }
+        stringRedisTemplate.execute(SEED_SCRIPT, keys(userId), args.toArray());
+    }
+
+    private void evict(UUID userId) {
+        try {
+            stringRedisTemplate.delete(keys(userId).subList(0, 2));
+        } catch (Exception e) {
+            System.err.printf("최근 참여 이력 캐시 삭제 실패: 사용자 %s, Error: %s%n", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 값을 반환하는 스크립트를 List 결과 타입으로 만듭니다. (List.class 는 원시 타입이라 한 번만 변환)
+     */
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<String>> listScript(String source) {
+        DefaultRedisScript<List<String>> script = new DefaultRedisScript<>(source);
+        script.setResultType((Class<List<String>>) (Class<?>) List.class);
+        return script;
+    }
+
+    private static List<String> keys(UUID userId) {
+        String key = KEY_PREFIX + userId;
+        return List.of(key, key + ":since", key + ":version");
+    }
+
+    /**
+     * 참여 시각을 정렬 점수(밀리초)로 변환합니다.
+     */
+    static String score(LocalDateTime dateTime) {
+        return String.valueOf(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+}
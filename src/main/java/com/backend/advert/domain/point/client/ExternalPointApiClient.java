@@ -12,12 +12,13 @@ public class ExternalPointApiClient {
      * 외부 API 호출 로직
      * @param userId 사용자 ID
      * @param points 적립 포인트
+     * @param idempotencyKey 멱등 키 (같은 키의 요청은 한 번만 적립)
      * @throws ExternalApiException 외부 API 호출 실패 시 예외 발생
      */
-    public void addPoints(UUID userId, int points) {
+    public void addPoints(UUID userId, int points, UUID idempotencyKey) {
         try {
             // Mock 호출
-            System.out.printf("External API 호출: User %s에게 %d 포인트 요청%n", userId, points);
+            System.out.printf("External API 호출: User %s에게 %d 포인트 요청 (Idempotency-Key %s)%n", userId, points, idempotencyKey);
         } catch (Exception e) {
             throw new ExternalApiException("외부 포인트 API 호출 실패");
         }
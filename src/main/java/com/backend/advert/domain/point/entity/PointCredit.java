@@ -0,0 +1,66 @@
+package com.backend.advert.domain.point.entity;
+
+import com.backend.advert.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 광고 참여 한 건의 포인트 적립 내역(outbox).
+ * 참여 이력과 같은 트랜잭션에서 적립 대기로 저장되므로, 커밋된 참여는 적립이 끝날 때까지 이 행으로 남습니다.
+ * 참여 ID 를 외부 포인트 API 의 멱등 키로 사용하여, 재시도해도 한 참여의 포인트가 두 번 적립되지 않습니다.
+ */
+@Entity
+@Getter
+@Table(name = "point_credits",
+        indexes = @Index(name = "idx_point_credits_status_next_attempt_at", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointCredit extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "participation_id", nullable = false)
+    @Comment("광고 참여 ID (멱등 키)")
+    private UUID participationId;
+
+    @Column(name = "user_id", nullable = false)
+    @Comment("사용자 ID")
+    private UUID userId;
+
+    @Column(name = "points", nullable = false)
+    @Comment("적립 포인트")
+    private int points;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Comment("적립 상태")
+    private PointCreditStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    @Comment("실패한 적립 시도 횟수")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Comment("재시도 작업이 적립을 시도할 시각")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "credited_at")
+    @Comment("적립 완료 시각")
+    private LocalDateTime creditedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version; // 새 행 판별 (저장 전 조회 없이 INSERT)
+
+    public PointCredit(UUID participationId, UUID userId, int points, LocalDateTime nextAttemptAt) {
+        this.participationId = participationId;
+        this.userId = userId;
+        this.points = points;
+        this.status = PointCreditStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.backend.advert.domain.point.entity;
+
+/**
+ * 포인트 적립 상태.
+ */
+public enum PointCreditStatus {
+    PENDING,  // 적립 대기 (실패 시 재시도)
+    CREDITED  // 적립 완료
+}
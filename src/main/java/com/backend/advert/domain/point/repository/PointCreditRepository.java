@@ -0,0 +1,56 @@
+package com.backend.advert.domain.point.repository;
+
+import com.backend.advert.domain.point.entity.PointCredit;
+import com.backend.advert.domain.point.entity.PointCreditStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PointCreditRepository extends JpaRepository<PointCredit, UUID> {
+
+    /**
+     * 재시도 시각이 지난 적립 대기 내역을 재시도 시각 순으로 조회합니다.
+     *
+     * @param status 적립 상태 (PENDING)
+     * @param now 현재 시각
+     * @param pageable 조회할 개수
+     * @return 적립 대기 내역 목록
+     */
+    List<PointCredit> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(PointCreditStatus status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * 적립 대기 내역을 적립 완료로 바꿉니다.
+     *
+     * @param participationId 광고 참여 ID
+     * @param creditedAt 적립 완료 시각
+     * @return 변경된 행 수 (이미 적립 완료였으면 0)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PointCredit c set c.status = com.backend.advert.domain.point.entity.PointCreditStatus.CREDITED, " +
+            "c.creditedAt = :creditedAt, c.version = c.version + 1 " +
+            "where c.participationId = :participationId " +
+            "and c.status = com.backend.advert.domain.point.entity.PointCreditStatus.PENDING")
+    int markCredited(@Param("participationId") UUID participationId, @Param("creditedAt") LocalDateTime creditedAt);
+
+    /**
+     * 적립에 실패한 내역의 시도 횟수를 늘리고 다음 재시도 시각을 정합니다.
+     *
+     * @param participationId 광고 참여 ID
+     * @param nextAttemptAt 다음 재시도 시각
+     * @return 변경된 행 수 (이미 적립 완료였으면 0)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PointCredit c set c.attempts = c.attempts + 1, c.nextAttemptAt = :nextAttemptAt, c.version = c.version + 1 " +
+            "where c.participationId = :participationId " +
+            "and c.status = com.backend.advert.domain.point.entity.PointCreditStatus.PENDING")
+    int markFailed(@Param("participationId") UUID participationId, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
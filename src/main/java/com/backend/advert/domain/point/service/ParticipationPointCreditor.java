@@ -0,0 +1,26 @@
+package com.backend.advert.domain.point.service;
+
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 커밋된 광고 참여의 보상 포인트를 적립합니다. (광고 참여 이벤트 소비 스레드에서 호출)
+ * 참여 한 건마다 참여 ID 를 멱등 키로 적립하며, 실패한 참여는 적립 대기 내역으로 남아 PointCreditService 가 재시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipationPointCreditor implements ParticipationEventHandler {
+
+    private final PointCreditService pointCreditService;
+
+    @Override
+    public void onParticipations(List<ParticipationCompleted> events) {
+        for (ParticipationCompleted event : events) {
+            pointCreditService.credit(event.participationId(), event.userId(), event.rewardPoints(), 0);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.backend.advert.domain.point.service;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.point.entity.PointCredit;
+import com.backend.advert.domain.point.entity.PointCreditStatus;
+import com.backend.advert.domain.point.repository.PointCreditRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 광고 참여 보상 포인트 적립(outbox)입니다.
+ * - 참여 트랜잭션 안에서 참여 한 건마다 적립 대기 내역을 저장합니다. (참여가 롤백되면 함께 롤백)
+ * - 커밋 후 광고 참여 이벤트 소비 스레드가 참여 한 건씩 적립하고 적립 완료로 바꿉니다.
+ * - 적립에 실패했거나, 이벤트가 처리되기 전에 서버가 종료되어 남은 대기 내역은 재시도 작업이 다시 적립합니다.
+ * - 참여 ID 를 멱등 키로 보내므로, 적립 후 완료 표시 전에 실패해 다시 보내도 포인트는 한 번만 적립됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointCreditService {
+
+    static final int RETRY_BATCH_SIZE = 100;
+
+    private static final Duration FIRST_RETRY_DELAY = Duration.ofMinutes(1); // 소비 스레드가 먼저 처리하도록 재시도 작업은 1분 뒤부터
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+    private static final String LOCK_KEY = "point:credit-retry";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private final PointCreditRepository pointCreditRepository;
+    private final PointService pointService;
+    private final RedisLockService redisLockService;
+
+    /**
+     * 광고 참여의 포인트 적립 대기 내역을 저장합니다. (참여 트랜잭션 안에서 호출)
+     *
+     * @param participationId 광고 참여 ID (멱등 키)
+     * @param userId 사용자 ID
+     * @param points 적립 포인트
+     */
+    public void register(UUID participationId, UUID userId, int points) {
+        pointCreditRepository.save(new PointCredit(participationId, userId, points, LocalDateTime.now().plus(FIRST_RETRY_DELAY)));
+    }
+
+    /**
+     * 참여 한 건의 포인트를 적립하고 적립 완료로 바꿉니다. 실패하면 시도 횟수에 따라 다음 재시도 시각을 늦춥니다.
+     *
+     * @param participationId 광고 참여 ID (멱등 키)
+     * @param userId 사용자 ID
+     * @param points 적립 포인트
+     * @param attempts 지금까지 실패한 시도 횟수
+     * @return 적립하고 적립 완료로 기록했으면 true
+     */
+    public boolean credit(UUID participationId, UUID userId, int points, int attempts) {
+        try {
+            pointService.addPoints(userId, points, participationId);
+        } catch (Exception e) {
+            // 실패 내역은 PointService 에서 기록하며, 대기 내역으로 남겨 재시도
+            markFailed(participationId, attempts);
+            return false;
+        }
+
+        try {
+            pointCreditRepository.markCredited(participationId, LocalDateTime.now());
+        } catch (Exception e) {
+            // 대기 내역으로 남아 다시 보내지만 같은 멱등 키이므로 두 번 적립되지 않음
+            System.err.printf("포인트 적립 완료 기록 실패: 참여 %s, Error: %s%n", participationId, e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 재시도 시각이 지난 적립 대기 내역을 다시 적립합니다. (1분 간격, 한 노드에서만 실행)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void retryPending() {
+        String lockToken = redisLockService.tryLock(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            return; // 다른 노드에서 실행 중
+        }
+
+        try {
+            int credited = retryPending(LocalDateTime.now());
+            if (credited > 0) {
+                System.out.printf("포인트 적립 재시도 완료: %d건%n", credited);
+            }
+        } catch (Exception e) {
+            System.err.printf("포인트 적립 재시도 실패: %s%n", e.getMessage());
+        } finally {
+            redisLockService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    /**
+     * 재시도 시각이 지난 적립 대기 내역을 RETRY_BATCH_SIZE 건씩 모두 적립합니다.
+     * 실패한 내역은 재시도 시각이 늦춰져 같은 실행에서 다시 조회되지 않으며, 한 묶음을 모두 실패하면 다음 실행으로 미룹니다.
+     *
+     * @param now 현재 시각
+     * @return 적립한 건수
+     */
+    int retryPending(LocalDateTime now) {
+        int credited = 0;
+        while (true) {
+            List<PointCredit> pending = pointCreditRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                    PointCreditStatus.PENDING, now, PageRequest.of(0, RETRY_BATCH_SIZE));
+            int batchCredited = 0;
+            for (PointCredit pointCredit : pending) {
+                if (credit(pointCredit.getParticipationId(), pointCredit.getUserId(), pointCredit.getPoints(), pointCredit.getAttempts())) {
+                    batchCredited++;
+                }
+            }
+            credited += batchCredited;
+            if (pending.size() < RETRY_BATCH_SIZE || batchCredited == 0) {
+                return credited;
+            }
+        }
+    }
+
+    private void markFailed(UUID participationId, int attempts) {
+        try {
+            pointCreditRepository.markFailed(participationId, LocalDateTime.now().plus(retryDelay(attempts + 1)));
+        } catch (Exception e) {
+            // 재시도 시각이 그대로여도 대기 내역은 남아 있으므로 재시도됨
+            System.err.printf("포인트 적립 실패 기록 실패: 참여 %s, Error: %s%n", participationId, e.getMessage());
+        }
+    }
+
+    /**
+     * 실패 횟수에 따른 재시도 간격입니다. (1분부터 두 배씩, 최대 1시간)
+     */
+    static Duration retryDelay(int attempts) {
+        long minutes = FIRST_RETRY_DELAY.toMinutes() << Math.min(Math.max(attempts - 1, 0), 6);
+        return Duration.ofMinutes(Math.min(minutes, MAX_RETRY_DELAY.toMinutes()));
+    }
+}
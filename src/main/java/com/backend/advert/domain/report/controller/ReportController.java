@@ -0,0 +1,62 @@
+package com.backend.advert.domain.report.controller;
+
+import com.backend.advert.common.response.ApiResponse;
+import com.backend.advert.domain.report.dto.AdvertisementReportResponse;
+import com.backend.advert.domain.report.dto.UserParticipationSummaryResponse;
+import com.backend.advert.domain.report.service.AdvertisementReportService;
+import com.backend.advert.domain.report.service.UserParticipationSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final AdvertisementReportService advertisementReportService;
+    private final UserParticipationSummaryService userParticipationSummaryService;
+
+    /**
+     * 광고의 기간 내 참여 리포트를 조회합니다.
+     * - 분/시간/일 단위로 미리 집계된 값을 읽으며, 집계는 1분 간격으로 갱신됩니다. (aggregatedUntil 참고)
+     *
+     * @param advertisementId 광고 ID
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (미포함)
+     * @param interval 구간별 집계 단위 (minute, hour, day)
+     * @return 기간 합계와 구간별 참여 수, 적립 포인트
+     */
+    @GetMapping("/advertisements/{advertisementId}")
+    public ResponseEntity<ApiResponse<AdvertisementReportResponse>> getAdvertisementReport(
+            @PathVariable UUID advertisementId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "day") String interval) {
+        ApiResponse<AdvertisementReportResponse> response = advertisementReportService.getReport(advertisementId, from, to, interval);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자의 기간 내 참여 요약을 조회합니다.
+     * - 일 단위로 미리 집계된 값을 읽으며, 집계는 1분 간격으로 갱신됩니다. (aggregatedUntil 참고)
+     *
+     * @param userId 사용자 ID
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @return 기간 합계(참여 수, 참여한 광고 수, 적립 포인트)와 일별 요약
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<UserParticipationSummaryResponse>> getUserParticipationSummary(
+            @PathVariable UUID userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ApiResponse<UserParticipationSummaryResponse> response = userParticipationSummaryService.getSummary(userId, from, to);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,69 @@
+package com.backend.advert.domain.report.dto;
+
+import com.backend.advert.domain.report.entity.AdvertisementParticipationRollup;
+import com.backend.advert.domain.report.entity.RollupGranularity;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 광고 참여 리포트 응답 DTO.
+ * 합계는 조회 기간과 정확히 일치하며, 구간별 집계는 interval 단위 구간 중 참여가 있었던 구간만 담습니다.
+ * 한 사용자는 광고에 한 번만 참여할 수 있으므로 참여 사용자 수는 참여 수와 같습니다.
+ */
+@Getter
+public class AdvertisementReportResponse {
+    private final UUID advertisementId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime to;
+
+    private final RollupGranularity interval;
+    private final long participationCount;
+    private final long distinctUserCount;
+    private final long rewardPoints;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime aggregatedUntil; // 이 시각 이후의 참여는 아직 집계되지 않음
+
+    private final List<Bucket> buckets;
+
+    public AdvertisementReportResponse(UUID advertisementId, LocalDateTime from, LocalDateTime to, RollupGranularity interval,
+                                       long participationCount, long rewardPoints,
+                                       LocalDateTime aggregatedUntil, List<Bucket> buckets) {
+        this.advertisementId = advertisementId;
+        this.from = from;
+        this.to = to;
+        this.interval = interval;
+        this.participationCount = participationCount;
+        this.distinctUserCount = participationCount;
+        this.rewardPoints = rewardPoints;
+        this.aggregatedUntil = aggregatedUntil;
+        this.buckets = buckets;
+    }
+
+    @Getter
+    public static class Bucket {
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private final LocalDateTime bucketStart;
+
+        private final long participationCount;
+        private final long rewardPoints;
+
+        public Bucket(LocalDateTime bucketStart, long participationCount, long rewardPoints) {
+            this.bucketStart = bucketStart;
+            this.participationCount = participationCount;
+            this.rewardPoints = rewardPoints;
+        }
+
+        public static Bucket fromEntity(AdvertisementParticipationRollup rollup) {
+            return new Bucket(rollup.getBucketStart(), rollup.getParticipationCount(), rollup.getRewardPoints());
+        }
+    }
+}
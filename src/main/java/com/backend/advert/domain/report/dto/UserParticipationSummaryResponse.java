@@ -0,0 +1,58 @@
+package com.backend.advert.domain.report.dto;
+
+import com.backend.advert.domain.report.entity.UserDailyParticipationSummary;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자 참여 요약 응답 DTO.
+ * 일별 요약은 참여가 있었던 날만 담습니다. 한 광고에는 한 번만 참여할 수 있으므로 참여한 광고 수는 참여 수와 같습니다.
+ */
+@Getter
+public class UserParticipationSummaryResponse {
+    private final UUID userId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long participationCount;
+    private final long advertisementCount;
+    private final long rewardPoints;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime aggregatedUntil; // 이 시각 이후의 참여는 아직 집계되지 않음
+
+    private final List<Day> days;
+
+    public UserParticipationSummaryResponse(UUID userId, LocalDate from, LocalDate to,
+                                            LocalDateTime aggregatedUntil, List<Day> days) {
+        this.userId = userId;
+        this.from = from;
+        this.to = to;
+        this.participationCount = days.stream().mapToLong(Day::getParticipationCount).sum();
+        this.advertisementCount = this.participationCount;
+        this.rewardPoints = days.stream().mapToLong(Day::getRewardPoints).sum();
+        this.aggregatedUntil = aggregatedUntil;
+        this.days = days;
+    }
+
+    @Getter
+    public static class Day {
+        private final LocalDate date;
+        private final long participationCount;
+        private final long rewardPoints;
+
+        public Day(LocalDate date, long participationCount, long rewardPoints) {
+            this.date = date;
+            this.participationCount = participationCount;
+            this.rewardPoints = rewardPoints;
+        }
+
+        public static Day fromEntity(UserDailyParticipationSummary summary) {
+            return new Day(summary.getSummaryDate(), summary.getParticipationCount(), summary.getRewardPoints());
+        }
+    }
+}
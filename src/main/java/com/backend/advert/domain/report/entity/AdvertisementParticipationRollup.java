@@ -0,0 +1,63 @@
+package com.backend.advert.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 광고별 분/시간/일 단위 참여 집계.
+ * 참여 이력을 체크포인트 이후부터 읽어 누적하므로, 리포트는 원본 이력 대신 이 집계 행만 읽습니다.
+ */
+@Entity
+@Getter
+@Table(name = "advertisement_participation_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_participation_rollups_advertisement_bucket",
+                columnNames = {"advertisement_id", "granularity", "bucket_start"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AdvertisementParticipationRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "advertisement_id", nullable = false)
+    @Comment("광고 ID")
+    private UUID advertisementId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    @Comment("집계 단위")
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    @Comment("구간 시작 시각")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "participation_count", nullable = false)
+    @Comment("참여 수")
+    private long participationCount;
+
+    @Column(name = "reward_points", nullable = false)
+    @Comment("적립 포인트 합계")
+    private long rewardPoints;
+
+    public AdvertisementParticipationRollup(UUID advertisementId, RollupGranularity granularity, LocalDateTime bucketStart) {
+        this.advertisementId = advertisementId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+    }
+
+    /**
+     * 참여 수와 적립 포인트를 누적합니다.
+     */
+    public void add(long participationCount, long rewardPoints) {
+        this.participationCount += participationCount;
+        this.rewardPoints += rewardPoints;
+    }
+}
@@ -0,0 +1,54 @@
+package com.backend.advert.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 집계 작업이 어디까지 참여 이력을 읽었는지 기록합니다. (참여 시각, 참여 ID 순)
+ * 집계 행과 같은 트랜잭션에서 갱신되므로 같은 이력이 두 번 집계되지 않습니다.
+ */
+@Entity
+@Getter
+@Table(name = "rollup_checkpoints")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RollupCheckpoint {
+
+    private static final LocalDateTime INITIAL_PARTICIPATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_PARTICIPATION_ID = new UUID(0, 0);
+
+    @Id
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    @Column(name = "last_participated_at", nullable = false)
+    @Comment("마지막으로 집계한 참여 시각")
+    private LocalDateTime lastParticipatedAt;
+
+    @Column(name = "last_participation_id", nullable = false)
+    @Comment("마지막으로 집계한 참여 ID")
+    private UUID lastParticipationId;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version; // 여러 노드가 동시에 집계하면 한쪽만 커밋
+
+    public RollupCheckpoint(String name) {
+        this.name = name;
+        this.lastParticipatedAt = INITIAL_PARTICIPATED_AT;
+        this.lastParticipationId = INITIAL_PARTICIPATION_ID;
+    }
+
+    /**
+     * 마지막으로 집계한 참여 이력으로 체크포인트를 옮깁니다.
+     */
+    public void advance(LocalDateTime participatedAt, UUID participationId) {
+        this.lastParticipatedAt = participatedAt;
+        this.lastParticipationId = participationId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.backend.advert.domain.report.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 집계 단위. 구간 시작 시각(bucket_start)은 단위 기준으로 내림한 시각입니다.
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 시각이 속한 구간의 시작 시각을 반환합니다.
+     */
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+
+    /**
+     * 시각 이후(포함) 처음 시작하는 구간의 시작 시각을 반환합니다.
+     */
+    public LocalDateTime ceil(LocalDateTime dateTime) {
+        LocalDateTime truncated = truncate(dateTime);
+        return truncated.equals(dateTime) ? truncated : truncated.plus(1, unit);
+    }
+
+    /**
+     * 구간 안의 이 단위 구간 수를 반환합니다.
+     */
+    public long count(LocalDateTime from, LocalDateTime to) {
+        return unit.between(truncate(from), ceil(to));
+    }
+}
@@ -0,0 +1,57 @@
+package com.backend.advert.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 사용자별 일 단위 참여 요약.
+ * 광고 참여 집계 작업이 같은 체크포인트로 함께 누적하므로, 사용자 요약은 원본 이력 대신 일 단위 행만 읽습니다.
+ */
+@Entity
+@Getter
+@Table(name = "user_daily_participation_summaries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_daily_participation_summaries_user_date",
+                columnNames = {"user_id", "summary_date"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDailyParticipationSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    @Comment("사용자 ID")
+    private UUID userId;
+
+    @Column(name = "summary_date", nullable = false)
+    @Comment("참여 날짜")
+    private LocalDate summaryDate;
+
+    @Column(name = "participation_count", nullable = false)
+    @Comment("참여 수 (참여한 광고 수와 같음)")
+    private long participationCount;
+
+    @Column(name = "reward_points", nullable = false)
+    @Comment("적립 포인트 합계")
+    private long rewardPoints;
+
+    public UserDailyParticipationSummary(UUID userId, LocalDate summaryDate) {
+        this.userId = userId;
+        this.summaryDate = summaryDate;
+    }
+
+    /**
+     * 참여 수와 적립 포인트를 누적합니다.
+     */
+    public void add(long participationCount, long rewardPoints) {
+        this.participationCount += participationCount;
+        this.rewardPoints += rewardPoints;
+    }
+}
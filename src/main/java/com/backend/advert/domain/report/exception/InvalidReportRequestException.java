@@ -0,0 +1,11 @@
+package com.backend.advert.domain.report.exception;
+
+import com.backend.advert.common.exception.ServiceException;
+
+public class InvalidReportRequestException extends ServiceException {
+    private static final String ERROR_CODE = "INVALID_REPORT_REQUEST";
+
+    public InvalidReportRequestException(String message) {
+        super(message, ERROR_CODE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.backend.advert.domain.report.repository;
+
+import com.backend.advert.domain.report.entity.AdvertisementParticipationRollup;
+import com.backend.advert.domain.report.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AdvertisementParticipationRollupRepository extends JpaRepository<AdvertisementParticipationRollup, UUID> {
+
+    /**
+     * 여러 광고의 한 단위 집계 행 중 구간 시작 시각이 범위 안인 행을 조회합니다. (집계 반영용)
+     *
+     * @param granularity 집계 단위
+     * @param advertisementIds 광고 ID 목록
+     * @param from 구간 시작 시각 하한 (포함)
+     * @param to 구간 시작 시각 상한 (포함)
+     * @return 집계 행 목록
+     */
+    List<AdvertisementParticipationRollup> findByGranularityAndAdvertisementIdInAndBucketStartBetween(
+            RollupGranularity granularity, Collection<UUID> advertisementIds, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 광고의 한 단위 집계 행을 구간 시작 시각 순으로 조회합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @param granularity 집계 단위
+     * @param from 구간 시작 시각 하한 (포함)
+     * @param to 구간 시작 시각 상한 (미포함)
+     * @return 구간 시작 시각 순 집계 행 목록 (참여가 없던 구간은 행이 없음)
+     */
+    @Query("select r from AdvertisementParticipationRollup r " +
+            "where r.advertisementId = :advertisementId and r.granularity = :granularity " +
+            "and r.bucketStart >= :from and r.bucketStart < :to " +
+            "order by r.bucketStart")
+    List<AdvertisementParticipationRollup> findSeries(@Param("advertisementId") UUID advertisementId,
+                                                      @Param("granularity") RollupGranularity granularity,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    /**
+     * 광고의 한 단위 집계 행을 합산합니다.
+     *
+     * @param advertisementId 광고 ID
+     * @param granularity 집계 단위
+     * @param from 구간 시작 시각 하한 (포함)
+     * @param to 구간 시작 시각 상한 (미포함)
+     * @return 참여 수, 적립 포인트 합계
+     */
+    @Query("select coalesce(sum(r.participationCount), 0) as participationCount, " +
+            "coalesce(sum(r.rewardPoints), 0) as rewardPoints " +
+            "from AdvertisementParticipationRollup r " +
+            "where r.advertisementId = :advertisementId and r.granularity = :granularity " +
+            "and r.bucketStart >= :from and r.bucketStart < :to")
+    RollupTotals sumTotals(@Param("advertisementId") UUID advertisementId,
+                           @Param("granularity") RollupGranularity granularity,
+                           @Param("from") LocalDateTime from,
+                           @Param("to") LocalDateTime to);
+
+    interface RollupTotals {
+        long getParticipationCount();
+
+        long getRewardPoints();
+    }
+}
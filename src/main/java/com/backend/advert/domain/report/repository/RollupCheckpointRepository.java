@@ -0,0 +1,7 @@
+package com.backend.advert.domain.report.repository;
+
+import com.backend.advert.domain.report.entity.RollupCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RollupCheckpointRepository extends JpaRepository<RollupCheckpoint, String> {
+}
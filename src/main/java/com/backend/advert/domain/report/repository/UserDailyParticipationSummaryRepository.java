@@ -0,0 +1,32 @@
+package com.backend.advert.domain.report.repository;
+
+import com.backend.advert.domain.report.entity.UserDailyParticipationSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserDailyParticipationSummaryRepository extends JpaRepository<UserDailyParticipationSummary, UUID> {
+
+    /**
+     * 여러 사용자의 기간 내 일 단위 요약을 조회합니다. (집계 반영용)
+     *
+     * @param userIds 사용자 ID 목록
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @return 일 단위 요약 목록
+     */
+    List<UserDailyParticipationSummary> findByUserIdInAndSummaryDateBetween(Collection<UUID> userIds, LocalDate from, LocalDate to);
+
+    /**
+     * 사용자의 기간 내 일 단위 요약을 날짜 순으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @return 날짜 순 일 단위 요약 목록 (참여가 없던 날은 행이 없음)
+     */
+    List<UserDailyParticipationSummary> findByUserIdAndSummaryDateBetweenOrderBySummaryDate(UUID userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,120 @@
+package com.backend.advert.domain.report.service;
+
+import com.backend.advert.common.response.ApiResponse;
+import com.backend.advert.domain.report.dto.AdvertisementReportResponse;
+import com.backend.advert.domain.report.entity.RollupCheckpoint;
+import com.backend.advert.domain.report.entity.RollupGranularity;
+import com.backend.advert.domain.report.exception.InvalidReportRequestException;
+import com.backend.advert.domain.report.repository.AdvertisementParticipationRollupRepository;
+import com.backend.advert.domain.report.repository.AdvertisementParticipationRollupRepository.RollupTotals;
+import com.backend.advert.domain.report.repository.RollupCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 광고 참여 리포트 서비스입니다.
+ * 원본 이력 대신 집계 행만 읽습니다. 조회 기간을 가장 큰 단위 구간들로 나누어 합산하므로,
+ * 기간이 길어도 읽는 행은 일 단위 행 수 + 시간/분 단위 경계 행 (최대 46 + 118) 정도입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdvertisementReportService {
+
+    static final int MAX_BUCKETS = 1000;
+
+    private final AdvertisementParticipationRollupRepository rollupRepository;
+    private final RollupCheckpointRepository checkpointRepository;
+
+    /**
+     * 광고의 기간 내 참여 리포트를 조회합니다. 시각은 분 단위로 맞춥니다.
+     *
+     * @param advertisementId 광고 ID
+     * @param from 조회 시작 시각 (포함)
+     * @param to 조회 종료 시각 (미포함)
+     * @param interval 구간별 집계 단위 (minute, hour, day)
+     * @return 기간 합계와 구간별 참여 수, 적립 포인트
+     * @throws InvalidReportRequestException 기간이나 집계 단위가 올바르지 않거나 구간이 너무 많을 경우 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<AdvertisementReportResponse> getReport(UUID advertisementId, LocalDateTime from, LocalDateTime to, String interval) {
+        RollupGranularity granularity = parseInterval(interval);
+        LocalDateTime start = RollupGranularity.MINUTE.truncate(from);
+        LocalDateTime end = RollupGranularity.MINUTE.ceil(to);
+        if (!start.isBefore(end)) {
+            throw new InvalidReportRequestException("조회 종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (granularity.count(start, end) > MAX_BUCKETS) {
+            throw new InvalidReportRequestException("구간이 너무 많습니다. 더 큰 집계 단위를 사용하세요. (최대 " + MAX_BUCKETS + "개)");
+        }
+
+        long participationCount = 0;
+        long rewardPoints = 0;
+        for (Segment segment : decompose(start, end)) {
+            RollupTotals totals = rollupRepository.sumTotals(advertisementId, segment.granularity(), segment.from(), segment.to());
+            participationCount += totals.getParticipationCount();
+            rewardPoints += totals.getRewardPoints();
+        }
+
+        // 양 끝 구간은 조회 기간 밖의 참여를 포함할 수 있음
+        List<AdvertisementReportResponse.Bucket> buckets = rollupRepository
+                .findSeries(advertisementId, granularity, granularity.truncate(start), end).stream()
+                .map(AdvertisementReportResponse.Bucket::fromEntity)
+                .toList();
+
+        LocalDateTime aggregatedUntil = checkpointRepository.findById(ParticipationRollupJob.CHECKPOINT_NAME)
+                .map(RollupCheckpoint::getLastParticipatedAt)
+                .orElse(null);
+
+        AdvertisementReportResponse response = new AdvertisementReportResponse(advertisementId, start, end, granularity,
+                participationCount, rewardPoints, aggregatedUntil, buckets);
+        return ApiResponse.success(HttpStatus.OK, "광고 참여 리포트를 성공적으로 조회했습니다.", response);
+    }
+
+    /**
+     * 분 단위로 맞춘 기간을 겹치지 않는 단위 구간들로 나눕니다.
+     * 앞쪽은 분 → 시간, 가운데는 일, 뒤쪽은 시간 → 분 단위로 채웁니다.
+     */
+    static List<Segment> decompose(LocalDateTime from, LocalDateTime to) {
+        List<Segment> segments = new ArrayList<>();
+        LocalDateTime cursor = from;
+
+        cursor = addSegment(segments, RollupGranularity.MINUTE, cursor, min(RollupGranularity.HOUR.ceil(cursor), to));
+        cursor = addSegment(segments, RollupGranularity.HOUR, cursor,
+                min(RollupGranularity.DAY.ceil(cursor), RollupGranularity.HOUR.truncate(to)));
+        cursor = addSegment(segments, RollupGranularity.DAY, cursor, RollupGranularity.DAY.truncate(to));
+        cursor = addSegment(segments, RollupGranularity.HOUR, cursor, RollupGranularity.HOUR.truncate(to));
+        addSegment(segments, RollupGranularity.MINUTE, cursor, to);
+        return segments;
+    }
+
+    private static LocalDateTime addSegment(List<Segment> segments, RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return from;
+        }
+        segments.add(new Segment(granularity, from, to));
+        return to;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static RollupGranularity parseInterval(String interval) {
+        try {
+            return RollupGranularity.valueOf(interval.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidReportRequestException("지원하지 않는 집계 단위입니다: " + interval);
+        }
+    }
+
+    record Segment(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.backend.advert.domain.report.service;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationEvent;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.report.entity.AdvertisementParticipationRollup;
+import com.backend.advert.domain.report.entity.RollupCheckpoint;
+import com.backend.advert.domain.report.entity.RollupGranularity;
+import com.backend.advert.domain.report.entity.UserDailyParticipationSummary;
+import com.backend.advert.domain.report.repository.AdvertisementParticipationRollupRepository;
+import com.backend.advert.domain.report.repository.RollupCheckpointRepository;
+import com.backend.advert.domain.report.repository.UserDailyParticipationSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 광고 참여 이력을 광고별 분/시간/일 단위 집계 행과 사용자별 일 단위 요약 행에 누적합니다.
+ * - 체크포인트 (참여 시각, 참여 ID) 이후의 이력만 CHUNK_SIZE 건씩 읽으므로 매 주기 새로 쌓인 이력만 처리합니다.
+ * - 한 묶음의 집계 반영과 체크포인트 이동은 같은 트랜잭션에서 커밋되어, 실패해도 같은 이력이 두 번 집계되지 않습니다.
+ * - 참여 시각은 커밋 전에 정해지므로, 아직 커밋되지 않은 이력을 건너뛰지 않도록 COMMIT_LAG 이전 이력까지만 집계합니다.
+ * - 체크포인트가 없으면 원본 이력 테이블 전체를 처음부터 집계합니다. (보관 테이블로 옮겨진 이력은 포함되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipationRollupJob {
+
+    static final String CHECKPOINT_NAME = "advertisement-participation-rollup";
+    static final int CHUNK_SIZE = 5000;
+
+    private static final Duration COMMIT_LAG = Duration.ofMinutes(1);
+    private static final String LOCK_KEY = "report:participation-rollup";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private final AdvertisementParticipationRepository participationRepository;
+    private final AdvertisementParticipationRollupRepository rollupRepository;
+    private final UserDailyParticipationSummaryRepository summaryRepository;
+    private final RollupCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLockService redisLockService;
+
+    /**
+     * 체크포인트 이후의 참여 이력을 집계합니다. (1분 간격, 한 노드에서만 실행)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void run() {
+        String lockToken = redisLockService.tryLock(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            return; // 다른 노드에서 실행 중
+        }
+
+        try {
+            int aggregated = rollUp(LocalDateTime.now().minus(COMMIT_LAG));
+            if (aggregated > 0) {
+                System.out.printf("광고 참여 집계 완료: %d건%n", aggregated);
+            }
+        } catch (Exception e) {
+            System.err.printf("광고 참여 집계 실패: %s%n", e.getMessage());
+        } finally {
+            redisLockService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    /**
+     * 종료 시각 이전까지의 새 참여 이력을 모두 집계합니다.
+     *
+     * @param until 집계 종료 시각 (미포함)
+     * @return 집계한 이력 수
+     */
+    int rollUp(LocalDateTime until) {
+        int total = 0;
+        while (true) {
+            Integer aggregated = transactionTemplate.execute(status -> rollUpChunk(until));
+            int count = aggregated == null ? 0 : aggregated;
+            total += count;
+            if (count < CHUNK_SIZE) {
+                return total;
+            }
+        }
+    }
+
+    private int rollUpChunk(LocalDateTime until) {
+        RollupCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_NAME)
+                .orElseGet(() -> checkpointRepository.save(new RollupCheckpoint(CHECKPOINT_NAME)));
+
+        List<ParticipationEvent> events = participationRepository.findRollupEvents(
+                checkpoint.getLastParticipatedAt(), checkpoint.getLastParticipationId(), until, PageRequest.of(0, CHUNK_SIZE));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        applyRollups(events);
+        applyUserSummaries(events);
+        ParticipationEvent last = events.get(events.size() - 1);
+        checkpoint.advance(last.participatedAt(), last.participationId());
+        return events.size();
+    }
+
+    /**
+     * 참여 이력을 단위별 구간으로 묶어 집계 행에 더합니다. 단위마다 기존 집계 행을 한 번에 조회합니다.
+     */
+    private void applyRollups(List<ParticipationEvent> events) {
+        Set<UUID> advertisementIds = events.stream()
+                .map(ParticipationEvent::advertisementId)
+                .collect(Collectors.toSet());
+        LocalDateTime first = events.get(0).participatedAt();
+        LocalDateTime last = events.get(events.size() - 1).participatedAt();
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            Map<RollupKey, long[]> deltas = new LinkedHashMap<>();
+            for (ParticipationEvent event : events) {
+                long[] delta = deltas.computeIfAbsent(
+                        new RollupKey(event.advertisementId(), granularity.truncate(event.participatedAt())), key -> new long[2]);
+                delta[0]++;
+                delta[1] += event.rewardPoints() == null ? 0 : event.rewardPoints();
+            }
+
+            Map<RollupKey, AdvertisementParticipationRollup> rollups = new HashMap<>();
+            for (AdvertisementParticipationRollup rollup : rollupRepository.findByGranularityAndAdvertisementIdInAndBucketStartBetween(
+                    granularity, advertisementIds, granularity.truncate(first), granularity.truncate(last))) {
+                rollups.put(new RollupKey(rollup.getAdvertisementId(), rollup.getBucketStart()), rollup);
+            }
+
+            List<AdvertisementParticipationRollup> created = new ArrayList<>();
+            for (Map.Entry<RollupKey, long[]> entry : deltas.entrySet()) {
+                RollupKey key = entry.getKey();
+                AdvertisementParticipationRollup rollup = rollups.get(key);
+                if (rollup == null) {
+                    rollup = new AdvertisementParticipationRollup(key.advertisementId(), granularity, key.bucketStart());
+                    created.add(rollup);
+                }
+                rollup.add(entry.getValue()[0], entry.getValue()[1]); // 기존 행은 커밋 시 변경 감지로 갱신
+            }
+            rollupRepository.saveAll(created);
+        }
+    }
+
+    /**
+     * 참여 이력을 사용자, 날짜별로 묶어 일 단위 요약 행에 더합니다.
+     */
+    private void applyUserSummaries(List<ParticipationEvent> events) {
+        Map<SummaryKey, long[]> deltas = new LinkedHashMap<>();
+        for (ParticipationEvent event : events) {
+            long[] delta = deltas.computeIfAbsent(
+                    new SummaryKey(event.userId(), event.participatedAt().toLocalDate()), key -> new long[2]);
+            delta[0]++;
+            delta[1] += event.rewardPoints() == null ? 0 : event.rewardPoints();
+        }
+
+        Set<UUID> userIds = events.stream()
+                .map(ParticipationEvent::userId)
+                .collect(Collectors.toSet());
+        Map<SummaryKey, UserDailyParticipationSummary> summaries = new HashMap<>();
+        for (UserDailyParticipationSummary summary : summaryRepository.findByUserIdInAndSummaryDateBetween(userIds,
+                events.get(0).participatedAt().toLocalDate(), events.get(events.size() - 1).participatedAt().toLocalDate())) {
+            summaries.put(new SummaryKey(summary.getUserId(), summary.getSummaryDate()), summary);
+        }
+
+        List<UserDailyParticipationSummary> created = new ArrayList<>();
+        for (Map.Entry<SummaryKey, long[]> entry : deltas.entrySet()) {
+            SummaryKey key = entry.getKey();
+            UserDailyParticipationSummary summary = summaries.get(key);
+            if (summary == null) {
+                summary = new UserDailyParticipationSummary(key.userId(), key.date());
+                created.add(summary);
+            }
+            summary.add(entry.getValue()[0], entry.getValue()[1]);
+        }
+        summaryRepository.saveAll(created);
+    }
+
+    private record RollupKey(UUID advertisementId, LocalDateTime bucketStart) {
+    }
+
+    private record SummaryKey(UUID userId, LocalDate date) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.backend.advert.domain.report.service;
+
+import com.backend.advert.common.response.ApiResponse;
+import com.backend.advert.domain.report.dto.UserParticipationSummaryResponse;
+import com.backend.advert.domain.report.entity.RollupCheckpoint;
+import com.backend.advert.domain.report.exception.InvalidReportRequestException;
+import com.backend.advert.domain.report.repository.RollupCheckpointRepository;
+import com.backend.advert.domain.report.repository.UserDailyParticipationSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자 참여 요약 서비스입니다.
+ * 참여 이력을 페이지로 읽는 대신 기간 내 일 단위 요약 행(최대 MAX_DAYS 행)만 읽어 합산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserParticipationSummaryService {
+
+    static final int MAX_DAYS = 366;
+
+    private final UserDailyParticipationSummaryRepository summaryRepository;
+    private final RollupCheckpointRepository checkpointRepository;
+
+    /**
+     * 사용자의 기간 내 참여 요약을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param from 조회 시작 날짜 (포함)
+     * @param to 조회 종료 날짜 (포함)
+     * @return 기간 합계(참여 수, 참여한 광고 수, 적립 포인트)와 일별 요약
+     * @throws InvalidReportRequestException 기간이 올바르지 않거나 MAX_DAYS 일을 넘을 경우 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse<UserParticipationSummaryResponse> getSummary(UUID userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InvalidReportRequestException("조회 종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new InvalidReportRequestException("조회 기간은 최대 " + MAX_DAYS + "일입니다.");
+        }
+
+        List<UserParticipationSummaryResponse.Day> days = summaryRepository
+                .findByUserIdAndSummaryDateBetweenOrderBySummaryDate(userId, from, to).stream()
+                .map(UserParticipationSummaryResponse.Day::fromEntity)
+                .toList();
+
+        LocalDateTime aggregatedUntil = checkpointRepository.findById(ParticipationRollupJob.CHECKPOINT_NAME)
+                .map(RollupCheckpoint::getLastParticipatedAt)
+                .orElse(null);
+
+        UserParticipationSummaryResponse response = new UserParticipationSummaryResponse(userId, from, to, aggregatedUntil, days);
+        return ApiResponse.success(HttpStatus.OK, "사용자 참여 요약을 성공적으로 조회했습니다.", response);
+    }
+}
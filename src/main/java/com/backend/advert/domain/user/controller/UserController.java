@@ -53,4 +53,15 @@ public class UserController {
         ApiResponse<UserResponse> response = userService.getUserByEmail(email);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 모든 사용자의 광고 참여 횟수를 참여 이력으로 다시 계산합니다.
+     *
+     * @return 다시 계산된 사용자 수를 포함한 성공 메시지
+     */
+    @PostMapping("/participation-counts/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildParticipationCounts() {
+        ApiResponse<Integer> response = userService.rebuildParticipationCounts();
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,40 @@
+package com.backend.advert.domain.user.dto;
+
+import com.backend.advert.domain.user.entity.User;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * 사용자 프로필 캐시 값.
+ * 엔티티 대신 조회와 자격 조건 평가에 필요한 필드만 담은 불변 스냅샷입니다.
+ */
+@Getter
+public class UserProfile implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final UUID id;
+    private final String email;
+    private final String username;
+    private final int participationCount;
+
+    @JsonCreator
+    public UserProfile(UUID id, String email, String username, int participationCount) {
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.participationCount = participationCount;
+    }
+
+    /**
+     * User 엔티티로부터 UserProfile 객체를 생성합니다.
+     *
+     * @param user User 엔티티
+     * @return UserProfile 객체
+     */
+    public static UserProfile fromEntity(User user) {
+        return new UserProfile(user.getId(), user.getEmail(), user.getUsername(), user.getParticipationCount());
+    }
+}
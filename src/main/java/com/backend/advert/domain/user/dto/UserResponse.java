@@ -42,4 +42,19 @@ public class UserResponse {
                 user.getParticipationCount()
         );
     }
+
+    /**
+     * 캐시된 UserProfile 로부터 UserResponse 객체를 생성합니다.
+     *
+     * @param profile 사용자 프로필
+     * @return UserResponse 객체
+     */
+    public static UserResponse fromProfile(UserProfile profile) {
+        return new UserResponse(
+                profile.getId(),
+                profile.getEmail(),
+                profile.getUsername(),
+                profile.getParticipationCount()
+        );
+    }
 }
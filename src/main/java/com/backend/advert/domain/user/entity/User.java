@@ -34,6 +34,15 @@ public class User {
     @Builder.Default
     private List<Advertisement> participatedAdvertisements = new ArrayList<>();
 
+    /**
+     * 광고 참여 횟수를 갱신합니다. (참여 횟수 카운터 반영용)
+     *
+     * @param participationCount 광고 참여 횟수
+     */
+    public void updateParticipationCount(int participationCount) {
+        this.participationCount = participationCount;
+    }
+
     public boolean hasParticipatedIn(UUID advertisementId) {
         return participatedAdvertisements.stream()
                 .anyMatch(ad -> ad.getId().equals(advertisementId));
@@ -1,8 +1,14 @@
 package com.backend.advert.domain.user.repository;
 
 import com.backend.advert.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,4 +28,35 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return 존재 여부
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 모든 사용자의 광고 참여 횟수를 참여 이력 테이블과 보관 테이블로 다시 계산합니다.
+     * 원본 이력은 기준 시각까지의 참여만 셉니다. (보관 이력은 모두 보관 경계 이전)
+     *
+     * @param until 재계산 기준 시각 (포함)
+     * @return 갱신된 사용자 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.participationCount = cast(" +
+            "(select count(p) from AdvertisementParticipation p where p.userId = u.id and p.participatedAt <= :until) + " +
+            "(select count(a) from AdvertisementParticipationArchive a where a.userId = u.id) as Integer)")
+    int recountParticipations(@Param("until") LocalDateTime until);
+
+    /**
+     * 주어진 사용자 ID 다음부터 사용자의 광고 참여 횟수를 ID 순으로 조회합니다. (참여 횟수 카운터 재구성용)
+     * 참여 횟수가 0인 사용자도 포함하며, 마지막으로 읽은 ID를 다음 호출에 넘겨 끝까지 읽습니다.
+     *
+     * @param lastUserId 이전 페이지의 마지막 사용자 ID
+     * @param pageable 조회 건수
+     * @return (사용자 ID, 참여 횟수) 목록
+     */
+    @Query("select u.id as userId, u.participationCount as participationCount from User u " +
+            "where u.id > :lastUserId order by u.id")
+    List<UserParticipationCount> findParticipationCountsAfter(@Param("lastUserId") UUID lastUserId, Pageable pageable);
+
+    interface UserParticipationCount {
+        UUID getUserId();
+
+        int getParticipationCount();
+    }
 }
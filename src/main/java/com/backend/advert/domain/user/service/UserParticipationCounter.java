@@ -0,0 +1,272 @@
+package com.backend.advert.domain.user.service;
+
+import com.backend.advert.config.redis.RedisScriptPipeline;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventHandler;
+import com.backend.advert.domain.user.entity.User;
+import com.backend.advert.domain.user.repository.UserRepository;
+import com.backend.advert.domain.user.repository.UserRepository.UserParticipationCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자별 광고 참여 횟수 카운터입니다.
+ * - 참여가 커밋될 때마다 Redis 카운터를 원자적으로 증가시키고, 변경된 사용자를 dirty 집합에 기록합니다.
+ * - 주기적으로 dirty 사용자의 카운터를 모아 users.participation_count 에 일괄 반영하고, 프로필 캐시를 무효화합니다.
+ * - 자격 조건 평가는 Redis 카운터를 읽으며, 카운터가 없으면 마지막으로 반영된 DB 값을 사용합니다.
+ * - 재계산 중에는 DB 반영을 멈추고, 재계산 기준 시각 이후 참여의 증가분만 따로 모아 DB 재계산 값에 더해 카운터를 다시 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserParticipationCounter implements ParticipationEventHandler {
+
+    static final String COUNT_KEY_PREFIX = "participation:count:";
+    static final String DIRTY_KEY = "participation:count:dirty";
+    static final String REBUILDING_KEY = "participation:count:rebuilding";
+    static final String REBUILD_DELTA_KEY = "participation:count:rebuild-delta";
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final Duration REBUILD_TTL = Duration.ofHours(1);
+    private static final UUID FIRST_USER_ID = new UUID(0L, 0L);
+
+    /**
+     * 카운터가 있으면 증가시킵니다. 없으면 ARGV[1](DB 값)로 초기화한 뒤 증가시키며, ARGV[1]이 비어 있으면 -1을 반환합니다.
+     * 재계산 중(KEYS[3] 에 기준 시각)이고 참여 시각이 기준 시각보다 늦으면 재계산 증가분(KEYS[4])에도 기록합니다.
+     * (기준 시각 이전 참여는 DB 재계산에 포함되므로 증가분에 넣지 않음)
+     * KEYS: [1] 카운터, [2] dirty 집합, [3] 재계산 기준 시각, [4] 재계산 증가분
+     * ARGV: [1] DB 값, [2] 사용자 ID, [3] 참여 시각 (epoch 마이크로초)
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "  if ARGV[1] == '' then return -1 end " +
+                    "  redis.call('SET', KEYS[1], ARGV[1]) " +
+                    "end " +
+                    "local count = redis.call('INCR', KEYS[1]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[2]) " +
+                    "local mark = redis.call('GET', KEYS[3]) " +
+                    "if mark and tonumber(ARGV[3]) > tonumber(mark) then redis.call('HINCRBY', KEYS[4], ARGV[2], 1) end " +
+                    "return count",
+            Long.class);
+
+    /**
+     * 카운터를 DB 재계산 값과 재계산 기준 시각 이후 참여의 증가분의 합으로 씁니다. 합이 0이면 카운터를 삭제합니다.
+     * KEYS: [1] 카운터, [2] 재계산 증가분 / ARGV: [1] DB 재계산 값, [2] 사용자 ID
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "local count = tonumber(ARGV[1]) + tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') " +
+                    "redis.call('HDEL', KEYS[2], ARGV[2]) " +
+                    "if count == 0 then redis.call('DEL', KEYS[1]) else redis.call('SET', KEYS[1], count) end " +
+                    "return count",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UserProfileCache userProfileCache;
+    private final RedisScriptPipeline redisScriptPipeline;
+
+    /**
+     * 사용자의 참여 횟수를 1 증가시킵니다.
+     *
+     * @param userId 사용자 ID
+     * @param participatedAt 참여 시각
+     * @return 증가된 참여 횟수
+     */
+    public long increment(UUID userId, LocalDateTime participatedAt) {
+        List<String> keys = incrementKeys(userId);
+        String micros = String.valueOf(toEpochMicros(participatedAt));
+        Long count = stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, "", userId.toString(), micros);
+        if (count == null || count < 0) {
+            // 카운터가 없으면 마지막으로 반영된 DB 값에서 시작
+            int seed = userRepository.findById(userId).map(User::getParticipationCount).orElse(0);
+            count = stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, String.valueOf(seed), userId.toString(), micros);
+        }
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 커밋된 광고 참여마다 사용자의 참여 횟수를 1 증가시킵니다. (광고 참여 이벤트 소비 스레드에서 호출)
+     * 카운터가 있는 사용자는 한 번의 파이프라인으로 증가시키고, 카운터가 없는 사용자만 DB 값으로 초기화합니다.
+     *
+     * @param events 광고 참여 목록
+     */
+    @Override
+    public void onParticipations(List<ParticipationCompleted> events) {
+        List<RedisScriptPipeline.Call> calls = events.stream()
+                .map(event -> RedisScriptPipeline.Call.of(INCREMENT_SCRIPT, incrementKeys(event.userId()), "",
+                        event.userId().toString(), String.valueOf(toEpochMicros(event.participatedAt()))))
+                .toList();
+        List<Object> results;
+        try {
+            results = redisScriptPipeline.execute(calls);
+        } catch (Exception e) {
+            // 참여는 이미 커밋되었으므로 요청은 실패시키지 않음 (재계산 시 복구)
+            System.err.printf("참여 횟수 증가 실패: %d건, Error: %s%n", events.size(), e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < events.size(); i++) {
+            if (results.get(i) instanceof Long count && count >= 0) {
+                continue;
+            }
+            UUID userId = events.get(i).userId();
+            try {
+                increment(userId, events.get(i).participatedAt());
+            } catch (Exception e) {
+                System.err.printf("참여 횟수 증가 실패: 사용자 %s, Error: %s%n", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 사용자의 참여 횟수를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param fallback 카운터가 없을 때 사용할 값 (DB 값)
+     * @return 참여 횟수
+     */
+    public int getCount(UUID userId, int fallback) {
+        return getCounts(List.of(userId)).getOrDefault(userId, fallback);
+    }
+
+    /**
+     * 여러 사용자의 참여 횟수를 한 번에 조회합니다. 카운터가 없는 사용자는 포함하지 않습니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 참여 횟수
+     */
+    public Map<UUID, Integer> getCounts(Collection<UUID> userIds) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+
+        List<UUID> orderedIds = new ArrayList<>(new HashSet<>(userIds));
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(orderedIds.stream().map(UserParticipationCounter::countKey).toList());
+        if (values == null) {
+            return counts;
+        }
+        for (int i = 0; i < orderedIds.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                counts.put(orderedIds.get(i), Integer.parseInt(value));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 변경된 카운터를 users.participation_count 에 일괄 반영합니다. (5초마다)
+     * 재계산 중에는 재계산 값을 이전 카운터 값으로 덮어쓰지 않도록 건너뜁니다.
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void flush() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(REBUILDING_KEY))) {
+            return;
+        }
+
+        List<String> userIds;
+        do {
+            userIds = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH_SIZE);
+            if (userIds == null || userIds.isEmpty()) {
+                return;
+            }
+            if (!flushBatch(userIds)) {
+                return;
+            }
+        } while (userIds.size() == FLUSH_BATCH_SIZE);
+    }
+
+    private boolean flushBatch(List<String> userIds) {
+        try {
+            List<UUID> ids = userIds.stream().map(UUID::fromString).toList();
+            Map<UUID, Integer> counts = getCounts(ids);
+
+            // 변경 감지 + JDBC 배치로 한 번에 UPDATE
+            transactionTemplate.executeWithoutResult(status -> userRepository.findAllById(ids).forEach(user -> {
+                Integer count = counts.get(user.getId());
+                if (count != null) {
+                    user.updateParticipationCount(count);
+                }
+            }));
+            userProfileCache.invalidateAll(ids);
+            return true;
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, userIds.toArray(String[]::new));
+            System.err.printf("참여 횟수 반영 실패: %d명, Error: %s%n", userIds.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 참여 이력(보관 이력 포함)으로 모든 사용자의 참여 횟수를 다시 계산합니다.
+     * 1. 재계산 기준 시각을 남겨 그 이후 참여의 증가분을 따로 모으고, 그동안 DB 반영을 멈춥니다.
+     * 2. 기준 시각까지의 참여로 DB 값을 다시 계산합니다. (기준 시각 이후 참여는 증가분으로만 반영되어 두 번 세지 않음)
+     * 3. 사용자 ID 순으로 페이지를 읽어, 사용자마다 DB 값 + 증가분으로 카운터를 씁니다. (페이지마다 한 번의 파이프라인)
+     *    참여 횟수가 0인 사용자의 카운터는 삭제합니다.
+     *
+     * @return 다시 계산된 사용자 수
+     */
+    public int rebuild() {
+        LocalDateTime mark = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        stringRedisTemplate.opsForValue().set(REBUILDING_KEY, String.valueOf(toEpochMicros(mark)), REBUILD_TTL);
+        try {
+            Integer updated = transactionTemplate.execute(status -> userRepository.recountParticipations(mark));
+
+            UUID lastUserId = FIRST_USER_ID;
+            List<UserParticipationCount> page;
+            do {
+                page = userRepository.findParticipationCountsAfter(lastUserId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                redisScriptPipeline.execute(page.stream()
+                        .map(count -> RedisScriptPipeline.Call.of(REBUILD_SCRIPT,
+                                List.of(countKey(count.getUserId()), REBUILD_DELTA_KEY),
+                                String.valueOf(count.getParticipationCount()), count.getUserId().toString()))
+                        .toList());
+                List<UUID> userIds = page.stream().map(UserParticipationCount::getUserId).toList();
+                userProfileCache.invalidateAll(userIds);
+                lastUserId = userIds.get(userIds.size() - 1);
+            } while (page.size() == REBUILD_BATCH_SIZE);
+            return updated == null ? 0 : updated;
+        } finally {
+            stringRedisTemplate.delete(List.of(REBUILDING_KEY, REBUILD_DELTA_KEY));
+        }
+    }
+
+    /**
+     * 참여 시각을 재계산 기준 시각과 비교할 수 있도록 epoch 마이크로초로 바꿉니다. (DB 정밀도와 같음)
+     */
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static List<String> incrementKeys(UUID userId) {
+        return List.of(countKey(userId), DIRTY_KEY, REBUILDING_KEY, REBUILD_DELTA_KEY);
+    }
+
+    private static String countKey(UUID userId) {
+        return COUNT_KEY_PREFIX + userId;
+    }
+}
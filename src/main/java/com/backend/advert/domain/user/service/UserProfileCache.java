@@ -0,0 +1,193 @@
+package com.backend.advert.domain.user.service;
+
+import com.backend.advert.common.cache.CacheMetrics;
+import com.backend.advert.common.cache.RedisCacheStore;
+import com.backend.advert.common.cache.SingleFlight;
+import com.backend.advert.domain.user.dto.UserProfile;
+import com.backend.advert.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 사용자 프로필 캐시입니다. (L1: 노드 로컬 Caffeine, L2: Redis)
+ * - 사용자 ID와 이메일 두 가지 키로 조회할 수 있으며, 이메일 키는 사용자 ID만 가리킵니다.
+ * - 사용자 생성 시 바로 저장(write-through)하고, 참여 횟수가 DB에 반영되면 무효화합니다.
+ * - 다른 노드의 L1 은 무효화되지 않으므로 L1 만료 시간을 짧게 두어 오래된 값이 남는 시간을 제한합니다.
+ * - 적중/미스는 L1(user:profile:local), L2(user:profile), 이메일 키(user:profile:email)로 나누어 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileCache {
+
+    static final String ID_KEY_PREFIX = "user:profile:";
+    static final String EMAIL_KEY_PREFIX = "user:profile:email:";
+
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(10);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(30);
+    private static final long LOCAL_MAXIMUM_SIZE = 10_000;
+
+    private static final String LOCAL_CACHE_NAME = "user:profile:local";
+    private static final String REDIS_CACHE_NAME = "user:profile";
+    private static final String EMAIL_CACHE_NAME = "user:profile:email";
+
+    private final RedisCacheStore redisCacheStore;
+    private final SingleFlight singleFlight;
+    private final UserRepository userRepository;
+    private final CacheMetrics cacheMetrics;
+
+    private final Cache<UUID, UserProfile> localProfiles = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+    private final Cache<String, UUID> localEmails = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    /**
+     * 사용자 ID로 프로필을 조회합니다. L1 -> L2 -> DB 순으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 프로필 (없으면 Optional.empty())
+     */
+    public Optional<UserProfile> getById(UUID userId) {
+        UserProfile local = localProfiles.getIfPresent(userId);
+        if (local != null) {
+            cacheMetrics.hit(LOCAL_CACHE_NAME);
+            return Optional.of(local);
+        }
+        cacheMetrics.miss(LOCAL_CACHE_NAME);
+
+        Optional<UserProfile> cached = redisCacheStore.get(idKey(userId), UserProfile.class);
+        if (cached.isPresent()) {
+            cacheMetrics.hit(REDIS_CACHE_NAME);
+            localProfiles.put(userId, cached.get());
+            return cached;
+        }
+        cacheMetrics.miss(REDIS_CACHE_NAME);
+
+        // 동시 미스는 한 번의 DB 조회로 합침
+        Optional<UserProfile> loaded = singleFlight.execute(idKey(userId), () -> userRepository.findById(userId).map(UserProfile::fromEntity));
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * 사용자 이메일로 프로필을 조회합니다.
+     *
+     * @param email 사용자 이메일
+     * @return 사용자 프로필 (없으면 Optional.empty())
+     */
+    public Optional<UserProfile> getByEmail(String email) {
+        UUID userId = localEmails.getIfPresent(email);
+        if (userId == null) {
+            userId = redisCacheStore.get(emailKey(email), UUID.class).orElse(null);
+        }
+        if (userId != null) {
+            cacheMetrics.hit(EMAIL_CACHE_NAME);
+        } else {
+            cacheMetrics.miss(EMAIL_CACHE_NAME);
+        }
+        if (userId != null) {
+            Optional<UserProfile> profile = getById(userId);
+            if (profile.isPresent() && profile.get().getEmail().equals(email)) {
+                return profile;
+            }
+        }
+
+        Optional<UserProfile> loaded = singleFlight.execute(emailKey(email), () -> userRepository.findByEmail(email).map(UserProfile::fromEntity));
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * 여러 사용자의 프로필을 한 번에 조회합니다. L1, L2(MGET)에 없는 사용자만 DB에서 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 프로필 (존재하지 않는 사용자는 포함하지 않음)
+     */
+    public Map<UUID, UserProfile> getAll(Collection<UUID> userIds) {
+        Map<UUID, UserProfile> profiles = new HashMap<>(localProfiles.getAllPresent(userIds));
+
+        List<UUID> missing = new ArrayList<>();
+        for (UUID userId : new HashSet<>(userIds)) {
+            if (!profiles.containsKey(userId)) {
+                missing.add(userId);
+            }
+        }
+        cacheMetrics.record(LOCAL_CACHE_NAME, profiles.size(), missing.size());
+        if (missing.isEmpty()) {
+            return profiles;
+        }
+
+        Map<String, UserProfile> cached = redisCacheStore.getAll(missing.stream().map(UserProfileCache::idKey).toList(), UserProfile.class);
+        List<UUID> notCached = new ArrayList<>();
+        for (UUID userId : missing) {
+            UserProfile profile = cached.get(idKey(userId));
+            if (profile != null) {
+                profiles.put(userId, profile);
+                localProfiles.put(userId, profile);
+            } else {
+                notCached.add(userId);
+            }
+        }
+
+        cacheMetrics.record(REDIS_CACHE_NAME, missing.size() - notCached.size(), notCached.size());
+
+        if (!notCached.isEmpty()) {
+            userRepository.findAllById(notCached).forEach(user -> {
+                UserProfile profile = UserProfile.fromEntity(user);
+                profiles.put(profile.getId(), profile);
+                put(profile);
+            });
+        }
+        return profiles;
+    }
+
+    /**
+     * 프로필을 L1, L2 에 저장합니다.
+     *
+     * @param profile 사용자 프로필
+     */
+    public void put(UserProfile profile) {
+        localProfiles.put(profile.getId(), profile);
+        localEmails.put(profile.getEmail(), profile.getId());
+        try {
+            redisCacheStore.put(idKey(profile.getId()), profile, REDIS_TTL);
+            redisCacheStore.put(emailKey(profile.getEmail()), profile.getId(), REDIS_TTL);
+        } catch (Exception e) {
+            // 캐시 저장 실패는 조회 결과에 영향을 주지 않음
+            System.err.printf("사용자 프로필 캐시 저장 실패: ID %s, Error: %s%n", profile.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 프로필을 무효화합니다. (이메일 키는 사용자 ID만 가리키므로 유지)
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    public void invalidateAll(Collection<UUID> userIds) {
+        localProfiles.invalidateAll(userIds);
+        redisCacheStore.evictAll(userIds.stream().map(UserProfileCache::idKey).toList());
+    }
+
+    private static String idKey(UUID userId) {
+        return ID_KEY_PREFIX + userId;
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_KEY_PREFIX + email;
+    }
+}
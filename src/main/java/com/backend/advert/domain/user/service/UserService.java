@@ -2,6 +2,7 @@ package com.backend.advert.domain.user.service;
 
 import com.backend.advert.common.response.ApiResponse;
 import com.backend.advert.domain.user.dto.CreateUserRequest;
+import com.backend.advert.domain.user.dto.UserProfile;
 import com.backend.advert.domain.user.dto.UserResponse;
 import com.backend.advert.domain.user.entity.User;
 import com.backend.advert.domain.user.exception.UserAlreadyExistsException;
@@ -18,6 +19,8 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final UserParticipationCounter participationCounter;
 
     /**
      * 새로운 사용자를 저장합니다.
@@ -33,36 +36,53 @@ public class UserService {
         User user = userRequest.toEntity();
         User savedUser = userRepository.save(user);
 
+        // 생성 직후 조회에 대비해 프로필 캐시에 바로 저장
+        userProfileCache.put(UserProfile.fromEntity(savedUser));
+
         return ApiResponse.success(HttpStatus.CREATED, "사용자가 성공적으로 생성되었습니다.", UserResponse.fromEntity(savedUser)
         );
     }
 
     /**
      * 사용자 ID로 사용자 정보를 조회합니다.
+     * 프로필 캐시(로컬 -> Redis)에서 조회하며, 동일한 사용자에 대한 동시 미스는 한 번의 DB 조회로 합쳐집니다.
      *
      * @param userId 사용자 ID
      * @return 사용자 응답 DTO
      */
     public ApiResponse<UserResponse> getUserById(UUID userId) {
-        User user = userRepository.findById(userId)
+        UserResponse user = userProfileCache.getById(userId)
+                .map(UserResponse::fromProfile)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
 
-        return ApiResponse.success(HttpStatus.OK, "사용자 정보를 성공적으로 조회했습니다.", UserResponse.fromEntity(user)
+        return ApiResponse.success(HttpStatus.OK, "사용자 정보를 성공적으로 조회했습니다.", user
         );
     }
 
     /**
      * 사용자 이메일로 사용자 정보를 조회합니다.
+     * 프로필 캐시(로컬 -> Redis)에서 조회하며, 동일한 이메일에 대한 동시 미스는 한 번의 DB 조회로 합쳐집니다.
      *
      * @param email 사용자 이메일
      * @return 사용자 응답 DTO
      */
     public ApiResponse<UserResponse> getUserByEmail(String email) {
-        User user = userRepository.findByEmail(email)
+        UserResponse user = userProfileCache.getByEmail(email)
+                .map(UserResponse::fromProfile)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. 이메일: " + email));
 
-        return ApiResponse.success(HttpStatus.OK, "사용자 정보를 성공적으로 조회했습니다.", UserResponse.fromEntity(user)
+        return ApiResponse.success(HttpStatus.OK, "사용자 정보를 성공적으로 조회했습니다.", user
         );
     }
 
+    /**
+     * 모든 사용자의 광고 참여 횟수를 참여 이력으로 다시 계산합니다.
+     *
+     * @return 다시 계산된 사용자 수
+     */
+    public ApiResponse<Integer> rebuildParticipationCounts() {
+        int updated = participationCounter.rebuild();
+
+        return ApiResponse.success(HttpStatus.OK, "사용자 참여 횟수를 다시 계산했습니다.", updated);
+    }
 }
@@ -0,0 +1,51 @@
+-- 광고 참여 이력 테이블을 participated_at 기준 월 단위 RANGE 파티션으로 전환합니다. (MySQL 8, 1회 실행)
+-- - 파티션 테이블은 외래 키를 가질 수 없고, 모든 유일 키에 파티션 컬럼이 포함되어야 합니다.
+-- - 이후 파티션 생성/보관은 ParticipationPartitionManager 가 매일 수행합니다.
+--   (p_future 파티션을 나누어 다음 달 파티션을 만들고, 보관 기간이 지난 파티션은 보관 테이블로 옮긴 뒤 삭제)
+-- - 가장 오래된 참여 시각의 달부터 3개월 뒤까지 한 달에 하나씩 파티션을 만듭니다.
+--   (한 파티션에 여러 달이 섞이면 보관 경계 이전 행이 원본에 남아 보관 테이블과 겹칩니다)
+
+SET @fk := (SELECT constraint_name FROM information_schema.referential_constraints
+            WHERE constraint_schema = DATABASE() AND table_name = 'advertisement_participations' LIMIT 1);
+SET @sql := IF(@fk IS NULL, 'SELECT 1', CONCAT('ALTER TABLE advertisement_participations DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE advertisement_participations
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, participated_at),
+    ADD INDEX idx_participations_user_participated_at (user_id, participated_at),
+    ADD INDEX idx_participations_advertisement_participated_at (advertisement_id, participated_at),
+    ADD INDEX idx_participations_participated_at (participated_at, id);
+
+SET @first_month := DATE_FORMAT(COALESCE((SELECT MIN(participated_at) FROM advertisement_participations), NOW()), '%Y-%m-01');
+SET @last_month := DATE_FORMAT(NOW() + INTERVAL 3 MONTH, '%Y-%m-01');
+SET SESSION group_concat_max_len = 1048576;
+
+WITH RECURSIVE months (month_start) AS (
+    SELECT CAST(@first_month AS DATE)
+    UNION ALL
+    SELECT month_start + INTERVAL 1 MONTH FROM months WHERE month_start < @last_month
+)
+SELECT GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                           ' VALUES LESS THAN (''', month_start + INTERVAL 1 MONTH, ''')')
+                    ORDER BY month_start SEPARATOR ', ')
+INTO @partitions
+FROM months;
+
+SET @sql := CONCAT('ALTER TABLE advertisement_participations PARTITION BY RANGE COLUMNS (participated_at) (',
+                   @partitions, ', PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS advertisement_participation_archives (
+    id               BINARY(16) NOT NULL,
+    advertisement_id BINARY(16) NOT NULL COMMENT '광고 ID',
+    user_id          BINARY(16) NOT NULL COMMENT '사용자 ID',
+    participated_at  DATETIME(6) NOT NULL COMMENT '참여 시각',
+    PRIMARY KEY (id),
+    INDEX idx_participation_archives_user_participated_at (user_id, participated_at),
+    INDEX idx_participation_archives_advertisement_participated_at (advertisement_id, participated_at)
+) ROW_FORMAT = COMPRESSED;
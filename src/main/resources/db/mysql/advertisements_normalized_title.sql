@@ -0,0 +1,20 @@
+-- 광고명 중복 검사를 정규화된 광고명(normalized_title) 기준으로 전환합니다. (MySQL 8, 1회 실행)
+-- - 정규화 규칙은 Advertisement.normalizeTitle 과 같습니다. (NFKC, 앞뒤 공백 제거, 연속 공백 축약, 소문자)
+-- - SQL 로는 NFKC 정규화를 할 수 없으므로, 전각 문자 등이 포함된 광고명은 백필 후 애플리케이션 기준 값과 비교해 보정합니다.
+-- - 유일 인덱스를 추가하기 전에 아래 충돌 조회 결과가 비어 있는지 확인하고, 충돌하는 광고명은 먼저 정리합니다.
+
+ALTER TABLE advertisements
+    ADD COLUMN normalized_title VARCHAR(255) NULL COMMENT '중복 검사용 정규화된 광고명' AFTER title;
+
+UPDATE advertisements
+SET normalized_title = LOWER(TRIM(REGEXP_REPLACE(title, '[[:space:]]+', ' ')));
+
+-- 충돌 조회: 결과가 있으면 유일 인덱스 추가 전에 정리
+SELECT normalized_title, COUNT(*) AS duplicates, GROUP_CONCAT(id) AS advertisement_ids
+FROM advertisements
+GROUP BY normalized_title
+HAVING COUNT(*) > 1;
+
+ALTER TABLE advertisements
+    MODIFY COLUMN normalized_title VARCHAR(255) NOT NULL COMMENT '중복 검사용 정규화된 광고명',
+    ADD UNIQUE INDEX uk_advertisements_normalized_title (normalized_title);
@@ -0,0 +1,87 @@
+package com.backend.advert.common.cache;
+
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.ActiveAdvertisementPage;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheCodecTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new JacksonConfig().objectMapper();
+    private static final LocalDateTime START = LocalDateTime.of(2024, 11, 22, 12, 0);
+
+    private final CacheCodec cacheCodec = new CacheCodec(OBJECT_MAPPER, 1024);
+
+    @Test
+    @DisplayName("기준 크기 미만의 값은 압축하지 않고, 같은 값의 JSON 보다 작게 인코딩한다")
+    void testEncode_SmallValueRaw() throws IOException {
+        // Given
+        AdvertisementResponse advertisement = advertisement(0);
+
+        // When
+        byte[] encoded = cacheCodec.encode(advertisement);
+        AdvertisementResponse decoded = cacheCodec.decode(encoded, cacheCodec.constructType(AdvertisementResponse.class));
+
+        // Then
+        assertEquals(CacheCodec.RAW, encoded[0]);
+        assertTrue(encoded.length < OBJECT_MAPPER.writeValueAsBytes(advertisement).length);
+        assertEquals(advertisement.getId(), decoded.getId());
+        assertEquals(advertisement.getExposureEndDate(), decoded.getExposureEndDate());
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상의 값은 압축하고, 원래 타입으로 다시 디코딩한다")
+    void testEncode_LargeValueDeflated() throws IOException {
+        // Given: 광고 50개 목록 페이지
+        List<AdvertisementResponse> content = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            content.add(advertisement(i));
+        }
+        CachedValue<ActiveAdvertisementPage> entry = new CachedValue<>(new ActiveAdvertisementPage(content, 120), 5, 1000L);
+        JavaType type = OBJECT_MAPPER.getTypeFactory().constructParametricType(CachedValue.class, ActiveAdvertisementPage.class);
+
+        // When
+        byte[] encoded = cacheCodec.encode(entry);
+        byte[] raw = new CacheCodec(OBJECT_MAPPER, Integer.MAX_VALUE).encode(entry);
+        CachedValue<ActiveAdvertisementPage> decoded = cacheCodec.decode(encoded, type);
+
+        // Then
+        assertEquals(CacheCodec.DEFLATED, encoded[0]);
+        assertTrue(encoded.length < raw.length);
+        assertEquals(120, decoded.getValue().getTotalElements());
+        assertEquals(50, decoded.getValue().getContent().size());
+        assertEquals(content.get(49).getTitle(), decoded.getValue().getContent().get(49).getTitle());
+    }
+
+    @Test
+    @DisplayName("형식 표시가 없는 값(이전 JSON 값)이나 손상된 압축 값은 디코딩하지 않는다")
+    void testDecode_UnknownOrCorrupted() throws IOException {
+        JavaType type = cacheCodec.constructType(AdvertisementResponse.class);
+        byte[] json = OBJECT_MAPPER.writeValueAsBytes(advertisement(0));
+
+        assertThrows(IOException.class, () -> cacheCodec.decode(json, type));
+        assertThrows(IOException.class, () -> cacheCodec.decode(new byte[0], type));
+        assertThrows(IOException.class, () -> cacheCodec.decode(new byte[]{CacheCodec.DEFLATED, 1, 2, 3}, type));
+
+        byte[] deflated = new CacheCodec(OBJECT_MAPPER, 0).encode(advertisement(0));
+        assertEquals(CacheCodec.DEFLATED, deflated[0]);
+        assertThrows(IOException.class, () -> cacheCodec.decode(Arrays.copyOf(deflated, deflated.length / 2), type));
+    }
+
+    private static AdvertisementResponse advertisement(int index) {
+        return new AdvertisementResponse(UUID.randomUUID(), "테스트 광고 " + index, 1000 + index, 10,
+                START, START.plusDays(7));
+    }
+}
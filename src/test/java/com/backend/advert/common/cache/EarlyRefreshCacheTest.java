@@ -0,0 +1,120 @@
+package com.backend.advert.common.cache;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.fasterxml.jackson.databind.JavaType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EarlyRefreshCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private RedisCacheStore redisCacheStore;
+
+    @Mock
+    private SingleFlight singleFlight;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @Spy
+    private CacheMetrics cacheMetrics = new CacheMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private EarlyRefreshCache earlyRefreshCache;
+
+    @Test
+    @DisplayName("캐시 미스 시 single-flight로 로딩하고 계산 비용과 만료 시각을 함께 저장한다")
+    void testGet_MissLoadsAndStores() {
+        // Given
+        when(redisCacheStore.get(eq("key"), any(JavaType.class))).thenReturn(Optional.empty());
+        when(singleFlight.executeAcrossNodes(eq("key"), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+        // When
+        long before = System.currentTimeMillis();
+        String result = earlyRefreshCache.get("key", String.class, TTL, () -> "loaded");
+
+        // Then
+        assertEquals("loaded", result);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisCacheStore).put(eq("key"), captor.capture(), eq(TTL.multipliedBy(2)));
+        CachedValue<?> stored = (CachedValue<?>) captor.getValue();
+        assertEquals("loaded", stored.getValue());
+        assertTrue(stored.getComputeMillis() >= 1);
+        assertTrue(stored.getExpiresAtMillis() >= before + TTL.toMillis());
+        verify(cacheMetrics).miss("key");
+    }
+
+    @Test
+    @DisplayName("만료가 한참 남은 값은 그대로 반환하고 갱신하지 않는다")
+    void testGet_FreshValueServedWithoutRefresh() {
+        // Given
+        CachedValue<String> fresh = new CachedValue<>("cached", 1, System.currentTimeMillis() + TTL.toMillis());
+        when(redisCacheStore.get(eq("key"), any(JavaType.class))).thenReturn(Optional.of(fresh));
+
+        // When
+        String result = earlyRefreshCache.get("key", String.class, TTL, () -> fail("갱신하지 않아야 합니다."));
+
+        // Then
+        assertEquals("cached", result);
+        verifyNoInteractions(singleFlight, redisLockService);
+    }
+
+    @Test
+    @DisplayName("만료된 값은 즉시 반환하고 백그라운드에서 갱신한다")
+    void testGet_StaleValueRefreshedInBackground() {
+        // Given
+        CachedValue<String> stale = new CachedValue<>("stale", 10, System.currentTimeMillis() - 1);
+        when(redisCacheStore.get(eq("key"), any(JavaType.class))).thenReturn(Optional.of(stale));
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn("token");
+
+        // When
+        String result = earlyRefreshCache.get("key", String.class, TTL, () -> "refreshed");
+
+        // Then
+        assertEquals("stale", result);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisCacheStore, timeout(2000)).put(eq("key"), captor.capture(), eq(TTL.multipliedBy(2)));
+        assertEquals("refreshed", ((CachedValue<?>) captor.getValue()).getValue());
+        verify(redisLockService, timeout(2000)).unlock("cache-refresh:key", "token");
+    }
+
+    @Test
+    @DisplayName("조기 갱신 확률은 만료 시각과 계산 비용에 따라 결정된다")
+    void testShouldRefreshEarly() {
+        long now = System.currentTimeMillis();
+
+        assertFalse(earlyRefreshCache.shouldRefreshEarly(new CachedValue<>("v", 1, now + 60_000), now));
+        assertTrue(earlyRefreshCache.shouldRefreshEarly(new CachedValue<>("v", 1, now), now));
+        assertTrue(earlyRefreshCache.shouldRefreshEarly(new CachedValue<>("v", 1, now - 1), now));
+    }
+
+    @Test
+    @DisplayName("캐시 이름은 키의 마지막 구분자 앞부분이다")
+    void testCacheName() {
+        assertEquals("advertisement:detail", EarlyRefreshCache.cacheName("advertisement:detail:" + UUID.randomUUID()));
+        assertEquals("activeAdvertisements", EarlyRefreshCache.cacheName("activeAdvertisements::0_10"));
+        assertEquals("key", EarlyRefreshCache.cacheName("key"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.backend.advert.common.cache;
+
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.user.dto.UserProfile;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCacheStoreTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> cacheRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    private RedisCacheStore redisCacheStore;
+
+    @BeforeEach
+    void setUp() {
+        redisCacheStore = new RedisCacheStore(cacheRedisTemplate, new CacheCodec(new JacksonConfig().objectMapper(), 1024));
+        when(cacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("저장한 값을 원래 타입으로 다시 조회할 수 있다")
+    void testPutAndGet_RoundTrip() {
+        // Given
+        AdvertisementResponse advertisement = new AdvertisementResponse(
+                UUID.randomUUID(), "테스트 광고", 1000, 10,
+                LocalDateTime.of(2024, 11, 22, 12, 0), LocalDateTime.of(2024, 11, 29, 12, 0));
+        CachedValue<AdvertisementResponse> entry = new CachedValue<>(advertisement, 5, 1000L);
+
+        redisCacheStore.put("key", entry, Duration.ofMinutes(1));
+        ArgumentCaptor<byte[]> encoded = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(eq("key"), encoded.capture(), eq(Duration.ofMinutes(1)));
+        when(valueOperations.get("key")).thenReturn(encoded.getValue());
+
+        // When
+        Optional<CachedValue<AdvertisementResponse>> result = redisCacheStore.get("key",
+                TypeFactory.defaultInstance().constructParametricType(CachedValue.class, AdvertisementResponse.class));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(5, result.get().getComputeMillis());
+        assertEquals(advertisement.getId(), result.get().getValue().getId());
+        assertEquals(advertisement.getExposureEndDate(), result.get().getValue().getExposureEndDate());
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 값(이전 JSON 형식 포함)은 삭제하고 미스로 처리한다")
+    void testGet_CorruptedValueEvicted() {
+        when(valueOperations.get("key")).thenReturn("{\"id\":\"legacy-json\"}".getBytes(StandardCharsets.UTF_8));
+
+        Optional<AdvertisementResponse> result = redisCacheStore.get("key", AdvertisementResponse.class);
+
+        assertTrue(result.isEmpty());
+        verify(cacheRedisTemplate).delete("key");
+    }
+
+    @Test
+    @DisplayName("여러 값을 한 번에 조회하며, 없거나 손상된 값은 결과에서 제외한다")
+    void testGetAll() {
+        // Given
+        UserProfile profile = new UserProfile(UUID.randomUUID(), "user@example.com", "user", 3);
+        redisCacheStore.put("first", profile, Duration.ofMinutes(1));
+        ArgumentCaptor<byte[]> encoded = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(eq("first"), encoded.capture(), eq(Duration.ofMinutes(1)));
+        when(valueOperations.multiGet(List.of("first", "missing", "broken")))
+                .thenReturn(Arrays.asList(encoded.getValue(), null, new byte[]{CacheCodec.RAW, 0x7F}));
+
+        // When
+        Map<String, UserProfile> result = redisCacheStore.getAll(List.of("first", "missing", "broken"), UserProfile.class);
+
+        // Then
+        assertEquals(Set.of("first"), result.keySet());
+        assertEquals(3, result.get("first").getParticipationCount());
+        verify(cacheRedisTemplate).delete("broken");
+    }
+}
@@ -0,0 +1,150 @@
+package com.backend.advert.common.cache;
+
+import com.backend.advert.config.redis.RedisLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightTest {
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @InjectMocks
+    private SingleFlight singleFlight;
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 로딩은 한 번만 실행된다")
+    void testExecute_CoalescesConcurrentLoads() throws Exception {
+        // Given
+        int concurrentRequests = 20;
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentRequests);
+
+        // When
+        CompletableFuture<?>[] futures = new CompletableFuture[concurrentRequests];
+        futures[0] = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            loaderCalls.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "value";
+        }), executor);
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i < concurrentRequests; i++) {
+            futures[i] = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+                loaderCalls.incrementAndGet();
+                return "other";
+            }), executor);
+        }
+        while (singleFlight.getCoalescedCount() < concurrentRequests - 1) {
+            Thread.sleep(5);
+        }
+        releaseLoader.countDown();
+        CompletableFuture.allOf(futures).join();
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, loaderCalls.get());
+        for (CompletableFuture<?> future : futures) {
+            assertEquals("value", future.join());
+        }
+        assertEquals(1, singleFlight.getLoadCount());
+        assertEquals(concurrentRequests - 1, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("로딩이 끝난 키는 다음 요청에서 다시 로딩된다")
+    void testExecute_ReloadsAfterCompletion() {
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        singleFlight.execute("key", loaderCalls::incrementAndGet);
+        singleFlight.execute("key", loaderCalls::incrementAndGet);
+
+        assertEquals(2, loaderCalls.get());
+    }
+
+    @Test
+    @DisplayName("로딩 중 발생한 예외는 호출자에게 그대로 전달된다")
+    void testExecute_PropagatesException() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("key", () -> {
+                    throw new IllegalStateException("로딩 실패");
+                }));
+
+        assertEquals("로딩 실패", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("노드 간 락을 획득하면 로더를 실행하고 락을 해제한다")
+    void testExecuteAcrossNodes_LockAcquired() {
+        when(redisLockService.tryLock(eq("singleflight:key"), any(Duration.class))).thenReturn("token");
+
+        String result = singleFlight.executeAcrossNodes("key", Optional::empty, () -> "loaded");
+
+        assertEquals("loaded", result);
+        verify(redisLockService, times(1)).unlock("singleflight:key", "token");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 캐시가 채워질 때까지 기다린다")
+    void testExecuteAcrossNodes_WaitsForOtherNode() {
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn(null);
+        AtomicInteger lookups = new AtomicInteger();
+
+        String result = singleFlight.executeAcrossNodes("key",
+                () -> lookups.incrementAndGet() < 2 ? Optional.empty() : Optional.of("cached"),
+                () -> fail("다른 노드가 로딩 중이면 로더를 실행하지 않아야 합니다."));
+
+        assertEquals("cached", result);
+        assertEquals(1, singleFlight.getRemoteCoalescedCount());
+        verify(redisLockService, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로딩 수와 합쳐진 요청 수를 지표로 내보낸다")
+    void testBindTo_RegistersCounters() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        singleFlight.bindTo(registry);
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn(null);
+
+        // When
+        singleFlight.execute("key", () -> "value");
+        singleFlight.executeAcrossNodes("other", () -> Optional.of("cached"), () -> fail("로더를 실행하지 않아야 합니다."));
+
+        // Then
+        assertEquals(2, registry.get("cache.singleflight.loads").functionCounter().count());
+        assertEquals(0, registry.get("cache.singleflight.coalesced").tag("scope", "local").functionCounter().count());
+        assertEquals(1, registry.get("cache.singleflight.coalesced").tag("scope", "remote").functionCounter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.advert.common.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * 서비스 호출 한 번에 실행되는 JDBC 문 수를 검증하는 테스트 도우미입니다.
+ * DataSource 가 QueryGuardConfig 로 감싸져 있어야 합니다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * 호출 중 실행된 JDBC 문이 max 건 이하인지 검증합니다.
+     *
+     * @param max 최대 문 수
+     * @param call 검증할 호출 (지연 쓰기를 세려면 호출 안에서 flush)
+     * @return 호출 결과
+     * @throws AssertionError 문 수가 max 를 넘으면 실행된 SQL 과 함께 발생
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> call) {
+        QueryStatistics statistics = QueryStatistics.start(true);
+        T result;
+        try {
+            result = call.get();
+        } finally {
+            QueryStatistics.stop();
+        }
+
+        if (statistics.getStatementCount() > max) {
+            throw new AssertionError(String.format("JDBC 문 %d건 실행 (최대 %d건):%n  %s",
+                    statistics.getStatementCount(), max, String.join(System.lineSeparator() + "  ", statistics.getStatements())));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,212 @@
+package com.backend.advert.common.jdbc;
+
+import com.backend.advert.common.cache.EarlyRefreshCache;
+import com.backend.advert.common.response.ApiResponse;
+import com.backend.advert.common.validator.AdvertisementValidator;
+import com.backend.advert.common.validator.QualificationCriteriaCache;
+import com.backend.advert.common.validator.QualificationValidator;
+import com.backend.advert.config.QueryGuardConfig;
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisement.service.AdvertisementPacer;
+import com.backend.advert.domain.advertisement.service.AdvertisementService;
+import com.backend.advert.domain.advertisement.service.AdvertisementTitleIndex;
+import com.backend.advert.domain.advertisement.service.EligibleAdvertisementIndex;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationRequest;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventBus;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.advertisementParticipation.service.AdvertisementParticipationService;
+import com.backend.advert.domain.advertisementParticipation.service.ParticipationPartitionManager;
+import com.backend.advert.domain.advertisementParticipation.service.RecentParticipationCache;
+import com.backend.advert.domain.point.repository.PointCreditRepository;
+import com.backend.advert.domain.point.service.PointCreditService;
+import com.backend.advert.domain.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.backend.advert.common.jdbc.QueryCountAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 목록 조회, 광고 참여, 참여 이력 조회 흐름의 JDBC 문 수를 검증합니다. (N+1 조회 회귀 방지)
+ * Redis 를 쓰는 구성 요소는 모두 mock 으로 대체하여 DB 조회만 셉니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // 인메모리 DB 사용
+@ActiveProfiles("test")
+@Import(QueryGuardConfig.class)
+class QueryCountGuardTest {
+
+    private static final int ADVERTISEMENTS = 5;
+
+    @Autowired
+    private AdvertisementRepository advertisementRepository;
+
+    @Autowired
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Autowired
+    private AdvertisementParticipationArchiveRepository archiveRepository;
+
+    @Autowired
+    private PointCreditRepository pointCreditRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private AdvertisementService advertisementService;
+    private AdvertisementParticipationService participationService;
+    private LocalDateTime now;
+    private LocalDateTime archiveBoundary;
+    private UUID userId;
+    private List<Advertisement> advertisements;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        now = LocalDateTime.now();
+        archiveBoundary = now.minusMonths(12);
+        userId = UUID.randomUUID();
+
+        // 캐시는 항상 미스 (DB 조회 경로를 검증)
+        EarlyRefreshCache earlyRefreshCache = mock(EarlyRefreshCache.class);
+        when(earlyRefreshCache.get(anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(3)).get());
+        RecentParticipationCache recentParticipationCache = mock(RecentParticipationCache.class);
+        when(recentParticipationCache.find(any(), any(), any())).thenReturn(Optional.empty());
+        ParticipationPartitionManager partitionManager = mock(ParticipationPartitionManager.class);
+        when(partitionManager.getArchiveBoundary()).thenReturn(archiveBoundary);
+
+        advertisementService = new AdvertisementService(advertisementRepository, mock(AdvertisementTitleIndex.class),
+                mock(QualificationValidator.class), mock(AdvertisementValidator.class), mock(QualificationCriteriaCache.class),
+                mock(EligibleAdvertisementIndex.class), earlyRefreshCache);
+        participationService = new AdvertisementParticipationService(advertisementRepository, participationRepository,
+                archiveRepository, partitionManager, mock(RedisLockService.class), recentParticipationCache,
+                mock(ParticipationEventBus.class), mock(AdvertisementPacer.class),
+                new PointCreditService(pointCreditRepository, mock(PointService.class), mock(RedisLockService.class)),
+                new SimpleMeterRegistry());
+
+        advertisements = new ArrayList<>();
+        for (int i = 0; i < ADVERTISEMENTS; i++) {
+            advertisements.add(advertisementRepository.save(new Advertisement("쿼리 수 테스트 광고 " + i, 100 * (i + 1), 10,
+                    "설명", "http://example.com/image.jpg", now.minusDays(1), now.plusDays(1), null)));
+        }
+    }
+
+    @Test
+    @DisplayName("활성 광고 목록 조회는 목록과 개수 조회 두 건만 실행한다")
+    void testActiveAdvertisements_StatementCount() {
+        // Given
+        flushAndClear();
+
+        // When
+        ApiResponse<Page<AdvertisementResponse>> response = assertMaxStatements(2,
+                () -> advertisementService.getActiveAdvertisements(0, 3));
+
+        // Then
+        assertThat(response.getData().getContent()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("광고 참여는 광고 조회, 참여 여부 확인, 이력 저장, 횟수 차감, 포인트 적립 대기 저장 다섯 건만 실행한다")
+    void testParticipation_StatementCount() {
+        // Given
+        UUID advertisementId = advertisements.get(0).getId();
+        flushAndClear();
+
+        // When
+        assertMaxStatements(5, () -> {
+            participationService.participateInAdvertisement(new AdvertisementParticipationRequest(advertisementId, userId));
+            entityManager.flush(); // 지연 쓰기(저장, 차감)까지 셈
+            return null;
+        });
+
+        // Then
+        assertThat(participationRepository.existsByUserIdAndAdvertisementId(userId, advertisementId)).isTrue();
+        assertThat(pointCreditRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참여 이력 조회는 광고 수와 관계없이 이력과 개수 조회 두 건만 실행한다")
+    void testParticipationHistory_StatementCount() {
+        // Given
+        for (Advertisement advertisement : advertisements) {
+            participationRepository.save(new AdvertisementParticipation(advertisement, userId, now.minusHours(1)));
+        }
+        flushAndClear();
+
+        // When
+        ApiResponse<Page<AdvertisementParticipationResponse>> response = assertMaxStatements(2,
+                () -> participationService.getParticipationHistory(userId, now.minusDays(1), now, 0, 10));
+
+        // Then
+        assertThat(response.getData().getContent()).hasSize(ADVERTISEMENTS);
+    }
+
+    @Test
+    @DisplayName("보관 기간을 포함한 참여 이력 조회는 광고 수와 관계없이 다섯 건 이하로 실행한다")
+    void testParticipationHistoryIncludingArchive_StatementCount() {
+        // Given
+        for (Advertisement advertisement : advertisements) {
+            jdbcTemplate.update("INSERT INTO advertisement_participation_archives (id, advertisement_id, user_id, participated_at) VALUES (?, ?, ?, ?)",
+                    UUID.randomUUID(), advertisement.getId(), userId, archiveBoundary.minusDays(1));
+            participationRepository.save(new AdvertisementParticipation(advertisement, userId, now.minusHours(1)));
+        }
+        flushAndClear();
+
+        // When (보관 이력 개수, 보관 이력, 광고 일괄 조회, 원본 이력, 원본 이력 개수)
+        ApiResponse<Page<AdvertisementParticipationResponse>> response = assertMaxStatements(5,
+                () -> participationService.getParticipationHistory(userId, archiveBoundary.minusMonths(1), now, 0, 20));
+
+        // Then
+        assertThat(response.getData().getContent()).hasSize(ADVERTISEMENTS * 2);
+    }
+
+    @Test
+    @DisplayName("최대 문 수를 넘으면 실행된 SQL 과 함께 실패한다")
+    void testAssertMaxStatements_Exceeded() {
+        flushAndClear();
+
+        assertThatThrownBy(() -> assertMaxStatements(1, () -> {
+            advertisements.forEach(advertisement -> advertisementRepository.findById(advertisement.getId()));
+            return null;
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("select");
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.common.validator.rule.AndRule;
+import com.backend.advert.common.validator.rule.NotRule;
+import com.backend.advert.common.validator.rule.ParticipatedInRule;
+import com.backend.advert.common.validator.rule.ParticipationCountRule;
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualificationCompilerTest {
+
+    private final QualificationCompiler qualificationCompiler = new QualificationCompiler(new JacksonConfig().objectMapper());
+
+    @Test
+    @DisplayName("기존 필드와 규칙 표현식은 AND로 결합된다")
+    void testCompile_CombinesLegacyFieldsAndRule() {
+        UUID excludedId = UUID.randomUUID();
+
+        CompiledQualification compiled = qualificationCompiler.compile("{\"minParticipationCount\": 2, "
+                + "\"excludedAdvertisementId\": \"" + excludedId + "\", "
+                + "\"rule\": {\"participationCount\": {\"max\": 9}}}");
+
+        assertEquals(new AndRule(List.of(
+                new ParticipationCountRule(2, null),
+                new NotRule(new ParticipatedInRule(Set.of(excludedId))),
+                new ParticipationCountRule(null, 9))), compiled.getRule());
+        assertEquals(Set.of(excludedId), compiled.getAdvertisementIds());
+    }
+
+    @Test
+    @DisplayName("최근 참여 기간은 규칙 전체에서 가장 긴 기간으로 조회한다")
+    void testCompile_WindowDays() {
+        CompiledQualification compiled = qualificationCompiler.compile("{\"rule\": {\"or\": ["
+                + "{\"participationsWithin\": {\"days\": 7, \"min\": 1}},"
+                + "{\"participationsWithin\": {\"days\": 30, \"min\": 5}}]}}");
+
+        assertEquals(30, compiled.getWindowDays());
+    }
+
+    @Test
+    @DisplayName("잘못된 규칙은 저장 시점에 거부된다")
+    void testCompile_InvalidRules() {
+        List<String> invalidRules = List.of(
+                "{\"rule\": {\"unknown\": 1}}",
+                "{\"rule\": {\"and\": []}}",
+                "{\"rule\": {\"participationCount\": {}}}",
+                "{\"rule\": {\"participationCount\": {\"min\": -1}}}",
+                "{\"rule\": {\"participatedIn\": [\"not-a-uuid\"]}}",
+                "{\"rule\": {\"participationsWithin\": {\"days\": 0, \"min\": 1}}}",
+                "{\"rule\": {\"participationCount\": {\"min\": 1}, \"emailDomain\": [\"a.com\"]}}",
+                "{\"rule\": " + "{\"not\": ".repeat(20) + "{\"emailDomain\": [\"a.com\"]}" + "}".repeat(20) + "}");
+
+        for (String rule : invalidRules) {
+            assertThrows(InvalidAdvertisementException.class, () -> qualificationCompiler.compile(rule), rule);
+        }
+    }
+}
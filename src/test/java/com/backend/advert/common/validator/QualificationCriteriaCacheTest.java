@@ -0,0 +1,111 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.common.cache.CacheMetrics;
+import com.backend.advert.common.validator.rule.UserSnapshot;
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QualificationCriteriaCacheTest {
+
+    private QualificationCompiler qualificationCompiler;
+    private QualificationCriteriaCache qualificationCriteriaCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        qualificationCompiler = spy(new QualificationCompiler(new JacksonConfig().objectMapper()));
+        meterRegistry = new SimpleMeterRegistry();
+        qualificationCriteriaCache = new QualificationCriteriaCache(qualificationCompiler, new CacheMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("자격 조건은 광고별로 한 번만 컴파일된다")
+    void testGet_CompilesOnce() {
+        // Given
+        UUID excludedId = UUID.randomUUID();
+        Advertisement advertisement = createAdvertisement(
+                "{\"firstTimeParticipation\":true,\"minParticipationCount\":2,\"excludedAdvertisementId\":\"" + excludedId + "\"}");
+
+        // When
+        CompiledQualification first = qualificationCriteriaCache.get(advertisement);
+        CompiledQualification second = qualificationCriteriaCache.get(advertisement);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(Set.of(excludedId), first.getAdvertisementIds());
+        verify(qualificationCompiler, times(1)).compile(anyString());
+        assertEquals(1, meterRegistry.get("cache.gets").tags("cache", "qualification:criteria", "result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tags("cache", "qualification:criteria", "result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("자격 조건이 바뀐 광고는 다시 컴파일된다")
+    void testGet_RecompilesWhenCriteriaChanges() {
+        // Given
+        Advertisement advertisement = createAdvertisement("{\"minParticipationCount\":1}");
+        qualificationCriteriaCache.get(advertisement);
+
+        // When: 다른 노드에서 자격 조건이 수정됨
+        Advertisement modified = createAdvertisement("{\"minParticipationCount\":5}");
+        modified.setId(advertisement.getId());
+        CompiledQualification updated = qualificationCriteriaCache.get(modified);
+
+        // Then
+        assertFalse(updated.test(snapshotWithParticipationCount(3)));
+        assertTrue(updated.test(snapshotWithParticipationCount(5)));
+    }
+
+    @Test
+    @DisplayName("저장 시 등록한 컴파일 결과는 다시 컴파일하지 않고 사용한다")
+    void testPut_UsesPrecompiled() {
+        Advertisement advertisement = createAdvertisement("{\"minParticipationCount\":1}");
+        CompiledQualification compiled = qualificationCompiler.compile(advertisement.getQualificationCriteria());
+        clearInvocations(qualificationCompiler);
+
+        qualificationCriteriaCache.put(advertisement, compiled);
+
+        assertSame(compiled, qualificationCriteriaCache.get(advertisement));
+        verifyNoInteractions(qualificationCompiler);
+    }
+
+    @Test
+    @DisplayName("자격 조건이 없으면 조건 없음으로 컴파일된다")
+    void testCompile_NoCriteria() {
+        assertSame(CompiledQualification.NONE, qualificationCompiler.compile(null));
+        assertTrue(qualificationCompiler.compile(" ").isUnconditional());
+    }
+
+    @Test
+    @DisplayName("제외 광고 ID 형식이 잘못되면 저장 시점에 거부된다")
+    void testCompile_InvalidExcludedAdvertisementId() {
+        assertThrows(InvalidAdvertisementException.class,
+                () -> qualificationCompiler.compile("{\"excludedAdvertisementId\":\"not-a-uuid\"}"));
+        assertThrows(InvalidAdvertisementException.class,
+                () -> qualificationCompiler.compile("{invalid"));
+    }
+
+    private UserSnapshot snapshotWithParticipationCount(int participationCount) {
+        return new UserSnapshot(UUID.randomUUID(), "user@example.com", participationCount, Set.of(), List.of(), LocalDateTime.now());
+    }
+
+    private Advertisement createAdvertisement(String qualificationCriteria) {
+        Advertisement advertisement = new Advertisement(
+                "테스트 광고", 1000, 10, "테스트 설명", "http://example.com/image.jpg",
+                LocalDateTime.now(), LocalDateTime.now().plusDays(7), qualificationCriteria);
+        advertisement.setId(UUID.randomUUID());
+        return advertisement;
+    }
+}
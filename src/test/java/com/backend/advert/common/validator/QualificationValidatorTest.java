@@ -0,0 +1,199 @@
+package com.backend.advert.common.validator;
+
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository.UserParticipationTime;
+import com.backend.advert.domain.advertisementParticipation.service.ParticipationMembershipIndex;
+import com.backend.advert.domain.user.dto.UserProfile;
+import com.backend.advert.domain.user.entity.User;
+import com.backend.advert.domain.user.exception.UserNotFoundException;
+import com.backend.advert.domain.user.service.UserParticipationCounter;
+import com.backend.advert.domain.user.service.UserProfileCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QualificationValidatorTest {
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Mock
+    private ParticipationMembershipIndex membershipIndex;
+
+    @Mock
+    private UserParticipationCounter participationCounter;
+
+    private QualificationCompiler qualificationCompiler;
+    private QualificationValidator qualificationValidator;
+
+    @BeforeEach
+    void setUp() {
+        qualificationCompiler = new QualificationCompiler(new JacksonConfig().objectMapper());
+        qualificationValidator = new QualificationValidator(userProfileCache, participationRepository, membershipIndex, participationCounter);
+    }
+
+    @Test
+    @DisplayName("여러 사용자를 규칙 수와 관계없이 한 번의 조회 묶음으로 평가한다")
+    void testEvaluateUsers_PrefetchesOnce() {
+        // Given: (참여 2회 이상 AND 특정 광고 미참여 AND 최근 7일 1회 이상) OR 사내 도메인
+        UUID excludedAdId = UUID.randomUUID();
+        CompiledQualification qualification = qualificationCompiler.compile("{\"rule\": {\"or\": ["
+                + "{\"and\": ["
+                + "  {\"participationCount\": {\"min\": 2}},"
+                + "  {\"not\": {\"participatedIn\": [\"" + excludedAdId + "\"]}},"
+                + "  {\"participationsWithin\": {\"days\": 7, \"min\": 1}}"
+                + "]},"
+                + "{\"emailDomain\": [\"Company.com\"]}"
+                + "]}}");
+
+        User eligible = user("eligible@example.com", 3);
+        User excluded = user("excluded@example.com", 3);
+        User inactive = user("inactive@example.com", 5);
+        User employee = user("new@company.com", 0);
+        UUID unknownUserId = UUID.randomUUID();
+        List<UUID> userIds = List.of(eligible.getId(), excluded.getId(), inactive.getId(), employee.getId(), unknownUserId);
+
+        when(userProfileCache.getAll(anyCollection())).thenReturn(profiles(eligible, excluded, inactive, employee));
+        when(membershipIndex.findJoined(anyCollection(), anyCollection()))
+                .thenReturn(Map.of(excluded.getId(), Set.of(excludedAdId)));
+        when(participationRepository.findParticipationTimesSince(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        participationTime(eligible.getId(), LocalDateTime.now().minusDays(1)),
+                        participationTime(excluded.getId(), LocalDateTime.now().minusDays(2))));
+
+        // When
+        Map<UUID, Boolean> results = qualificationValidator.evaluateUsers(qualification, userIds);
+
+        // Then
+        assertTrue(results.get(eligible.getId()));
+        assertFalse(results.get(excluded.getId()));
+        assertFalse(results.get(inactive.getId()));
+        assertTrue(results.get(employee.getId()));
+        assertFalse(results.get(unknownUserId));
+
+        verify(userProfileCache, times(1)).getAll(anyCollection());
+        verify(membershipIndex, times(1)).findJoined(anyCollection(), anyCollection());
+        verify(participationRepository, times(1)).findParticipationTimesSince(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("기존 필드로 지정한 제외 광고는 참여자 인덱스로 확인한다")
+    void testIsValid_LegacyExcludedAdvertisement() {
+        // Given
+        UUID excludedAdId = UUID.randomUUID();
+        CompiledQualification qualification = qualificationCompiler.compile(
+                "{\"minParticipationCount\": 1, \"excludedAdvertisementId\": \"" + excludedAdId + "\"}");
+        User user = user("user@example.com", 4);
+
+        when(userProfileCache.getAll(anyCollection())).thenReturn(profiles(user));
+        when(membershipIndex.findJoined(anyCollection(), anyCollection()))
+                .thenReturn(Map.of(user.getId(), Set.of(excludedAdId)));
+
+        // When & Then
+        assertFalse(qualificationValidator.isValid(qualification, user.getId()));
+        verify(participationRepository, never()).findParticipationTimesSince(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("아직 DB에 반영되지 않은 참여 횟수는 카운터 값으로 평가한다")
+    void testIsValid_UsesParticipationCounter() {
+        // Given: DB 값은 0회지만 카운터는 1회 (첫 참여 이후 반영 전)
+        CompiledQualification qualification = qualificationCompiler.compile("{\"firstTimeParticipation\": true}");
+        User user = user("user@example.com", 0);
+
+        when(userProfileCache.getAll(anyCollection())).thenReturn(profiles(user));
+        when(participationCounter.getCounts(anyCollection())).thenReturn(Map.of(user.getId(), 1));
+
+        // When & Then
+        assertFalse(qualificationValidator.isValid(qualification, user.getId()));
+    }
+
+    @Test
+    @DisplayName("조건이 없는 자격은 사용자를 조회하지 않고 통과한다")
+    void testIsValid_Unconditional() {
+        assertTrue(qualificationValidator.isValid(CompiledQualification.NONE, UUID.randomUUID()));
+        verifyNoInteractions(userProfileCache, participationRepository, membershipIndex);
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 예외가 발생한다")
+    void testIsValid_UserNotFound() {
+        CompiledQualification qualification = qualificationCompiler.compile("{\"firstTimeParticipation\": true}");
+        when(userProfileCache.getAll(anyCollection())).thenReturn(profiles());
+
+        assertThrows(UserNotFoundException.class, () -> qualificationValidator.isValid(qualification, UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("한 사용자에 대해 여러 광고의 자격을 한 번의 조회로 평가한다")
+    void testEvaluateAdvertisements() {
+        // Given
+        User user = user("user@example.com", 0);
+        UUID firstTimeAdId = UUID.randomUUID();
+        UUID loyalAdId = UUID.randomUUID();
+        UUID openAdId = UUID.randomUUID();
+
+        Map<UUID, CompiledQualification> qualifications = new LinkedHashMap<>();
+        qualifications.put(firstTimeAdId, qualificationCompiler.compile("{\"firstTimeParticipation\": true}"));
+        qualifications.put(loyalAdId, qualificationCompiler.compile("{\"rule\": {\"participationCount\": {\"min\": 10}}}"));
+        qualifications.put(openAdId, CompiledQualification.NONE);
+
+        when(userProfileCache.getAll(anyCollection())).thenReturn(profiles(user));
+
+        // When
+        Map<UUID, Boolean> results = qualificationValidator.evaluateAdvertisements(qualifications, user.getId());
+
+        // Then
+        assertEquals(Map.of(firstTimeAdId, true, loyalAdId, false, openAdId, true), results);
+        verify(userProfileCache, times(1)).getAll(anyCollection());
+        verifyNoInteractions(participationRepository, membershipIndex);
+    }
+
+    private User user(String email, int participationCount) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .username("user")
+                .participationCount(participationCount)
+                .build();
+    }
+
+    private Map<UUID, UserProfile> profiles(User... users) {
+        return Arrays.stream(users).collect(Collectors.toMap(User::getId, UserProfile::fromEntity));
+    }
+
+    private UserParticipationTime participationTime(UUID userId, LocalDateTime participatedAt) {
+        return new UserParticipationTime() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public LocalDateTime getParticipatedAt() {
+                return participatedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.backend.advert.config.redis;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인프로세스 Redis(jedis-mock)로 잠금 획득/해제를 검증합니다.
+ */
+class RedisLockServiceTest {
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisLockService redisLockService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer().start();
+        // jedis-mock 은 RESP3 를 지원하지 않음
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", redisServer.getBindPort()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        meterRegistry = new SimpleMeterRegistry();
+        redisLockService = new RedisLockService(redisTemplate, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("획득한 잠금은 획득 시간과 보유 시간을 잠금 종류별로 기록한다")
+    void testLock_RecordsAcquireAndHold() {
+        // When
+        String token = redisLockService.lock("advertisement:1");
+        boolean released = redisLockService.unlock("advertisement:1", token);
+
+        // Then
+        assertTrue(released);
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("advertisement:1")));
+        assertEquals(1, meterRegistry.get("redis.lock.acquire").tags("lock", "advertisement", "result", "acquired").timer().count());
+        assertEquals(1, meterRegistry.get("redis.lock.hold").tag("lock", "advertisement").timer().count());
+        assertNull(meterRegistry.find("redis.lock.failures").counter());
+        assertNull(meterRegistry.find("redis.lock.expired").counter());
+    }
+
+    @Test
+    @DisplayName("획득하지 못한 잠금은 실패 횟수를 기록하고 보유 시간은 기록하지 않는다")
+    void testLock_RecordsFailure() {
+        // Given
+        String token = redisLockService.lock("advertisement:1");
+        meterRegistry.clear();
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> redisLockService.lock("advertisement:1"));
+        assertNull(redisLockService.tryLock("advertisement:1", Duration.ofSeconds(1)));
+
+        assertEquals(2, meterRegistry.get("redis.lock.failures").tags("lock", "advertisement", "result", "failed").counter().count());
+        assertEquals(2, meterRegistry.get("redis.lock.acquire").tags("lock", "advertisement", "result", "failed").timer().count());
+        assertNull(meterRegistry.find("redis.lock.hold").timer());
+        assertEquals(token, redisTemplate.opsForValue().get("advertisement:1"));
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나 다른 요청이 획득한 잠금은 늦게 끝난 요청이 해제하지 않는다")
+    void testUnlock_ExpiredLockOwnedByAnother() {
+        // Given: 첫 요청의 잠금이 만료된 뒤 두 번째 요청이 획득
+        String first = redisLockService.lock("advertisement:1");
+        redisTemplate.delete("advertisement:1");
+        String second = redisLockService.lock("advertisement:1");
+
+        // When
+        boolean released = redisLockService.unlock("advertisement:1", first);
+
+        // Then: 두 번째 요청의 잠금은 유지되어 세 번째 요청은 획득하지 못함
+        assertFalse(released);
+        assertEquals(second, redisTemplate.opsForValue().get("advertisement:1"));
+        assertNull(redisLockService.tryLock("advertisement:1", Duration.ofSeconds(1)));
+        assertEquals(1, meterRegistry.get("redis.lock.expired").tag("lock", "advertisement").counter().count());
+        assertTrue(redisLockService.unlock("advertisement:1", second));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 트랜잭션이 끝난 뒤에 잠금을 해제한다")
+    void testUnlockAfterCompletion() {
+        // Given
+        String token = redisLockService.lock("advertisement:1");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            redisLockService.unlockAfterCompletion("advertisement:1", token);
+
+            // Then
+            assertTrue(Boolean.TRUE.equals(redisTemplate.hasKey("advertisement:1")));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("advertisement:1")));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
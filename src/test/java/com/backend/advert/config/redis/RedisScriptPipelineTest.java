@@ -0,0 +1,104 @@
+package com.backend.advert.config.redis;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인프로세스 Redis(jedis-mock)로 스크립트 파이프라인을 검증합니다.
+ */
+class RedisScriptPipelineTest {
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])", Long.class);
+    private static final RedisScript<String> GET_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('GET', KEYS[1])", String.class);
+    private static final RedisScript<Long> FAILING_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('INCR', KEYS[1])", Long.class);
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisScriptPipeline redisScriptPipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer().start();
+        // jedis-mock 은 RESP3 를 지원하지 않음
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", redisServer.getBindPort()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        redisScriptPipeline = new RedisScriptPipeline(stringRedisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("서버에 없는 스크립트도 한 번씩만 실행하고 호출 순서대로 결과를 반환한다")
+    void testExecute_UncachedScripts() {
+        // Given: GET 스크립트만 미리 캐시됨
+        stringRedisTemplate.opsForValue().set("value", "hello");
+        stringRedisTemplate.execute(GET_SCRIPT, List.of("value"));
+
+        // When
+        List<Object> results = redisScriptPipeline.execute(List.of(
+                RedisScriptPipeline.Call.of(INCREMENT_SCRIPT, List.of("counter"), "2"),
+                RedisScriptPipeline.Call.of(GET_SCRIPT, List.of("value")),
+                RedisScriptPipeline.Call.of(INCREMENT_SCRIPT, List.of("counter"), "3")));
+
+        // Then: INCRBY 는 호출 수만큼만 반영됨
+        assertEquals(List.of(2L, "hello", 5L), results);
+        assertEquals("5", stringRedisTemplate.opsForValue().get("counter"));
+    }
+
+    @Test
+    @DisplayName("같은 스크립트를 여러 번 묶어 보내도 결과는 호출마다 반환한다")
+    void testExecute_SameScriptRepeated() {
+        redisScriptPipeline.execute(List.of(RedisScriptPipeline.Call.of(INCREMENT_SCRIPT, List.of("counter"), "1")));
+
+        List<Object> results = redisScriptPipeline.execute(List.of(
+                RedisScriptPipeline.Call.of(INCREMENT_SCRIPT, List.of("counter"), "1"),
+                RedisScriptPipeline.Call.of(INCREMENT_SCRIPT, List.of("counter"), "1")));
+
+        assertEquals(List.of(2L, 3L), results);
+    }
+
+    @Test
+    @DisplayName("스크립트 실행 오류는 예외로 알린다")
+    void testExecute_OtherErrors() {
+        stringRedisTemplate.opsForValue().set("text", "not a number");
+
+        assertThrows(RedisPipelineException.class, () -> redisScriptPipeline.execute(List.of(
+                RedisScriptPipeline.Call.of(FAILING_SCRIPT, List.of("text")))));
+    }
+
+    @Test
+    @DisplayName("호출이 없으면 Redis 에 보내지 않는다")
+    void testExecute_Empty() {
+        assertTrue(redisScriptPipeline.execute(List.of()).isEmpty());
+    }
+}
@@ -1,8 +1,12 @@
 package com.backend.advert.domain.advertisement.controller;
 
 import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.dto.BulkImportFormat;
+import com.backend.advert.domain.advertisement.dto.BulkImportResponse;
 import com.backend.advert.domain.advertisement.dto.CreateAdvertisementRequest;
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
 import com.backend.advert.domain.advertisement.exception.InvalidQualificationException;
+import com.backend.advert.domain.advertisement.service.AdvertisementBulkImportService;
 import com.backend.advert.domain.advertisement.service.AdvertisementService;
 import com.backend.advert.common.response.ApiResponse;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.UUID;
@@ -30,6 +36,9 @@ class AdvertisementControllerTest {
     @Mock
     private AdvertisementService advertisementService;
 
+    @Mock
+    private AdvertisementBulkImportService advertisementBulkImportService;
+
     @InjectMocks
     private AdvertisementController advertisementController;
 
@@ -104,6 +113,63 @@ class AdvertisementControllerTest {
         assertEquals("테스트 광고", response.getBody().getData().getContent().get(0).getTitle());
     }
 
+    /**
+     * 광고 상세 조회 성공 테스트
+     */
+    @Test
+    @DisplayName("광고 상세 조회 성공 테스트")
+    void testGetAdvertisement_Success() {
+        // Given
+        UUID advertisementId = UUID.randomUUID();
+        ApiResponse<AdvertisementResponse> apiResponse = ApiResponse.success(
+                HttpStatus.OK,
+                "광고 정보를 성공적으로 조회했습니다.",
+                createTestAdvertisementResponse(advertisementId)
+        );
+
+        when(advertisementService.getAdvertisement(advertisementId)).thenReturn(apiResponse);
+
+        // When
+        ResponseEntity<ApiResponse<AdvertisementResponse>> response = advertisementController.getAdvertisement(advertisementId);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(advertisementId, response.getBody().getData().getId());
+    }
+
+    /**
+     * 광고 대량 등록 테스트 - Content-Type 으로 본문 형식 결정
+     */
+    @Test
+    @DisplayName("광고 대량 등록 시 Content-Type 으로 본문 형식을 결정한다")
+    void testImportAdvertisements_ResolvesFormat() {
+        // Given
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        BulkImportResponse result = new BulkImportResponse(0, 0, 0, Collections.emptyList(), false);
+        when(advertisementBulkImportService.importAdvertisements(body, BulkImportFormat.CSV)).thenReturn(result);
+
+        // When
+        ResponseEntity<ApiResponse<BulkImportResponse>> response = advertisementController.importAdvertisements("text/csv; charset=UTF-8", body);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertSame(result, response.getBody().getData());
+    }
+
+    /**
+     * 광고 대량 등록 테스트 - 지원하지 않는 형식
+     */
+    @Test
+    @DisplayName("지원하지 않는 형식의 대량 등록 요청은 거부한다")
+    void testImportAdvertisements_UnsupportedFormat() {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+
+        assertThrows(InvalidAdvertisementException.class, () -> advertisementController.importAdvertisements("application/xml", body));
+        verifyNoInteractions(advertisementBulkImportService);
+    }
+
     /**
      * 광고 참여 가능 성공 테스트
      */
@@ -9,13 +9,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -56,12 +57,36 @@ class AdvertisementRepositoryTest {
     }
 
     @Test
-    @DisplayName("광고 제목을 기준으로 광고를 찾는 테스트")
-    void testFindByTitle() {
-        Optional<Advertisement> result = advertisementRepository.findByTitle("광고 1");
+    @DisplayName("정규화했을 때 같은 광고명은 중복으로 저장되지 않는다")
+    void testNormalizedTitleUnique() {
+        // Given
+        advertisementRepository.saveAndFlush(new Advertisement("Summer  Sale", 100, 1, "설명",
+                "http://example.com/image.jpg", FIXED_NOW.minusDays(1), FIXED_NOW.plusDays(1), null));
+
+        // When & Then
+        assertTrue(advertisementRepository.existsByNormalizedTitle("summer sale"));
+        assertEquals(List.of("summer sale"),
+                advertisementRepository.findExistingNormalizedTitles(List.of("summer sale", "winter sale")));
+        assertThrows(DataIntegrityViolationException.class, () -> advertisementRepository.saveAndFlush(
+                new Advertisement(" summer sale ", 100, 1, "설명",
+                        "http://example.com/image.jpg", FIXED_NOW.minusDays(1), FIXED_NOW.plusDays(1), null)));
+    }
+
+    @Test
+    @DisplayName("남은 참여 가능 횟수는 0 아래로 차감되지 않는다")
+    void testDecrementRemainingParticipationCount() {
+        // Given
+        Advertisement advertisement = advertisementRepository.save(new Advertisement("차감 테스트 광고", 100, 1, "설명",
+                "http://example.com/image.jpg", FIXED_NOW.minusDays(1), FIXED_NOW.plusDays(1), null));
+
+        // When
+        int first = advertisementRepository.decrementRemainingParticipationCount(advertisement.getId(), FIXED_NOW);
+        int second = advertisementRepository.decrementRemainingParticipationCount(advertisement.getId(), FIXED_NOW);
 
-        assertTrue(result.isPresent());
-        assertEquals("광고 1", result.get().getTitle());
+        // Then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(0, advertisementRepository.findById(advertisement.getId()).orElseThrow().getRemainingParticipationCount());
     }
 
     @Test
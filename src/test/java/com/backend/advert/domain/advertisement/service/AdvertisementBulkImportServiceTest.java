@@ -0,0 +1,243 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.validator.AdvertisementValidator;
+import com.backend.advert.common.validator.QualificationCompiler;
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.BulkImportError;
+import com.backend.advert.domain.advertisement.dto.BulkImportFormat;
+import com.backend.advert.domain.advertisement.dto.BulkImportResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdvertisementBulkImportServiceTest {
+
+    @Mock
+    private AdvertisementTitleIndex advertisementTitleIndex;
+
+    @Mock
+    private AdvertisementRepository advertisementRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private AdvertisementBulkImportService bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        bulkImportService = new AdvertisementBulkImportService(
+                objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new AdvertisementValidator(new QualificationCompiler(objectMapper)),
+                advertisementTitleIndex,
+                advertisementRepository,
+                transactionTemplate,
+                entityManager);
+    }
+
+    @Test
+    @DisplayName("JSON 배열의 유효한 행만 배치로 저장하고, 실패한 행은 행 번호와 함께 보고한다")
+    void testImport_JsonArray() {
+        // Given: 정상 / 필수값 누락 / 요청 내 중복 / 노출 기간 오류
+        String body = "[" + String.join(",",
+                row("광고 A", "2024-11-22T12:00:00", "2024-11-29T12:00:00"),
+                "{\"title\":\"광고 B\",\"description\":\"설명\",\"imageUrl\":\"http://example.com/b.jpg\","
+                        + "\"maxParticipationCount\":10,\"exposureStartDate\":\"2024-11-22T12:00:00\",\"exposureEndDate\":\"2024-11-29T12:00:00\"}",
+                row(" 광고  a ", "2024-11-22T12:00:00", "2024-11-29T12:00:00"),
+                row("광고 C", "2024-11-29T12:00:00", "2024-11-22T12:00:00")) + "]";
+        reserveAllRequested();
+        saveAllAssigningIds();
+
+        // When
+        BulkImportResponse result = bulkImportService.importAdvertisements(stream(body), BulkImportFormat.JSON);
+
+        // Then
+        assertEquals(4, result.getTotalRows());
+        assertEquals(1, result.getImportedCount());
+        assertEquals(3, result.getFailedCount());
+        assertEquals(List.of(2, 3, 4), result.getErrors().stream().map(BulkImportError::getRow).toList());
+        assertEquals("보상 금액은 필수입니다.", result.getErrors().get(0).getMessage());
+        assertEquals("같은 요청 안에 동일한 이름의 광고가 있습니다.", result.getErrors().get(1).getMessage());
+        assertEquals("광고 노출 시작일은 종료일보다 앞서야 합니다.", result.getErrors().get(2).getMessage());
+
+        verify(advertisementTitleIndex).reserveAll(List.of("광고 A"));
+        verify(advertisementTitleIndex).confirmAll(argThat(ids -> ids.keySet().equals(Set.of("광고 A"))));
+        verify(entityManager, atLeastOnce()).clear();
+    }
+
+    @Test
+    @DisplayName("NDJSON 행 중 이미 등록된 광고명은 실패로 보고한다")
+    void testImport_NdjsonExistingTitle() {
+        // Given
+        String body = row("광고 A", "2024-11-22T12:00:00", "2024-11-29T12:00:00") + "\n"
+                + row("광고 B", "2024-11-22T12:00:00", "2024-11-29T12:00:00") + "\n";
+        when(advertisementTitleIndex.reserveAll(anyList())).thenReturn(Map.of("광고 B", "token"));
+        saveAllAssigningIds();
+
+        // When
+        BulkImportResponse result = bulkImportService.importAdvertisements(stream(body), BulkImportFormat.NDJSON);
+
+        // Then
+        assertEquals(2, result.getTotalRows());
+        assertEquals(1, result.getImportedCount());
+        assertEquals(1, result.getErrors().get(0).getRow());
+        assertEquals("동일한 이름의 광고가 이미 존재합니다.", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더로 필드를 매핑하고 빈 칸은 값이 없는 것으로 처리한다")
+    void testImport_Csv() {
+        // Given
+        String body = "title,rewardAmount,maxParticipationCount,description,imageUrl,exposureStartDate,exposureEndDate,qualificationCriteria\n"
+                + "광고 A,1000,10,\"설명, 쉼표 포함\",http://example.com/a.jpg,2024-11-22T12:00:00,2024-11-29T12:00:00,\n"
+                + "광고 B,500,5,설명,http://example.com/b.jpg,2024-11-22T12:00:00,2024-11-29T12:00:00,\"{\"\"minParticipationCount\"\":1}\"\n";
+        reserveAllRequested();
+        saveAllAssigningIds();
+
+        // When
+        BulkImportResponse result = bulkImportService.importAdvertisements(stream(body), BulkImportFormat.CSV);
+
+        // Then
+        assertEquals(2, result.getImportedCount());
+        assertEquals(0, result.getFailedCount());
+
+        ArgumentCaptor<List<Advertisement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(advertisementRepository).saveAll(captor.capture());
+        List<Advertisement> saved = captor.getValue();
+        assertEquals("설명, 쉼표 포함", saved.get(0).getDescription());
+        assertNull(saved.get(0).getQualificationCriteria());
+        assertEquals(500, saved.get(1).getRewardPoints());
+        assertEquals("{\"minParticipationCount\":1}", saved.get(1).getQualificationCriteria());
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 행 단위로 다시 저장하고 실패한 행의 선점만 해제한다")
+    void testImport_FallsBackToRowByRow() {
+        // Given
+        String body = "[" + row("광고 A", "2024-11-22T12:00:00", "2024-11-29T12:00:00") + ","
+                + row("광고 B", "2024-11-22T12:00:00", "2024-11-29T12:00:00") + "]";
+        reserveAllRequested();
+        runTransactionCallbacks();
+        when(advertisementRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(advertisementRepository.saveAndFlush(any(Advertisement.class))).thenAnswer(invocation -> {
+            Advertisement advertisement = invocation.getArgument(0);
+            if (advertisement.getTitle().equals("광고 B")) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            advertisement.setId(UUID.randomUUID());
+            return advertisement;
+        });
+
+        // When
+        BulkImportResponse result = bulkImportService.importAdvertisements(stream(body), BulkImportFormat.JSON);
+
+        // Then
+        assertEquals(1, result.getImportedCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        verify(advertisementTitleIndex).confirmAll(argThat(ids -> ids.containsKey("광고 A")));
+        verify(advertisementTitleIndex).release("광고 B", "token");
+    }
+
+    @Test
+    @DisplayName("본문이 중간에 깨지면 그 전까지 읽은 행만 등록하고 중단 위치를 보고한다")
+    void testImport_MalformedBody() {
+        // Given
+        String body = "[" + row("광고 A", "2024-11-22T12:00:00", "2024-11-29T12:00:00") + ", {\"title\": ";
+        reserveAllRequested();
+        saveAllAssigningIds();
+
+        // When
+        BulkImportResponse result = bulkImportService.importAdvertisements(stream(body), BulkImportFormat.JSON);
+
+        // Then
+        assertEquals(2, result.getTotalRows());
+        assertEquals(1, result.getImportedCount());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertNull(result.getErrors().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("행은 청크 단위로 나누어 선점하고 저장한다")
+    void testImport_Chunked() {
+        // Given
+        int rows = AdvertisementBulkImportService.CHUNK_SIZE + 1;
+        String body = IntStream.range(0, rows)
+                .mapToObj(i -> row("광고 " + i, "2024-11-22T12:00:00", "2024-11-29T12:00:00"))
+                .collect(Collectors.joining("\n"));
+        reserveAllRequested();
+        saveAllAssigningIds();
+
+        // When
+        BulkImportResponse result = bulkImportService.importAdvertisements(stream(body), BulkImportFormat.NDJSON);
+
+        // Then
+        assertEquals(rows, result.getImportedCount());
+        verify(advertisementTitleIndex, times(2)).reserveAll(anyList());
+        verify(advertisementRepository, times(2)).saveAll(anyList());
+    }
+
+    private void reserveAllRequested() {
+        when(advertisementTitleIndex.reserveAll(anyList()))
+                .thenAnswer(invocation -> {
+                    Map<String, String> reservations = new LinkedHashMap<>();
+                    invocation.<List<String>>getArgument(0).forEach(title -> reservations.put(title, "token"));
+                    return reservations;
+                });
+    }
+
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private void saveAllAssigningIds() {
+        runTransactionCallbacks();
+        when(advertisementRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Advertisement> advertisements = invocation.getArgument(0);
+            advertisements.forEach(advertisement -> advertisement.setId(UUID.randomUUID()));
+            return advertisements;
+        });
+    }
+
+    private static String row(String title, String start, String end) {
+        return String.format("{\"title\":\"%s\",\"rewardAmount\":1000,\"maxParticipationCount\":10,\"description\":\"설명\","
+                + "\"imageUrl\":\"http://example.com/image.jpg\",\"exposureStartDate\":\"%s\",\"exposureEndDate\":\"%s\"}", title, start, end);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,47 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.cache.EarlyRefreshCache;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdvertisementDetailCacheEvictorTest {
+
+    @Mock
+    private EarlyRefreshCache earlyRefreshCache;
+
+    @InjectMocks
+    private AdvertisementDetailCacheEvictor detailCacheEvictor;
+
+    @Test
+    @DisplayName("참여한 광고의 상세 캐시를 광고마다 한 번씩 한꺼번에 비운다")
+    void testOnParticipations() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // When
+        detailCacheEvictor.onParticipations(List.of(event(first), event(second), event(first)));
+
+        // Then
+        verify(earlyRefreshCache).evictAll(Set.of("advertisement:detail:" + first, "advertisement:detail:" + second));
+        verifyNoMoreInteractions(earlyRefreshCache);
+    }
+
+    private static ParticipationCompleted event(UUID advertisementId) {
+        return new ParticipationCompleted(UUID.randomUUID(), advertisementId, "광고", UUID.randomUUID(),
+                100, 1, 10, LocalDateTime.now());
+    }
+}
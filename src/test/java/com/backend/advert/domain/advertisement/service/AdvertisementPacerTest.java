@@ -0,0 +1,140 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.exception.ParticipationRateLimitedException;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdvertisementPacerTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+    private static final UUID ADVERTISEMENT_ID = UUID.randomUUID();
+    private static final List<String> KEYS = List.of(AdvertisementPacer.KEY_PREFIX + ADVERTISEMENT_ID);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private AdvertisementRepository advertisementRepository;
+
+    @InjectMocks
+    private AdvertisementPacer advertisementPacer;
+
+    @Test
+    @DisplayName("버킷이 없으면 광고의 남은 참여 가능 횟수와 노출 기간으로 적재한 뒤 토큰을 가져간다")
+    void testAcquire_SeedsBucket() {
+        // Given: 노출 시작 전 광고 (시작 시각부터 충전)
+        LocalDateTime start = LocalDateTime.ofInstant(NOW, ZoneId.systemDefault()).plusHours(1);
+        Advertisement advertisement = new Advertisement("광고", 100, 10, "설명", "http://test.image.url",
+                start, start.plusDays(1), "{}");
+        advertisement.setId(ADVERTISEMENT_ID);
+        advertisement.enablePacing();
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), anyString(), anyString())).thenReturn(-2L, 0L);
+        when(advertisementRepository.findById(ADVERTISEMENT_ID)).thenReturn(Optional.of(advertisement));
+
+        // When
+        advertisementPacer.acquire(ADVERTISEMENT_ID, NOW);
+
+        // Then
+        long startMillis = NOW.plusSeconds(3600).toEpochMilli();
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("1"), eq("9"),
+                eq(String.valueOf(startMillis)), eq(String.valueOf(startMillis + 86_400_000)), anyString());
+    }
+
+    @Test
+    @DisplayName("열린 참여 가능 횟수를 모두 사용했으면 재시도 가능 시간(초, 올림)과 함께 거절한다")
+    void testAcquire_RateLimited() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), anyString(), anyString())).thenReturn(1500L);
+
+        ParticipationRateLimitedException exception = assertThrows(ParticipationRateLimitedException.class,
+                () -> advertisementPacer.acquire(ADVERTISEMENT_ID, NOW));
+
+        assertEquals(2, exception.getRetryAfterSeconds());
+        verifyNoInteractions(advertisementRepository);
+    }
+
+    @Test
+    @DisplayName("토큰을 가져간 참여가 커밋되지 않으면 토큰을 돌려놓는다")
+    void testAcquire_RefundsWhenRolledBack() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), anyString(), anyString())).thenReturn(0L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            advertisementPacer.acquire(ADVERTISEMENT_ID, NOW);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS));
+    }
+
+    @Test
+    @DisplayName("속도 조절을 하지 않는 광고는 한 번 확인한 뒤로 Redis 를 거치지 않고 참여를 허용한다")
+    void testAcquire_NotPacedSkipsRedis() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), anyString(), anyString())).thenReturn(-1L);
+
+        assertDoesNotThrow(() -> advertisementPacer.acquire(ADVERTISEMENT_ID, NOW));
+        assertDoesNotThrow(() -> advertisementPacer.acquire(ADVERTISEMENT_ID, NOW));
+
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(KEYS), anyString(), anyString());
+        verifyNoInteractions(advertisementRepository);
+    }
+
+    @Test
+    @DisplayName("속도 조절을 하지 않는 광고의 버킷을 적재하면 토큰을 다시 확인하지 않고 다음 참여부터 Redis 를 거치지 않는다")
+    void testAcquire_SeedsNotPacedOnce() {
+        LocalDateTime start = LocalDateTime.ofInstant(NOW, ZoneId.systemDefault());
+        Advertisement advertisement = new Advertisement("광고", 100, 10, "설명", "http://test.image.url",
+                start, start.plusDays(1), "{}");
+        advertisement.setId(ADVERTISEMENT_ID);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), anyString(), anyString())).thenReturn(-2L);
+        when(advertisementRepository.findById(ADVERTISEMENT_ID)).thenReturn(Optional.of(advertisement));
+
+        advertisementPacer.acquire(ADVERTISEMENT_ID, NOW);
+        advertisementPacer.acquire(ADVERTISEMENT_ID, NOW);
+
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), eq(KEYS), anyString(), anyString());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("0"), eq("0"), eq("10"),
+                anyString(), anyString(), anyString());
+        verify(advertisementRepository, times(1)).findById(ADVERTISEMENT_ID);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 참여를 허용하고 속도 조절 여부를 기억하지 않는다")
+    void testAcquire_RedisFailure() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        assertDoesNotThrow(() -> advertisementPacer.acquire(ADVERTISEMENT_ID, NOW));
+        assertDoesNotThrow(() -> advertisementPacer.acquire(ADVERTISEMENT_ID, NOW));
+
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), eq(KEYS), anyString(), anyString());
+        verifyNoInteractions(advertisementRepository);
+    }
+}
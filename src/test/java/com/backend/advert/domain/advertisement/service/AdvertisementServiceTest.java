@@ -1,11 +1,20 @@
 package com.backend.advert.domain.advertisement.service;
 
+import com.backend.advert.common.cache.EarlyRefreshCache;
 import com.backend.advert.common.response.ApiResponse;
+import com.backend.advert.common.validator.AdvertisementValidator;
+import com.backend.advert.common.validator.CompiledQualification;
+import com.backend.advert.common.validator.QualificationCompiler;
+import com.backend.advert.common.validator.QualificationCriteriaCache;
 import com.backend.advert.common.validator.QualificationValidator;
+import com.backend.advert.common.validator.rule.ParticipationCountRule;
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.ActiveAdvertisementPage;
 import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
 import com.backend.advert.domain.advertisement.dto.CreateAdvertisementRequest;
 import com.backend.advert.domain.advertisement.entity.Advertisement;
 import com.backend.advert.domain.advertisement.exception.AdvertisementAlreadyExistsException;
+import com.backend.advert.domain.advertisement.exception.AdvertisementNotFoundException;
 import com.backend.advert.domain.advertisement.exception.InvalidQualificationException;
 import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -13,13 +22,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -28,6 +37,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,51 +50,48 @@ class AdvertisementServiceTest {
     private AdvertisementRepository advertisementRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private AdvertisementTitleIndex advertisementTitleIndex;
 
     @Mock
     private QualificationValidator qualificationValidator;
 
-    @InjectMocks
-    private AdvertisementService advertisementService;
+    @Mock
+    private EarlyRefreshCache earlyRefreshCache;
+
+    @Spy
+    private AdvertisementValidator advertisementValidator = new AdvertisementValidator(new QualificationCompiler(new JacksonConfig().objectMapper()));
+
+    @Mock
+    private QualificationCriteriaCache qualificationCriteriaCache;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private EligibleAdvertisementIndex eligibleAdvertisementIndex;
+
+    @InjectMocks
+    private AdvertisementService advertisementService;
 
     private static final LocalDateTime FIXED_NOW = LocalDateTime.of(2024, 11, 22, 12, 0, 0, 0);
 
     @Test
-    @DisplayName("광고 저장 성공 테스트 - Redis 캐시 사용 확인")
+    @DisplayName("광고 저장 성공 테스트 - 광고명 선점 및 확정 확인")
     void testSaveAdvertisement_Success() {
         // Given: 광고 생성 요청과 저장될 광고 데이터
         CreateAdvertisementRequest request = createTestAdvertisementRequest();
         Advertisement savedAdvertisement = createTestAdvertisement(UUID.randomUUID());
 
         // Mock 동작 설정
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(redisTemplate.hasKey(anyString())).thenReturn(false);
-        when(advertisementRepository.findByTitle(anyString())).thenReturn(Optional.empty());
-        when(advertisementRepository.save(any(Advertisement.class))).thenReturn(savedAdvertisement);
-
-        // Redis 캐시 저장 동작 Mock
-        doNothing().when(valueOperations).set(
-                eq("advertisement:title:테스트 광고"),
-                eq(savedAdvertisement.getId().toString()),
-                eq(Duration.ofHours(1))
-        );
+        when(advertisementTitleIndex.reserve("테스트 광고")).thenReturn("token");
+        when(advertisementRepository.saveAndFlush(any(Advertisement.class))).thenReturn(savedAdvertisement);
 
         // When: 광고 저장 실행
         ApiResponse<AdvertisementResponse> response = advertisementService.saveAdvertisement(request);
 
-        // Then: 응답 검증 및 캐시 저장 확인
+        // Then: 응답 검증 및 광고명 선점 확정 확인
         assertEquals(HttpStatus.CREATED, response.getStatus());
         assertEquals("테스트 광고", response.getData().getTitle());
-        verify(redisTemplate, times(1)).opsForValue();
-        verify(valueOperations, times(1)).set(
-                eq("advertisement:title:테스트 광고"),
-                eq(savedAdvertisement.getId().toString()),
-                eq(Duration.ofHours(1))
-        );
+        verify(advertisementTitleIndex, times(1)).confirmAfterCommit("테스트 광고", "token", savedAdvertisement.getId());
+        verify(advertisementTitleIndex, never()).release(anyString(), anyString());
+        verify(qualificationCriteriaCache).put(eq(savedAdvertisement), any(CompiledQualification.class));
     }
 
     @Test
@@ -93,11 +100,27 @@ class AdvertisementServiceTest {
         // Given: 광고 제목이 중복된 요청
         CreateAdvertisementRequest request = createTestAdvertisementRequest();
 
-        // Redis에 중복된 제목이 있다고 Mock
-        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        // 광고명 인덱스에 이미 선점된 제목이 있다고 Mock
+        when(advertisementTitleIndex.reserve("테스트 광고")).thenReturn(null);
 
         // When & Then: 예외 발생 확인
         assertThrows(AdvertisementAlreadyExistsException.class, () -> advertisementService.saveAdvertisement(request));
+        verify(advertisementRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("광고 저장 실패 시 광고명 선점 해제 테스트")
+    void testSaveAdvertisement_InsertFailureReleasesReservation() {
+        // Given: 선점 후 DB 유니크 제약 위반 발생
+        CreateAdvertisementRequest request = createTestAdvertisementRequest();
+        when(advertisementTitleIndex.reserve("테스트 광고")).thenReturn("token");
+        when(advertisementRepository.saveAndFlush(any(Advertisement.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate title"));
+
+        // When & Then: 중복 예외로 변환되고 선점 해제
+        assertThrows(AdvertisementAlreadyExistsException.class, () -> advertisementService.saveAdvertisement(request));
+        verify(advertisementTitleIndex, times(1)).release("테스트 광고", "token");
+        verify(advertisementTitleIndex, never()).confirmAfterCommit(anyString(), anyString(), any());
     }
 
     @Test
@@ -107,6 +130,10 @@ class AdvertisementServiceTest {
         Advertisement advertisement = createTestAdvertisement(UUID.randomUUID());
         Pageable pageable = PageRequest.of(0, 10);
 
+        // 캐시 미스 시 로더가 그대로 실행되도록 Mock
+        when(earlyRefreshCache.get(eq("activeAdvertisements::0_10"), eq(ActiveAdvertisementPage.class), any(Duration.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+
         // 활성 광고 목록 반환 Mock
         when(advertisementRepository.findByExposureStartDateBeforeAndExposureEndDateAfterAndRemainingParticipationCountGreaterThan(
                 any(LocalDateTime.class), any(LocalDateTime.class), eq(0), eq(pageable)))
@@ -121,6 +148,55 @@ class AdvertisementServiceTest {
         assertEquals("테스트 광고", response.getData().getContent().get(0).getTitle());
     }
 
+    @Test
+    @DisplayName("활성 광고 목록 조회 - 캐시 적중 시 DB를 조회하지 않음")
+    void testGetActiveAdvertisements_CacheHit() {
+        // Given: 캐시에 저장된 활성 광고 목록
+        AdvertisementResponse cachedAdvertisement = AdvertisementResponse.fromEntity(createTestAdvertisement(UUID.randomUUID()));
+        when(earlyRefreshCache.get(eq("activeAdvertisements::0_10"), eq(ActiveAdvertisementPage.class), any(Duration.class), any()))
+                .thenReturn(new ActiveAdvertisementPage(List.of(cachedAdvertisement), 1));
+
+        // When: 활성 광고 목록 조회
+        ApiResponse<Page<AdvertisementResponse>> response = advertisementService.getActiveAdvertisements(0, 10);
+
+        // Then: 캐시 값 반환, DB 미호출
+        assertEquals(1, response.getData().getTotalElements());
+        assertEquals("테스트 광고", response.getData().getContent().get(0).getTitle());
+        verifyNoInteractions(advertisementRepository);
+    }
+
+    @Test
+    @DisplayName("광고 상세 조회 실패 테스트 - 존재하지 않는 광고")
+    void testGetAdvertisement_NotFound() {
+        // Given: 캐시 미스 후 DB에도 광고가 없음
+        UUID advertisementId = UUID.randomUUID();
+        when(earlyRefreshCache.get(eq("advertisement:detail:" + advertisementId), eq(AdvertisementResponse.class), any(Duration.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+        when(advertisementRepository.findById(advertisementId)).thenReturn(Optional.empty());
+
+        // When & Then: 광고 없음 예외 확인
+        assertThrows(AdvertisementNotFoundException.class, () -> advertisementService.getAdvertisement(advertisementId));
+    }
+
+    @Test
+    @DisplayName("참여 가능 광고 목록은 색인 결과를 페이지로 나누어 반환한다")
+    void testGetEligibleAdvertisements_Paged() {
+        // Given: 참여 가능 광고 3개
+        UUID userId = UUID.randomUUID();
+        List<AdvertisementResponse> eligible = List.of(
+                AdvertisementResponse.fromEntity(createTestAdvertisement(UUID.randomUUID())),
+                AdvertisementResponse.fromEntity(createTestAdvertisement(UUID.randomUUID())),
+                AdvertisementResponse.fromEntity(createTestAdvertisement(UUID.randomUUID())));
+        when(eligibleAdvertisementIndex.findEligible(userId)).thenReturn(eligible);
+
+        // When: 두 번째 페이지 (크기 2)
+        ApiResponse<Page<AdvertisementResponse>> response = advertisementService.getEligibleAdvertisements(userId, 1, 2);
+
+        // Then
+        assertEquals(3, response.getData().getTotalElements());
+        assertEquals(List.of(eligible.get(2)), response.getData().getContent());
+    }
+
     @Test
     @DisplayName("광고 참여 가능 성공 테스트")
     void testCanUserParticipate_Success() {
@@ -129,9 +205,12 @@ class AdvertisementServiceTest {
         UUID userId = UUID.randomUUID();
         Advertisement advertisement = createTestAdvertisement(advertisementId);
 
-        // Mock 설정
+        CompiledQualification qualification = new CompiledQualification(new ParticipationCountRule(1, null));
+
+        // Mock 설정: 캐시된 컴파일 결과로 검증
         when(advertisementRepository.findById(any(UUID.class))).thenReturn(Optional.of(advertisement));
-        when(qualificationValidator.isValid(any(), eq(userId))).thenReturn(true);
+        when(qualificationCriteriaCache.get(advertisement)).thenReturn(qualification);
+        when(qualificationValidator.isValid(qualification, userId)).thenReturn(true);
 
         // When: 광고 참여 가능 여부 확인
         boolean result = advertisementService.canUserParticipate(advertisementId, userId);
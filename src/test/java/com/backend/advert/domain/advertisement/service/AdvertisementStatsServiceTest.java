@@ -0,0 +1,115 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.config.redis.RedisScriptPipeline;
+import com.backend.advert.domain.advertisement.dto.AdvertisementStatsResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdvertisementStatsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T12:00:30Z");
+    private static final UUID ADVERTISEMENT_ID = UUID.randomUUID();
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private AdvertisementRepository advertisementRepository;
+
+    @Mock
+    private RedisScriptPipeline redisScriptPipeline;
+
+    @InjectMocks
+    private AdvertisementStatsService advertisementStatsService;
+
+    @Test
+    @DisplayName("최근 구간별 초당 참여 수와 최근 5분 속도 기준 소진 예상 시각을 계산한다")
+    void testGetStats() {
+        // Given: 10초 전 30건, 200초 전 60건, 800초 전 90건 / 100건 중 40건 참여
+        long now = NOW.getEpochSecond();
+        List<Object> results = new ArrayList<>();
+        results.add(Map.of("participations", "40", "max", "100"));
+        results.add(Map.of(String.valueOf(now - 10), "30", String.valueOf(now - 200), "60", String.valueOf(now - 800), "90"));
+        results.addAll(Collections.nCopies(15, Map.of()));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(results);
+
+        // When
+        AdvertisementStatsResponse stats = advertisementStatsService.getStats(ADVERTISEMENT_ID, NOW);
+
+        // Then
+        assertEquals(40, stats.getParticipationCount());
+        assertEquals(60, stats.getRemainingParticipationCount());
+        assertEquals(0.5, stats.getParticipationsPerSecondLastMinute());
+        assertEquals(0.3, stats.getParticipationsPerSecondLast5Minutes(), 1e-9);
+        assertEquals(0.2, stats.getParticipationsPerSecondLast15Minutes(), 1e-9);
+        assertEquals(LocalDateTime.ofInstant(NOW.plusSeconds(200), ZoneId.systemDefault()), stats.getEstimatedSelloutAt());
+        verifyNoInteractions(advertisementRepository);
+    }
+
+    @Test
+    @DisplayName("기록이 없는 광고는 광고 행으로 누적 참여 수를 채우고, 최근 참여가 없으면 소진 시각을 예상하지 않는다")
+    void testGetStats_SeedsFromAdvertisement() {
+        // Given
+        Advertisement advertisement = new Advertisement("광고", 100, 10, "설명", "http://test.image.url",
+                LocalDateTime.now(), LocalDateTime.now().plusDays(1), "{}");
+        advertisement.setId(ADVERTISEMENT_ID);
+        advertisement.decrementParticipationCount();
+        List<Object> results = new ArrayList<>(Collections.nCopies(17, Map.of()));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(results);
+        when(advertisementRepository.findById(ADVERTISEMENT_ID)).thenReturn(Optional.of(advertisement));
+
+        // When
+        AdvertisementStatsResponse stats = advertisementStatsService.getStats(ADVERTISEMENT_ID, NOW);
+
+        // Then
+        assertEquals(1, stats.getParticipationCount());
+        assertEquals(9, stats.getRemainingParticipationCount());
+        assertEquals(0, stats.getParticipationsPerSecondLast5Minutes());
+        assertNull(stats.getEstimatedSelloutAt());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("10"), eq("1"), eq(""), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("참여 이벤트의 누적 참여 수와 참여 시각의 초 단위 참여 수를 기록한다")
+    void testOnParticipations() {
+        // Given: 10건 중 2번째 참여
+        LocalDateTime participatedAt = LocalDateTime.ofInstant(NOW, ZoneId.systemDefault());
+        long epochSecond = NOW.getEpochSecond();
+        ParticipationCompleted event = new ParticipationCompleted(UUID.randomUUID(), ADVERTISEMENT_ID, "광고",
+                UUID.randomUUID(), 100, 2, 10, participatedAt);
+
+        // When
+        advertisementStatsService.onParticipations(List.of(event));
+
+        // Then
+        verify(redisScriptPipeline).execute(argThat(calls -> calls.size() == 1
+                && calls.get(0).keys().equals(List.of("advertisement:stats:" + ADVERTISEMENT_ID, "advertisement:stats:" + ADVERTISEMENT_ID + ":seconds:" + epochSecond / 60))
+                && calls.get(0).args().subList(0, 3).equals(List.of("10", "2", String.valueOf(epochSecond)))));
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
@@ -0,0 +1,122 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdvertisementTitleIndexTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private AdvertisementRepository advertisementRepository;
+
+    @InjectMocks
+    private AdvertisementTitleIndex advertisementTitleIndex;
+
+    @Test
+    @DisplayName("광고명은 공백과 대소문자를 정규화한 키로 선점된다")
+    void testReserve_UsesNormalizedKey() {
+        // Given: 선점 성공, Bloom filter에 없는 광고명 (SETNX와 Bloom filter 확인을 한 번에 보냄)
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(true, true, true, false, true, true, true, true));
+
+        // When
+        String token = advertisementTitleIndex.reserve("  Summer   SALE ");
+
+        // Then: Bloom filter가 "확실히 없음"을 보장하므로 DB를 조회하지 않음
+        assertNotNull(token);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verifyNoInteractions(advertisementRepository);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 선점 중인 광고명은 선점할 수 없다")
+    void testReserve_AlreadyReserved() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(Stream.<Object>concat(Stream.of(false), Collections.nCopies(7, true).stream()).toList());
+
+        assertNull(advertisementTitleIndex.reserve("테스트 광고"));
+        verifyNoInteractions(advertisementRepository);
+    }
+
+    @Test
+    @DisplayName("Bloom filter가 존재 가능성을 알리면 정규화된 광고명으로 DB를 확인하고, 존재하면 선점에 실패한다")
+    void testReserve_BloomHitConfirmedByDatabase() {
+        // Given: "summer sale" 이 등록된 뒤 선점 키가 만료됨
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(Collections.nCopies(8, true));
+        when(advertisementRepository.existsByNormalizedTitle("summer sale")).thenReturn(true);
+
+        // When
+        String token = advertisementTitleIndex.reserve("Summer  Sale");
+
+        // Then: 기존 광고명으로 표시
+        assertNull(token);
+        verify(valueOperations).set(eq("advertisement:title:summer sale"), eq("exists"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 확정하면 광고 ID 기록과 Bloom filter 추가를 한 번의 파이프라인으로 보낸다")
+    void testConfirmAfterCommit_WithoutTransaction() {
+        UUID advertisementId = UUID.randomUUID();
+
+        advertisementTitleIndex.confirmAfterCommit("테스트 광고", "token", advertisementId);
+
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    @DisplayName("일괄 선점은 Bloom filter에 있을 수 있는 광고명만 한 번의 DB 조회로 확인한다")
+    void testReserveAll() {
+        // Given: 광고 B는 다른 요청이 선점 중, 광고 A/C 중 광고 C만 Bloom filter 적중
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.<Object>of(true, false, true))
+                .thenReturn(Stream.<Object>concat(Collections.nCopies(7, false).stream(), Collections.nCopies(7, true).stream()).toList());
+        when(advertisementRepository.findExistingNormalizedTitles(List.of("광고 c"))).thenReturn(List.of("광고 c"));
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        Map<String, String> reserved = advertisementTitleIndex.reserveAll(List.of("광고 A", "광고 B", "광고 C"));
+
+        // Then
+        assertEquals(List.of("광고 A"), List.copyOf(reserved.keySet()));
+        assertNotNull(reserved.get("광고 A"));
+        verify(valueOperations).set(eq("advertisement:title:광고 c"), eq("exists"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("선점 해제는 정규화된 키를 선점 토큰이 같을 때만 삭제한다")
+    void testRelease() {
+        advertisementTitleIndex.release(" 테스트  광고 ", "token");
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("advertisement:title:테스트 광고")), eq("token"));
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+}
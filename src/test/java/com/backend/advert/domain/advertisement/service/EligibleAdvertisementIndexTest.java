@@ -0,0 +1,139 @@
+package com.backend.advert.domain.advertisement.service;
+
+import com.backend.advert.common.cache.CacheMetrics;
+import com.backend.advert.common.validator.QualificationCompiler;
+import com.backend.advert.common.validator.QualificationCriteriaCache;
+import com.backend.advert.common.validator.QualificationValidator;
+import com.backend.advert.config.JacksonConfig;
+import com.backend.advert.domain.advertisement.dto.AdvertisementResponse;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.user.dto.UserProfile;
+import com.backend.advert.domain.user.entity.User;
+import com.backend.advert.domain.user.exception.UserNotFoundException;
+import com.backend.advert.domain.user.service.UserParticipationCounter;
+import com.backend.advert.domain.user.service.UserProfileCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EligibleAdvertisementIndexTest {
+
+    @Mock
+    private AdvertisementRepository advertisementRepository;
+
+    @Mock
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private QualificationValidator qualificationValidator;
+
+    @Mock
+    private UserParticipationCounter participationCounter;
+
+    private EligibleAdvertisementIndex eligibleAdvertisementIndex;
+
+    @BeforeEach
+    void setUp() {
+        QualificationCriteriaCache qualificationCriteriaCache =
+                new QualificationCriteriaCache(new QualificationCompiler(new JacksonConfig().objectMapper()),
+                        new CacheMetrics(new SimpleMeterRegistry()));
+        eligibleAdvertisementIndex = new EligibleAdvertisementIndex(
+                advertisementRepository, participationRepository, userProfileCache, qualificationCriteriaCache, qualificationValidator, participationCounter);
+    }
+
+    @Test
+    @DisplayName("참여 횟수 범위, 제외 광고, 참여 이력을 집합 연산으로 걸러 참여 가능한 광고를 찾는다")
+    void testFindEligible() {
+        // Given: 참여 횟수 2회, 광고 X와 joinedAd에 참여한 사용자
+        UUID excludedSourceId = UUID.randomUUID();
+        Advertisement open = advertisement("조건 없음", 100, null);
+        Advertisement firstTime = advertisement("첫 참여", 200, "{\"firstTimeParticipation\": true}");
+        Advertisement loyal = advertisement("3회 이상", 300, "{\"minParticipationCount\": 3}");
+        Advertisement excluded = advertisement("X 미참여", 400,
+                "{\"excludedAdvertisementId\": \"" + excludedSourceId + "\", \"rule\": {\"participationCount\": {\"min\": 1, \"max\": 2}}}");
+        Advertisement ranged = advertisement("1~2회", 500, "{\"rule\": {\"participationCount\": {\"min\": 1, \"max\": 2}}}");
+        Advertisement domain = advertisement("사내 전용", 600, "{\"rule\": {\"emailDomain\": [\"company.com\"]}}");
+        Advertisement joinedAd = advertisement("참여 완료", 700, null);
+        Advertisement broken = advertisement("잘못된 조건", 800, "{invalid");
+
+        User user = User.builder().id(UUID.randomUUID()).email("user@company.com").username("user").participationCount(2).build();
+
+        when(advertisementRepository.findByExposureStartDateBeforeAndExposureEndDateAfterAndRemainingParticipationCountGreaterThan(
+                any(LocalDateTime.class), any(LocalDateTime.class), eq(0), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(open, firstTime, loyal, excluded, ranged, domain, joinedAd, broken)));
+        when(userProfileCache.getById(user.getId())).thenReturn(Optional.of(UserProfile.fromEntity(user)));
+        when(participationCounter.getCount(user.getId(), 2)).thenReturn(2);
+        when(participationRepository.findAdvertisementIdsByUserId(user.getId())).thenReturn(List.of(excludedSourceId, joinedAd.getId()));
+        when(qualificationValidator.evaluateAdvertisements(anyMap(), eq(user.getId())))
+                .thenReturn(Map.of(domain.getId(), true));
+
+        // When
+        List<AdvertisementResponse> eligible = eligibleAdvertisementIndex.findEligible(user.getId());
+
+        // Then: 적립액수 높은 순
+        assertEquals(List.of("사내 전용", "1~2회", "조건 없음"), eligible.stream().map(AdvertisementResponse::getTitle).toList());
+
+        // 색인할 수 없는 규칙을 가진 광고만 일괄 평가
+        verify(qualificationValidator).evaluateAdvertisements(argThat(residual -> residual.keySet().equals(Set.of(domain.getId()))), eq(user.getId()));
+    }
+
+    @Test
+    @DisplayName("색인은 한 번 구성한 뒤 조회마다 다시 구성하지 않는다")
+    void testFindEligible_ReusesSnapshot() {
+        User user = User.builder().id(UUID.randomUUID()).email("user@example.com").username("user").participationCount(0).build();
+        when(advertisementRepository.findByExposureStartDateBeforeAndExposureEndDateAfterAndRemainingParticipationCountGreaterThan(
+                any(LocalDateTime.class), any(LocalDateTime.class), eq(0), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(advertisement("조건 없음", 100, null))));
+        when(userProfileCache.getById(user.getId())).thenReturn(Optional.of(UserProfile.fromEntity(user)));
+
+        eligibleAdvertisementIndex.findEligible(user.getId());
+        eligibleAdvertisementIndex.findEligible(user.getId());
+
+        verify(advertisementRepository, times(1))
+                .findByExposureStartDateBeforeAndExposureEndDateAfterAndRemainingParticipationCountGreaterThan(any(), any(), anyInt(), any());
+        verifyNoInteractions(qualificationValidator);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 예외가 발생한다")
+    void testFindEligible_UserNotFound() {
+        when(advertisementRepository.findByExposureStartDateBeforeAndExposureEndDateAfterAndRemainingParticipationCountGreaterThan(
+                any(LocalDateTime.class), any(LocalDateTime.class), eq(0), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        UUID userId = UUID.randomUUID();
+        when(userProfileCache.getById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> eligibleAdvertisementIndex.findEligible(userId));
+    }
+
+    private Advertisement advertisement(String title, int rewardPoints, String qualificationCriteria) {
+        Advertisement advertisement = new Advertisement(
+                title, rewardPoints, 10, "설명", "http://example.com/image.jpg",
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), qualificationCriteria);
+        advertisement.setId(UUID.randomUUID());
+        return advertisement;
+    }
+}
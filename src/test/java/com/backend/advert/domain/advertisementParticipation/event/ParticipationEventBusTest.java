@@ -0,0 +1,121 @@
+package com.backend.advert.domain.advertisementParticipation.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipationEventBusTest {
+
+    private ParticipationEventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 발행한 이벤트를 후속 작업마다 빠짐없이 묶음으로 전달한다")
+    void testPublish_DeliversAllEventsInBatches() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 2000;
+        RecordingHandler first = new RecordingHandler(threads * perThread);
+        RecordingHandler second = new RecordingHandler(threads * perThread);
+        eventBus = new ParticipationEventBus(List.of(first, second));
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    eventBus.publish(event());
+                }
+            });
+        }
+        executor.shutdown();
+
+        // Then
+        assertTrue(first.done.await(10, TimeUnit.SECONDS));
+        assertTrue(second.done.await(10, TimeUnit.SECONDS));
+        assertEquals(threads * perThread, first.events.size());
+        assertEquals(threads * perThread, second.events.size());
+        assertTrue(first.batchSizes.stream().allMatch(size -> size <= ParticipationEventBus.MAX_BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("한 후속 작업이 실패해도 다른 후속 작업과 다음 묶음은 계속 처리한다")
+    void testPublish_HandlerFailureIsIsolated() throws Exception {
+        // Given
+        RecordingHandler healthy = new RecordingHandler(2);
+        ParticipationEventHandler failing = events -> {
+            throw new IllegalStateException("후속 처리 실패");
+        };
+        eventBus = new ParticipationEventBus(List.of(failing, healthy));
+
+        // When
+        eventBus.publish(event());
+        eventBus.publish(event());
+
+        // Then
+        assertTrue(healthy.done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, healthy.events.size());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에만 발행한다")
+    void testPublishAfterCommit() throws Exception {
+        RecordingHandler handler = new RecordingHandler(1);
+        eventBus = new ParticipationEventBus(List.of(handler));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventBus.publishAfterCommit(event());
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertTrue(handler.events.isEmpty());
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(handler.done.await(5, TimeUnit.SECONDS));
+    }
+
+    private static ParticipationCompleted event() {
+        return new ParticipationCompleted(UUID.randomUUID(), UUID.randomUUID(), "광고", UUID.randomUUID(),
+                100, 1, 10, LocalDateTime.now());
+    }
+
+    private static class RecordingHandler implements ParticipationEventHandler {
+        private final List<ParticipationCompleted> events = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done;
+
+        private RecordingHandler(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onParticipations(List<ParticipationCompleted> batch) {
+            batchSizes.add(batch.size());
+            events.addAll(batch);
+            batch.forEach(event -> done.countDown());
+        }
+    }
+}
@@ -2,13 +2,20 @@ package com.backend.advert.domain.advertisementParticipation.repository;
 
 import com.backend.advert.domain.advertisement.entity.Advertisement;
 import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
 import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -19,7 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // 인메모리 DB 사용
 @ActiveProfiles("test")
 class AdvertisementParticipationRepositoryTest {
@@ -30,6 +37,9 @@ class AdvertisementParticipationRepositoryTest {
     @Autowired
     private AdvertisementRepository advertisementRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Advertisement testAdvertisement;
     private UUID testUserId;
     private static final LocalDateTime TEST_DATE = LocalDateTime.of(2024, 11, 22, 12, 0, 0);
@@ -120,4 +130,54 @@ class AdvertisementParticipationRepositoryTest {
 
         assertFalse(exists, "참여하지 않은 사용자에 대해 false를 반환해야 합니다.");
     }
+
+    @Test
+    @DisplayName("참여 쌍을 키셋 페이지로 조회하고, 여러 사용자의 기간 내 참여 시각을 한 번에 조회한다.")
+    void testBatchParticipationQueries() {
+        UUID otherUserId = UUID.randomUUID();
+        List<UUID> userIds = List.of(testUserId, otherUserId);
+
+        List<AdvertisementParticipationRepository.UserAdvertisement> participated =
+                participationRepository.findUserAdvertisementsAfter(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0, 0), PageRequest.of(0, 10));
+        List<AdvertisementParticipationRepository.UserParticipationTime> recent =
+                participationRepository.findParticipationTimesSince(userIds, TEST_DATE.minusDays(1));
+
+        assertThat(participated).hasSize(1);
+        assertThat(participated.get(0).getUserId()).isEqualTo(testUserId);
+        assertThat(participated.get(0).getAdvertisementId()).isEqualTo(testAdvertisement.getId());
+        assertThat(recent).extracting(AdvertisementParticipationRepository.UserParticipationTime::getParticipatedAt).containsExactly(TEST_DATE);
+        assertThat(participationRepository.findParticipationTimesSince(userIds, TEST_DATE)).isEmpty();
+        assertThat(participationRepository.findUserAdvertisementsAfter(
+                participated.get(0).getParticipatedAt(), participated.get(0).getId(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(participationRepository.findUserAdvertisements(userIds, List.of(testAdvertisement.getId())))
+                .extracting(AdvertisementParticipationRepository.UserAdvertisement::getUserId).containsExactly(testUserId);
+    }
+
+    @Test
+    @DisplayName("기간 내 참여 이력 페이지는 광고 수와 관계없이 고정된 수의 쿼리로 응답을 만든다.")
+    void testFindByUserIdAndParticipatedAtBetween_QueryCount() {
+        // Given: 서로 다른 광고 20개에 참여하고 페이지 크기는 10 (내용 + 개수 쿼리)
+        for (int i = 0; i < 20; i++) {
+            Advertisement advertisement = advertisementRepository.save(new Advertisement(
+                    "광고 " + i, 100, 10, "설명", "http://example.com/image.jpg",
+                    TEST_DATE.minusDays(1), TEST_DATE.plusDays(10), null));
+            participationRepository.save(new AdvertisementParticipation(advertisement, testUserId, TEST_DATE.plusMinutes(i + 1)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Page<AdvertisementParticipationResponse> history = participationRepository.findByUserIdAndParticipatedAtBetween(
+                        testUserId, TEST_DATE.minusDays(1), TEST_DATE.plusDays(1), PageRequest.of(0, 10, Sort.by("participatedAt")))
+                .map(AdvertisementParticipationResponse::fromEntity);
+
+        // Then
+        assertThat(history.getContent()).hasSize(10);
+        assertThat(history.getContent()).extracting(AdvertisementParticipationResponse::getAdvertisementTitle).doesNotContainNull();
+        assertThat(history.getTotalElements()).isEqualTo(21);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
 }
@@ -3,20 +3,32 @@ package com.backend.advert.domain.advertisementParticipation.service;
 import com.backend.advert.domain.advertisement.entity.Advertisement;
 import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
 import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationRequest;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipationArchive;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventBus;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
 import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.point.service.PointCreditService;
 import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisement.exception.ParticipationRateLimitedException;
+import com.backend.advert.domain.advertisement.service.AdvertisementPacer;
 import com.backend.advert.common.response.ApiResponse;
 import com.backend.advert.config.redis.RedisLockService;
-import com.backend.advert.domain.point.exception.PointServiceException;
-import com.backend.advert.domain.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,11 +48,29 @@ class AdvertisementParticipationServiceTest {
     @Mock
     private AdvertisementParticipationRepository participationRepository;
 
+    @Mock
+    private AdvertisementParticipationArchiveRepository archiveRepository;
+
+    @Mock
+    private ParticipationPartitionManager partitionManager;
+
     @Mock
     private RedisLockService redisLockService;
 
     @Mock
-    private PointService pointService;
+    private RecentParticipationCache recentParticipationCache;
+
+    @Mock
+    private ParticipationEventBus participationEventBus;
+
+    @Mock
+    private AdvertisementPacer advertisementPacer;
+
+    @Mock
+    private PointCreditService pointCreditService;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     private static final UUID TEST_ADVERTISEMENT_ID = UUID.randomUUID();
     private static final UUID TEST_USER_ID = UUID.randomUUID();
@@ -64,8 +94,8 @@ class AdvertisementParticipationServiceTest {
         advertisement.setId(TEST_ADVERTISEMENT_ID);
 
         when(advertisementRepository.findById(TEST_ADVERTISEMENT_ID)).thenReturn(Optional.of(advertisement));
-        doNothing().when(redisLockService).lock(anyString());
-        doNothing().when(redisLockService).unlock(anyString());
+        when(redisLockService.lock(anyString())).thenReturn("token");
+        doNothing().when(redisLockService).unlockAfterCompletion(anyString(), eq("token"));
 
         // When & Then
         InvalidAdvertisementException exception = assertThrows(
@@ -74,8 +104,9 @@ class AdvertisementParticipationServiceTest {
         );
 
         assertEquals("남은 참여 가능 횟수가 없습니다.", exception.getMessage());
-        verify(redisLockService, times(1)).unlock(anyString());
+        verify(redisLockService, times(1)).unlockAfterCompletion(anyString(), eq("token"));
         verify(participationRepository, never()).save(any());
+        verifyNoInteractions(pointCreditService);
     }
 
     @Test
@@ -98,9 +129,9 @@ class AdvertisementParticipationServiceTest {
 
         when(advertisementRepository.findById(TEST_ADVERTISEMENT_ID)).thenReturn(Optional.of(advertisement));
         when(participationRepository.existsByUserIdAndAdvertisementId(TEST_USER_ID, TEST_ADVERTISEMENT_ID)).thenReturn(false);
-        doNothing().when(redisLockService).lock(anyString());
-        doNothing().when(redisLockService).unlock(anyString());
-        doNothing().when(pointService).addPoints(eq(TEST_USER_ID), eq(100));
+        when(advertisementRepository.decrementRemainingParticipationCount(eq(TEST_ADVERTISEMENT_ID), any(LocalDateTime.class))).thenReturn(1);
+        when(redisLockService.lock(anyString())).thenReturn("token");
+        doNothing().when(redisLockService).unlockAfterCompletion(anyString(), eq("token"));
 
         // When
         ApiResponse<String> response = participationService.participateInAdvertisement(request);
@@ -109,20 +140,26 @@ class AdvertisementParticipationServiceTest {
         assertNotNull(response);
         assertEquals("광고 참여가 완료되었습니다.", response.getMessage());
         verify(participationRepository, times(1)).save(any());
-        verify(pointService, times(1)).addPoints(TEST_USER_ID, 100);
-        verify(redisLockService, times(1)).unlock(anyString());
+        verify(pointCreditService, times(1)).register(any(), eq(TEST_USER_ID), eq(100));
+        verify(participationEventBus, times(1)).publishAfterCommit(argThat(event ->
+                event.advertisementId().equals(TEST_ADVERTISEMENT_ID) && event.userId().equals(TEST_USER_ID)
+                        && event.rewardPoints() == 100 && event.participationCount() == 1 && event.maxParticipationCount() == 5));
+        verify(redisLockService, times(1)).unlockAfterCompletion(anyString(), eq("token"));
+        for (String stage : List.of("pacing", "lock", "load", "validate", "save", "publish")) {
+            assertEquals(1, meterRegistry.get(AdvertisementParticipationService.STAGE_METRIC).tag("stage", stage).timer().count());
+        }
     }
 
     @Test
-    @DisplayName("광고 참여 실패 테스트 - 포인트 적립 실패")
-    void testParticipateInAdvertisement_PointServiceFailure() {
+    @DisplayName("광고 참여 실패 테스트 - 락이 만료되어 다른 요청이 먼저 차감했으면 조건부 차감이 실패하여 초과 참여하지 않는다")
+    void testParticipateInAdvertisement_DecrementRejected() {
         // Given
         AdvertisementParticipationRequest request = new AdvertisementParticipationRequest(TEST_ADVERTISEMENT_ID, TEST_USER_ID);
 
         Advertisement advertisement = new Advertisement(
                 "테스트 광고",
                 100,
-                5,
+                1,
                 "테스트 설명",
                 "http://test.image.url",
                 LocalDateTime.now().minusDays(1),
@@ -133,20 +170,18 @@ class AdvertisementParticipationServiceTest {
 
         when(advertisementRepository.findById(TEST_ADVERTISEMENT_ID)).thenReturn(Optional.of(advertisement));
         when(participationRepository.existsByUserIdAndAdvertisementId(TEST_USER_ID, TEST_ADVERTISEMENT_ID)).thenReturn(false);
-        doNothing().when(redisLockService).lock(anyString());
-        doNothing().when(redisLockService).unlock(anyString());
-        doThrow(new PointServiceException("포인트 적립 실패"))
-                .when(pointService).addPoints(eq(TEST_USER_ID), eq(100));
+        when(advertisementRepository.decrementRemainingParticipationCount(eq(TEST_ADVERTISEMENT_ID), any(LocalDateTime.class))).thenReturn(0);
+        when(redisLockService.lock(anyString())).thenReturn("token");
 
-        // When
-        ApiResponse<String> response = participationService.participateInAdvertisement(request);
+        // When & Then
+        InvalidAdvertisementException exception = assertThrows(
+                InvalidAdvertisementException.class,
+                () -> participationService.participateInAdvertisement(request)
+        );
 
-        // Then
-        assertNotNull(response);
-        assertEquals("광고 참여는 완료되었으나 포인트 적립에 실패했습니다.", response.getMessage());
-        verify(participationRepository, times(1)).save(any());
-        verify(pointService, times(1)).addPoints(TEST_USER_ID, 100);
-        verify(redisLockService, times(1)).unlock(anyString());
+        assertEquals("남은 참여 가능 횟수가 없습니다.", exception.getMessage());
+        verifyNoInteractions(pointCreditService, participationEventBus);
+        verify(redisLockService, times(1)).unlockAfterCompletion(anyString(), eq("token"));
     }
 
     @Test
@@ -169,8 +204,8 @@ class AdvertisementParticipationServiceTest {
 
         when(advertisementRepository.findById(TEST_ADVERTISEMENT_ID)).thenReturn(Optional.of(advertisement));
         when(participationRepository.existsByUserIdAndAdvertisementId(TEST_USER_ID, TEST_ADVERTISEMENT_ID)).thenReturn(true);
-        doNothing().when(redisLockService).lock(anyString());
-        doNothing().when(redisLockService).unlock(anyString());
+        when(redisLockService.lock(anyString())).thenReturn("token");
+        doNothing().when(redisLockService).unlockAfterCompletion(anyString(), eq("token"));
 
         // When & Then
         InvalidAdvertisementException exception = assertThrows(
@@ -179,6 +214,111 @@ class AdvertisementParticipationServiceTest {
         );
 
         assertEquals("이미 참여한 광고입니다.", exception.getMessage());
-        verify(redisLockService, times(1)).unlock(anyString());
+        verify(redisLockService, times(1)).unlockAfterCompletion(anyString(), eq("token"));
+    }
+
+    @Test
+    @DisplayName("광고 참여 실패 테스트 - 속도 조절로 거절되면 락과 DB 조회를 하지 않는다")
+    void testParticipateInAdvertisement_RateLimited() {
+        // Given
+        AdvertisementParticipationRequest request = new AdvertisementParticipationRequest(TEST_ADVERTISEMENT_ID, TEST_USER_ID);
+        doThrow(new ParticipationRateLimitedException("참여 요청이 많아 잠시 후 다시 시도해 주세요.", 1))
+                .when(advertisementPacer).acquire(TEST_ADVERTISEMENT_ID);
+
+        // When & Then
+        assertThrows(ParticipationRateLimitedException.class, () -> participationService.participateInAdvertisement(request));
+        verifyNoInteractions(redisLockService, advertisementRepository, participationRepository);
+    }
+
+    @Test
+    @DisplayName("광고 참여 실패 테스트 - 락을 획득하지 못하면 다른 요청이 잡은 락을 해제하지 않는다")
+    void testParticipateInAdvertisement_LockNotAcquired() {
+        // Given
+        AdvertisementParticipationRequest request = new AdvertisementParticipationRequest(TEST_ADVERTISEMENT_ID, TEST_USER_ID);
+        doThrow(new RuntimeException("잠금을 획득할 수 없습니다.")).when(redisLockService).lock(anyString());
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> participationService.participateInAdvertisement(request));
+        verify(redisLockService, never()).unlockAfterCompletion(anyString(), any());
+        verify(redisLockService, never()).unlock(anyString(), any());
+        verifyNoInteractions(advertisementRepository, participationRepository);
+    }
+
+    @Test
+    @DisplayName("광고 참여 이력 조회 - 보관 경계 이후 기간은 보관 테이블을 조회하지 않는다")
+    void testGetParticipationHistory_LiveOnly() {
+        // Given
+        LocalDateTime boundary = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(partitionManager.getArchiveBoundary()).thenReturn(boundary);
+        when(participationRepository.findByUserIdAndParticipatedAtBetween(eq(TEST_USER_ID), any(), any(), any()))
+                .thenReturn(Page.empty());
+
+        // When
+        ApiResponse<Page<AdvertisementParticipationResponse>> response = participationService.getParticipationHistory(
+                TEST_USER_ID, boundary, boundary.plusMonths(1), 0, 10);
+
+        // Then
+        assertEquals(0, response.getData().getTotalElements());
+        verifyNoInteractions(archiveRepository);
+    }
+
+    @Test
+    @DisplayName("광고 참여 이력 조회 - 보관 경계에 걸친 기간은 보관 이력 뒤에 원본 이력을 이어 붙인다")
+    void testGetParticipationHistory_IncludingArchive() {
+        // Given: 보관 이력 2건, 원본 이력 3건, 페이지 크기 3
+        LocalDateTime boundary = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime startDate = boundary.minusMonths(2);
+        LocalDateTime endDate = boundary.plusMonths(1);
+        Advertisement advertisement = new Advertisement("테스트 광고", 100, 5, "테스트 설명", "http://test.image.url",
+                startDate, endDate, "{}");
+        advertisement.setId(TEST_ADVERTISEMENT_ID);
+
+        AdvertisementParticipationArchive archived = mock(AdvertisementParticipationArchive.class);
+        when(archived.getAdvertisementId()).thenReturn(TEST_ADVERTISEMENT_ID);
+        when(archived.getUserId()).thenReturn(TEST_USER_ID);
+        when(archived.getParticipatedAt()).thenReturn(startDate);
+        AdvertisementParticipation live = new AdvertisementParticipation(advertisement, TEST_USER_ID, boundary);
+
+        when(partitionManager.getArchiveBoundary()).thenReturn(boundary);
+        when(archiveRepository.countByUserIdAndParticipatedAtRange(TEST_USER_ID, startDate, boundary)).thenReturn(2L);
+        when(archiveRepository.findByUserIdAndParticipatedAtRange(eq(TEST_USER_ID), eq(startDate), eq(boundary), any()))
+                .thenReturn(List.of(archived, archived));
+        when(advertisementRepository.findAllById(List.of(TEST_ADVERTISEMENT_ID))).thenReturn(List.of(advertisement));
+        when(participationRepository.findByUserIdAndParticipatedAtBetween(eq(TEST_USER_ID), eq(startDate), eq(endDate),
+                argThat(pageable -> pageable.getOffset() == 0 && pageable.getPageSize() == 1)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(live), invocation.<Pageable>getArgument(3), 3));
+
+        // When
+        Page<AdvertisementParticipationResponse> history = participationService.getParticipationHistory(
+                TEST_USER_ID, startDate, endDate, 0, 3).getData();
+
+        // Then
+        assertEquals(5, history.getTotalElements());
+        assertEquals(2, history.getTotalPages());
+        assertEquals(List.of(startDate, startDate, boundary),
+                history.getContent().stream().map(AdvertisementParticipationResponse::getParticipationTime).toList());
+        assertEquals("테스트 광고", history.getContent().get(0).getAdvertisementTitle());
+    }
+
+    @Test
+    @DisplayName("광고 참여 이력 조회 - 최근 참여 이력 캐시가 기간을 담고 있으면 DB를 조회하지 않는다")
+    void testGetParticipationHistory_RecentCache() {
+        // Given: 캐시에 기간 내 이력 3건, 페이지 크기 2
+        LocalDateTime startDate = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime endDate = startDate.plusDays(7);
+        List<AdvertisementParticipationResponse> recent = List.of(
+                new AdvertisementParticipationResponse(TEST_ADVERTISEMENT_ID, "광고1", TEST_USER_ID, 100, startDate.plusDays(1)),
+                new AdvertisementParticipationResponse(UUID.randomUUID(), "광고2", TEST_USER_ID, 100, startDate.plusDays(2)),
+                new AdvertisementParticipationResponse(UUID.randomUUID(), "광고3", TEST_USER_ID, 100, startDate.plusDays(3)));
+        when(recentParticipationCache.find(TEST_USER_ID, startDate, endDate)).thenReturn(Optional.of(recent));
+
+        // When
+        Page<AdvertisementParticipationResponse> history = participationService.getParticipationHistory(
+                TEST_USER_ID, startDate, endDate, 1, 2).getData();
+
+        // Then
+        assertEquals(3, history.getTotalElements());
+        assertEquals(List.of("광고3"), history.getContent().stream().map(AdvertisementParticipationResponse::getAdvertisementTitle).toList());
+        verifyNoInteractions(participationRepository, archiveRepository, partitionManager);
     }
 }
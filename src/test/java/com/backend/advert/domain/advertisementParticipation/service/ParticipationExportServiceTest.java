@@ -0,0 +1,130 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.dto.ParticipationExportFormat;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // 인메모리 DB 사용
+@ActiveProfiles("test")
+class ParticipationExportServiceTest {
+
+    private static final LocalDateTime ARCHIVE_BOUNDARY = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @Autowired
+    private AdvertisementRepository advertisementRepository;
+
+    @Autowired
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Autowired
+    private AdvertisementParticipationArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ParticipationExportService exportService;
+    private Advertisement advertisement;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        ParticipationPartitionManager partitionManager = mock(ParticipationPartitionManager.class);
+        when(partitionManager.getArchiveBoundary()).thenReturn(ARCHIVE_BOUNDARY);
+        exportService = new ParticipationExportService(participationRepository, archiveRepository, partitionManager,
+                OBJECT_MAPPER, transactionManager);
+
+        userId = UUID.randomUUID();
+        advertisement = advertisementRepository.save(new Advertisement(
+                "테스트 광고", 1000, 10, "테스트 광고 설명", "http://example.com/image.jpg",
+                START, END, null));
+
+        // 보관 이력 1건 (삭제된 광고), 원본 이력 2건 + 다른 사용자 1건
+        jdbcTemplate.update("INSERT INTO advertisement_participation_archives (id, advertisement_id, user_id, participated_at) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), UUID.randomUUID(), userId, LocalDateTime.of(2024, 1, 15, 10, 0));
+        participationRepository.save(new AdvertisementParticipation(advertisement, userId, LocalDateTime.of(2024, 4, 2, 9, 0)));
+        participationRepository.save(new AdvertisementParticipation(advertisement, userId, LocalDateTime.of(2024, 3, 5, 9, 0)));
+        participationRepository.saveAndFlush(new AdvertisementParticipation(advertisement, UUID.randomUUID(), LocalDateTime.of(2024, 3, 6, 9, 0)));
+    }
+
+    @Test
+    @DisplayName("사용자 이력은 보관 이력 뒤에 원본 이력을 참여 시각 순으로 이어 NDJSON 으로 쓴다")
+    void testExportUserParticipations_Ndjson() throws Exception {
+        // When
+        String body = export(exportService.exportUserParticipations(userId, START, END, ParticipationExportFormat.NDJSON));
+
+        // Then
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            rows.add(OBJECT_MAPPER.readTree(line));
+        }
+        assertThat(rows).extracting(row -> row.get("participationTime").asText())
+                .containsExactly("2024-01-15T10:00:00", "2024-03-05T09:00:00", "2024-04-02T09:00:00");
+        assertThat(rows.get(0).get("advertisementTitle").isNull()).isTrue();
+        assertThat(rows.get(1).get("advertisementTitle").asText()).isEqualTo("테스트 광고");
+        assertThat(rows.get(1).get("rewardPoints").asInt()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("광고 이력은 헤더가 있는 CSV 로 쓰며, 보관 경계 이후 기간은 원본 이력만 읽는다")
+    void testExportAdvertisementParticipations_Csv() throws Exception {
+        // When
+        String body = export(exportService.exportAdvertisementParticipations(
+                advertisement.getId(), ARCHIVE_BOUNDARY, END, ParticipationExportFormat.CSV));
+
+        // Then
+        assertThat(body).startsWith("advertisementId,advertisementTitle,userId,rewardPoints,participationTime\n");
+        List<Map<String, String>> rows = new CsvMapper().readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .<Map<String, String>>readValues(body)
+                .readAll();
+        assertThat(rows).extracting(row -> row.get("participationTime"))
+                .containsExactly("2024-03-05T09:00:00", "2024-03-06T09:00:00", "2024-04-02T09:00:00");
+        assertThat(rows.get(0)).containsEntry("advertisementId", advertisement.getId().toString())
+                .containsEntry("advertisementTitle", "테스트 광고")
+                .containsEntry("userId", userId.toString())
+                .containsEntry("rewardPoints", "1000");
+    }
+
+    private static String export(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        body.writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
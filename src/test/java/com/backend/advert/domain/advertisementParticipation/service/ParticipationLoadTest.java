@@ -0,0 +1,335 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.exception.InvalidAdvertisementException;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisement.service.AdvertisementPacer;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationRequest;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventBus;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationEventHandler;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.point.repository.PointCreditRepository;
+import com.backend.advert.domain.point.service.PointCreditService;
+import com.backend.advert.domain.point.service.PointService;
+import com.github.fppt.jedismock.RedisServer;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 광고 참여 부하/정합성 테스트입니다.
+ * - 실제 AdvertisementParticipationService 를 H2 와 인프로세스 Redis(jedis-mock)에 연결하고, 광고마다 수백 명의 가상 사용자가 동시에 참여합니다.
+ * - 가상 사용자는 같은 광고에 중복 요청을 보내며, 락을 얻지 못하면 지수 백오프로 다시 시도합니다.
+ * - 처리량과 요청 지연 시간 백분위를 출력하고, 참여 수가 최대 참여 가능 횟수를 넘지 않는지(초과 판매)와
+ *   한 사용자가 같은 광고에 두 번 참여하지 않는지를 검증합니다.
+ * - 수십 초가 걸리므로 기본 test 태스크에서는 제외하고 ./gradlew loadTest 로 실행합니다.
+ */
+@Tag("load")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // 인메모리 DB 사용
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 요청 스레드가 각자 커밋하도록 테스트 트랜잭션을 열지 않음
+@Import({AdvertisementParticipationService.class, ParticipationLoadTest.LoadTestConfig.class})
+class ParticipationLoadTest {
+
+    // 부하 규모 (-DloadTest.users=1000 처럼 시스템 속성으로 변경 가능)
+    private static final int ADVERTISEMENTS = Integer.getInteger("loadTest.advertisements", 3);
+    private static final int MAX_PARTICIPATION_COUNT = Integer.getInteger("loadTest.maxParticipationCount", 50);
+    private static final int USERS_PER_ADVERTISEMENT = Integer.getInteger("loadTest.users", 300);
+    private static final int REQUESTS_PER_USER = Integer.getInteger("loadTest.requestsPerUser", 2); // 같은 사용자의 중복 요청
+    private static final int THREADS = Integer.getInteger("loadTest.threads", 200);
+    private static final int MAX_BACKOFF_MILLIS = 100;
+    private static final long DEADLINE_SECONDS = 120;
+
+    private static final RedisServer REDIS_SERVER = startRedis(); // 테스트 컨텍스트보다 먼저 시작
+
+    @Autowired
+    private AdvertisementParticipationService participationService;
+
+    @Autowired
+    private AdvertisementRepository advertisementRepository;
+
+    @Autowired
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Autowired
+    private PointCreditRepository pointCreditRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CountingHandler countingHandler;
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        REDIS_SERVER.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointCreditRepository.deleteAll();
+        participationRepository.deleteAll();
+        advertisementRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 참여 요청에도 최대 참여 가능 횟수를 넘지 않고 사용자는 광고마다 한 번만 참여한다")
+    void testConcurrentParticipation_NoOversellNoDuplicate() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<Advertisement> advertisements = new ArrayList<>();
+        for (int i = 0; i < ADVERTISEMENTS; i++) {
+            advertisements.add(advertisementRepository.save(new Advertisement("부하 테스트 광고 " + i, 100, MAX_PARTICIPATION_COUNT,
+                    "설명", "http://example.com/image.jpg", now.minusDays(1), now.plusDays(1), null)));
+        }
+
+        List<AdvertisementParticipationRequest> requests = new ArrayList<>();
+        for (Advertisement advertisement : advertisements) {
+            for (int i = 0; i < USERS_PER_ADVERTISEMENT; i++) {
+                UUID userId = UUID.randomUUID();
+                for (int j = 0; j < REQUESTS_PER_USER; j++) {
+                    requests.add(new AdvertisementParticipationRequest(advertisement.getId(), userId));
+                }
+            }
+        }
+        Collections.shuffle(requests);
+
+        // When
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        long[] latencies = new long[requests.size()];
+        AtomicInteger lockRetries = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DEADLINE_SECONDS);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                long startedAt = System.nanoTime();
+                String outcome = participate(requests.get(index), lockRetries, deadline);
+                latencies[index] = System.nanoTime() - startedAt;
+                outcomes.computeIfAbsent(outcome, key -> new AtomicInteger()).incrementAndGet();
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        report(requests.size(), elapsed, latencies, outcomes, lockRetries.get());
+
+        // Then
+        int expectedPerAdvertisement = Math.min(MAX_PARTICIPATION_COUNT, USERS_PER_ADVERTISEMENT);
+        assertThat(outcomes.keySet()).containsOnly("success", "soldOut", "duplicate");
+        assertThat(outcomes.get("success").get()).isEqualTo(expectedPerAdvertisement * ADVERTISEMENTS);
+
+        for (Advertisement advertisement : advertisements) {
+            Integer participations = jdbcTemplate.queryForObject(
+                    "select count(*) from advertisement_participations where advertisement_id = ?", Integer.class, advertisement.getId());
+            Advertisement reloaded = advertisementRepository.findById(advertisement.getId()).orElseThrow();
+
+            // 초과 판매 없음, 차감 누락(lost update) 없음
+            assertThat(participations).isEqualTo(expectedPerAdvertisement);
+            assertThat(reloaded.getRemainingParticipationCount()).isEqualTo(MAX_PARTICIPATION_COUNT - participations);
+        }
+
+        // 한 사용자가 같은 광고에 두 번 참여하지 않음
+        List<Map<String, Object>> duplicates = jdbcTemplate.queryForList(
+                "select user_id, advertisement_id from advertisement_participations group by user_id, advertisement_id having count(*) > 1");
+        assertThat(duplicates).isEmpty();
+
+        // 커밋된 참여마다 포인트 적립 대기 내역이 하나씩 있음
+        assertThat(pointCreditRepository.count()).isEqualTo(outcomes.get("success").get());
+
+        // 커밋된 참여만 정확히 한 번씩 이벤트로 발행
+        assertThat(countingHandler.await(outcomes.get("success").get(), 10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * 가상 사용자의 참여 요청 하나를 처리합니다. 락을 얻지 못하면 기다린 뒤 다시 시도합니다.
+     */
+    private String participate(AdvertisementParticipationRequest request, AtomicInteger lockRetries, long deadline) throws InterruptedException {
+        int backoffMillis = 2;
+        while (true) {
+            try {
+                participationService.participateInAdvertisement(request);
+                return "success";
+            } catch (InvalidAdvertisementException e) {
+                return e.getMessage().equals("이미 참여한 광고입니다.") ? "duplicate" : "soldOut";
+            } catch (RuntimeException e) {
+                if (!"잠금을 획득할 수 없습니다.".equals(e.getMessage()) || System.nanoTime() > deadline) {
+                    System.err.printf("광고 참여 부하 테스트 요청 실패: %s%n", e);
+                    return "error";
+                }
+                // 지수 백오프 + 지터 (재시도가 락 키에 몰리지 않도록)
+                lockRetries.incrementAndGet();
+                Thread.sleep(ThreadLocalRandom.current().nextInt(1, backoffMillis + 1));
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            return RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void report(int requests, long elapsedNanos, long[] latencies, Map<String, AtomicInteger> outcomes, int lockRetries) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("광고 참여 부하 테스트: 요청 %d건, %.2f초, 처리량 %.1f req/s, 락 재시도 %d회%n",
+                requests, seconds, requests / seconds, lockRetries);
+        System.out.printf("  지연 시간(ms): p50 %.2f, p95 %.2f, p99 %.2f, max %.2f%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        System.out.printf("  결과: %s%n", outcomes);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * 커밋 후 발행된 광고 참여 이벤트 수를 셉니다.
+     */
+    static class CountingHandler implements ParticipationEventHandler {
+
+        private final Map<UUID, Boolean> participations = new ConcurrentHashMap<>();
+        private final AtomicInteger events = new AtomicInteger();
+
+        @Override
+        public void onParticipations(List<ParticipationCompleted> batch) {
+            for (ParticipationCompleted event : batch) {
+                participations.put(event.participationId(), true);
+                events.incrementAndGet();
+            }
+        }
+
+        boolean await(int expected, long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (events.get() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return events.get() == expected && participations.size() == expected;
+        }
+    }
+
+    @TestConfiguration
+    static class LoadTestConfig {
+
+        @Bean(destroyMethod = "destroy")
+        LettuceConnectionFactory redisConnectionFactory() {
+            // jedis-mock 은 RESP3 를 지원하지 않음
+            LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                    .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                    .build();
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration("localhost", REDIS_SERVER.getBindPort()), clientConfiguration);
+            connectionFactory.afterPropertiesSet();
+            return connectionFactory;
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+            return new StringRedisTemplate(redisConnectionFactory);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RedisLockService redisLockService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+            return new RedisLockService(stringRedisTemplate, meterRegistry);
+        }
+
+        @Bean
+        AdvertisementPacer advertisementPacer(StringRedisTemplate stringRedisTemplate, AdvertisementRepository advertisementRepository) {
+            return new AdvertisementPacer(stringRedisTemplate, advertisementRepository);
+        }
+
+        @Bean
+        ParticipationPartitionManager participationPartitionManager(JdbcTemplate jdbcTemplate,
+                                                                    TransactionTemplate transactionTemplate,
+                                                                    RedisLockService redisLockService) {
+            return new ParticipationPartitionManager(jdbcTemplate, transactionTemplate, redisLockService, 12);
+        }
+
+        @Bean
+        PointCreditService pointCreditService(PointCreditRepository pointCreditRepository, RedisLockService redisLockService) {
+            return new PointCreditService(pointCreditRepository, mock(PointService.class), redisLockService); // 적립 대기 저장만 확인
+        }
+
+        @Bean
+        CountingHandler countingHandler() {
+            return new CountingHandler();
+        }
+
+        @Bean
+        ParticipationEventBus participationEventBus(CountingHandler countingHandler) {
+            return new ParticipationEventBus(List.of(countingHandler));
+        }
+
+        @Bean
+        RecentParticipationCache recentParticipationCache() {
+            return mock(RecentParticipationCache.class); // 참여 경로에서 사용하지 않음
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository.UserAdvertisement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipationMembershipIndexTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Mock
+    private AdvertisementParticipationArchiveRepository archiveRepository;
+
+    @InjectMocks
+    private ParticipationMembershipIndex membershipIndex;
+
+    @Test
+    @DisplayName("처음 참여한 사용자는 새 정수 ID를 받고 광고 비트맵의 해당 위치가 기록된다")
+    void testRecord_AssignsDenseId() {
+        // Given
+        UUID advertisementId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(hashOperations.get(ParticipationMembershipIndex.USER_ID_KEY, userId.toString())).thenReturn(null);
+        when(valueOperations.increment(ParticipationMembershipIndex.USER_ID_SEQUENCE_KEY)).thenReturn(42L);
+        when(hashOperations.putIfAbsent(ParticipationMembershipIndex.USER_ID_KEY, userId.toString(), "42")).thenReturn(true);
+
+        // When
+        membershipIndex.record(advertisementId, userId);
+
+        // Then
+        verify(valueOperations).setBit(ParticipationMembershipIndex.MEMBERS_KEY_PREFIX + advertisementId, 42L, true);
+    }
+
+    @Test
+    @DisplayName("참여 이벤트들은 사용자 ID 일괄 조회 후 한 번의 파이프라인으로 기록하고, 새 사용자만 ID를 발급한다")
+    void testOnParticipations_Pipelined() {
+        // Given: 사용자 A는 ID 7, 사용자 B는 처음 참여
+        UUID advertisementId = UUID.randomUUID();
+        UUID userA = UUID.randomUUID();
+        UUID userB = UUID.randomUUID();
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(hashOperations.multiGet(eq(ParticipationMembershipIndex.USER_ID_KEY), anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<Object>>getArgument(1)).stream()
+                        .map(field -> field.equals(userA.toString()) ? "7" : null)
+                        .toList());
+        when(hashOperations.get(ParticipationMembershipIndex.USER_ID_KEY, userB.toString())).thenReturn(null);
+        when(valueOperations.increment(ParticipationMembershipIndex.USER_ID_SEQUENCE_KEY)).thenReturn(8L);
+        when(hashOperations.putIfAbsent(ParticipationMembershipIndex.USER_ID_KEY, userB.toString(), "8")).thenReturn(true);
+
+        // When
+        membershipIndex.onParticipations(List.of(
+                new ParticipationCompleted(UUID.randomUUID(), advertisementId, "광고", userA, 100, 1, 10, LocalDateTime.now()),
+                new ParticipationCompleted(UUID.randomUUID(), advertisementId, "광고", userB, 100, 2, 10, LocalDateTime.now())));
+
+        // Then: 비트 기록은 파이프라인 1회, 사용자 A는 ID를 다시 발급하지 않음
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(hashOperations, never()).get(ParticipationMembershipIndex.USER_ID_KEY, userA.toString());
+        verify(valueOperations, never()).setBit(anyString(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("메모리 비트맵에 있는 참여는 Redis 비트 조회 없이 판단하고, 없는 조합만 한 번에 확인한다")
+    void testFindJoined() {
+        // Given: 사용자 A(1), B(9)와 ID가 없는 사용자 C / 광고 비트맵에는 A만 기록
+        UUID advertisementId = UUID.randomUUID();
+        UUID userA = UUID.randomUUID();
+        UUID userB = UUID.randomUUID();
+        UUID userC = UUID.randomUUID();
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.multiGet(eq(ParticipationMembershipIndex.USER_ID_KEY), anyCollection()))
+                .thenAnswer(invocation -> {
+                    List<Object> fields = List.copyOf(invocation.getArgument(1));
+                    return fields.stream()
+                            .map(field -> field.equals(userA.toString()) ? "1" : field.equals(userB.toString()) ? "9" : null)
+                            .toList();
+                });
+        when(stringRedisTemplate.execute(any(RedisCallback.class))).thenReturn(new byte[]{0b0100_0000});
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(true));
+
+        // When
+        Map<UUID, Set<UUID>> joined = membershipIndex.findJoined(List.of(userA, userB, userC), List.of(advertisementId));
+
+        // Then: B는 다른 노드에서 기록된 참여 (Redis 확인)
+        assertEquals(Map.of(userA, Set.of(advertisementId), userB, Set.of(advertisementId)), joined);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+
+        // 확인된 참여는 메모리 비트맵에 반영되어 다시 Redis 를 조회하지 않음
+        assertTrue(membershipIndex.hasJoined(advertisementId, userB));
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(stringRedisTemplate, times(1)).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("재구성은 원본과 보관 테이블을 키셋 페이지로 읽고 페이지마다 한 번의 파이프라인으로 기록한다")
+    void testRebuild_KeysetPages() {
+        // Given: 원본은 가득 찬 페이지 1개 + 빈 페이지, 보관 테이블은 1건 (사용자 ID 7은 이미 발급됨)
+        UUID userId = UUID.randomUUID();
+        LocalDateTime participatedAt = LocalDateTime.of(2025, 3, 1, 0, 0);
+        List<UserAdvertisement> fullPage = IntStream.range(0, 1000)
+                .mapToObj(i -> userAdvertisement(participatedAt.plusSeconds(i), userId))
+                .toList();
+        UserAdvertisement last = fullPage.get(fullPage.size() - 1);
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.multiGet(eq(ParticipationMembershipIndex.USER_ID_KEY), anyCollection())).thenReturn(List.of("7"));
+        when(participationRepository.findUserAdvertisementsAfter(eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(new UUID(0, 0)), any(Pageable.class)))
+                .thenReturn(fullPage);
+        when(participationRepository.findUserAdvertisementsAfter(eq(last.getParticipatedAt()), eq(last.getId()), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(archiveRepository.findUserAdvertisementsAfter(eq(new UUID(0, 0)), any(Pageable.class)))
+                .thenReturn(List.of(userAdvertisement(participatedAt.minusYears(2), userId)));
+
+        // When
+        membershipIndex.rebuild();
+
+        // Then: 이미 ID가 있는 사용자는 다시 발급하지 않음
+        verify(participationRepository, times(2)).findUserAdvertisementsAfter(any(), any(), any(Pageable.class));
+        verify(archiveRepository, times(1)).findUserAdvertisementsAfter(any(), any(Pageable.class));
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(hashOperations, never()).get(anyString(), any());
+    }
+
+    private static UserAdvertisement userAdvertisement(LocalDateTime participatedAt, UUID userId) {
+        return userAdvertisement(UUID.randomUUID(), participatedAt, userId);
+    }
+
+    private static UserAdvertisement userAdvertisement(UUID advertisementId, LocalDateTime participatedAt, UUID userId) {
+        UUID id = UUID.randomUUID();
+        return new UserAdvertisement() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getParticipatedAt() {
+                return participatedAt;
+            }
+
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public UUID getAdvertisementId() {
+                return advertisementId;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("ID가 없는 사용자는 비트맵을 조회하지 않고 DB 로 참여하지 않았음을 확인한다")
+    void testHasJoined_UnknownUser() {
+        UUID advertisementId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.multiGet(eq(ParticipationMembershipIndex.USER_ID_KEY), anyCollection())).thenReturn(Collections.singletonList(null));
+
+        assertFalse(membershipIndex.hasJoined(advertisementId, userId));
+        verify(stringRedisTemplate, never()).execute(any(RedisCallback.class));
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+        verify(participationRepository).findUserAdvertisements(List.of(userId), List.of(advertisementId));
+        verify(archiveRepository).findUserAdvertisements(List.of(userId), List.of(advertisementId));
+    }
+
+    @Test
+    @DisplayName("비트맵 기록이 늦거나 실패한 참여도 DB 로 확인해 참여로 판단하고 비트맵에 다시 기록한다")
+    void testFindJoined_ConfirmsNegativeFromDatabase() {
+        // Given: 사용자 ID 3은 발급되었지만 비트 기록은 실패함, 참여 이력은 보관 테이블에 있음
+        UUID advertisementId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+        when(hashOperations.multiGet(eq(ParticipationMembershipIndex.USER_ID_KEY), anyCollection())).thenReturn(List.of("3"));
+        when(stringRedisTemplate.execute(any(RedisCallback.class))).thenReturn(null);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.<Object>of(false));
+        when(archiveRepository.findUserAdvertisements(List.of(userId), List.of(advertisementId)))
+                .thenReturn(List.of(userAdvertisement(advertisementId, LocalDateTime.of(2023, 1, 1, 0, 0), userId)));
+
+        // When
+        Map<UUID, Set<UUID>> joined = membershipIndex.findJoined(List.of(userId), List.of(advertisementId));
+
+        // Then: GETBIT 파이프라인 + 보정 SETBIT 파이프라인
+        assertEquals(Map.of(userId, Set.of(advertisementId)), joined);
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+
+        // 보정된 참여는 메모리 비트맵에 반영되어 DB 를 다시 조회하지 않음
+        assertTrue(membershipIndex.hasJoined(advertisementId, userId));
+        verify(archiveRepository, times(1)).findUserAdvertisements(anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Redis 비트맵은 바이트 내 상위 비트부터 offset 0으로 해석한다")
+    void testToRoaringBitmap() {
+        RoaringBitmap bitmap = ParticipationMembershipIndex.toRoaringBitmap(new byte[]{(byte) 0b1000_0001, 0, 0b0000_0100});
+
+        assertArrayEquals(new int[]{0, 7, 21}, bitmap.toArray());
+        assertTrue(ParticipationMembershipIndex.toRoaringBitmap(null).isEmpty());
+    }
+}
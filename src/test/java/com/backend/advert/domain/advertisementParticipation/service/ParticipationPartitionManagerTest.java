@@ -0,0 +1,235 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipationArchive;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationArchiveRepository;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // 인메모리 DB 사용
+@ActiveProfiles("test")
+class ParticipationPartitionManagerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AdvertisementRepository advertisementRepository;
+
+    @Autowired
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Autowired
+    private AdvertisementParticipationArchiveRepository archiveRepository;
+
+    private ParticipationPartitionManager partitionManager;
+    private Advertisement advertisement;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = new ParticipationPartitionManager(jdbcTemplate, transactionTemplate, mock(RedisLockService.class), 12);
+        userId = UUID.randomUUID();
+        advertisement = advertisementRepository.save(new Advertisement(
+                "테스트 광고", 1000, 10, "테스트 광고 설명", "http://example.com/image.jpg",
+                LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0), null));
+    }
+
+    @Test
+    @DisplayName("보관 경계는 보관 기간 이전 달의 1일 0시이다")
+    void testArchiveBoundary() {
+        assertThat(partitionManager.getArchiveBoundary(TODAY)).isEqualTo(LocalDateTime.of(2024, 3, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("파티션이 없는 DB에서는 보관 경계 이전 이력을 보관 테이블로 옮기고 원본에서 삭제한다")
+    void testArchive_WithoutPartitions() {
+        // Given: 경계(2024-03-01) 이전 2건, 이후 1건
+        participationRepository.saveAndFlush(new AdvertisementParticipation(advertisement, userId, LocalDateTime.of(2024, 1, 10, 9, 0)));
+        participationRepository.saveAndFlush(new AdvertisementParticipation(advertisement, userId, LocalDateTime.of(2024, 2, 29, 23, 59)));
+        participationRepository.saveAndFlush(new AdvertisementParticipation(advertisement, userId, LocalDateTime.of(2024, 3, 1, 0, 0)));
+
+        // When
+        int archived = partitionManager.archive(TODAY);
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        assertThat(participationRepository.findByUserId(userId))
+                .extracting(AdvertisementParticipation::getParticipatedAt)
+                .containsExactly(LocalDateTime.of(2024, 3, 1, 0, 0));
+
+        List<AdvertisementParticipationArchive> archives = archiveRepository.findByUserIdAndParticipatedAtRange(
+                userId, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 3, 1, 0, 0),
+                PageRequest.of(0, 10, Sort.by("participatedAt")));
+        assertThat(archives).extracting(AdvertisementParticipationArchive::getAdvertisementId).containsOnly(advertisement.getId());
+        assertThat(archives).extracting(AdvertisementParticipationArchive::getParticipatedAt)
+                .containsExactly(LocalDateTime.of(2024, 1, 10, 9, 0), LocalDateTime.of(2024, 2, 29, 23, 59));
+        assertThat(archiveRepository.existsByUserIdAndAdvertisementId(userId, advertisement.getId())).isTrue();
+        assertThat(archiveRepository.findUserAdvertisementsAfter(new UUID(0, 0), PageRequest.of(0, 10)))
+                .extracting(AdvertisementParticipationRepository.UserAdvertisement::getUserId).containsOnly(userId).hasSize(2);
+        assertThat(archiveRepository.findUserAdvertisements(List.of(userId), List.of(advertisement.getId()))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("이전 실행에서 보관 테이블에 복사만 되고 남은 이력은 중복 없이 원본에서 삭제한다")
+    void testArchive_ResumesAfterPartialCopy() {
+        // Given: 복사 후 삭제 전에 중단된 이력 1건, 아직 옮기지 않은 이력 1건
+        AdvertisementParticipation copied = participationRepository.saveAndFlush(
+                new AdvertisementParticipation(advertisement, userId, LocalDateTime.of(2024, 1, 10, 9, 0)));
+        participationRepository.saveAndFlush(new AdvertisementParticipation(advertisement, userId, LocalDateTime.of(2024, 2, 1, 9, 0)));
+        jdbcTemplate.update("INSERT INTO advertisement_participation_archives (id, advertisement_id, user_id, participated_at) "
+                        + "VALUES (?, ?, ?, ?)",
+                copied.getId(), advertisement.getId(), userId, copied.getParticipatedAt());
+
+        // When
+        int archived = partitionManager.archive(TODAY);
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        assertThat(participationRepository.findByUserId(userId)).isEmpty();
+        assertThat(archiveRepository.findUserAdvertisements(List.of(userId), List.of(advertisement.getId()))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("MySQL 파티션 테이블에서는 마지막 월 파티션 이후 비어 있는 달을 모두 월 파티션으로 나눈다")
+    void testPreparePartitions_FillsMissingMonths() {
+        // Given: 전환 스크립트 초기 구성 이후 처음 실행
+        JdbcTemplate mySqlJdbcTemplate = mySqlJdbcTemplate(
+                new ParticipationPartitionManager.Partition("p_old", LocalDate.of(2024, 1, 1)),
+                new ParticipationPartitionManager.Partition("p202401", LocalDate.of(2024, 2, 1)),
+                new ParticipationPartitionManager.Partition("p_future", null));
+        ParticipationPartitionManager manager = new ParticipationPartitionManager(
+                mySqlJdbcTemplate, mock(TransactionTemplate.class), mock(RedisLockService.class), 12);
+
+        // When
+        manager.preparePartitions(TODAY);
+
+        // Then: 2024-02 부터 2025-06 까지 한 달에 하나씩, 한 번의 REORGANIZE 로 생성
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(mySqlJdbcTemplate).execute(ddl.capture());
+        assertThat(ddl.getValue())
+                .startsWith("ALTER TABLE advertisement_participations REORGANIZE PARTITION p_future INTO ("
+                        + "PARTITION p202402 VALUES LESS THAN ('2024-03-01'), "
+                        + "PARTITION p202403 VALUES LESS THAN ('2024-04-01'), ")
+                .contains("PARTITION p202412 VALUES LESS THAN ('2025-01-01'), ")
+                .endsWith("PARTITION p202506 VALUES LESS THAN ('2025-07-01'), "
+                        + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        assertThat(ddl.getValue().split("PARTITION p2")).hasSize(18); // 2024-02 ~ 2025-06, 17개월
+    }
+
+    @Test
+    @DisplayName("월 파티션이 없으면 가장 오래된 이력의 달부터 파티션을 만들고, 이미 준비되어 있으면 아무것도 하지 않는다")
+    void testPreparePartitions_FromOldestRowAndUpToDate() {
+        // Given
+        JdbcTemplate onlyFuture = mySqlJdbcTemplate(new ParticipationPartitionManager.Partition("p_future", null));
+        when(onlyFuture.queryForObject(anyString(), eq(LocalDateTime.class))).thenReturn(LocalDateTime.of(2025, 1, 20, 8, 0));
+        JdbcTemplate prepared = mySqlJdbcTemplate(
+                new ParticipationPartitionManager.Partition("p202506", LocalDate.of(2025, 7, 1)),
+                new ParticipationPartitionManager.Partition("p_future", null));
+
+        // When
+        new ParticipationPartitionManager(onlyFuture, mock(TransactionTemplate.class), mock(RedisLockService.class), 12)
+                .preparePartitions(TODAY);
+        new ParticipationPartitionManager(prepared, mock(TransactionTemplate.class), mock(RedisLockService.class), 12)
+                .preparePartitions(TODAY);
+
+        // Then
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(onlyFuture).execute(ddl.capture());
+        assertThat(ddl.getValue()).contains("INTO (PARTITION p202501 VALUES LESS THAN ('2025-02-01'), ");
+        verify(prepared, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("상한이 보관 경계 이하인 파티션은 이름과 관계없이 옮기고, 경계에 걸친 파티션의 경계 이전 행도 옮긴다")
+    void testArchive_PartitionsByUpperBound() {
+        // Given: 보관 경계 2024-03-01, p202410 은 2024-02 ~ 2024-10 을 함께 담고 있음
+        JdbcTemplate mySqlJdbcTemplate = mySqlJdbcTemplate(
+                new ParticipationPartitionManager.Partition("p_old", LocalDate.of(2024, 1, 1)),
+                new ParticipationPartitionManager.Partition("p202401", LocalDate.of(2024, 2, 1)),
+                new ParticipationPartitionManager.Partition("p202410", LocalDate.of(2024, 11, 1)),
+                new ParticipationPartitionManager.Partition("p_future", null));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(mySqlJdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenReturn(List.of(
+                new ParticipationPartitionManager.ArchiveKey(first, LocalDateTime.of(2024, 2, 10, 9, 0)),
+                new ParticipationPartitionManager.ArchiveKey(second, LocalDateTime.of(2024, 2, 29, 23, 59))));
+        TransactionTemplate mockTransactionTemplate = mock(TransactionTemplate.class);
+        when(mockTransactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        ParticipationPartitionManager manager = new ParticipationPartitionManager(
+                mySqlJdbcTemplate, mockTransactionTemplate, mock(RedisLockService.class), 12);
+
+        // When
+        manager.archive(TODAY);
+
+        // Then
+        verify(mySqlJdbcTemplate).execute("ALTER TABLE advertisement_participations DROP PARTITION p_old");
+        verify(mySqlJdbcTemplate).execute("ALTER TABLE advertisement_participations DROP PARTITION p202401");
+        verify(mySqlJdbcTemplate, never()).execute("ALTER TABLE advertisement_participations DROP PARTITION p202410");
+
+        // 경계 이전 행은 (participated_at, id) 순 청크로 읽어 청크마다 옮김 (마지막 청크가 CHUNK_SIZE 보다 작으면 종료)
+        verify(mySqlJdbcTemplate).query(eq("SELECT id, participated_at FROM advertisement_participations "
+                        + "WHERE participated_at >= ? AND participated_at < ? ORDER BY participated_at, id LIMIT "
+                        + ParticipationPartitionManager.CHUNK_SIZE),
+                any(RowMapper.class), eq(LocalDateTime.of(1970, 1, 1, 0, 0)), eq(LocalDateTime.of(2024, 3, 1, 0, 0)));
+        verify(mySqlJdbcTemplate).update("INSERT IGNORE INTO advertisement_participation_archives "
+                + "(id, advertisement_id, user_id, participated_at) SELECT id, advertisement_id, user_id, participated_at "
+                + "FROM advertisement_participations WHERE id IN (?, ?)", first, second);
+        verify(mySqlJdbcTemplate).update("DELETE FROM advertisement_participations WHERE id IN (?, ?)", first, second);
+    }
+
+    @Test
+    @DisplayName("파티션 상한 표기를 날짜로 바꾼다")
+    void testParseUpperBound() {
+        assertThat(ParticipationPartitionManager.parseUpperBound("'2024-02-01'")).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(ParticipationPartitionManager.parseUpperBound("'2024-02-01 00:00:00'")).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(ParticipationPartitionManager.parseUpperBound("MAXVALUE")).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JdbcTemplate mySqlJdbcTemplate(ParticipationPartitionManager.Partition... partitions) {
+        JdbcTemplate mySqlJdbcTemplate = mock(JdbcTemplate.class);
+        when(mySqlJdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+        when(mySqlJdbcTemplate.query(anyString(), any(RowMapper.class), eq(ParticipationPartitionManager.TABLE)))
+                .thenReturn(List.of(partitions));
+        return mySqlJdbcTemplate;
+    }
+}
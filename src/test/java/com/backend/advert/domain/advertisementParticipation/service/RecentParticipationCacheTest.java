@@ -0,0 +1,166 @@
+package com.backend.advert.domain.advertisementParticipation.service;
+
+import com.backend.advert.common.cache.CacheMetrics;
+import com.backend.advert.config.redis.RedisScriptPipeline;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisementParticipation.dto.AdvertisementParticipationResponse;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecentParticipationCacheTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 3, 7, 23, 59, 59);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Mock
+    private ParticipationPartitionManager partitionManager;
+
+    @Mock
+    private RedisScriptPipeline redisScriptPipeline;
+
+    private RecentParticipationCache recentParticipationCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        recentParticipationCache = new RecentParticipationCache(stringRedisTemplate, OBJECT_MAPPER, participationRepository, partitionManager,
+                new CacheMetrics(new SimpleMeterRegistry()), redisScriptPipeline);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("조회 기간이 캐시 구간 안이면 캐시의 이력을 그대로 반환한다")
+    void testFind_Hit() throws Exception {
+        // Given
+        AdvertisementParticipationResponse participation = new AdvertisementParticipationResponse(
+                UUID.randomUUID(), "광고", userId, 100, START.plusDays(1));
+        when(readScript(userId)).thenReturn(List.of("hit", OBJECT_MAPPER.writeValueAsString(participation)));
+
+        // When
+        Optional<List<AdvertisementParticipationResponse>> result = recentParticipationCache.find(userId, START, END);
+
+        // Then
+        assertEquals(1, result.orElseThrow().size());
+        assertEquals("광고", result.get().get(0).getAdvertisementTitle());
+        assertEquals(START.plusDays(1), result.get().get(0).getParticipationTime());
+        verifyNoInteractions(participationRepository);
+    }
+
+    @Test
+    @DisplayName("조회 기간이 캐시 구간을 벗어나면 DB에서 조회하도록 비어 있는 결과를 반환한다")
+    void testFind_Partial() {
+        when(readScript(userId)).thenReturn(List.of("partial"));
+
+        assertTrue(recentParticipationCache.find(userId, START, END).isEmpty());
+        verifyNoInteractions(participationRepository);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 읽은 버전으로 최근 이력을 적재한 뒤 다시 조회한다")
+    void testFind_SeedsWhenMissing() {
+        // Given: 최근 이력이 CAPACITY 보다 적으면 보관 경계 이후 구간을 모두 담은 것으로 적재
+        Advertisement advertisement = new Advertisement("광고", 100, 5, "설명", "http://test.image.url", START, END, "{}");
+        advertisement.setId(UUID.randomUUID());
+        AdvertisementParticipation participation = new AdvertisementParticipation(advertisement, userId, START.plusDays(2));
+        LocalDateTime boundary = LocalDateTime.of(2023, 4, 1, 0, 0);
+
+        when(readScript(userId)).thenReturn(List.of("missing", "7"), List.of("hit"));
+        when(participationRepository.findByUserIdOrderByParticipatedAtDesc(eq(userId), any(Pageable.class)))
+                .thenReturn(List.of(participation));
+        when(partitionManager.getArchiveBoundary()).thenReturn(boundary);
+
+        // When
+        Optional<List<AdvertisementParticipationResponse>> result = recentParticipationCache.find(userId, START, END);
+
+        // Then
+        assertTrue(result.orElseThrow().isEmpty());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(),
+                eq("7"), eq(RecentParticipationCache.score(boundary)), anyString(),
+                eq(RecentParticipationCache.score(START.plusDays(2))), contains("\"advertisementTitle\":\"광고\""));
+    }
+
+    @Test
+    @DisplayName("캐시 조회에 실패하면 DB에서 조회하도록 비어 있는 결과를 반환한다")
+    void testFind_RedisFailure() {
+        when(readScript(userId)).thenThrow(new IllegalStateException("Redis 장애"));
+
+        assertTrue(recentParticipationCache.find(userId, START, END).isEmpty());
+    }
+
+    @Test
+    @DisplayName("참여 이벤트들을 참여 시각을 점수로 하여 한 번의 파이프라인으로 추가한다")
+    @SuppressWarnings("unchecked")
+    void testOnParticipations() {
+        // Given
+        UUID otherUserId = UUID.randomUUID();
+        ParticipationCompleted event = new ParticipationCompleted(UUID.randomUUID(), UUID.randomUUID(), "광고",
+                userId, 100, 1, 10, START);
+        ParticipationCompleted otherEvent = new ParticipationCompleted(UUID.randomUUID(), UUID.randomUUID(), "광고",
+                otherUserId, 100, 2, 10, START.plusMinutes(1));
+
+        // When
+        recentParticipationCache.onParticipations(List.of(event, otherEvent));
+
+        // Then
+        ArgumentCaptor<List<RedisScriptPipeline.Call>> calls = ArgumentCaptor.forClass(List.class);
+        verify(redisScriptPipeline).execute(calls.capture());
+        assertEquals(2, calls.getValue().size());
+        RedisScriptPipeline.Call call = calls.getValue().get(0);
+        assertEquals(List.of("participation:recent:" + userId, "participation:recent:" + userId + ":since", "participation:recent:" + userId + ":version"),
+                call.keys());
+        assertEquals(RecentParticipationCache.score(START), call.args().get(0));
+        assertEquals("100", call.args().get(2));
+        assertEquals("participation:recent:" + otherUserId, calls.getValue().get(1).keys().get(0));
+    }
+
+    @Test
+    @DisplayName("파이프라인이 실패하면 빠진 이력이 응답되지 않도록 해당 사용자들의 캐시를 버린다")
+    void testOnParticipations_PipelineFailure() {
+        // Given
+        when(redisScriptPipeline.execute(anyList())).thenThrow(new IllegalStateException("Redis 장애"));
+        ParticipationCompleted event = new ParticipationCompleted(UUID.randomUUID(), UUID.randomUUID(), "광고",
+                userId, 100, 1, 10, START);
+
+        // When
+        recentParticipationCache.onParticipations(List.of(event));
+
+        // Then
+        verify(stringRedisTemplate).delete(List.of("participation:recent:" + userId, "participation:recent:" + userId + ":since"));
+    }
+
+    private Object readScript(UUID userId) {
+        return stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(
+                        "participation:recent:" + userId, "participation:recent:" + userId + ":since", "participation:recent:" + userId + ":version")),
+                eq("100"), anyString(), anyString());
+    }
+}
@@ -0,0 +1,61 @@
+package com.backend.advert.domain.point.repository;
+
+import com.backend.advert.domain.point.entity.PointCredit;
+import com.backend.advert.domain.point.entity.PointCreditStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // 인메모리 DB 사용
+@ActiveProfiles("test")
+class PointCreditRepositoryTest {
+
+    @Autowired
+    private PointCreditRepository pointCreditRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 22, 12, 0, 0);
+
+    @Test
+    @DisplayName("재시도 시각이 지난 적립 대기 내역만 조회하고, 적립 완료된 내역은 다시 실패/완료로 바뀌지 않는다")
+    void testPendingLifecycle() {
+        // Given
+        PointCredit due = pointCreditRepository.save(new PointCredit(UUID.randomUUID(), UUID.randomUUID(), 100, NOW.minusMinutes(1)));
+        PointCredit later = pointCreditRepository.save(new PointCredit(UUID.randomUUID(), UUID.randomUUID(), 100, NOW.plusMinutes(1)));
+        entityManager.flush();
+
+        // When & Then
+        List<PointCredit> pending = pointCreditRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                PointCreditStatus.PENDING, NOW, PageRequest.of(0, 10));
+        assertThat(pending).extracting(PointCredit::getParticipationId).containsExactly(due.getParticipationId());
+
+        assertEquals(1, pointCreditRepository.markFailed(later.getParticipationId(), NOW.plusMinutes(2)));
+        assertEquals(1, pointCreditRepository.markCredited(due.getParticipationId(), NOW));
+        assertEquals(0, pointCreditRepository.markCredited(due.getParticipationId(), NOW));
+        assertEquals(0, pointCreditRepository.markFailed(due.getParticipationId(), NOW.plusMinutes(2)));
+
+        PointCredit credited = pointCreditRepository.findById(due.getParticipationId()).orElseThrow();
+        PointCredit failed = pointCreditRepository.findById(later.getParticipationId()).orElseThrow();
+        assertEquals(PointCreditStatus.CREDITED, credited.getStatus());
+        assertEquals(NOW, credited.getCreditedAt());
+        assertEquals(1, failed.getAttempts());
+        assertEquals(NOW.plusMinutes(2), failed.getNextAttemptAt());
+        assertThat(pointCreditRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                PointCreditStatus.PENDING, NOW, PageRequest.of(0, 10))).isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.advert.domain.point.service;
+
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipationPointCreditorTest {
+
+    @Mock
+    private PointCreditService pointCreditService;
+
+    @InjectMocks
+    private ParticipationPointCreditor pointCreditor;
+
+    @Test
+    @DisplayName("같은 사용자의 참여도 합산하지 않고 참여 ID 를 멱등 키로 한 건씩 적립하며, 실패해도 다음 참여를 계속 적립한다")
+    void testOnParticipations() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        ParticipationCompleted failing = event(UUID.randomUUID(), 100);
+        ParticipationCompleted first = event(userId, 100);
+        ParticipationCompleted second = event(userId, 50);
+        when(pointCreditService.credit(failing.participationId(), failing.userId(), 100, 0)).thenReturn(false);
+
+        // When
+        pointCreditor.onParticipations(List.of(failing, first, second));
+
+        // Then
+        verify(pointCreditService).credit(failing.participationId(), failing.userId(), 100, 0);
+        verify(pointCreditService).credit(first.participationId(), userId, 100, 0);
+        verify(pointCreditService).credit(second.participationId(), userId, 50, 0);
+        verifyNoMoreInteractions(pointCreditService);
+    }
+
+    private static ParticipationCompleted event(UUID userId, int rewardPoints) {
+        return new ParticipationCompleted(UUID.randomUUID(), UUID.randomUUID(), "광고", userId,
+                rewardPoints, 1, 10, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,99 @@
+package com.backend.advert.domain.point.service;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.point.entity.PointCredit;
+import com.backend.advert.domain.point.entity.PointCreditStatus;
+import com.backend.advert.domain.point.exception.PointServiceException;
+import com.backend.advert.domain.point.repository.PointCreditRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointCreditServiceTest {
+
+    @Mock
+    private PointCreditRepository pointCreditRepository;
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @InjectMocks
+    private PointCreditService pointCreditService;
+
+    private static final UUID TEST_PARTICIPATION_ID = UUID.randomUUID();
+    private static final UUID TEST_USER_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("참여 ID 를 멱등 키로 적립하고 적립 완료로 기록한다")
+    void testCredit_Success() {
+        // When
+        boolean credited = pointCreditService.credit(TEST_PARTICIPATION_ID, TEST_USER_ID, 100, 0);
+
+        // Then
+        assertTrue(credited);
+        verify(pointService).addPoints(TEST_USER_ID, 100, TEST_PARTICIPATION_ID);
+        verify(pointCreditRepository).markCredited(eq(TEST_PARTICIPATION_ID), any(LocalDateTime.class));
+        verify(pointCreditRepository, never()).markFailed(any(), any());
+    }
+
+    @Test
+    @DisplayName("적립에 실패하면 대기 내역으로 남기고 시도 횟수에 따라 재시도 시각을 늦춘다")
+    void testCredit_Failure() {
+        // Given
+        doThrow(new PointServiceException("포인트 적립에 실패했습니다."))
+                .when(pointService).addPoints(TEST_USER_ID, 100, TEST_PARTICIPATION_ID);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        boolean credited = pointCreditService.credit(TEST_PARTICIPATION_ID, TEST_USER_ID, 100, 2);
+
+        // Then
+        assertFalse(credited);
+        verify(pointCreditRepository, never()).markCredited(any(), any());
+        verify(pointCreditRepository).markFailed(eq(TEST_PARTICIPATION_ID),
+                argThat(nextAttemptAt -> !nextAttemptAt.isBefore(before.plusMinutes(4))));
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 1분부터 두 배씩 늘어나며 1시간을 넘지 않는다")
+    void testRetryDelay() {
+        assertEquals(Duration.ofMinutes(1), PointCreditService.retryDelay(1));
+        assertEquals(Duration.ofMinutes(2), PointCreditService.retryDelay(2));
+        assertEquals(Duration.ofMinutes(32), PointCreditService.retryDelay(6));
+        assertEquals(Duration.ofHours(1), PointCreditService.retryDelay(20));
+    }
+
+    @Test
+    @DisplayName("재시도 작업은 재시도 시각이 지난 대기 내역을 다시 적립한다")
+    void testRetryPending() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        PointCredit pending = new PointCredit(TEST_PARTICIPATION_ID, TEST_USER_ID, 100, now.minusMinutes(1));
+        when(pointCreditRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                eq(PointCreditStatus.PENDING), eq(now), any())).thenReturn(List.of(pending));
+
+        // When
+        int credited = pointCreditService.retryPending(now);
+
+        // Then
+        assertEquals(1, credited);
+        verify(pointService).addPoints(TEST_USER_ID, 100, TEST_PARTICIPATION_ID);
+        verify(pointCreditRepository).markCredited(eq(TEST_PARTICIPATION_ID), any(LocalDateTime.class));
+    }
+}
@@ -3,11 +3,13 @@ package com.backend.advert.domain.point.service;
 import com.backend.advert.domain.point.client.ExternalPointApiClient;
 import com.backend.advert.domain.point.exception.ExternalApiException;
 import com.backend.advert.domain.point.exception.PointServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.UUID;
@@ -24,8 +26,12 @@ class PointServiceTest {
     @Mock
     private ExternalPointApiClient externalPointApiClient;
 
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private static final UUID TEST_USER_ID = UUID.randomUUID();
     private static final int TEST_POINTS = 100;
+    private static final UUID TEST_IDEMPOTENCY_KEY = UUID.randomUUID();
 
     @Test
     @DisplayName("포인트 적립 성공 테스트")
@@ -34,11 +40,12 @@ class PointServiceTest {
         // ExternalPointApiClient는 아무 예외 없이 정상 동작한다고 가정
 
         // When
-        pointService.addPoints(TEST_USER_ID, TEST_POINTS);
+        pointService.addPoints(TEST_USER_ID, TEST_POINTS, TEST_IDEMPOTENCY_KEY);
 
         // Then
         // ExternalPointApiClient의 addPoints 메서드가 한 번 호출되었는지 확인
-        verify(externalPointApiClient, times(1)).addPoints(TEST_USER_ID, TEST_POINTS);
+        verify(externalPointApiClient, times(1)).addPoints(TEST_USER_ID, TEST_POINTS, TEST_IDEMPOTENCY_KEY);
+        assertEquals(1, meterRegistry.get("point.api.requests").tag("outcome", "success").timer().count());
     }
 
     @Test
@@ -47,18 +54,21 @@ class PointServiceTest {
         // Given
         // ExternalPointApiClient의 addPoints 호출 시 예외 발생 설정
         doThrow(new ExternalApiException("External API 호출 실패"))
-                .when(externalPointApiClient).addPoints(TEST_USER_ID, TEST_POINTS);
+                .when(externalPointApiClient).addPoints(TEST_USER_ID, TEST_POINTS, TEST_IDEMPOTENCY_KEY);
 
         // When & Then
         PointServiceException exception = assertThrows(
                 PointServiceException.class,
-                () -> pointService.addPoints(TEST_USER_ID, TEST_POINTS)
+                () -> pointService.addPoints(TEST_USER_ID, TEST_POINTS, TEST_IDEMPOTENCY_KEY)
         );
 
         // 예외 메시지가 정확히 포함되는지 확인
         assertEquals("포인트 적립에 실패했습니다.", exception.getMessage());
 
         // ExternalPointApiClient의 addPoints 메서드가 호출되었는지 확인
-        verify(externalPointApiClient, times(1)).addPoints(TEST_USER_ID, TEST_POINTS);
+        verify(externalPointApiClient, times(1)).addPoints(TEST_USER_ID, TEST_POINTS, TEST_IDEMPOTENCY_KEY);
+
+        // 실패한 호출도 지연 시간과 함께 error 로 기록되는지 확인
+        assertEquals(1, meterRegistry.get("point.api.requests").tag("outcome", "error").timer().count());
     }
 }
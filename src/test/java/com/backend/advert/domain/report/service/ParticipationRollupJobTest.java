@@ -0,0 +1,189 @@
+package com.backend.advert.domain.report.service;
+
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.advertisement.entity.Advertisement;
+import com.backend.advert.domain.advertisement.repository.AdvertisementRepository;
+import com.backend.advert.domain.advertisementParticipation.entity.AdvertisementParticipation;
+import com.backend.advert.domain.advertisementParticipation.repository.AdvertisementParticipationRepository;
+import com.backend.advert.domain.report.dto.AdvertisementReportResponse;
+import com.backend.advert.domain.report.dto.UserParticipationSummaryResponse;
+import com.backend.advert.domain.report.entity.RollupGranularity;
+import com.backend.advert.domain.report.exception.InvalidReportRequestException;
+import com.backend.advert.domain.report.repository.AdvertisementParticipationRollupRepository;
+import com.backend.advert.domain.report.repository.RollupCheckpointRepository;
+import com.backend.advert.domain.report.repository.UserDailyParticipationSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // 인메모리 DB 사용
+@ActiveProfiles("test")
+class ParticipationRollupJobTest {
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private AdvertisementRepository advertisementRepository;
+
+    @Autowired
+    private AdvertisementParticipationRepository participationRepository;
+
+    @Autowired
+    private AdvertisementParticipationRollupRepository rollupRepository;
+
+    @Autowired
+    private RollupCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private UserDailyParticipationSummaryRepository summaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ParticipationRollupJob rollupJob;
+    private AdvertisementReportService reportService;
+    private UserParticipationSummaryService summaryService;
+    private Advertisement advertisement;
+
+    @BeforeEach
+    void setUp() {
+        rollupJob = new ParticipationRollupJob(participationRepository, rollupRepository, summaryRepository,
+                checkpointRepository, new TransactionTemplate(transactionManager), mock(RedisLockService.class));
+        reportService = new AdvertisementReportService(rollupRepository, checkpointRepository);
+        summaryService = new UserParticipationSummaryService(summaryRepository, checkpointRepository);
+
+        advertisement = advertisementRepository.save(new Advertisement(
+                "테스트 광고", 100, 100, "테스트 광고 설명", "http://example.com/image.jpg",
+                DAY_1, DAY_1.plusDays(30), null));
+
+        participate(DAY_1.withHour(10).withMinute(5));
+        participate(DAY_1.withHour(10).withMinute(5).withSecond(30));
+        participate(DAY_1.withHour(10).withMinute(59));
+        participate(DAY_1.withHour(11).withMinute(10));
+        participate(DAY_1.plusDays(1).withHour(9));
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후의 이력만 분/시간/일 단위로 한 번씩 집계한다")
+    void testRollUp_Incremental() {
+        LocalDateTime until = DAY_1.plusDays(2);
+        assertThat(rollupJob.rollUp(until)).isEqualTo(5);
+        assertThat(rollupJob.rollUp(until)).isZero(); // 이미 집계한 이력은 다시 읽지 않음
+
+        participate(DAY_1.plusDays(1).withHour(9).withSecond(30));
+        participate(until); // 종료 시각 이후 이력은 다음 주기로 미룸
+        assertThat(rollupJob.rollUp(until)).isEqualTo(1);
+
+        assertThat(bucket(RollupGranularity.MINUTE, DAY_1.withHour(10).withMinute(5))).containsExactly(2L, 200L);
+        assertThat(bucket(RollupGranularity.HOUR, DAY_1.withHour(10))).containsExactly(3L, 300L);
+        assertThat(bucket(RollupGranularity.DAY, DAY_1)).containsExactly(4L, 400L);
+        assertThat(bucket(RollupGranularity.DAY, DAY_1.plusDays(1))).containsExactly(2L, 200L);
+    }
+
+    @Test
+    @DisplayName("리포트는 기간을 단위 구간으로 나누어 합산하고 구간별 집계를 함께 반환한다")
+    void testGetReport() {
+        rollupJob.rollUp(DAY_1.plusDays(2));
+
+        // 10:06 ~ 다음 날 09:01 → 10:05 의 2건 제외
+        AdvertisementReportResponse report = reportService.getReport(advertisement.getId(),
+                DAY_1.withHour(10).withMinute(6), DAY_1.plusDays(1).withHour(9).withMinute(1), "hour").getData();
+
+        assertThat(report.getParticipationCount()).isEqualTo(3);
+        assertThat(report.getDistinctUserCount()).isEqualTo(3);
+        assertThat(report.getRewardPoints()).isEqualTo(300);
+        assertThat(report.getAggregatedUntil()).isEqualTo(DAY_1.plusDays(1).withHour(9));
+        assertThat(report.getBuckets())
+                .extracting(AdvertisementReportResponse.Bucket::getBucketStart, AdvertisementReportResponse.Bucket::getParticipationCount)
+                .containsExactly(
+                        tuple(DAY_1.withHour(10), 3L),
+                        tuple(DAY_1.withHour(11), 1L),
+                        tuple(DAY_1.plusDays(1).withHour(9), 1L));
+    }
+
+    @Test
+    @DisplayName("기간을 앞쪽 분/시간, 가운데 일, 뒤쪽 시간/분 구간으로 나눈다")
+    void testDecompose() {
+        List<AdvertisementReportService.Segment> segments = AdvertisementReportService.decompose(
+                DAY_1.withHour(10).withMinute(30), DAY_1.plusDays(2).withHour(5).withMinute(20));
+
+        assertThat(segments).containsExactly(
+                new AdvertisementReportService.Segment(RollupGranularity.MINUTE, DAY_1.withHour(10).withMinute(30), DAY_1.withHour(11)),
+                new AdvertisementReportService.Segment(RollupGranularity.HOUR, DAY_1.withHour(11), DAY_1.plusDays(1)),
+                new AdvertisementReportService.Segment(RollupGranularity.DAY, DAY_1.plusDays(1), DAY_1.plusDays(2)),
+                new AdvertisementReportService.Segment(RollupGranularity.HOUR, DAY_1.plusDays(2), DAY_1.plusDays(2).withHour(5)),
+                new AdvertisementReportService.Segment(RollupGranularity.MINUTE, DAY_1.plusDays(2).withHour(5), DAY_1.plusDays(2).withHour(5).withMinute(20)));
+
+        // 같은 날 안에서는 일 단위 구간을 쓰지 않음
+        assertThat(AdvertisementReportService.decompose(DAY_1.withHour(10).withMinute(30), DAY_1.withHour(15).withMinute(20)))
+                .extracting(AdvertisementReportService.Segment::granularity)
+                .containsExactly(RollupGranularity.MINUTE, RollupGranularity.HOUR, RollupGranularity.MINUTE);
+    }
+
+    @Test
+    @DisplayName("구간이 너무 많거나 집계 단위가 올바르지 않으면 예외가 발생한다")
+    void testGetReport_InvalidRequest() {
+        UUID advertisementId = advertisement.getId();
+        assertThrows(InvalidReportRequestException.class,
+                () -> reportService.getReport(advertisementId, DAY_1, DAY_1.plusDays(1), "minute"));
+        assertThrows(InvalidReportRequestException.class,
+                () -> reportService.getReport(advertisementId, DAY_1, DAY_1.plusDays(1), "week"));
+        assertThrows(InvalidReportRequestException.class,
+                () -> reportService.getReport(advertisementId, DAY_1, DAY_1, "day"));
+    }
+
+    @Test
+    @DisplayName("사용자 요약은 같은 체크포인트로 누적한 일 단위 행을 합산한다")
+    void testGetUserSummary() {
+        // Given: 한 사용자가 광고 3개에 이틀에 걸쳐 참여
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            Advertisement other = advertisementRepository.save(new Advertisement(
+                    "광고 " + i, 10 * (i + 1), 100, "설명", "http://example.com/image.jpg", DAY_1, DAY_1.plusDays(30), null));
+            participationRepository.save(new AdvertisementParticipation(other, userId, DAY_1.plusDays(i / 2).withHour(12 + i)));
+        }
+        rollupJob.rollUp(DAY_1.plusDays(2));
+
+        // When
+        UserParticipationSummaryResponse summary = summaryService.getSummary(
+                userId, DAY_1.toLocalDate(), DAY_1.toLocalDate().plusDays(30)).getData();
+
+        // Then
+        assertThat(summary.getParticipationCount()).isEqualTo(3);
+        assertThat(summary.getAdvertisementCount()).isEqualTo(3);
+        assertThat(summary.getRewardPoints()).isEqualTo(60);
+        assertThat(summary.getDays())
+                .extracting(UserParticipationSummaryResponse.Day::getDate, UserParticipationSummaryResponse.Day::getRewardPoints)
+                .containsExactly(tuple(LocalDate.of(2024, 1, 1), 30L), tuple(LocalDate.of(2024, 1, 2), 30L));
+        assertThrows(InvalidReportRequestException.class,
+                () -> summaryService.getSummary(userId, DAY_1.toLocalDate(), DAY_1.toLocalDate().plusYears(2)));
+    }
+
+    private void participate(LocalDateTime participatedAt) {
+        participationRepository.save(new AdvertisementParticipation(advertisement, UUID.randomUUID(), participatedAt));
+    }
+
+    private List<Long> bucket(RollupGranularity granularity, LocalDateTime bucketStart) {
+        return rollupRepository.findSeries(advertisement.getId(), granularity, bucketStart, bucketStart.plusSeconds(1)).stream()
+                .flatMap(rollup -> Stream.of(rollup.getParticipationCount(), rollup.getRewardPoints()))
+                .toList();
+    }
+}
@@ -0,0 +1,158 @@
+package com.backend.advert.domain.user.service;
+
+import com.backend.advert.config.redis.RedisScriptPipeline;
+import com.backend.advert.domain.user.entity.User;
+import com.backend.advert.domain.user.repository.UserRepository;
+import com.backend.advert.domain.user.repository.UserRepository.UserParticipationCount;
+import com.github.fppt.jedismock.RedisServer;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인프로세스 Redis(jedis-mock)로 참여 횟수 카운터 재계산 중의 증가분 보존을 검증합니다.
+ */
+class UserParticipationCounterRebuildTest {
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private UserProfileCache userProfileCache;
+    private UserParticipationCounter participationCounter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer().start();
+        // jedis-mock 은 RESP3 를 지원하지 않음
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", redisServer.getBindPort()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        userRepository = mock(UserRepository.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        userProfileCache = mock(UserProfileCache.class);
+        participationCounter = new UserParticipationCounter(redisTemplate, userRepository, transactionTemplate,
+                userProfileCache, new RedisScriptPipeline(redisTemplate));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("재계산 기준 시각 이후 참여의 증가분만 DB 재계산 값에 더해지고, 재계산 값이 0인 사용자의 카운터는 삭제된다")
+    void testRebuild_KeepsIncrementsAfterMark() {
+        // Given: A 는 카운터가 오래됨, B 는 이력이 모두 지워져 0, C 는 카운터가 없음
+        UUID userA = UUID.randomUUID();
+        UUID userB = UUID.randomUUID();
+        UUID userC = UUID.randomUUID();
+        redisTemplate.opsForValue().set(countKey(userA), "5");
+        redisTemplate.opsForValue().set(countKey(userB), "3");
+        when(userRepository.findById(userC)).thenReturn(Optional.of(
+                User.builder().id(userC).email("c@example.com").username("c").participationCount(0).build()));
+        when(userRepository.recountParticipations(any(LocalDateTime.class))).thenReturn(3);
+
+        // 재계산 표시 후 재계산 쿼리 전에 참여 이벤트가 처리되고 DB 반영 주기가 돌아옴
+        // - A 의 첫 참여는 기준 시각 이전에 커밋되어 재계산 값(7)에 포함됨, 두 번째 참여는 기준 시각 이후
+        // - C 의 참여는 기준 시각 이후
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            participationCounter.increment(userA, LocalDateTime.now().minusMinutes(1));
+            participationCounter.increment(userA, LocalDateTime.now().plusMinutes(1));
+            participationCounter.increment(userC, LocalDateTime.now().plusMinutes(1));
+            participationCounter.flush();
+            Object updated = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(userRepository).recountParticipations(until.capture());
+            // 재계산은 Redis 에 남긴 기준 시각까지의 참여만 셈
+            assertEquals(String.valueOf(UserParticipationCounter.toEpochMicros(until.getValue())),
+                    redisTemplate.opsForValue().get(UserParticipationCounter.REBUILDING_KEY));
+            return updated;
+        });
+        when(userRepository.findParticipationCountsAfter(eq(new UUID(0L, 0L)), any(Pageable.class)))
+                .thenReturn(List.of(count(userA, 7), count(userB, 0), count(userC, 0)));
+
+        // When
+        int updated = participationCounter.rebuild();
+
+        // Then
+        assertEquals(3, updated);
+        assertEquals("8", redisTemplate.opsForValue().get(countKey(userA)));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(countKey(userB))));
+        assertEquals("1", redisTemplate.opsForValue().get(countKey(userC)));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(UserParticipationCounter.REBUILDING_KEY)));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(UserParticipationCounter.REBUILD_DELTA_KEY)));
+
+        // 재계산 중에는 DB 에 반영하지 않고, 변경된 사용자는 다음 주기에 반영
+        verify(userRepository, never()).findAllById(any());
+        assertEquals(Set.of(userA.toString(), userC.toString()), redisTemplate.opsForSet().members(UserParticipationCounter.DIRTY_KEY));
+        verify(userProfileCache).invalidateAll(List.of(userA, userB, userC));
+    }
+
+    @Test
+    @DisplayName("재계산 기준 시각과 같은 시각의 참여는 재계산에만 포함되고 증가분에는 기록되지 않는다")
+    void testIncrement_AtMarkIsNotDelta() {
+        // Given: 재계산 표시가 기준 시각과 함께 남아 있음
+        UUID userId = UUID.randomUUID();
+        LocalDateTime mark = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_456_000);
+        redisTemplate.opsForValue().set(UserParticipationCounter.REBUILDING_KEY,
+                String.valueOf(UserParticipationCounter.toEpochMicros(mark)));
+        redisTemplate.opsForValue().set(countKey(userId), "2");
+
+        // When
+        participationCounter.increment(userId, mark);
+        participationCounter.increment(userId, mark.plusNanos(1_000));
+
+        // Then
+        assertEquals("4", redisTemplate.opsForValue().get(countKey(userId)));
+        assertEquals("1", redisTemplate.opsForHash().get(UserParticipationCounter.REBUILD_DELTA_KEY, userId.toString()));
+    }
+
+    private static String countKey(UUID userId) {
+        return UserParticipationCounter.COUNT_KEY_PREFIX + userId;
+    }
+
+    private static UserParticipationCount count(UUID userId, int participationCount) {
+        return new UserParticipationCount() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public int getParticipationCount() {
+                return participationCount;
+            }
+        };
+    }
+}
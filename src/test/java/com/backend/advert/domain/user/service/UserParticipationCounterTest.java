@@ -0,0 +1,146 @@
+package com.backend.advert.domain.user.service;
+
+import com.backend.advert.config.redis.RedisScriptPipeline;
+import com.backend.advert.domain.advertisementParticipation.event.ParticipationCompleted;
+import com.backend.advert.domain.user.entity.User;
+import com.backend.advert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserParticipationCounterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private RedisScriptPipeline redisScriptPipeline;
+
+    @InjectMocks
+    private UserParticipationCounter participationCounter;
+
+    @Test
+    @DisplayName("카운터가 있으면 DB를 조회하지 않고 Redis 에서 원자적으로 증가시킨다")
+    void testIncrement_ExistingCounter() {
+        UUID userId = UUID.randomUUID();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq(""), eq(userId.toString()), anyString())).thenReturn(6L);
+
+        assertEquals(6L, participationCounter.increment(userId, LocalDateTime.now()));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 마지막으로 반영된 DB 값에서 시작한다")
+    void testIncrement_SeedsFromDatabase() {
+        // Given
+        User user = User.builder().id(UUID.randomUUID()).email("user@example.com").username("user").participationCount(3).build();
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq(""), eq(user.getId().toString()), anyString())).thenReturn(-1L);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq("3"), eq(user.getId().toString()), anyString())).thenReturn(4L);
+
+        // When & Then
+        assertEquals(4L, participationCounter.increment(user.getId(), LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("참여 이벤트들은 한 번의 파이프라인으로 증가시키고, 카운터가 없는 사용자만 DB 값에서 시작한다")
+    void testOnParticipations_PipelinedWithSeedFallback() {
+        // Given: 첫 번째 사용자는 카운터가 있고, 두 번째 사용자는 카운터가 없음
+        User seeded = User.builder().id(UUID.randomUUID()).email("user@example.com").username("user").participationCount(3).build();
+        UUID existing = UUID.randomUUID();
+        when(redisScriptPipeline.execute(argThat(calls -> calls.size() == 2))).thenReturn(Arrays.asList(6L, -1L));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq(""), eq(seeded.getId().toString()), anyString())).thenReturn(-1L);
+        when(userRepository.findById(seeded.getId())).thenReturn(Optional.of(seeded));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq("3"), eq(seeded.getId().toString()), anyString())).thenReturn(4L);
+
+        // When
+        participationCounter.onParticipations(List.of(event(existing), event(seeded.getId())));
+
+        // Then
+        verify(userRepository, never()).findById(existing);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(), eq("3"), eq(seeded.getId().toString()), anyString());
+    }
+
+    @Test
+    @DisplayName("변경된 사용자의 카운터를 모아 한 트랜잭션에서 DB에 반영한다")
+    @SuppressWarnings("unchecked")
+    void testFlush() {
+        // Given
+        User user = User.builder().id(UUID.randomUUID()).email("user@example.com").username("user").participationCount(0).build();
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(setOperations.pop(UserParticipationCounter.DIRTY_KEY, 500)).thenReturn(List.of(user.getId().toString()));
+        when(valueOperations.multiGet(List.of(UserParticipationCounter.COUNT_KEY_PREFIX + user.getId()))).thenReturn(List.of("7"));
+        when(userRepository.findAllById(List.of(user.getId()))).thenReturn(List.of(user));
+        doAnswer(invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        participationCounter.flush();
+
+        // Then
+        assertEquals(7, user.getParticipationCount());
+        verify(userProfileCache).invalidateAll(List.of(user.getId()));
+        verify(setOperations, never()).add(anyString(), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 다음 주기에 다시 반영하도록 되돌려 놓는다")
+    void testFlush_Failure() {
+        // Given
+        String userId = UUID.randomUUID().toString();
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(setOperations.pop(UserParticipationCounter.DIRTY_KEY, 500)).thenReturn(List.of(userId));
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of("1"));
+        doThrow(new IllegalStateException("DB 오류")).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        participationCounter.flush();
+
+        // Then
+        verify(setOperations).add(UserParticipationCounter.DIRTY_KEY, userId);
+        verifyNoInteractions(userProfileCache);
+    }
+
+    private static ParticipationCompleted event(UUID userId) {
+        return new ParticipationCompleted(UUID.randomUUID(), UUID.randomUUID(), "광고", userId, 100, 1, 10, LocalDateTime.now());
+    }
+}
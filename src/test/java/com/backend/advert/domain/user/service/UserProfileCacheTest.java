@@ -0,0 +1,127 @@
+package com.backend.advert.domain.user.service;
+
+import com.backend.advert.common.cache.CacheMetrics;
+import com.backend.advert.common.cache.RedisCacheStore;
+import com.backend.advert.common.cache.SingleFlight;
+import com.backend.advert.config.redis.RedisLockService;
+import com.backend.advert.domain.user.dto.UserProfile;
+import com.backend.advert.domain.user.entity.User;
+import com.backend.advert.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    @Mock
+    private RedisCacheStore redisCacheStore;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        userProfileCache = new UserProfileCache(redisCacheStore, new SingleFlight(redisLockService), userRepository,
+                new CacheMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 프로필은 Redis 와 로컬 캐시에 저장되어 다음 조회는 어디에도 접근하지 않는다")
+    void testGetById_ReadThrough() {
+        // Given
+        User user = user("user@example.com");
+        when(redisCacheStore.get("user:profile:" + user.getId(), UserProfile.class)).thenReturn(Optional.empty());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        // When
+        Optional<UserProfile> first = userProfileCache.getById(user.getId());
+        Optional<UserProfile> second = userProfileCache.getById(user.getId());
+
+        // Then
+        assertEquals("user@example.com", first.orElseThrow().getEmail());
+        assertSame(first.get(), second.orElseThrow());
+        verify(userRepository, times(1)).findById(user.getId());
+        verify(redisCacheStore, times(1)).get(anyString(), eq(UserProfile.class));
+        verify(redisCacheStore).put(eq("user:profile:" + user.getId()), any(UserProfile.class), any(Duration.class));
+        verify(redisCacheStore).put(eq("user:profile:email:user@example.com"), eq(user.getId()), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("저장 시 바로 캐시된 프로필은 이메일로도 DB 조회 없이 찾을 수 있다")
+    void testPut_WriteThrough() {
+        UserProfile profile = new UserProfile(UUID.randomUUID(), "new@example.com", "new", 0);
+
+        userProfileCache.put(profile);
+
+        assertSame(profile, userProfileCache.getByEmail("new@example.com").orElseThrow());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("여러 사용자는 로컬, Redis(MGET), DB 순으로 없는 사용자만 이어서 조회한다")
+    void testGetAll() {
+        // Given: local 은 로컬 캐시, remote 는 Redis, stored 는 DB에만 있음
+        UserProfile local = new UserProfile(UUID.randomUUID(), "local@example.com", "local", 1);
+        UserProfile remote = new UserProfile(UUID.randomUUID(), "remote@example.com", "remote", 2);
+        User stored = user("stored@example.com");
+        UUID unknownId = UUID.randomUUID();
+        userProfileCache.put(local);
+
+        when(redisCacheStore.getAll(anyList(), eq(UserProfile.class)))
+                .thenReturn(Map.of("user:profile:" + remote.getId(), remote));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(stored));
+
+        // When
+        Map<UUID, UserProfile> profiles = userProfileCache.getAll(List.of(local.getId(), remote.getId(), stored.getId(), unknownId));
+
+        // Then
+        assertEquals(3, profiles.size());
+        assertSame(local, profiles.get(local.getId()));
+        assertSame(remote, profiles.get(remote.getId()));
+        assertEquals("stored@example.com", profiles.get(stored.getId()).getEmail());
+        assertFalse(profiles.containsKey(unknownId));
+        verify(userRepository).findAllById(argThat(ids -> ids instanceof List<?> list && list.size() == 2));
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬과 Redis 의 프로필을 모두 지운다")
+    void testInvalidateAll() {
+        // Given
+        User user = user("user@example.com");
+        userProfileCache.put(UserProfile.fromEntity(user));
+        when(redisCacheStore.get("user:profile:" + user.getId(), UserProfile.class)).thenReturn(Optional.empty());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        // When
+        userProfileCache.invalidateAll(List.of(user.getId()));
+        userProfileCache.getById(user.getId());
+
+        // Then
+        verify(redisCacheStore).evictAll(List.of("user:profile:" + user.getId()));
+        verify(userRepository, times(1)).findById(user.getId());
+    }
+
+    private User user(String email) {
+        return User.builder().id(UUID.randomUUID()).email(email).username("user").participationCount(0).build();
+    }
+}